@@ -0,0 +1,97 @@
+// Generated by nikoladasm.webdriver.wrapper.tools.WrapperSourceGenerator, do not edit.
+package nikoladasm.webdriver.wrapper.internal;
+
+import java.lang.reflect.Method;
+
+@SuppressWarnings({"unchecked", "rawtypes"})
+final class GeneratedAlertWrapper implements org.openqa.selenium.Alert, nikoladasm.webdriver.wrapper.internal.WrapsAlert {
+
+	private static final Method[] METHODS;
+	private static final MethodInvoker[] INVOKERS = {
+		(target, args) -> ((java.lang.Object) target).hashCode(),
+		(target, args) -> ((java.lang.Object) target).equals((java.lang.Object) args[0]),
+		(target, args) -> ((java.lang.Object) target).toString(),
+		(target, args) -> { ((org.openqa.selenium.Alert) target).dismiss(); return null; },
+		(target, args) -> ((org.openqa.selenium.Alert) target).getText(),
+		(target, args) -> { ((org.openqa.selenium.Alert) target).sendKeys((java.lang.String) args[0]); return null; },
+		(target, args) -> { ((org.openqa.selenium.Alert) target).setCredentials((org.openqa.selenium.security.Credentials) args[0]); return null; },
+		(target, args) -> { ((org.openqa.selenium.Alert) target).authenticateUsing((org.openqa.selenium.security.Credentials) args[0]); return null; },
+		(target, args) -> { ((org.openqa.selenium.Alert) target).accept(); return null; },
+		(target, args) -> ((nikoladasm.webdriver.wrapper.internal.WrapsAlert) target).getWrappedAlert()
+	};
+
+	static {
+		try {
+			METHODS = new Method[]{
+				java.lang.Object.class.getMethod("hashCode"),
+				java.lang.Object.class.getMethod("equals", java.lang.Object.class),
+				java.lang.Object.class.getMethod("toString"),
+				org.openqa.selenium.Alert.class.getMethod("dismiss"),
+				org.openqa.selenium.Alert.class.getMethod("getText"),
+				org.openqa.selenium.Alert.class.getMethod("sendKeys", java.lang.String.class),
+				org.openqa.selenium.Alert.class.getMethod("setCredentials", org.openqa.selenium.security.Credentials.class),
+				org.openqa.selenium.Alert.class.getMethod("authenticateUsing", org.openqa.selenium.security.Credentials.class),
+				org.openqa.selenium.Alert.class.getMethod("accept"),
+				nikoladasm.webdriver.wrapper.internal.WrapsAlert.class.getMethod("getWrappedAlert")
+			};
+		} catch (NoSuchMethodException e) {
+			throw new NoSuchMethodError(e.getMessage());
+		}
+	}
+
+	private final ListenableInvocationHandler handler;
+
+	GeneratedAlertWrapper(ListenableInvocationHandler handler) {
+		this.handler = handler;
+	}
+
+	@Override
+	public int hashCode() {
+		return (java.lang.Integer) handler.dispatch(this, 0, METHODS[0], INVOKERS[0], null);
+	}
+
+	@Override
+	public boolean equals(java.lang.Object arg0) {
+		return (java.lang.Boolean) handler.dispatch(this, 1, METHODS[1], INVOKERS[1], new Object[]{arg0});
+	}
+
+	@Override
+	public java.lang.String toString() {
+		return (java.lang.String) handler.dispatch(this, 2, METHODS[2], INVOKERS[2], null);
+	}
+
+	@Override
+	public void dismiss() {
+		handler.dispatch(this, 3, METHODS[3], INVOKERS[3], null);
+	}
+
+	@Override
+	public java.lang.String getText() {
+		return (java.lang.String) handler.dispatch(this, 4, METHODS[4], INVOKERS[4], null);
+	}
+
+	@Override
+	public void sendKeys(java.lang.String arg0) {
+		handler.dispatch(this, 5, METHODS[5], INVOKERS[5], new Object[]{arg0});
+	}
+
+	@Override
+	public void setCredentials(org.openqa.selenium.security.Credentials arg0) {
+		handler.dispatch(this, 6, METHODS[6], INVOKERS[6], new Object[]{arg0});
+	}
+
+	@Override
+	public void authenticateUsing(org.openqa.selenium.security.Credentials arg0) {
+		handler.dispatch(this, 7, METHODS[7], INVOKERS[7], new Object[]{arg0});
+	}
+
+	@Override
+	public void accept() {
+		handler.dispatch(this, 8, METHODS[8], INVOKERS[8], null);
+	}
+
+	@Override
+	public org.openqa.selenium.Alert getWrappedAlert() {
+		return (org.openqa.selenium.Alert) handler.dispatch(this, 9, METHODS[9], INVOKERS[9], null);
+	}
+}
@@ -0,0 +1,90 @@
+// Generated by nikoladasm.webdriver.wrapper.tools.WrapperSourceGenerator, do not edit.
+package nikoladasm.webdriver.wrapper.internal;
+
+import java.lang.reflect.Method;
+
+@SuppressWarnings({"unchecked", "rawtypes"})
+final class GeneratedImeHandlerWrapper implements org.openqa.selenium.WebDriver.ImeHandler, nikoladasm.webdriver.wrapper.internal.WrapsImeHandler {
+
+	private static final Method[] METHODS;
+	private static final MethodInvoker[] INVOKERS = {
+		(target, args) -> ((java.lang.Object) target).hashCode(),
+		(target, args) -> ((java.lang.Object) target).equals((java.lang.Object) args[0]),
+		(target, args) -> ((java.lang.Object) target).toString(),
+		(target, args) -> ((org.openqa.selenium.WebDriver.ImeHandler) target).getActiveEngine(),
+		(target, args) -> ((org.openqa.selenium.WebDriver.ImeHandler) target).getAvailableEngines(),
+		(target, args) -> ((org.openqa.selenium.WebDriver.ImeHandler) target).isActivated(),
+		(target, args) -> { ((org.openqa.selenium.WebDriver.ImeHandler) target).deactivate(); return null; },
+		(target, args) -> { ((org.openqa.selenium.WebDriver.ImeHandler) target).activateEngine((java.lang.String) args[0]); return null; },
+		(target, args) -> ((nikoladasm.webdriver.wrapper.internal.WrapsImeHandler) target).getWrappedImeHandler()
+	};
+
+	static {
+		try {
+			METHODS = new Method[]{
+				java.lang.Object.class.getMethod("hashCode"),
+				java.lang.Object.class.getMethod("equals", java.lang.Object.class),
+				java.lang.Object.class.getMethod("toString"),
+				org.openqa.selenium.WebDriver.ImeHandler.class.getMethod("getActiveEngine"),
+				org.openqa.selenium.WebDriver.ImeHandler.class.getMethod("getAvailableEngines"),
+				org.openqa.selenium.WebDriver.ImeHandler.class.getMethod("isActivated"),
+				org.openqa.selenium.WebDriver.ImeHandler.class.getMethod("deactivate"),
+				org.openqa.selenium.WebDriver.ImeHandler.class.getMethod("activateEngine", java.lang.String.class),
+				nikoladasm.webdriver.wrapper.internal.WrapsImeHandler.class.getMethod("getWrappedImeHandler")
+			};
+		} catch (NoSuchMethodException e) {
+			throw new NoSuchMethodError(e.getMessage());
+		}
+	}
+
+	private final ListenableInvocationHandler handler;
+
+	GeneratedImeHandlerWrapper(ListenableInvocationHandler handler) {
+		this.handler = handler;
+	}
+
+	@Override
+	public int hashCode() {
+		return (java.lang.Integer) handler.dispatch(this, 0, METHODS[0], INVOKERS[0], null);
+	}
+
+	@Override
+	public boolean equals(java.lang.Object arg0) {
+		return (java.lang.Boolean) handler.dispatch(this, 1, METHODS[1], INVOKERS[1], new Object[]{arg0});
+	}
+
+	@Override
+	public java.lang.String toString() {
+		return (java.lang.String) handler.dispatch(this, 2, METHODS[2], INVOKERS[2], null);
+	}
+
+	@Override
+	public java.lang.String getActiveEngine() {
+		return (java.lang.String) handler.dispatch(this, 3, METHODS[3], INVOKERS[3], null);
+	}
+
+	@Override
+	public java.util.List<java.lang.String> getAvailableEngines() {
+		return (java.util.List<java.lang.String>) handler.dispatch(this, 4, METHODS[4], INVOKERS[4], null);
+	}
+
+	@Override
+	public boolean isActivated() {
+		return (java.lang.Boolean) handler.dispatch(this, 5, METHODS[5], INVOKERS[5], null);
+	}
+
+	@Override
+	public void deactivate() {
+		handler.dispatch(this, 6, METHODS[6], INVOKERS[6], null);
+	}
+
+	@Override
+	public void activateEngine(java.lang.String arg0) {
+		handler.dispatch(this, 7, METHODS[7], INVOKERS[7], new Object[]{arg0});
+	}
+
+	@Override
+	public org.openqa.selenium.WebDriver.ImeHandler getWrappedImeHandler() {
+		return (org.openqa.selenium.WebDriver.ImeHandler) handler.dispatch(this, 8, METHODS[8], INVOKERS[8], null);
+	}
+}
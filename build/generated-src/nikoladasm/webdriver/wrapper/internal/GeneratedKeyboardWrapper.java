@@ -0,0 +1,76 @@
+// Generated by nikoladasm.webdriver.wrapper.tools.WrapperSourceGenerator, do not edit.
+package nikoladasm.webdriver.wrapper.internal;
+
+import java.lang.reflect.Method;
+
+@SuppressWarnings({"unchecked", "rawtypes"})
+final class GeneratedKeyboardWrapper implements org.openqa.selenium.interactions.Keyboard, nikoladasm.webdriver.wrapper.internal.WrapsKeyboard {
+
+	private static final Method[] METHODS;
+	private static final MethodInvoker[] INVOKERS = {
+		(target, args) -> ((java.lang.Object) target).hashCode(),
+		(target, args) -> ((java.lang.Object) target).equals((java.lang.Object) args[0]),
+		(target, args) -> ((java.lang.Object) target).toString(),
+		(target, args) -> { ((org.openqa.selenium.interactions.Keyboard) target).sendKeys((java.lang.CharSequence[]) args[0]); return null; },
+		(target, args) -> { ((org.openqa.selenium.interactions.Keyboard) target).pressKey((java.lang.CharSequence) args[0]); return null; },
+		(target, args) -> { ((org.openqa.selenium.interactions.Keyboard) target).releaseKey((java.lang.CharSequence) args[0]); return null; },
+		(target, args) -> ((nikoladasm.webdriver.wrapper.internal.WrapsKeyboard) target).getWrappedKeyboard()
+	};
+
+	static {
+		try {
+			METHODS = new Method[]{
+				java.lang.Object.class.getMethod("hashCode"),
+				java.lang.Object.class.getMethod("equals", java.lang.Object.class),
+				java.lang.Object.class.getMethod("toString"),
+				org.openqa.selenium.interactions.Keyboard.class.getMethod("sendKeys", java.lang.CharSequence[].class),
+				org.openqa.selenium.interactions.Keyboard.class.getMethod("pressKey", java.lang.CharSequence.class),
+				org.openqa.selenium.interactions.Keyboard.class.getMethod("releaseKey", java.lang.CharSequence.class),
+				nikoladasm.webdriver.wrapper.internal.WrapsKeyboard.class.getMethod("getWrappedKeyboard")
+			};
+		} catch (NoSuchMethodException e) {
+			throw new NoSuchMethodError(e.getMessage());
+		}
+	}
+
+	private final ListenableInvocationHandler handler;
+
+	GeneratedKeyboardWrapper(ListenableInvocationHandler handler) {
+		this.handler = handler;
+	}
+
+	@Override
+	public int hashCode() {
+		return (java.lang.Integer) handler.dispatch(this, 0, METHODS[0], INVOKERS[0], null);
+	}
+
+	@Override
+	public boolean equals(java.lang.Object arg0) {
+		return (java.lang.Boolean) handler.dispatch(this, 1, METHODS[1], INVOKERS[1], new Object[]{arg0});
+	}
+
+	@Override
+	public java.lang.String toString() {
+		return (java.lang.String) handler.dispatch(this, 2, METHODS[2], INVOKERS[2], null);
+	}
+
+	@Override
+	public void sendKeys(java.lang.CharSequence... arg0) {
+		handler.dispatch(this, 3, METHODS[3], INVOKERS[3], new Object[]{arg0});
+	}
+
+	@Override
+	public void pressKey(java.lang.CharSequence arg0) {
+		handler.dispatch(this, 4, METHODS[4], INVOKERS[4], new Object[]{arg0});
+	}
+
+	@Override
+	public void releaseKey(java.lang.CharSequence arg0) {
+		handler.dispatch(this, 5, METHODS[5], INVOKERS[5], new Object[]{arg0});
+	}
+
+	@Override
+	public org.openqa.selenium.interactions.Keyboard getWrappedKeyboard() {
+		return (org.openqa.selenium.interactions.Keyboard) handler.dispatch(this, 6, METHODS[6], INVOKERS[6], null);
+	}
+}
@@ -0,0 +1,69 @@
+// Generated by nikoladasm.webdriver.wrapper.tools.WrapperSourceGenerator, do not edit.
+package nikoladasm.webdriver.wrapper.internal;
+
+import java.lang.reflect.Method;
+
+@SuppressWarnings({"unchecked", "rawtypes"})
+final class GeneratedLogsWrapper implements org.openqa.selenium.logging.Logs, nikoladasm.webdriver.wrapper.internal.WrapsLogs {
+
+	private static final Method[] METHODS;
+	private static final MethodInvoker[] INVOKERS = {
+		(target, args) -> ((java.lang.Object) target).hashCode(),
+		(target, args) -> ((java.lang.Object) target).equals((java.lang.Object) args[0]),
+		(target, args) -> ((java.lang.Object) target).toString(),
+		(target, args) -> ((org.openqa.selenium.logging.Logs) target).getAvailableLogTypes(),
+		(target, args) -> ((org.openqa.selenium.logging.Logs) target).get((java.lang.String) args[0]),
+		(target, args) -> ((nikoladasm.webdriver.wrapper.internal.WrapsLogs) target).getWrappedLogs()
+	};
+
+	static {
+		try {
+			METHODS = new Method[]{
+				java.lang.Object.class.getMethod("hashCode"),
+				java.lang.Object.class.getMethod("equals", java.lang.Object.class),
+				java.lang.Object.class.getMethod("toString"),
+				org.openqa.selenium.logging.Logs.class.getMethod("getAvailableLogTypes"),
+				org.openqa.selenium.logging.Logs.class.getMethod("get", java.lang.String.class),
+				nikoladasm.webdriver.wrapper.internal.WrapsLogs.class.getMethod("getWrappedLogs")
+			};
+		} catch (NoSuchMethodException e) {
+			throw new NoSuchMethodError(e.getMessage());
+		}
+	}
+
+	private final ListenableInvocationHandler handler;
+
+	GeneratedLogsWrapper(ListenableInvocationHandler handler) {
+		this.handler = handler;
+	}
+
+	@Override
+	public int hashCode() {
+		return (java.lang.Integer) handler.dispatch(this, 0, METHODS[0], INVOKERS[0], null);
+	}
+
+	@Override
+	public boolean equals(java.lang.Object arg0) {
+		return (java.lang.Boolean) handler.dispatch(this, 1, METHODS[1], INVOKERS[1], new Object[]{arg0});
+	}
+
+	@Override
+	public java.lang.String toString() {
+		return (java.lang.String) handler.dispatch(this, 2, METHODS[2], INVOKERS[2], null);
+	}
+
+	@Override
+	public java.util.Set<java.lang.String> getAvailableLogTypes() {
+		return (java.util.Set<java.lang.String>) handler.dispatch(this, 3, METHODS[3], INVOKERS[3], null);
+	}
+
+	@Override
+	public org.openqa.selenium.logging.LogEntries get(java.lang.String arg0) {
+		return (org.openqa.selenium.logging.LogEntries) handler.dispatch(this, 4, METHODS[4], INVOKERS[4], new Object[]{arg0});
+	}
+
+	@Override
+	public org.openqa.selenium.logging.Logs getWrappedLogs() {
+		return (org.openqa.selenium.logging.Logs) handler.dispatch(this, 5, METHODS[5], INVOKERS[5], null);
+	}
+}
@@ -0,0 +1,104 @@
+// Generated by nikoladasm.webdriver.wrapper.tools.WrapperSourceGenerator, do not edit.
+package nikoladasm.webdriver.wrapper.internal;
+
+import java.lang.reflect.Method;
+
+@SuppressWarnings({"unchecked", "rawtypes"})
+final class GeneratedMouseWrapper implements org.openqa.selenium.interactions.Mouse, nikoladasm.webdriver.wrapper.internal.WrapsMouse {
+
+	private static final Method[] METHODS;
+	private static final MethodInvoker[] INVOKERS = {
+		(target, args) -> ((java.lang.Object) target).hashCode(),
+		(target, args) -> ((java.lang.Object) target).equals((java.lang.Object) args[0]),
+		(target, args) -> ((java.lang.Object) target).toString(),
+		(target, args) -> { ((org.openqa.selenium.interactions.Mouse) target).click((org.openqa.selenium.interactions.internal.Coordinates) args[0]); return null; },
+		(target, args) -> { ((org.openqa.selenium.interactions.Mouse) target).doubleClick((org.openqa.selenium.interactions.internal.Coordinates) args[0]); return null; },
+		(target, args) -> { ((org.openqa.selenium.interactions.Mouse) target).mouseDown((org.openqa.selenium.interactions.internal.Coordinates) args[0]); return null; },
+		(target, args) -> { ((org.openqa.selenium.interactions.Mouse) target).mouseUp((org.openqa.selenium.interactions.internal.Coordinates) args[0]); return null; },
+		(target, args) -> { ((org.openqa.selenium.interactions.Mouse) target).mouseMove((org.openqa.selenium.interactions.internal.Coordinates) args[0]); return null; },
+		(target, args) -> { ((org.openqa.selenium.interactions.Mouse) target).mouseMove((org.openqa.selenium.interactions.internal.Coordinates) args[0], (java.lang.Long) args[1], (java.lang.Long) args[2]); return null; },
+		(target, args) -> { ((org.openqa.selenium.interactions.Mouse) target).contextClick((org.openqa.selenium.interactions.internal.Coordinates) args[0]); return null; },
+		(target, args) -> ((nikoladasm.webdriver.wrapper.internal.WrapsMouse) target).getWrappedMouse()
+	};
+
+	static {
+		try {
+			METHODS = new Method[]{
+				java.lang.Object.class.getMethod("hashCode"),
+				java.lang.Object.class.getMethod("equals", java.lang.Object.class),
+				java.lang.Object.class.getMethod("toString"),
+				org.openqa.selenium.interactions.Mouse.class.getMethod("click", org.openqa.selenium.interactions.internal.Coordinates.class),
+				org.openqa.selenium.interactions.Mouse.class.getMethod("doubleClick", org.openqa.selenium.interactions.internal.Coordinates.class),
+				org.openqa.selenium.interactions.Mouse.class.getMethod("mouseDown", org.openqa.selenium.interactions.internal.Coordinates.class),
+				org.openqa.selenium.interactions.Mouse.class.getMethod("mouseUp", org.openqa.selenium.interactions.internal.Coordinates.class),
+				org.openqa.selenium.interactions.Mouse.class.getMethod("mouseMove", org.openqa.selenium.interactions.internal.Coordinates.class),
+				org.openqa.selenium.interactions.Mouse.class.getMethod("mouseMove", org.openqa.selenium.interactions.internal.Coordinates.class, long.class, long.class),
+				org.openqa.selenium.interactions.Mouse.class.getMethod("contextClick", org.openqa.selenium.interactions.internal.Coordinates.class),
+				nikoladasm.webdriver.wrapper.internal.WrapsMouse.class.getMethod("getWrappedMouse")
+			};
+		} catch (NoSuchMethodException e) {
+			throw new NoSuchMethodError(e.getMessage());
+		}
+	}
+
+	private final ListenableInvocationHandler handler;
+
+	GeneratedMouseWrapper(ListenableInvocationHandler handler) {
+		this.handler = handler;
+	}
+
+	@Override
+	public int hashCode() {
+		return (java.lang.Integer) handler.dispatch(this, 0, METHODS[0], INVOKERS[0], null);
+	}
+
+	@Override
+	public boolean equals(java.lang.Object arg0) {
+		return (java.lang.Boolean) handler.dispatch(this, 1, METHODS[1], INVOKERS[1], new Object[]{arg0});
+	}
+
+	@Override
+	public java.lang.String toString() {
+		return (java.lang.String) handler.dispatch(this, 2, METHODS[2], INVOKERS[2], null);
+	}
+
+	@Override
+	public void click(org.openqa.selenium.interactions.internal.Coordinates arg0) {
+		handler.dispatch(this, 3, METHODS[3], INVOKERS[3], new Object[]{arg0});
+	}
+
+	@Override
+	public void doubleClick(org.openqa.selenium.interactions.internal.Coordinates arg0) {
+		handler.dispatch(this, 4, METHODS[4], INVOKERS[4], new Object[]{arg0});
+	}
+
+	@Override
+	public void mouseDown(org.openqa.selenium.interactions.internal.Coordinates arg0) {
+		handler.dispatch(this, 5, METHODS[5], INVOKERS[5], new Object[]{arg0});
+	}
+
+	@Override
+	public void mouseUp(org.openqa.selenium.interactions.internal.Coordinates arg0) {
+		handler.dispatch(this, 6, METHODS[6], INVOKERS[6], new Object[]{arg0});
+	}
+
+	@Override
+	public void mouseMove(org.openqa.selenium.interactions.internal.Coordinates arg0) {
+		handler.dispatch(this, 7, METHODS[7], INVOKERS[7], new Object[]{arg0});
+	}
+
+	@Override
+	public void mouseMove(org.openqa.selenium.interactions.internal.Coordinates arg0, long arg1, long arg2) {
+		handler.dispatch(this, 8, METHODS[8], INVOKERS[8], new Object[]{arg0, arg1, arg2});
+	}
+
+	@Override
+	public void contextClick(org.openqa.selenium.interactions.internal.Coordinates arg0) {
+		handler.dispatch(this, 9, METHODS[9], INVOKERS[9], new Object[]{arg0});
+	}
+
+	@Override
+	public org.openqa.selenium.interactions.Mouse getWrappedMouse() {
+		return (org.openqa.selenium.interactions.Mouse) handler.dispatch(this, 10, METHODS[10], INVOKERS[10], null);
+	}
+}
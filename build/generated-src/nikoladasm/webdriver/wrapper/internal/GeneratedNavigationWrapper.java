@@ -0,0 +1,90 @@
+// Generated by nikoladasm.webdriver.wrapper.tools.WrapperSourceGenerator, do not edit.
+package nikoladasm.webdriver.wrapper.internal;
+
+import java.lang.reflect.Method;
+
+@SuppressWarnings({"unchecked", "rawtypes"})
+final class GeneratedNavigationWrapper implements org.openqa.selenium.WebDriver.Navigation, nikoladasm.webdriver.wrapper.internal.WrapsNavigation {
+
+	private static final Method[] METHODS;
+	private static final MethodInvoker[] INVOKERS = {
+		(target, args) -> ((java.lang.Object) target).hashCode(),
+		(target, args) -> ((java.lang.Object) target).equals((java.lang.Object) args[0]),
+		(target, args) -> ((java.lang.Object) target).toString(),
+		(target, args) -> { ((org.openqa.selenium.WebDriver.Navigation) target).to((java.lang.String) args[0]); return null; },
+		(target, args) -> { ((org.openqa.selenium.WebDriver.Navigation) target).to((java.net.URL) args[0]); return null; },
+		(target, args) -> { ((org.openqa.selenium.WebDriver.Navigation) target).back(); return null; },
+		(target, args) -> { ((org.openqa.selenium.WebDriver.Navigation) target).forward(); return null; },
+		(target, args) -> { ((org.openqa.selenium.WebDriver.Navigation) target).refresh(); return null; },
+		(target, args) -> ((nikoladasm.webdriver.wrapper.internal.WrapsNavigation) target).getWrappedNavigation()
+	};
+
+	static {
+		try {
+			METHODS = new Method[]{
+				java.lang.Object.class.getMethod("hashCode"),
+				java.lang.Object.class.getMethod("equals", java.lang.Object.class),
+				java.lang.Object.class.getMethod("toString"),
+				org.openqa.selenium.WebDriver.Navigation.class.getMethod("to", java.lang.String.class),
+				org.openqa.selenium.WebDriver.Navigation.class.getMethod("to", java.net.URL.class),
+				org.openqa.selenium.WebDriver.Navigation.class.getMethod("back"),
+				org.openqa.selenium.WebDriver.Navigation.class.getMethod("forward"),
+				org.openqa.selenium.WebDriver.Navigation.class.getMethod("refresh"),
+				nikoladasm.webdriver.wrapper.internal.WrapsNavigation.class.getMethod("getWrappedNavigation")
+			};
+		} catch (NoSuchMethodException e) {
+			throw new NoSuchMethodError(e.getMessage());
+		}
+	}
+
+	private final ListenableInvocationHandler handler;
+
+	GeneratedNavigationWrapper(ListenableInvocationHandler handler) {
+		this.handler = handler;
+	}
+
+	@Override
+	public int hashCode() {
+		return (java.lang.Integer) handler.dispatch(this, 0, METHODS[0], INVOKERS[0], null);
+	}
+
+	@Override
+	public boolean equals(java.lang.Object arg0) {
+		return (java.lang.Boolean) handler.dispatch(this, 1, METHODS[1], INVOKERS[1], new Object[]{arg0});
+	}
+
+	@Override
+	public java.lang.String toString() {
+		return (java.lang.String) handler.dispatch(this, 2, METHODS[2], INVOKERS[2], null);
+	}
+
+	@Override
+	public void to(java.lang.String arg0) {
+		handler.dispatch(this, 3, METHODS[3], INVOKERS[3], new Object[]{arg0});
+	}
+
+	@Override
+	public void to(java.net.URL arg0) {
+		handler.dispatch(this, 4, METHODS[4], INVOKERS[4], new Object[]{arg0});
+	}
+
+	@Override
+	public void back() {
+		handler.dispatch(this, 5, METHODS[5], INVOKERS[5], null);
+	}
+
+	@Override
+	public void forward() {
+		handler.dispatch(this, 6, METHODS[6], INVOKERS[6], null);
+	}
+
+	@Override
+	public void refresh() {
+		handler.dispatch(this, 7, METHODS[7], INVOKERS[7], null);
+	}
+
+	@Override
+	public org.openqa.selenium.WebDriver.Navigation getWrappedNavigation() {
+		return (org.openqa.selenium.WebDriver.Navigation) handler.dispatch(this, 8, METHODS[8], INVOKERS[8], null);
+	}
+}
@@ -0,0 +1,125 @@
+// Generated by nikoladasm.webdriver.wrapper.tools.WrapperSourceGenerator, do not edit.
+package nikoladasm.webdriver.wrapper.internal;
+
+import java.lang.reflect.Method;
+
+@SuppressWarnings({"unchecked", "rawtypes"})
+final class GeneratedOptionsWrapper implements org.openqa.selenium.WebDriver.Options, nikoladasm.webdriver.wrapper.internal.WrapsOptions {
+
+	private static final Method[] METHODS;
+	private static final MethodInvoker[] INVOKERS = {
+		(target, args) -> ((java.lang.Object) target).hashCode(),
+		(target, args) -> ((java.lang.Object) target).equals((java.lang.Object) args[0]),
+		(target, args) -> ((java.lang.Object) target).toString(),
+		(target, args) -> { ((org.openqa.selenium.WebDriver.Options) target).addCookie((org.openqa.selenium.Cookie) args[0]); return null; },
+		(target, args) -> { ((org.openqa.selenium.WebDriver.Options) target).deleteCookieNamed((java.lang.String) args[0]); return null; },
+		(target, args) -> { ((org.openqa.selenium.WebDriver.Options) target).deleteCookie((org.openqa.selenium.Cookie) args[0]); return null; },
+		(target, args) -> { ((org.openqa.selenium.WebDriver.Options) target).deleteAllCookies(); return null; },
+		(target, args) -> ((org.openqa.selenium.WebDriver.Options) target).getCookies(),
+		(target, args) -> ((org.openqa.selenium.WebDriver.Options) target).getCookieNamed((java.lang.String) args[0]),
+		(target, args) -> ((org.openqa.selenium.WebDriver.Options) target).timeouts(),
+		(target, args) -> ((org.openqa.selenium.WebDriver.Options) target).ime(),
+		(target, args) -> ((org.openqa.selenium.WebDriver.Options) target).window(),
+		(target, args) -> ((org.openqa.selenium.WebDriver.Options) target).logs(),
+		(target, args) -> ((nikoladasm.webdriver.wrapper.internal.WrapsOptions) target).getWrappedOptions()
+	};
+
+	static {
+		try {
+			METHODS = new Method[]{
+				java.lang.Object.class.getMethod("hashCode"),
+				java.lang.Object.class.getMethod("equals", java.lang.Object.class),
+				java.lang.Object.class.getMethod("toString"),
+				org.openqa.selenium.WebDriver.Options.class.getMethod("addCookie", org.openqa.selenium.Cookie.class),
+				org.openqa.selenium.WebDriver.Options.class.getMethod("deleteCookieNamed", java.lang.String.class),
+				org.openqa.selenium.WebDriver.Options.class.getMethod("deleteCookie", org.openqa.selenium.Cookie.class),
+				org.openqa.selenium.WebDriver.Options.class.getMethod("deleteAllCookies"),
+				org.openqa.selenium.WebDriver.Options.class.getMethod("getCookies"),
+				org.openqa.selenium.WebDriver.Options.class.getMethod("getCookieNamed", java.lang.String.class),
+				org.openqa.selenium.WebDriver.Options.class.getMethod("timeouts"),
+				org.openqa.selenium.WebDriver.Options.class.getMethod("ime"),
+				org.openqa.selenium.WebDriver.Options.class.getMethod("window"),
+				org.openqa.selenium.WebDriver.Options.class.getMethod("logs"),
+				nikoladasm.webdriver.wrapper.internal.WrapsOptions.class.getMethod("getWrappedOptions")
+			};
+		} catch (NoSuchMethodException e) {
+			throw new NoSuchMethodError(e.getMessage());
+		}
+	}
+
+	private final ListenableInvocationHandler handler;
+
+	GeneratedOptionsWrapper(ListenableInvocationHandler handler) {
+		this.handler = handler;
+	}
+
+	@Override
+	public int hashCode() {
+		return (java.lang.Integer) handler.dispatch(this, 0, METHODS[0], INVOKERS[0], null);
+	}
+
+	@Override
+	public boolean equals(java.lang.Object arg0) {
+		return (java.lang.Boolean) handler.dispatch(this, 1, METHODS[1], INVOKERS[1], new Object[]{arg0});
+	}
+
+	@Override
+	public java.lang.String toString() {
+		return (java.lang.String) handler.dispatch(this, 2, METHODS[2], INVOKERS[2], null);
+	}
+
+	@Override
+	public void addCookie(org.openqa.selenium.Cookie arg0) {
+		handler.dispatch(this, 3, METHODS[3], INVOKERS[3], new Object[]{arg0});
+	}
+
+	@Override
+	public void deleteCookieNamed(java.lang.String arg0) {
+		handler.dispatch(this, 4, METHODS[4], INVOKERS[4], new Object[]{arg0});
+	}
+
+	@Override
+	public void deleteCookie(org.openqa.selenium.Cookie arg0) {
+		handler.dispatch(this, 5, METHODS[5], INVOKERS[5], new Object[]{arg0});
+	}
+
+	@Override
+	public void deleteAllCookies() {
+		handler.dispatch(this, 6, METHODS[6], INVOKERS[6], null);
+	}
+
+	@Override
+	public java.util.Set<org.openqa.selenium.Cookie> getCookies() {
+		return (java.util.Set<org.openqa.selenium.Cookie>) handler.dispatch(this, 7, METHODS[7], INVOKERS[7], null);
+	}
+
+	@Override
+	public org.openqa.selenium.Cookie getCookieNamed(java.lang.String arg0) {
+		return (org.openqa.selenium.Cookie) handler.dispatch(this, 8, METHODS[8], INVOKERS[8], new Object[]{arg0});
+	}
+
+	@Override
+	public org.openqa.selenium.WebDriver.Timeouts timeouts() {
+		return (org.openqa.selenium.WebDriver.Timeouts) handler.dispatch(this, 9, METHODS[9], INVOKERS[9], null);
+	}
+
+	@Override
+	public org.openqa.selenium.WebDriver.ImeHandler ime() {
+		return (org.openqa.selenium.WebDriver.ImeHandler) handler.dispatch(this, 10, METHODS[10], INVOKERS[10], null);
+	}
+
+	@Override
+	public org.openqa.selenium.WebDriver.Window window() {
+		return (org.openqa.selenium.WebDriver.Window) handler.dispatch(this, 11, METHODS[11], INVOKERS[11], null);
+	}
+
+	@Override
+	public org.openqa.selenium.logging.Logs logs() {
+		return (org.openqa.selenium.logging.Logs) handler.dispatch(this, 12, METHODS[12], INVOKERS[12], null);
+	}
+
+	@Override
+	public org.openqa.selenium.WebDriver.Options getWrappedOptions() {
+		return (org.openqa.selenium.WebDriver.Options) handler.dispatch(this, 13, METHODS[13], INVOKERS[13], null);
+	}
+}
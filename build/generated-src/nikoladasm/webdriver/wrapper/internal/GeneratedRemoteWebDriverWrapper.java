@@ -0,0 +1,384 @@
+// Generated by nikoladasm.webdriver.wrapper.tools.WrapperSourceGenerator, do not edit.
+package nikoladasm.webdriver.wrapper.internal;
+
+import java.lang.reflect.Method;
+
+@SuppressWarnings({"unchecked", "rawtypes"})
+final class GeneratedRemoteWebDriverWrapper implements org.openqa.selenium.WebDriver, org.openqa.selenium.JavascriptExecutor, org.openqa.selenium.internal.FindsById, org.openqa.selenium.internal.FindsByClassName, org.openqa.selenium.internal.FindsByLinkText, org.openqa.selenium.internal.FindsByName, org.openqa.selenium.internal.FindsByCssSelector, org.openqa.selenium.internal.FindsByTagName, org.openqa.selenium.internal.FindsByXPath, org.openqa.selenium.interactions.HasInputDevices, org.openqa.selenium.HasCapabilities, org.openqa.selenium.TakesScreenshot, org.openqa.selenium.internal.WrapsDriver, nikoladasm.webdriver.wrapper.WebDriverListenableWrapper {
+
+	private static final Method[] METHODS;
+	private static final MethodInvoker[] INVOKERS = {
+		(target, args) -> ((java.lang.Object) target).hashCode(),
+		(target, args) -> ((java.lang.Object) target).equals((java.lang.Object) args[0]),
+		(target, args) -> ((java.lang.Object) target).toString(),
+		(target, args) -> ((org.openqa.selenium.WebDriver) target).getCurrentUrl(),
+		(target, args) -> ((org.openqa.selenium.WebDriver) target).getTitle(),
+		(target, args) -> ((org.openqa.selenium.WebDriver) target).findElements((org.openqa.selenium.By) args[0]),
+		(target, args) -> ((org.openqa.selenium.WebDriver) target).findElement((org.openqa.selenium.By) args[0]),
+		(target, args) -> ((org.openqa.selenium.WebDriver) target).getPageSource(),
+		(target, args) -> { ((org.openqa.selenium.WebDriver) target).quit(); return null; },
+		(target, args) -> ((org.openqa.selenium.WebDriver) target).getWindowHandles(),
+		(target, args) -> ((org.openqa.selenium.WebDriver) target).getWindowHandle(),
+		(target, args) -> ((org.openqa.selenium.WebDriver) target).switchTo(),
+		(target, args) -> ((org.openqa.selenium.WebDriver) target).navigate(),
+		(target, args) -> ((org.openqa.selenium.WebDriver) target).manage(),
+		(target, args) -> { ((org.openqa.selenium.WebDriver) target).get((java.lang.String) args[0]); return null; },
+		(target, args) -> { ((org.openqa.selenium.WebDriver) target).close(); return null; },
+		(target, args) -> ((org.openqa.selenium.JavascriptExecutor) target).executeAsyncScript((java.lang.String) args[0], (java.lang.Object[]) args[1]),
+		(target, args) -> ((org.openqa.selenium.JavascriptExecutor) target).executeScript((java.lang.String) args[0], (java.lang.Object[]) args[1]),
+		(target, args) -> ((org.openqa.selenium.internal.FindsById) target).findElementById((java.lang.String) args[0]),
+		(target, args) -> ((org.openqa.selenium.internal.FindsById) target).findElementsById((java.lang.String) args[0]),
+		(target, args) -> ((org.openqa.selenium.internal.FindsByClassName) target).findElementByClassName((java.lang.String) args[0]),
+		(target, args) -> ((org.openqa.selenium.internal.FindsByClassName) target).findElementsByClassName((java.lang.String) args[0]),
+		(target, args) -> ((org.openqa.selenium.internal.FindsByLinkText) target).findElementByLinkText((java.lang.String) args[0]),
+		(target, args) -> ((org.openqa.selenium.internal.FindsByLinkText) target).findElementsByLinkText((java.lang.String) args[0]),
+		(target, args) -> ((org.openqa.selenium.internal.FindsByLinkText) target).findElementByPartialLinkText((java.lang.String) args[0]),
+		(target, args) -> ((org.openqa.selenium.internal.FindsByLinkText) target).findElementsByPartialLinkText((java.lang.String) args[0]),
+		(target, args) -> ((org.openqa.selenium.internal.FindsByName) target).findElementByName((java.lang.String) args[0]),
+		(target, args) -> ((org.openqa.selenium.internal.FindsByName) target).findElementsByName((java.lang.String) args[0]),
+		(target, args) -> ((org.openqa.selenium.internal.FindsByCssSelector) target).findElementByCssSelector((java.lang.String) args[0]),
+		(target, args) -> ((org.openqa.selenium.internal.FindsByCssSelector) target).findElementsByCssSelector((java.lang.String) args[0]),
+		(target, args) -> ((org.openqa.selenium.internal.FindsByTagName) target).findElementByTagName((java.lang.String) args[0]),
+		(target, args) -> ((org.openqa.selenium.internal.FindsByTagName) target).findElementsByTagName((java.lang.String) args[0]),
+		(target, args) -> ((org.openqa.selenium.internal.FindsByXPath) target).findElementByXPath((java.lang.String) args[0]),
+		(target, args) -> ((org.openqa.selenium.internal.FindsByXPath) target).findElementsByXPath((java.lang.String) args[0]),
+		(target, args) -> ((org.openqa.selenium.interactions.HasInputDevices) target).getKeyboard(),
+		(target, args) -> ((org.openqa.selenium.interactions.HasInputDevices) target).getMouse(),
+		(target, args) -> ((org.openqa.selenium.HasCapabilities) target).getCapabilities(),
+		(target, args) -> ((org.openqa.selenium.TakesScreenshot) target).getScreenshotAs((org.openqa.selenium.OutputType) args[0]),
+		(target, args) -> ((org.openqa.selenium.internal.WrapsDriver) target).getWrappedDriver(),
+		(target, args) -> { ((nikoladasm.webdriver.wrapper.WebDriverListenableWrapper) target).removeListener((nikoladasm.webdriver.wrapper.EventListenerLocation) args[0], (java.lang.Object) args[1]); return null; },
+		(target, args) -> { ((nikoladasm.webdriver.wrapper.WebDriverListenableWrapper) target).removeListener((nikoladasm.webdriver.wrapper.EventListenerLocation) args[0]); return null; },
+		(target, args) -> { ((nikoladasm.webdriver.wrapper.WebDriverListenableWrapper) target).addListener((nikoladasm.webdriver.wrapper.EventListenerLocation) args[0], (java.lang.Object) args[1], (java.lang.Integer) args[2]); return null; },
+		(target, args) -> { ((nikoladasm.webdriver.wrapper.WebDriverListenableWrapper) target).addListener((nikoladasm.webdriver.wrapper.EventListenerLocation) args[0], (java.lang.Object) args[1]); return null; },
+		(target, args) -> { ((nikoladasm.webdriver.wrapper.WebDriverListenableWrapper) target).replaceListeners((nikoladasm.webdriver.wrapper.ListenerSet) args[0]); return null; },
+		(target, args) -> { ((nikoladasm.webdriver.wrapper.WebDriverListenableWrapper) target).setListener((nikoladasm.webdriver.wrapper.EventListenerLocation) args[0], (java.lang.Object) args[1]); return null; },
+		(target, args) -> { ((nikoladasm.webdriver.wrapper.WebDriverListenableWrapper) target).removeInterceptor((nikoladasm.webdriver.wrapper.Interceptor) args[0]); return null; },
+		(target, args) -> { ((nikoladasm.webdriver.wrapper.WebDriverListenableWrapper) target).addInterceptor((nikoladasm.webdriver.wrapper.EventListenerLocation) args[0], (nikoladasm.webdriver.wrapper.Interceptor) args[1]); return null; },
+		(target, args) -> { ((nikoladasm.webdriver.wrapper.WebDriverListenableWrapper) target).addInterceptor((nikoladasm.webdriver.wrapper.Interceptor) args[0]); return null; },
+		(target, args) -> { ((nikoladasm.webdriver.wrapper.WebDriverListenableWrapper) target).addFirehoseListener((nikoladasm.webdriver.wrapper.listeners.FirehoseListener) args[0]); return null; },
+		(target, args) -> { ((nikoladasm.webdriver.wrapper.WebDriverListenableWrapper) target).removeFirehoseListener((nikoladasm.webdriver.wrapper.listeners.FirehoseListener) args[0]); return null; },
+		(target, args) -> ((nikoladasm.webdriver.wrapper.WebDriverListenableWrapper) target).findBatch((nikoladasm.webdriver.wrapper.LocatorBatch) args[0])
+	};
+
+	static {
+		try {
+			METHODS = new Method[]{
+				java.lang.Object.class.getMethod("hashCode"),
+				java.lang.Object.class.getMethod("equals", java.lang.Object.class),
+				java.lang.Object.class.getMethod("toString"),
+				org.openqa.selenium.WebDriver.class.getMethod("getCurrentUrl"),
+				org.openqa.selenium.WebDriver.class.getMethod("getTitle"),
+				org.openqa.selenium.WebDriver.class.getMethod("findElements", org.openqa.selenium.By.class),
+				org.openqa.selenium.WebDriver.class.getMethod("findElement", org.openqa.selenium.By.class),
+				org.openqa.selenium.WebDriver.class.getMethod("getPageSource"),
+				org.openqa.selenium.WebDriver.class.getMethod("quit"),
+				org.openqa.selenium.WebDriver.class.getMethod("getWindowHandles"),
+				org.openqa.selenium.WebDriver.class.getMethod("getWindowHandle"),
+				org.openqa.selenium.WebDriver.class.getMethod("switchTo"),
+				org.openqa.selenium.WebDriver.class.getMethod("navigate"),
+				org.openqa.selenium.WebDriver.class.getMethod("manage"),
+				org.openqa.selenium.WebDriver.class.getMethod("get", java.lang.String.class),
+				org.openqa.selenium.WebDriver.class.getMethod("close"),
+				org.openqa.selenium.JavascriptExecutor.class.getMethod("executeAsyncScript", java.lang.String.class, java.lang.Object[].class),
+				org.openqa.selenium.JavascriptExecutor.class.getMethod("executeScript", java.lang.String.class, java.lang.Object[].class),
+				org.openqa.selenium.internal.FindsById.class.getMethod("findElementById", java.lang.String.class),
+				org.openqa.selenium.internal.FindsById.class.getMethod("findElementsById", java.lang.String.class),
+				org.openqa.selenium.internal.FindsByClassName.class.getMethod("findElementByClassName", java.lang.String.class),
+				org.openqa.selenium.internal.FindsByClassName.class.getMethod("findElementsByClassName", java.lang.String.class),
+				org.openqa.selenium.internal.FindsByLinkText.class.getMethod("findElementByLinkText", java.lang.String.class),
+				org.openqa.selenium.internal.FindsByLinkText.class.getMethod("findElementsByLinkText", java.lang.String.class),
+				org.openqa.selenium.internal.FindsByLinkText.class.getMethod("findElementByPartialLinkText", java.lang.String.class),
+				org.openqa.selenium.internal.FindsByLinkText.class.getMethod("findElementsByPartialLinkText", java.lang.String.class),
+				org.openqa.selenium.internal.FindsByName.class.getMethod("findElementByName", java.lang.String.class),
+				org.openqa.selenium.internal.FindsByName.class.getMethod("findElementsByName", java.lang.String.class),
+				org.openqa.selenium.internal.FindsByCssSelector.class.getMethod("findElementByCssSelector", java.lang.String.class),
+				org.openqa.selenium.internal.FindsByCssSelector.class.getMethod("findElementsByCssSelector", java.lang.String.class),
+				org.openqa.selenium.internal.FindsByTagName.class.getMethod("findElementByTagName", java.lang.String.class),
+				org.openqa.selenium.internal.FindsByTagName.class.getMethod("findElementsByTagName", java.lang.String.class),
+				org.openqa.selenium.internal.FindsByXPath.class.getMethod("findElementByXPath", java.lang.String.class),
+				org.openqa.selenium.internal.FindsByXPath.class.getMethod("findElementsByXPath", java.lang.String.class),
+				org.openqa.selenium.interactions.HasInputDevices.class.getMethod("getKeyboard"),
+				org.openqa.selenium.interactions.HasInputDevices.class.getMethod("getMouse"),
+				org.openqa.selenium.HasCapabilities.class.getMethod("getCapabilities"),
+				org.openqa.selenium.TakesScreenshot.class.getMethod("getScreenshotAs", org.openqa.selenium.OutputType.class),
+				org.openqa.selenium.internal.WrapsDriver.class.getMethod("getWrappedDriver"),
+				nikoladasm.webdriver.wrapper.WebDriverListenableWrapper.class.getMethod("removeListener", nikoladasm.webdriver.wrapper.EventListenerLocation.class, java.lang.Object.class),
+				nikoladasm.webdriver.wrapper.WebDriverListenableWrapper.class.getMethod("removeListener", nikoladasm.webdriver.wrapper.EventListenerLocation.class),
+				nikoladasm.webdriver.wrapper.WebDriverListenableWrapper.class.getMethod("addListener", nikoladasm.webdriver.wrapper.EventListenerLocation.class, java.lang.Object.class, int.class),
+				nikoladasm.webdriver.wrapper.WebDriverListenableWrapper.class.getMethod("addListener", nikoladasm.webdriver.wrapper.EventListenerLocation.class, java.lang.Object.class),
+				nikoladasm.webdriver.wrapper.WebDriverListenableWrapper.class.getMethod("replaceListeners", nikoladasm.webdriver.wrapper.ListenerSet.class),
+				nikoladasm.webdriver.wrapper.WebDriverListenableWrapper.class.getMethod("setListener", nikoladasm.webdriver.wrapper.EventListenerLocation.class, java.lang.Object.class),
+				nikoladasm.webdriver.wrapper.WebDriverListenableWrapper.class.getMethod("removeInterceptor", nikoladasm.webdriver.wrapper.Interceptor.class),
+				nikoladasm.webdriver.wrapper.WebDriverListenableWrapper.class.getMethod("addInterceptor", nikoladasm.webdriver.wrapper.EventListenerLocation.class, nikoladasm.webdriver.wrapper.Interceptor.class),
+				nikoladasm.webdriver.wrapper.WebDriverListenableWrapper.class.getMethod("addInterceptor", nikoladasm.webdriver.wrapper.Interceptor.class),
+				nikoladasm.webdriver.wrapper.WebDriverListenableWrapper.class.getMethod("addFirehoseListener", nikoladasm.webdriver.wrapper.listeners.FirehoseListener.class),
+				nikoladasm.webdriver.wrapper.WebDriverListenableWrapper.class.getMethod("removeFirehoseListener", nikoladasm.webdriver.wrapper.listeners.FirehoseListener.class),
+				nikoladasm.webdriver.wrapper.WebDriverListenableWrapper.class.getMethod("findBatch", nikoladasm.webdriver.wrapper.LocatorBatch.class)
+			};
+		} catch (NoSuchMethodException e) {
+			throw new NoSuchMethodError(e.getMessage());
+		}
+	}
+
+	private final ListenableInvocationHandler handler;
+
+	GeneratedRemoteWebDriverWrapper(ListenableInvocationHandler handler) {
+		this.handler = handler;
+	}
+
+	@Override
+	public int hashCode() {
+		return (java.lang.Integer) handler.dispatch(this, 0, METHODS[0], INVOKERS[0], null);
+	}
+
+	@Override
+	public boolean equals(java.lang.Object arg0) {
+		return (java.lang.Boolean) handler.dispatch(this, 1, METHODS[1], INVOKERS[1], new Object[]{arg0});
+	}
+
+	@Override
+	public java.lang.String toString() {
+		return (java.lang.String) handler.dispatch(this, 2, METHODS[2], INVOKERS[2], null);
+	}
+
+	@Override
+	public java.lang.String getCurrentUrl() {
+		return (java.lang.String) handler.dispatch(this, 3, METHODS[3], INVOKERS[3], null);
+	}
+
+	@Override
+	public java.lang.String getTitle() {
+		return (java.lang.String) handler.dispatch(this, 4, METHODS[4], INVOKERS[4], null);
+	}
+
+	@Override
+	public java.util.List<org.openqa.selenium.WebElement> findElements(org.openqa.selenium.By arg0) {
+		return (java.util.List<org.openqa.selenium.WebElement>) handler.dispatch(this, 5, METHODS[5], INVOKERS[5], new Object[]{arg0});
+	}
+
+	@Override
+	public org.openqa.selenium.WebElement findElement(org.openqa.selenium.By arg0) {
+		return (org.openqa.selenium.WebElement) handler.dispatch(this, 6, METHODS[6], INVOKERS[6], new Object[]{arg0});
+	}
+
+	@Override
+	public java.lang.String getPageSource() {
+		return (java.lang.String) handler.dispatch(this, 7, METHODS[7], INVOKERS[7], null);
+	}
+
+	@Override
+	public void quit() {
+		handler.dispatch(this, 8, METHODS[8], INVOKERS[8], null);
+	}
+
+	@Override
+	public java.util.Set<java.lang.String> getWindowHandles() {
+		return (java.util.Set<java.lang.String>) handler.dispatch(this, 9, METHODS[9], INVOKERS[9], null);
+	}
+
+	@Override
+	public java.lang.String getWindowHandle() {
+		return (java.lang.String) handler.dispatch(this, 10, METHODS[10], INVOKERS[10], null);
+	}
+
+	@Override
+	public org.openqa.selenium.WebDriver.TargetLocator switchTo() {
+		return (org.openqa.selenium.WebDriver.TargetLocator) handler.dispatch(this, 11, METHODS[11], INVOKERS[11], null);
+	}
+
+	@Override
+	public org.openqa.selenium.WebDriver.Navigation navigate() {
+		return (org.openqa.selenium.WebDriver.Navigation) handler.dispatch(this, 12, METHODS[12], INVOKERS[12], null);
+	}
+
+	@Override
+	public org.openqa.selenium.WebDriver.Options manage() {
+		return (org.openqa.selenium.WebDriver.Options) handler.dispatch(this, 13, METHODS[13], INVOKERS[13], null);
+	}
+
+	@Override
+	public void get(java.lang.String arg0) {
+		handler.dispatch(this, 14, METHODS[14], INVOKERS[14], new Object[]{arg0});
+	}
+
+	@Override
+	public void close() {
+		handler.dispatch(this, 15, METHODS[15], INVOKERS[15], null);
+	}
+
+	@Override
+	public java.lang.Object executeAsyncScript(java.lang.String arg0, java.lang.Object... arg1) {
+		return (java.lang.Object) handler.dispatch(this, 16, METHODS[16], INVOKERS[16], new Object[]{arg0, arg1});
+	}
+
+	@Override
+	public java.lang.Object executeScript(java.lang.String arg0, java.lang.Object... arg1) {
+		return (java.lang.Object) handler.dispatch(this, 17, METHODS[17], INVOKERS[17], new Object[]{arg0, arg1});
+	}
+
+	@Override
+	public org.openqa.selenium.WebElement findElementById(java.lang.String arg0) {
+		return (org.openqa.selenium.WebElement) handler.dispatch(this, 18, METHODS[18], INVOKERS[18], new Object[]{arg0});
+	}
+
+	@Override
+	public java.util.List<org.openqa.selenium.WebElement> findElementsById(java.lang.String arg0) {
+		return (java.util.List<org.openqa.selenium.WebElement>) handler.dispatch(this, 19, METHODS[19], INVOKERS[19], new Object[]{arg0});
+	}
+
+	@Override
+	public org.openqa.selenium.WebElement findElementByClassName(java.lang.String arg0) {
+		return (org.openqa.selenium.WebElement) handler.dispatch(this, 20, METHODS[20], INVOKERS[20], new Object[]{arg0});
+	}
+
+	@Override
+	public java.util.List<org.openqa.selenium.WebElement> findElementsByClassName(java.lang.String arg0) {
+		return (java.util.List<org.openqa.selenium.WebElement>) handler.dispatch(this, 21, METHODS[21], INVOKERS[21], new Object[]{arg0});
+	}
+
+	@Override
+	public org.openqa.selenium.WebElement findElementByLinkText(java.lang.String arg0) {
+		return (org.openqa.selenium.WebElement) handler.dispatch(this, 22, METHODS[22], INVOKERS[22], new Object[]{arg0});
+	}
+
+	@Override
+	public java.util.List<org.openqa.selenium.WebElement> findElementsByLinkText(java.lang.String arg0) {
+		return (java.util.List<org.openqa.selenium.WebElement>) handler.dispatch(this, 23, METHODS[23], INVOKERS[23], new Object[]{arg0});
+	}
+
+	@Override
+	public org.openqa.selenium.WebElement findElementByPartialLinkText(java.lang.String arg0) {
+		return (org.openqa.selenium.WebElement) handler.dispatch(this, 24, METHODS[24], INVOKERS[24], new Object[]{arg0});
+	}
+
+	@Override
+	public java.util.List<org.openqa.selenium.WebElement> findElementsByPartialLinkText(java.lang.String arg0) {
+		return (java.util.List<org.openqa.selenium.WebElement>) handler.dispatch(this, 25, METHODS[25], INVOKERS[25], new Object[]{arg0});
+	}
+
+	@Override
+	public org.openqa.selenium.WebElement findElementByName(java.lang.String arg0) {
+		return (org.openqa.selenium.WebElement) handler.dispatch(this, 26, METHODS[26], INVOKERS[26], new Object[]{arg0});
+	}
+
+	@Override
+	public java.util.List<org.openqa.selenium.WebElement> findElementsByName(java.lang.String arg0) {
+		return (java.util.List<org.openqa.selenium.WebElement>) handler.dispatch(this, 27, METHODS[27], INVOKERS[27], new Object[]{arg0});
+	}
+
+	@Override
+	public org.openqa.selenium.WebElement findElementByCssSelector(java.lang.String arg0) {
+		return (org.openqa.selenium.WebElement) handler.dispatch(this, 28, METHODS[28], INVOKERS[28], new Object[]{arg0});
+	}
+
+	@Override
+	public java.util.List<org.openqa.selenium.WebElement> findElementsByCssSelector(java.lang.String arg0) {
+		return (java.util.List<org.openqa.selenium.WebElement>) handler.dispatch(this, 29, METHODS[29], INVOKERS[29], new Object[]{arg0});
+	}
+
+	@Override
+	public org.openqa.selenium.WebElement findElementByTagName(java.lang.String arg0) {
+		return (org.openqa.selenium.WebElement) handler.dispatch(this, 30, METHODS[30], INVOKERS[30], new Object[]{arg0});
+	}
+
+	@Override
+	public java.util.List<org.openqa.selenium.WebElement> findElementsByTagName(java.lang.String arg0) {
+		return (java.util.List<org.openqa.selenium.WebElement>) handler.dispatch(this, 31, METHODS[31], INVOKERS[31], new Object[]{arg0});
+	}
+
+	@Override
+	public org.openqa.selenium.WebElement findElementByXPath(java.lang.String arg0) {
+		return (org.openqa.selenium.WebElement) handler.dispatch(this, 32, METHODS[32], INVOKERS[32], new Object[]{arg0});
+	}
+
+	@Override
+	public java.util.List<org.openqa.selenium.WebElement> findElementsByXPath(java.lang.String arg0) {
+		return (java.util.List<org.openqa.selenium.WebElement>) handler.dispatch(this, 33, METHODS[33], INVOKERS[33], new Object[]{arg0});
+	}
+
+	@Override
+	public org.openqa.selenium.interactions.Keyboard getKeyboard() {
+		return (org.openqa.selenium.interactions.Keyboard) handler.dispatch(this, 34, METHODS[34], INVOKERS[34], null);
+	}
+
+	@Override
+	public org.openqa.selenium.interactions.Mouse getMouse() {
+		return (org.openqa.selenium.interactions.Mouse) handler.dispatch(this, 35, METHODS[35], INVOKERS[35], null);
+	}
+
+	@Override
+	public org.openqa.selenium.Capabilities getCapabilities() {
+		return (org.openqa.selenium.Capabilities) handler.dispatch(this, 36, METHODS[36], INVOKERS[36], null);
+	}
+
+	@Override
+	public <X> X getScreenshotAs(org.openqa.selenium.OutputType<X> arg0) throws org.openqa.selenium.WebDriverException {
+		return (X) handler.dispatch(this, 37, METHODS[37], INVOKERS[37], new Object[]{arg0});
+	}
+
+	@Override
+	public org.openqa.selenium.WebDriver getWrappedDriver() {
+		return (org.openqa.selenium.WebDriver) handler.dispatch(this, 38, METHODS[38], INVOKERS[38], null);
+	}
+
+	@Override
+	public <T> void removeListener(nikoladasm.webdriver.wrapper.EventListenerLocation<T> arg0, T arg1) {
+		handler.dispatch(this, 39, METHODS[39], INVOKERS[39], new Object[]{arg0, arg1});
+	}
+
+	@Override
+	public <T> void removeListener(nikoladasm.webdriver.wrapper.EventListenerLocation<T> arg0) {
+		handler.dispatch(this, 40, METHODS[40], INVOKERS[40], new Object[]{arg0});
+	}
+
+	@Override
+	public <T> void addListener(nikoladasm.webdriver.wrapper.EventListenerLocation<T> arg0, T arg1, int arg2) {
+		handler.dispatch(this, 41, METHODS[41], INVOKERS[41], new Object[]{arg0, arg1, arg2});
+	}
+
+	@Override
+	public <T> void addListener(nikoladasm.webdriver.wrapper.EventListenerLocation<T> arg0, T arg1) {
+		handler.dispatch(this, 42, METHODS[42], INVOKERS[42], new Object[]{arg0, arg1});
+	}
+
+	@Override
+	public void replaceListeners(nikoladasm.webdriver.wrapper.ListenerSet arg0) {
+		handler.dispatch(this, 43, METHODS[43], INVOKERS[43], new Object[]{arg0});
+	}
+
+	@Override
+	public <T> void setListener(nikoladasm.webdriver.wrapper.EventListenerLocation<T> arg0, T arg1) {
+		handler.dispatch(this, 44, METHODS[44], INVOKERS[44], new Object[]{arg0, arg1});
+	}
+
+	@Override
+	public void removeInterceptor(nikoladasm.webdriver.wrapper.Interceptor arg0) {
+		handler.dispatch(this, 45, METHODS[45], INVOKERS[45], new Object[]{arg0});
+	}
+
+	@Override
+	public void addInterceptor(nikoladasm.webdriver.wrapper.EventListenerLocation<?> arg0, nikoladasm.webdriver.wrapper.Interceptor arg1) {
+		handler.dispatch(this, 46, METHODS[46], INVOKERS[46], new Object[]{arg0, arg1});
+	}
+
+	@Override
+	public void addInterceptor(nikoladasm.webdriver.wrapper.Interceptor arg0) {
+		handler.dispatch(this, 47, METHODS[47], INVOKERS[47], new Object[]{arg0});
+	}
+
+	@Override
+	public void addFirehoseListener(nikoladasm.webdriver.wrapper.listeners.FirehoseListener arg0) {
+		handler.dispatch(this, 48, METHODS[48], INVOKERS[48], new Object[]{arg0});
+	}
+
+	@Override
+	public void removeFirehoseListener(nikoladasm.webdriver.wrapper.listeners.FirehoseListener arg0) {
+		handler.dispatch(this, 49, METHODS[49], INVOKERS[49], new Object[]{arg0});
+	}
+
+	@Override
+	public nikoladasm.webdriver.wrapper.BatchResult findBatch(nikoladasm.webdriver.wrapper.LocatorBatch arg0) {
+		return (nikoladasm.webdriver.wrapper.BatchResult) handler.dispatch(this, 50, METHODS[50], INVOKERS[50], new Object[]{arg0});
+	}
+}
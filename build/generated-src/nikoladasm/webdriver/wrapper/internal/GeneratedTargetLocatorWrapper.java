@@ -0,0 +1,111 @@
+// Generated by nikoladasm.webdriver.wrapper.tools.WrapperSourceGenerator, do not edit.
+package nikoladasm.webdriver.wrapper.internal;
+
+import java.lang.reflect.Method;
+
+@SuppressWarnings({"unchecked", "rawtypes"})
+final class GeneratedTargetLocatorWrapper implements org.openqa.selenium.WebDriver.TargetLocator, nikoladasm.webdriver.wrapper.internal.WrapsTargetLocator {
+
+	private static final Method[] METHODS;
+	private static final MethodInvoker[] INVOKERS = {
+		(target, args) -> ((java.lang.Object) target).hashCode(),
+		(target, args) -> ((java.lang.Object) target).equals((java.lang.Object) args[0]),
+		(target, args) -> ((java.lang.Object) target).toString(),
+		(target, args) -> ((org.openqa.selenium.WebDriver.TargetLocator) target).window((java.lang.String) args[0]),
+		(target, args) -> ((org.openqa.selenium.WebDriver.TargetLocator) target).frame((java.lang.Integer) args[0]),
+		(target, args) -> ((org.openqa.selenium.WebDriver.TargetLocator) target).frame((org.openqa.selenium.WebElement) args[0]),
+		(target, args) -> ((org.openqa.selenium.WebDriver.TargetLocator) target).frame((java.lang.String) args[0]),
+		(target, args) -> ((org.openqa.selenium.WebDriver.TargetLocator) target).parentFrame(),
+		(target, args) -> ((org.openqa.selenium.WebDriver.TargetLocator) target).defaultContent(),
+		(target, args) -> ((org.openqa.selenium.WebDriver.TargetLocator) target).activeElement(),
+		(target, args) -> ((org.openqa.selenium.WebDriver.TargetLocator) target).alert(),
+		(target, args) -> ((nikoladasm.webdriver.wrapper.internal.WrapsTargetLocator) target).getWrappedTargetLocator()
+	};
+
+	static {
+		try {
+			METHODS = new Method[]{
+				java.lang.Object.class.getMethod("hashCode"),
+				java.lang.Object.class.getMethod("equals", java.lang.Object.class),
+				java.lang.Object.class.getMethod("toString"),
+				org.openqa.selenium.WebDriver.TargetLocator.class.getMethod("window", java.lang.String.class),
+				org.openqa.selenium.WebDriver.TargetLocator.class.getMethod("frame", int.class),
+				org.openqa.selenium.WebDriver.TargetLocator.class.getMethod("frame", org.openqa.selenium.WebElement.class),
+				org.openqa.selenium.WebDriver.TargetLocator.class.getMethod("frame", java.lang.String.class),
+				org.openqa.selenium.WebDriver.TargetLocator.class.getMethod("parentFrame"),
+				org.openqa.selenium.WebDriver.TargetLocator.class.getMethod("defaultContent"),
+				org.openqa.selenium.WebDriver.TargetLocator.class.getMethod("activeElement"),
+				org.openqa.selenium.WebDriver.TargetLocator.class.getMethod("alert"),
+				nikoladasm.webdriver.wrapper.internal.WrapsTargetLocator.class.getMethod("getWrappedTargetLocator")
+			};
+		} catch (NoSuchMethodException e) {
+			throw new NoSuchMethodError(e.getMessage());
+		}
+	}
+
+	private final ListenableInvocationHandler handler;
+
+	GeneratedTargetLocatorWrapper(ListenableInvocationHandler handler) {
+		this.handler = handler;
+	}
+
+	@Override
+	public int hashCode() {
+		return (java.lang.Integer) handler.dispatch(this, 0, METHODS[0], INVOKERS[0], null);
+	}
+
+	@Override
+	public boolean equals(java.lang.Object arg0) {
+		return (java.lang.Boolean) handler.dispatch(this, 1, METHODS[1], INVOKERS[1], new Object[]{arg0});
+	}
+
+	@Override
+	public java.lang.String toString() {
+		return (java.lang.String) handler.dispatch(this, 2, METHODS[2], INVOKERS[2], null);
+	}
+
+	@Override
+	public org.openqa.selenium.WebDriver window(java.lang.String arg0) {
+		return (org.openqa.selenium.WebDriver) handler.dispatch(this, 3, METHODS[3], INVOKERS[3], new Object[]{arg0});
+	}
+
+	@Override
+	public org.openqa.selenium.WebDriver frame(int arg0) {
+		return (org.openqa.selenium.WebDriver) handler.dispatch(this, 4, METHODS[4], INVOKERS[4], new Object[]{arg0});
+	}
+
+	@Override
+	public org.openqa.selenium.WebDriver frame(org.openqa.selenium.WebElement arg0) {
+		return (org.openqa.selenium.WebDriver) handler.dispatch(this, 5, METHODS[5], INVOKERS[5], new Object[]{arg0});
+	}
+
+	@Override
+	public org.openqa.selenium.WebDriver frame(java.lang.String arg0) {
+		return (org.openqa.selenium.WebDriver) handler.dispatch(this, 6, METHODS[6], INVOKERS[6], new Object[]{arg0});
+	}
+
+	@Override
+	public org.openqa.selenium.WebDriver parentFrame() {
+		return (org.openqa.selenium.WebDriver) handler.dispatch(this, 7, METHODS[7], INVOKERS[7], null);
+	}
+
+	@Override
+	public org.openqa.selenium.WebDriver defaultContent() {
+		return (org.openqa.selenium.WebDriver) handler.dispatch(this, 8, METHODS[8], INVOKERS[8], null);
+	}
+
+	@Override
+	public org.openqa.selenium.WebElement activeElement() {
+		return (org.openqa.selenium.WebElement) handler.dispatch(this, 9, METHODS[9], INVOKERS[9], null);
+	}
+
+	@Override
+	public org.openqa.selenium.Alert alert() {
+		return (org.openqa.selenium.Alert) handler.dispatch(this, 10, METHODS[10], INVOKERS[10], null);
+	}
+
+	@Override
+	public org.openqa.selenium.WebDriver.TargetLocator getWrappedTargetLocator() {
+		return (org.openqa.selenium.WebDriver.TargetLocator) handler.dispatch(this, 11, METHODS[11], INVOKERS[11], null);
+	}
+}
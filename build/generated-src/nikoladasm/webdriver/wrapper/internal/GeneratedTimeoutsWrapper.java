@@ -0,0 +1,76 @@
+// Generated by nikoladasm.webdriver.wrapper.tools.WrapperSourceGenerator, do not edit.
+package nikoladasm.webdriver.wrapper.internal;
+
+import java.lang.reflect.Method;
+
+@SuppressWarnings({"unchecked", "rawtypes"})
+final class GeneratedTimeoutsWrapper implements org.openqa.selenium.WebDriver.Timeouts, nikoladasm.webdriver.wrapper.internal.WrapsTimeouts {
+
+	private static final Method[] METHODS;
+	private static final MethodInvoker[] INVOKERS = {
+		(target, args) -> ((java.lang.Object) target).hashCode(),
+		(target, args) -> ((java.lang.Object) target).equals((java.lang.Object) args[0]),
+		(target, args) -> ((java.lang.Object) target).toString(),
+		(target, args) -> ((org.openqa.selenium.WebDriver.Timeouts) target).setScriptTimeout((java.lang.Long) args[0], (java.util.concurrent.TimeUnit) args[1]),
+		(target, args) -> ((org.openqa.selenium.WebDriver.Timeouts) target).implicitlyWait((java.lang.Long) args[0], (java.util.concurrent.TimeUnit) args[1]),
+		(target, args) -> ((org.openqa.selenium.WebDriver.Timeouts) target).pageLoadTimeout((java.lang.Long) args[0], (java.util.concurrent.TimeUnit) args[1]),
+		(target, args) -> ((nikoladasm.webdriver.wrapper.internal.WrapsTimeouts) target).getWrappedTimeouts()
+	};
+
+	static {
+		try {
+			METHODS = new Method[]{
+				java.lang.Object.class.getMethod("hashCode"),
+				java.lang.Object.class.getMethod("equals", java.lang.Object.class),
+				java.lang.Object.class.getMethod("toString"),
+				org.openqa.selenium.WebDriver.Timeouts.class.getMethod("setScriptTimeout", long.class, java.util.concurrent.TimeUnit.class),
+				org.openqa.selenium.WebDriver.Timeouts.class.getMethod("implicitlyWait", long.class, java.util.concurrent.TimeUnit.class),
+				org.openqa.selenium.WebDriver.Timeouts.class.getMethod("pageLoadTimeout", long.class, java.util.concurrent.TimeUnit.class),
+				nikoladasm.webdriver.wrapper.internal.WrapsTimeouts.class.getMethod("getWrappedTimeouts")
+			};
+		} catch (NoSuchMethodException e) {
+			throw new NoSuchMethodError(e.getMessage());
+		}
+	}
+
+	private final ListenableInvocationHandler handler;
+
+	GeneratedTimeoutsWrapper(ListenableInvocationHandler handler) {
+		this.handler = handler;
+	}
+
+	@Override
+	public int hashCode() {
+		return (java.lang.Integer) handler.dispatch(this, 0, METHODS[0], INVOKERS[0], null);
+	}
+
+	@Override
+	public boolean equals(java.lang.Object arg0) {
+		return (java.lang.Boolean) handler.dispatch(this, 1, METHODS[1], INVOKERS[1], new Object[]{arg0});
+	}
+
+	@Override
+	public java.lang.String toString() {
+		return (java.lang.String) handler.dispatch(this, 2, METHODS[2], INVOKERS[2], null);
+	}
+
+	@Override
+	public org.openqa.selenium.WebDriver.Timeouts setScriptTimeout(long arg0, java.util.concurrent.TimeUnit arg1) {
+		return (org.openqa.selenium.WebDriver.Timeouts) handler.dispatch(this, 3, METHODS[3], INVOKERS[3], new Object[]{arg0, arg1});
+	}
+
+	@Override
+	public org.openqa.selenium.WebDriver.Timeouts implicitlyWait(long arg0, java.util.concurrent.TimeUnit arg1) {
+		return (org.openqa.selenium.WebDriver.Timeouts) handler.dispatch(this, 4, METHODS[4], INVOKERS[4], new Object[]{arg0, arg1});
+	}
+
+	@Override
+	public org.openqa.selenium.WebDriver.Timeouts pageLoadTimeout(long arg0, java.util.concurrent.TimeUnit arg1) {
+		return (org.openqa.selenium.WebDriver.Timeouts) handler.dispatch(this, 5, METHODS[5], INVOKERS[5], new Object[]{arg0, arg1});
+	}
+
+	@Override
+	public org.openqa.selenium.WebDriver.Timeouts getWrappedTimeouts() {
+		return (org.openqa.selenium.WebDriver.Timeouts) handler.dispatch(this, 6, METHODS[6], INVOKERS[6], null);
+	}
+}
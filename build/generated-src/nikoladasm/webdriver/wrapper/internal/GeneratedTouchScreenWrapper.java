@@ -0,0 +1,125 @@
+// Generated by nikoladasm.webdriver.wrapper.tools.WrapperSourceGenerator, do not edit.
+package nikoladasm.webdriver.wrapper.internal;
+
+import java.lang.reflect.Method;
+
+@SuppressWarnings({"unchecked", "rawtypes"})
+final class GeneratedTouchScreenWrapper implements org.openqa.selenium.interactions.TouchScreen, nikoladasm.webdriver.wrapper.internal.WrapsTouchScreen {
+
+	private static final Method[] METHODS;
+	private static final MethodInvoker[] INVOKERS = {
+		(target, args) -> ((java.lang.Object) target).hashCode(),
+		(target, args) -> ((java.lang.Object) target).equals((java.lang.Object) args[0]),
+		(target, args) -> ((java.lang.Object) target).toString(),
+		(target, args) -> { ((org.openqa.selenium.interactions.TouchScreen) target).move((java.lang.Integer) args[0], (java.lang.Integer) args[1]); return null; },
+		(target, args) -> { ((org.openqa.selenium.interactions.TouchScreen) target).singleTap((org.openqa.selenium.interactions.internal.Coordinates) args[0]); return null; },
+		(target, args) -> { ((org.openqa.selenium.interactions.TouchScreen) target).down((java.lang.Integer) args[0], (java.lang.Integer) args[1]); return null; },
+		(target, args) -> { ((org.openqa.selenium.interactions.TouchScreen) target).up((java.lang.Integer) args[0], (java.lang.Integer) args[1]); return null; },
+		(target, args) -> { ((org.openqa.selenium.interactions.TouchScreen) target).scroll((java.lang.Integer) args[0], (java.lang.Integer) args[1]); return null; },
+		(target, args) -> { ((org.openqa.selenium.interactions.TouchScreen) target).scroll((org.openqa.selenium.interactions.internal.Coordinates) args[0], (java.lang.Integer) args[1], (java.lang.Integer) args[2]); return null; },
+		(target, args) -> { ((org.openqa.selenium.interactions.TouchScreen) target).doubleTap((org.openqa.selenium.interactions.internal.Coordinates) args[0]); return null; },
+		(target, args) -> { ((org.openqa.selenium.interactions.TouchScreen) target).longPress((org.openqa.selenium.interactions.internal.Coordinates) args[0]); return null; },
+		(target, args) -> { ((org.openqa.selenium.interactions.TouchScreen) target).flick((org.openqa.selenium.interactions.internal.Coordinates) args[0], (java.lang.Integer) args[1], (java.lang.Integer) args[2], (java.lang.Integer) args[3]); return null; },
+		(target, args) -> { ((org.openqa.selenium.interactions.TouchScreen) target).flick((java.lang.Integer) args[0], (java.lang.Integer) args[1]); return null; },
+		(target, args) -> ((nikoladasm.webdriver.wrapper.internal.WrapsTouchScreen) target).getWrappedTouchScreen()
+	};
+
+	static {
+		try {
+			METHODS = new Method[]{
+				java.lang.Object.class.getMethod("hashCode"),
+				java.lang.Object.class.getMethod("equals", java.lang.Object.class),
+				java.lang.Object.class.getMethod("toString"),
+				org.openqa.selenium.interactions.TouchScreen.class.getMethod("move", int.class, int.class),
+				org.openqa.selenium.interactions.TouchScreen.class.getMethod("singleTap", org.openqa.selenium.interactions.internal.Coordinates.class),
+				org.openqa.selenium.interactions.TouchScreen.class.getMethod("down", int.class, int.class),
+				org.openqa.selenium.interactions.TouchScreen.class.getMethod("up", int.class, int.class),
+				org.openqa.selenium.interactions.TouchScreen.class.getMethod("scroll", int.class, int.class),
+				org.openqa.selenium.interactions.TouchScreen.class.getMethod("scroll", org.openqa.selenium.interactions.internal.Coordinates.class, int.class, int.class),
+				org.openqa.selenium.interactions.TouchScreen.class.getMethod("doubleTap", org.openqa.selenium.interactions.internal.Coordinates.class),
+				org.openqa.selenium.interactions.TouchScreen.class.getMethod("longPress", org.openqa.selenium.interactions.internal.Coordinates.class),
+				org.openqa.selenium.interactions.TouchScreen.class.getMethod("flick", org.openqa.selenium.interactions.internal.Coordinates.class, int.class, int.class, int.class),
+				org.openqa.selenium.interactions.TouchScreen.class.getMethod("flick", int.class, int.class),
+				nikoladasm.webdriver.wrapper.internal.WrapsTouchScreen.class.getMethod("getWrappedTouchScreen")
+			};
+		} catch (NoSuchMethodException e) {
+			throw new NoSuchMethodError(e.getMessage());
+		}
+	}
+
+	private final ListenableInvocationHandler handler;
+
+	GeneratedTouchScreenWrapper(ListenableInvocationHandler handler) {
+		this.handler = handler;
+	}
+
+	@Override
+	public int hashCode() {
+		return (java.lang.Integer) handler.dispatch(this, 0, METHODS[0], INVOKERS[0], null);
+	}
+
+	@Override
+	public boolean equals(java.lang.Object arg0) {
+		return (java.lang.Boolean) handler.dispatch(this, 1, METHODS[1], INVOKERS[1], new Object[]{arg0});
+	}
+
+	@Override
+	public java.lang.String toString() {
+		return (java.lang.String) handler.dispatch(this, 2, METHODS[2], INVOKERS[2], null);
+	}
+
+	@Override
+	public void move(int arg0, int arg1) {
+		handler.dispatch(this, 3, METHODS[3], INVOKERS[3], new Object[]{arg0, arg1});
+	}
+
+	@Override
+	public void singleTap(org.openqa.selenium.interactions.internal.Coordinates arg0) {
+		handler.dispatch(this, 4, METHODS[4], INVOKERS[4], new Object[]{arg0});
+	}
+
+	@Override
+	public void down(int arg0, int arg1) {
+		handler.dispatch(this, 5, METHODS[5], INVOKERS[5], new Object[]{arg0, arg1});
+	}
+
+	@Override
+	public void up(int arg0, int arg1) {
+		handler.dispatch(this, 6, METHODS[6], INVOKERS[6], new Object[]{arg0, arg1});
+	}
+
+	@Override
+	public void scroll(int arg0, int arg1) {
+		handler.dispatch(this, 7, METHODS[7], INVOKERS[7], new Object[]{arg0, arg1});
+	}
+
+	@Override
+	public void scroll(org.openqa.selenium.interactions.internal.Coordinates arg0, int arg1, int arg2) {
+		handler.dispatch(this, 8, METHODS[8], INVOKERS[8], new Object[]{arg0, arg1, arg2});
+	}
+
+	@Override
+	public void doubleTap(org.openqa.selenium.interactions.internal.Coordinates arg0) {
+		handler.dispatch(this, 9, METHODS[9], INVOKERS[9], new Object[]{arg0});
+	}
+
+	@Override
+	public void longPress(org.openqa.selenium.interactions.internal.Coordinates arg0) {
+		handler.dispatch(this, 10, METHODS[10], INVOKERS[10], new Object[]{arg0});
+	}
+
+	@Override
+	public void flick(org.openqa.selenium.interactions.internal.Coordinates arg0, int arg1, int arg2, int arg3) {
+		handler.dispatch(this, 11, METHODS[11], INVOKERS[11], new Object[]{arg0, arg1, arg2, arg3});
+	}
+
+	@Override
+	public void flick(int arg0, int arg1) {
+		handler.dispatch(this, 12, METHODS[12], INVOKERS[12], new Object[]{arg0, arg1});
+	}
+
+	@Override
+	public org.openqa.selenium.interactions.TouchScreen getWrappedTouchScreen() {
+		return (org.openqa.selenium.interactions.TouchScreen) handler.dispatch(this, 13, METHODS[13], INVOKERS[13], null);
+	}
+}
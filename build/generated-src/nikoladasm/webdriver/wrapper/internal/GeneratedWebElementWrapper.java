@@ -0,0 +1,181 @@
+// Generated by nikoladasm.webdriver.wrapper.tools.WrapperSourceGenerator, do not edit.
+package nikoladasm.webdriver.wrapper.internal;
+
+import java.lang.reflect.Method;
+
+@SuppressWarnings({"unchecked", "rawtypes"})
+final class GeneratedWebElementWrapper implements org.openqa.selenium.WebElement, org.openqa.selenium.internal.WrapsElement, org.openqa.selenium.internal.WrapsDriver, nikoladasm.webdriver.wrapper.internal.WebElementListenableWrapper {
+
+	private static final Method[] METHODS;
+	private static final MethodInvoker[] INVOKERS = {
+		(target, args) -> ((java.lang.Object) target).hashCode(),
+		(target, args) -> ((java.lang.Object) target).equals((java.lang.Object) args[0]),
+		(target, args) -> ((java.lang.Object) target).toString(),
+		(target, args) -> ((org.openqa.selenium.WebElement) target).getAttribute((java.lang.String) args[0]),
+		(target, args) -> ((org.openqa.selenium.WebElement) target).getText(),
+		(target, args) -> { ((org.openqa.selenium.WebElement) target).sendKeys((java.lang.CharSequence[]) args[0]); return null; },
+		(target, args) -> { ((org.openqa.selenium.WebElement) target).click(); return null; },
+		(target, args) -> ((org.openqa.selenium.WebElement) target).findElements((org.openqa.selenium.By) args[0]),
+		(target, args) -> ((org.openqa.selenium.WebElement) target).findElement((org.openqa.selenium.By) args[0]),
+		(target, args) -> { ((org.openqa.selenium.WebElement) target).submit(); return null; },
+		(target, args) -> ((org.openqa.selenium.WebElement) target).getTagName(),
+		(target, args) -> ((org.openqa.selenium.WebElement) target).isSelected(),
+		(target, args) -> ((org.openqa.selenium.WebElement) target).isEnabled(),
+		(target, args) -> ((org.openqa.selenium.WebElement) target).isDisplayed(),
+		(target, args) -> ((org.openqa.selenium.WebElement) target).getRect(),
+		(target, args) -> ((org.openqa.selenium.WebElement) target).getCssValue((java.lang.String) args[0]),
+		(target, args) -> { ((org.openqa.selenium.WebElement) target).clear(); return null; },
+		(target, args) -> ((org.openqa.selenium.WebElement) target).getLocation(),
+		(target, args) -> ((org.openqa.selenium.WebElement) target).getSize(),
+		(target, args) -> ((org.openqa.selenium.TakesScreenshot) target).getScreenshotAs((org.openqa.selenium.OutputType) args[0]),
+		(target, args) -> ((org.openqa.selenium.internal.WrapsElement) target).getWrappedElement(),
+		(target, args) -> ((org.openqa.selenium.internal.WrapsDriver) target).getWrappedDriver()
+	};
+
+	static {
+		try {
+			METHODS = new Method[]{
+				java.lang.Object.class.getMethod("hashCode"),
+				java.lang.Object.class.getMethod("equals", java.lang.Object.class),
+				java.lang.Object.class.getMethod("toString"),
+				org.openqa.selenium.WebElement.class.getMethod("getAttribute", java.lang.String.class),
+				org.openqa.selenium.WebElement.class.getMethod("getText"),
+				org.openqa.selenium.WebElement.class.getMethod("sendKeys", java.lang.CharSequence[].class),
+				org.openqa.selenium.WebElement.class.getMethod("click"),
+				org.openqa.selenium.WebElement.class.getMethod("findElements", org.openqa.selenium.By.class),
+				org.openqa.selenium.WebElement.class.getMethod("findElement", org.openqa.selenium.By.class),
+				org.openqa.selenium.WebElement.class.getMethod("submit"),
+				org.openqa.selenium.WebElement.class.getMethod("getTagName"),
+				org.openqa.selenium.WebElement.class.getMethod("isSelected"),
+				org.openqa.selenium.WebElement.class.getMethod("isEnabled"),
+				org.openqa.selenium.WebElement.class.getMethod("isDisplayed"),
+				org.openqa.selenium.WebElement.class.getMethod("getRect"),
+				org.openqa.selenium.WebElement.class.getMethod("getCssValue", java.lang.String.class),
+				org.openqa.selenium.WebElement.class.getMethod("clear"),
+				org.openqa.selenium.WebElement.class.getMethod("getLocation"),
+				org.openqa.selenium.WebElement.class.getMethod("getSize"),
+				org.openqa.selenium.TakesScreenshot.class.getMethod("getScreenshotAs", org.openqa.selenium.OutputType.class),
+				org.openqa.selenium.internal.WrapsElement.class.getMethod("getWrappedElement"),
+				org.openqa.selenium.internal.WrapsDriver.class.getMethod("getWrappedDriver")
+			};
+		} catch (NoSuchMethodException e) {
+			throw new NoSuchMethodError(e.getMessage());
+		}
+	}
+
+	private final ListenableInvocationHandler handler;
+
+	GeneratedWebElementWrapper(ListenableInvocationHandler handler) {
+		this.handler = handler;
+	}
+
+	@Override
+	public int hashCode() {
+		return (java.lang.Integer) handler.dispatch(this, 0, METHODS[0], INVOKERS[0], null);
+	}
+
+	@Override
+	public boolean equals(java.lang.Object arg0) {
+		return (java.lang.Boolean) handler.dispatch(this, 1, METHODS[1], INVOKERS[1], new Object[]{arg0});
+	}
+
+	@Override
+	public java.lang.String toString() {
+		return (java.lang.String) handler.dispatch(this, 2, METHODS[2], INVOKERS[2], null);
+	}
+
+	@Override
+	public java.lang.String getAttribute(java.lang.String arg0) {
+		return (java.lang.String) handler.dispatch(this, 3, METHODS[3], INVOKERS[3], new Object[]{arg0});
+	}
+
+	@Override
+	public java.lang.String getText() {
+		return (java.lang.String) handler.dispatch(this, 4, METHODS[4], INVOKERS[4], null);
+	}
+
+	@Override
+	public void sendKeys(java.lang.CharSequence... arg0) {
+		handler.dispatch(this, 5, METHODS[5], INVOKERS[5], new Object[]{arg0});
+	}
+
+	@Override
+	public void click() {
+		handler.dispatch(this, 6, METHODS[6], INVOKERS[6], null);
+	}
+
+	@Override
+	public java.util.List<org.openqa.selenium.WebElement> findElements(org.openqa.selenium.By arg0) {
+		return (java.util.List<org.openqa.selenium.WebElement>) handler.dispatch(this, 7, METHODS[7], INVOKERS[7], new Object[]{arg0});
+	}
+
+	@Override
+	public org.openqa.selenium.WebElement findElement(org.openqa.selenium.By arg0) {
+		return (org.openqa.selenium.WebElement) handler.dispatch(this, 8, METHODS[8], INVOKERS[8], new Object[]{arg0});
+	}
+
+	@Override
+	public void submit() {
+		handler.dispatch(this, 9, METHODS[9], INVOKERS[9], null);
+	}
+
+	@Override
+	public java.lang.String getTagName() {
+		return (java.lang.String) handler.dispatch(this, 10, METHODS[10], INVOKERS[10], null);
+	}
+
+	@Override
+	public boolean isSelected() {
+		return (java.lang.Boolean) handler.dispatch(this, 11, METHODS[11], INVOKERS[11], null);
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return (java.lang.Boolean) handler.dispatch(this, 12, METHODS[12], INVOKERS[12], null);
+	}
+
+	@Override
+	public boolean isDisplayed() {
+		return (java.lang.Boolean) handler.dispatch(this, 13, METHODS[13], INVOKERS[13], null);
+	}
+
+	@Override
+	public org.openqa.selenium.Rectangle getRect() {
+		return (org.openqa.selenium.Rectangle) handler.dispatch(this, 14, METHODS[14], INVOKERS[14], null);
+	}
+
+	@Override
+	public java.lang.String getCssValue(java.lang.String arg0) {
+		return (java.lang.String) handler.dispatch(this, 15, METHODS[15], INVOKERS[15], new Object[]{arg0});
+	}
+
+	@Override
+	public void clear() {
+		handler.dispatch(this, 16, METHODS[16], INVOKERS[16], null);
+	}
+
+	@Override
+	public org.openqa.selenium.Point getLocation() {
+		return (org.openqa.selenium.Point) handler.dispatch(this, 17, METHODS[17], INVOKERS[17], null);
+	}
+
+	@Override
+	public org.openqa.selenium.Dimension getSize() {
+		return (org.openqa.selenium.Dimension) handler.dispatch(this, 18, METHODS[18], INVOKERS[18], null);
+	}
+
+	@Override
+	public <X> X getScreenshotAs(org.openqa.selenium.OutputType<X> arg0) throws org.openqa.selenium.WebDriverException {
+		return (X) handler.dispatch(this, 19, METHODS[19], INVOKERS[19], new Object[]{arg0});
+	}
+
+	@Override
+	public org.openqa.selenium.WebElement getWrappedElement() {
+		return (org.openqa.selenium.WebElement) handler.dispatch(this, 20, METHODS[20], INVOKERS[20], null);
+	}
+
+	@Override
+	public org.openqa.selenium.WebDriver getWrappedDriver() {
+		return (org.openqa.selenium.WebDriver) handler.dispatch(this, 21, METHODS[21], INVOKERS[21], null);
+	}
+}
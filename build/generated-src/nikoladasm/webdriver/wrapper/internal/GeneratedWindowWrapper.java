@@ -0,0 +1,97 @@
+// Generated by nikoladasm.webdriver.wrapper.tools.WrapperSourceGenerator, do not edit.
+package nikoladasm.webdriver.wrapper.internal;
+
+import java.lang.reflect.Method;
+
+@SuppressWarnings({"unchecked", "rawtypes"})
+final class GeneratedWindowWrapper implements org.openqa.selenium.WebDriver.Window, nikoladasm.webdriver.wrapper.internal.WrapsWindow {
+
+	private static final Method[] METHODS;
+	private static final MethodInvoker[] INVOKERS = {
+		(target, args) -> ((java.lang.Object) target).hashCode(),
+		(target, args) -> ((java.lang.Object) target).equals((java.lang.Object) args[0]),
+		(target, args) -> ((java.lang.Object) target).toString(),
+		(target, args) -> { ((org.openqa.selenium.WebDriver.Window) target).setPosition((org.openqa.selenium.Point) args[0]); return null; },
+		(target, args) -> ((org.openqa.selenium.WebDriver.Window) target).getPosition(),
+		(target, args) -> { ((org.openqa.selenium.WebDriver.Window) target).maximize(); return null; },
+		(target, args) -> { ((org.openqa.selenium.WebDriver.Window) target).fullscreen(); return null; },
+		(target, args) -> ((org.openqa.selenium.WebDriver.Window) target).getSize(),
+		(target, args) -> { ((org.openqa.selenium.WebDriver.Window) target).setSize((org.openqa.selenium.Dimension) args[0]); return null; },
+		(target, args) -> ((nikoladasm.webdriver.wrapper.internal.WrapsWindow) target).getWrappedWindow()
+	};
+
+	static {
+		try {
+			METHODS = new Method[]{
+				java.lang.Object.class.getMethod("hashCode"),
+				java.lang.Object.class.getMethod("equals", java.lang.Object.class),
+				java.lang.Object.class.getMethod("toString"),
+				org.openqa.selenium.WebDriver.Window.class.getMethod("setPosition", org.openqa.selenium.Point.class),
+				org.openqa.selenium.WebDriver.Window.class.getMethod("getPosition"),
+				org.openqa.selenium.WebDriver.Window.class.getMethod("maximize"),
+				org.openqa.selenium.WebDriver.Window.class.getMethod("fullscreen"),
+				org.openqa.selenium.WebDriver.Window.class.getMethod("getSize"),
+				org.openqa.selenium.WebDriver.Window.class.getMethod("setSize", org.openqa.selenium.Dimension.class),
+				nikoladasm.webdriver.wrapper.internal.WrapsWindow.class.getMethod("getWrappedWindow")
+			};
+		} catch (NoSuchMethodException e) {
+			throw new NoSuchMethodError(e.getMessage());
+		}
+	}
+
+	private final ListenableInvocationHandler handler;
+
+	GeneratedWindowWrapper(ListenableInvocationHandler handler) {
+		this.handler = handler;
+	}
+
+	@Override
+	public int hashCode() {
+		return (java.lang.Integer) handler.dispatch(this, 0, METHODS[0], INVOKERS[0], null);
+	}
+
+	@Override
+	public boolean equals(java.lang.Object arg0) {
+		return (java.lang.Boolean) handler.dispatch(this, 1, METHODS[1], INVOKERS[1], new Object[]{arg0});
+	}
+
+	@Override
+	public java.lang.String toString() {
+		return (java.lang.String) handler.dispatch(this, 2, METHODS[2], INVOKERS[2], null);
+	}
+
+	@Override
+	public void setPosition(org.openqa.selenium.Point arg0) {
+		handler.dispatch(this, 3, METHODS[3], INVOKERS[3], new Object[]{arg0});
+	}
+
+	@Override
+	public org.openqa.selenium.Point getPosition() {
+		return (org.openqa.selenium.Point) handler.dispatch(this, 4, METHODS[4], INVOKERS[4], null);
+	}
+
+	@Override
+	public void maximize() {
+		handler.dispatch(this, 5, METHODS[5], INVOKERS[5], null);
+	}
+
+	@Override
+	public void fullscreen() {
+		handler.dispatch(this, 6, METHODS[6], INVOKERS[6], null);
+	}
+
+	@Override
+	public org.openqa.selenium.Dimension getSize() {
+		return (org.openqa.selenium.Dimension) handler.dispatch(this, 7, METHODS[7], INVOKERS[7], null);
+	}
+
+	@Override
+	public void setSize(org.openqa.selenium.Dimension arg0) {
+		handler.dispatch(this, 8, METHODS[8], INVOKERS[8], new Object[]{arg0});
+	}
+
+	@Override
+	public org.openqa.selenium.WebDriver.Window getWrappedWindow() {
+		return (org.openqa.selenium.WebDriver.Window) handler.dispatch(this, 9, METHODS[9], INVOKERS[9], null);
+	}
+}
@@ -0,0 +1,25 @@
+// Generated by nikoladasm.webdriver.wrapper.tools.WrapperSourceGenerator, do not edit.
+package nikoladasm.webdriver.wrapper.internal;
+
+final class WrapperIndex {
+
+	static {
+		PrecompiledWrappers.register(GeneratedNavigationWrapper::new, org.openqa.selenium.WebDriver.Navigation.class, nikoladasm.webdriver.wrapper.internal.WrapsNavigation.class);
+		PrecompiledWrappers.register(GeneratedOptionsWrapper::new, org.openqa.selenium.WebDriver.Options.class, nikoladasm.webdriver.wrapper.internal.WrapsOptions.class);
+		PrecompiledWrappers.register(GeneratedTargetLocatorWrapper::new, org.openqa.selenium.WebDriver.TargetLocator.class, nikoladasm.webdriver.wrapper.internal.WrapsTargetLocator.class);
+		PrecompiledWrappers.register(GeneratedTimeoutsWrapper::new, org.openqa.selenium.WebDriver.Timeouts.class, nikoladasm.webdriver.wrapper.internal.WrapsTimeouts.class);
+		PrecompiledWrappers.register(GeneratedWindowWrapper::new, org.openqa.selenium.WebDriver.Window.class, nikoladasm.webdriver.wrapper.internal.WrapsWindow.class);
+		PrecompiledWrappers.register(GeneratedImeHandlerWrapper::new, org.openqa.selenium.WebDriver.ImeHandler.class, nikoladasm.webdriver.wrapper.internal.WrapsImeHandler.class);
+		PrecompiledWrappers.register(GeneratedAlertWrapper::new, org.openqa.selenium.Alert.class, nikoladasm.webdriver.wrapper.internal.WrapsAlert.class);
+		PrecompiledWrappers.register(GeneratedLogsWrapper::new, org.openqa.selenium.logging.Logs.class, nikoladasm.webdriver.wrapper.internal.WrapsLogs.class);
+		PrecompiledWrappers.register(GeneratedKeyboardWrapper::new, org.openqa.selenium.interactions.Keyboard.class, nikoladasm.webdriver.wrapper.internal.WrapsKeyboard.class);
+		PrecompiledWrappers.register(GeneratedMouseWrapper::new, org.openqa.selenium.interactions.Mouse.class, nikoladasm.webdriver.wrapper.internal.WrapsMouse.class);
+		PrecompiledWrappers.register(GeneratedTouchScreenWrapper::new, org.openqa.selenium.interactions.TouchScreen.class, nikoladasm.webdriver.wrapper.internal.WrapsTouchScreen.class);
+		PrecompiledWrappers.register(GeneratedWebDriverWrapper::new, org.openqa.selenium.WebDriver.class, org.openqa.selenium.internal.WrapsDriver.class, nikoladasm.webdriver.wrapper.WebDriverListenableWrapper.class);
+		PrecompiledWrappers.register(GeneratedRemoteWebDriverWrapper::new, org.openqa.selenium.WebDriver.class, org.openqa.selenium.JavascriptExecutor.class, org.openqa.selenium.internal.FindsById.class, org.openqa.selenium.internal.FindsByClassName.class, org.openqa.selenium.internal.FindsByLinkText.class, org.openqa.selenium.internal.FindsByName.class, org.openqa.selenium.internal.FindsByCssSelector.class, org.openqa.selenium.internal.FindsByTagName.class, org.openqa.selenium.internal.FindsByXPath.class, org.openqa.selenium.interactions.HasInputDevices.class, org.openqa.selenium.HasCapabilities.class, org.openqa.selenium.TakesScreenshot.class, org.openqa.selenium.internal.WrapsDriver.class, nikoladasm.webdriver.wrapper.WebDriverListenableWrapper.class);
+		PrecompiledWrappers.register(GeneratedWebElementWrapper::new, org.openqa.selenium.WebElement.class, org.openqa.selenium.internal.WrapsElement.class, org.openqa.selenium.internal.WrapsDriver.class, nikoladasm.webdriver.wrapper.internal.WebElementListenableWrapper.class);
+		PrecompiledWrappers.register(GeneratedRemoteWebElementWrapper::new, org.openqa.selenium.WebElement.class, org.openqa.selenium.internal.FindsByLinkText.class, org.openqa.selenium.internal.FindsById.class, org.openqa.selenium.internal.FindsByName.class, org.openqa.selenium.internal.FindsByTagName.class, org.openqa.selenium.internal.FindsByClassName.class, org.openqa.selenium.internal.FindsByCssSelector.class, org.openqa.selenium.internal.FindsByXPath.class, org.openqa.selenium.internal.WrapsDriver.class, org.openqa.selenium.internal.Locatable.class, org.openqa.selenium.internal.HasIdentity.class, org.openqa.selenium.TakesScreenshot.class, org.openqa.selenium.internal.WrapsElement.class, nikoladasm.webdriver.wrapper.internal.WebElementListenableWrapper.class);
+	}
+
+	private WrapperIndex() {}
+}
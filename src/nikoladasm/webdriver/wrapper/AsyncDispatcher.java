@@ -0,0 +1,88 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper;
+
+import nikoladasm.webdriver.wrapper.internal.EventRing;
+
+/*
+ * Runs the after and exception listeners of the drivers it is given to (see
+ * WebDriverWrapperFactory.wrapWebDriver) on its own daemon thread instead of
+ * the calling one. Events wait in a ring buffer of fixed capacity; what
+ * happens when it is full is up to the overflow policy. The capacity is
+ * rounded up to a power of two, and listeners that throw an exception are
+ * counted instead of failing the call. Closing the dispatcher delivers the
+ * waiting events and stops the thread; events of later calls are delivered
+ * on the calling thread again, as they are once a listener threw an error.
+ *
+ * Listeners get the underlying driver on the dispatcher thread while the
+ * test keeps using it on its own, and WebDriver implementations are not
+ * thread safe: listeners that call the driver, say to take a screenshot on
+ * an exception, race with the test and see a later page than the one of
+ * the event. Keep those synchronous. A listener must not call flush
+ * either: it would wait for its own event to be delivered, so it throws
+ * IllegalStateException there instead of never returning.
+ */
+public final class AsyncDispatcher implements AutoCloseable {
+
+	public enum OverflowPolicy {
+		/* The calling thread waits for space. */
+		BLOCK,
+		/* The oldest waiting event is dropped. */
+		DROP_OLDEST,
+		/* The new event is dropped. */
+		DROP_NEW,
+		/* Every sampleInterval-th event finding the ring full waits for space, the others are dropped. */
+		SAMPLE
+	}
+	
+	private final EventRing events;
+	
+	public AsyncDispatcher(int capacity, OverflowPolicy policy) {
+		this(capacity, policy, 10);
+	}
+	
+	public AsyncDispatcher(int capacity, OverflowPolicy policy, int sampleInterval) {
+		events = new EventRing(capacity, policy, sampleInterval);
+	}
+	
+	EventRing events() {
+		return events;
+	}
+	
+	public long dropped() {
+		return events.dropped();
+	}
+	
+	public long failed() {
+		return events.failed();
+	}
+	
+	/*
+	 * Waits until every event published so far has been delivered. Throws
+	 * IllegalStateException when called on the dispatcher thread.
+	 */
+	public void flush() {
+		events.flush();
+	}
+	
+	@Override
+	public void close() {
+		events.close();
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper;
+
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+/*
+ * Elements found by findBatch, in the order of the locators of the batch:
+ * the element found, or null with the error (NoSuchElementException,
+ * InvalidSelectorException, ...) a regular findElement would have thrown,
+ * and how long finding it took.
+ */
+public final class BatchResult {
+
+	private final WebElement[] elements;
+	private final long[] elapsedNanos;
+	private final WebDriverException[] errors;
+	
+	BatchResult(WebElement[] elements, long[] elapsedNanos, WebDriverException[] errors) {
+		this.elements = elements;
+		this.elapsedNanos = elapsedNanos;
+		this.errors = errors;
+	}
+	
+	public int size() {
+		return elements.length;
+	}
+	
+	public WebElement element(int index) {
+		return elements[index];
+	}
+	
+	public WebDriverException error(int index) {
+		return errors[index];
+	}
+	
+	public long elapsedNanos(int index) {
+		return elapsedNanos[index];
+	}
+}
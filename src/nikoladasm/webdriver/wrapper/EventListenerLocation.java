@@ -18,400 +18,426 @@
 
 package nikoladasm.webdriver.wrapper;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import nikoladasm.webdriver.wrapper.internal.Locations;
+import nikoladasm.webdriver.wrapper.internal.Scope;
 import nikoladasm.webdriver.wrapper.internal.TimeClause;
 import nikoladasm.webdriver.wrapper.listeners.*;
 
+import static nikoladasm.webdriver.wrapper.internal.Scope.*;
 import static nikoladasm.webdriver.wrapper.internal.TimeClause.*;
 
 public final class EventListenerLocation<T> {
 
+	private static final List<EventListenerLocation<?>> values = new ArrayList<>();
+	
 	public static final EventListenerLocation<OnExceptionEventListener> ON_EXCEPTION =
-		valueOf(null, "");
+		valueOf(null, "", Scope.values());
 	public static final EventListenerLocation<OnCloseEventListener> BEFORE_CLOSE =
-		valueOf(BEFORE, "close");
+		valueOf(BEFORE, "close", DRIVER);
 	public static final EventListenerLocation<OnCloseEventListener> AFTER_CLOSE =
-		valueOf(AFTER, "close");
+		valueOf(AFTER, "close", DRIVER);
 	public static final EventListenerLocation<OnQuitEventListener> BEFORE_QUIT =
-		valueOf(BEFORE, "quit");
+		valueOf(BEFORE, "quit", DRIVER);
 	public static final EventListenerLocation<OnQuitEventListener> AFTER_QUIT =
-		valueOf(AFTER, "quit");
+		valueOf(AFTER, "quit", DRIVER);
 	public static final EventListenerLocation<OnGetEventListener> BEFORE_GET =
-		valueOf(BEFORE, "get");
+		valueOf(BEFORE, "get", DRIVER);
 	public static final EventListenerLocation<OnGetEventListener> AFTER_GET =
-		valueOf(AFTER, "get");
+		valueOf(AFTER, "get", DRIVER);
 	public static final EventListenerLocation<OnGetCurrentUrlBeforeEventListener> BEFORE_GET_CURRENT_URL =
-		valueOf(BEFORE, "getCurrentUrl");
+		valueOf(BEFORE, "getCurrentUrl", DRIVER);
 	public static final EventListenerLocation<OnGetCurrentUrlAfterEventListener> AFTER_GET_CURRENT_URL =
-		valueOf(AFTER, "getCurrentUrl");
+		valueOf(AFTER, "getCurrentUrl", DRIVER);
 	public static final EventListenerLocation<OnGetPageSourceBeforeEventListener> BEFORE_GET_PAGE_SOURCE =
-		valueOf(BEFORE, "getPageSource");
+		valueOf(BEFORE, "getPageSource", DRIVER);
 	public static final EventListenerLocation<OnGetPageSourceAfterEventListener> AFTER_GET_PAGE_SOURCE =
-		valueOf(AFTER, "getPageSource");
+		valueOf(AFTER, "getPageSource", DRIVER);
 	public static final EventListenerLocation<OnGetTitleBeforeEventListener> BEFORE_GET_TITLE =
-		valueOf(BEFORE, "getTitle");
+		valueOf(BEFORE, "getTitle", DRIVER);
 	public static final EventListenerLocation<OnGetTitleAfterEventListener> AFTER_GET_TITLE =
-		valueOf(AFTER, "getTitle");
+		valueOf(AFTER, "getTitle", DRIVER);
 	public static final EventListenerLocation<OnGetWindowHandleBeforeEventListener> BEFORE_GET_WINDOW_HANDLE =
-		valueOf(BEFORE, "getWindowHandle");
+		valueOf(BEFORE, "getWindowHandle", DRIVER);
 	public static final EventListenerLocation<OnGetWindowHandleAfterEventListener> AFTER_GET_WINDOW_HANDLE =
-		valueOf(AFTER, "getWindowHandle");
+		valueOf(AFTER, "getWindowHandle", DRIVER);
 	public static final EventListenerLocation<OnGetWindowHandlesBeforeEventListener> BEFORE_GET_WINDOW_HANDLES =
-		valueOf(BEFORE, "getWindowHandles");
+		valueOf(BEFORE, "getWindowHandles", DRIVER);
 	public static final EventListenerLocation<OnGetWindowHandlesAfterEventListener> AFTER_GET_WINDOW_HANDLES =
-		valueOf(AFTER, "getWindowHandles");
+		valueOf(AFTER, "getWindowHandles", DRIVER);
 	public static final EventListenerLocation<OnFindElementBeforeEventListener> BEFORE_FIND_ELEMENT =
-		valueOf(BEFORE, "findElement");
+		valueOf(BEFORE, "findElement", DRIVER, ELEMENT);
 	public static final EventListenerLocation<OnFindElementAfterEventListener> AFTER_FIND_ELEMENT =
-		valueOf(AFTER, "findElement");
+		valueOf(AFTER, "findElement", DRIVER, ELEMENT);
 	public static final EventListenerLocation<OnFindElementsBeforeEventListener> BEFORE_FIND_ELEMENTS =
-		valueOf(BEFORE, "findElements");
+		valueOf(BEFORE, "findElements", DRIVER, ELEMENT);
 	public static final EventListenerLocation<OnFindElementsAfterEventListener> AFTER_FIND_ELEMENTS =
-		valueOf(AFTER, "findElements");
+		valueOf(AFTER, "findElements", DRIVER, ELEMENT);
 	public static final EventListenerLocation<OnClickEventListener> BEFORE_CLICK =
-		valueOf(BEFORE, "click");
+		valueOf(BEFORE, "click", ELEMENT);
 	public static final EventListenerLocation<OnClickEventListener> AFTER_CLICK =
-		valueOf(AFTER, "click");
+		valueOf(AFTER, "click", ELEMENT);
 	public static final EventListenerLocation<OnClearEventListener> BEFORE_CLEAR =
-		valueOf(BEFORE, "clear");
+		valueOf(BEFORE, "clear", ELEMENT);
 	public static final EventListenerLocation<OnClearEventListener> AFTER_CLEAR =
-		valueOf(AFTER, "clear");
+		valueOf(AFTER, "clear", ELEMENT);
 	public static final EventListenerLocation<OnSubmitEventListener> BEFORE_SUBMIT =
-		valueOf(BEFORE, "submit");
+		valueOf(BEFORE, "submit", ELEMENT);
 	public static final EventListenerLocation<OnSubmitEventListener> AFTER_SUBMIT =
-		valueOf(AFTER, "submit");
+		valueOf(AFTER, "submit", ELEMENT);
 	public static final EventListenerLocation<OnGetTagNameBeforeEventListener> BEFORE_GET_TAG_NAME =
-		valueOf(BEFORE, "getTagName");
+		valueOf(BEFORE, "getTagName", ELEMENT);
 	public static final EventListenerLocation<OnGetTagNameAfterEventListener> AFTER_GET_TAG_NAME =
-		valueOf(AFTER, "getTagName");
+		valueOf(AFTER, "getTagName", ELEMENT);
 	public static final EventListenerLocation<OnGetTextBeforeEventListener> BEFORE_GET_TEXT =
-		valueOf(BEFORE, "getText");
+		valueOf(BEFORE, "getText", ELEMENT);
 	public static final EventListenerLocation<OnGetTextAfterEventListener> AFTER_GET_TEXT =
-		valueOf(AFTER, "getText");
+		valueOf(AFTER, "getText", ELEMENT);
 	public static final EventListenerLocation<OnIsDisplayedBeforeEventListener> BEFORE_IS_DISPLAYED =
-		valueOf(BEFORE, "isDisplayed");
+		valueOf(BEFORE, "isDisplayed", ELEMENT);
 	public static final EventListenerLocation<OnIsDisplayedAfterEventListener> AFTER_IS_DISPLAYED =
-		valueOf(AFTER, "isDisplayed");
+		valueOf(AFTER, "isDisplayed", ELEMENT);
 	public static final EventListenerLocation<OnIsEnabledBeforeEventListener> BEFORE_IS_ENABLED =
-		valueOf(BEFORE, "isEnabled");
+		valueOf(BEFORE, "isEnabled", ELEMENT);
 	public static final EventListenerLocation<OnIsEnabledAfterEventListener> AFTER_IS_ENABLED =
-		valueOf(AFTER, "isEnabled");
+		valueOf(AFTER, "isEnabled", ELEMENT);
 	public static final EventListenerLocation<OnIsSelectedBeforeEventListener> BEFORE_IS_SELECTED =
-		valueOf(BEFORE, "isSelected");
+		valueOf(BEFORE, "isSelected", ELEMENT);
 	public static final EventListenerLocation<OnIsSelectedAfterEventListener> AFTER_IS_SELECTED =
-		valueOf(AFTER, "isSelected");
+		valueOf(AFTER, "isSelected", ELEMENT);
 	public static final EventListenerLocation<OnSendKeysEventListener> BEFORE_SEND_KEYS =
-		valueOf(BEFORE, "sendKeys");
+		valueOf(BEFORE, "sendKeys", ELEMENT);
 	public static final EventListenerLocation<OnSendKeysEventListener> AFTER_SEND_KEYS =
-		valueOf(AFTER, "sendKeys");
+		valueOf(AFTER, "sendKeys", ELEMENT);
 	public static final EventListenerLocation<OnGetAttributeBeforeEventListener> BEFORE_GET_ATTRIBUTE =
-		valueOf(BEFORE, "getAttribute");
+		valueOf(BEFORE, "getAttribute", ELEMENT);
 	public static final EventListenerLocation<OnGetAttributeAfterEventListener> AFTER_GET_ATTRIBUTE =
-		valueOf(AFTER, "getAttribute");
+		valueOf(AFTER, "getAttribute", ELEMENT);
 	public static final EventListenerLocation<OnGetCssValueBeforeEventListener> BEFORE_GET_CSS_VALUE =
-		valueOf(BEFORE, "getCssValue");
+		valueOf(BEFORE, "getCssValue", ELEMENT);
 	public static final EventListenerLocation<OnGetCssValueAfterEventListener> AFTER_GET_CSS_VALUE =
-		valueOf(AFTER, "getCssValue");
+		valueOf(AFTER, "getCssValue", ELEMENT);
 	public static final EventListenerLocation<OnGetLocationBeforeEventListener> BEFORE_GET_LOCATION =
-		valueOf(BEFORE, "getLocation");
+		valueOf(BEFORE, "getLocation", ELEMENT);
 	public static final EventListenerLocation<OnGetLocationAfterEventListener> AFTER_GET_LOCATION =
-		valueOf(AFTER, "getLocation");
+		valueOf(AFTER, "getLocation", ELEMENT);
 	public static final EventListenerLocation<OnGetRectBeforeEventListener> BEFORE_GET_RECT =
-		valueOf(BEFORE, "getRect");
+		valueOf(BEFORE, "getRect", ELEMENT);
 	public static final EventListenerLocation<OnGetRectAfterEventListener> AFTER_GET_RECT =
-		valueOf(AFTER, "getRect");
+		valueOf(AFTER, "getRect", ELEMENT);
 	public static final EventListenerLocation<OnGetSizeBeforeEventListener> BEFORE_GET_SIZE =
-		valueOf(BEFORE, "getSize");
+		valueOf(BEFORE, "getSize", ELEMENT);
 	public static final EventListenerLocation<OnGetSizeAfterEventListener> AFTER_GET_SIZE =
-		valueOf(AFTER, "getSize");
+		valueOf(AFTER, "getSize", ELEMENT);
 	public static final EventListenerLocation<OnGetScreenshotAsBeforeEventListener> BEFORE_GET_SCREENSHOT_AS =
-		valueOf(BEFORE, "getScreenshotAs");
+		valueOf(BEFORE, "getScreenshotAs", DRIVER, ELEMENT);
 	public static final EventListenerLocation<OnGetScreenshotAsAfterEventListener> AFTER_GET_SCREENSHOT_AS =
-		valueOf(AFTER, "getScreenshotAs");
+		valueOf(AFTER, "getScreenshotAs", DRIVER, ELEMENT);
 	public static final EventListenerLocation<OnGetCoordinatesBeforeEventListener> BEFORE_GET_COORDINATES =
-		valueOf(BEFORE, "getCoordinates");
+		valueOf(BEFORE, "getCoordinates", ELEMENT);
 	public static final EventListenerLocation<OnGetCoordinatesAfterEventListener> AFTER_GET_COORDINATES =
-		valueOf(AFTER, "getCoordinates");
+		valueOf(AFTER, "getCoordinates", ELEMENT);
 	public static final EventListenerLocation<OnNavigateBeforeEventListener> BEFORE_NAVIGATE =
-		valueOf(BEFORE, "navigate");
+		valueOf(BEFORE, "navigate", DRIVER);
 	public static final EventListenerLocation<OnNavigateAfterEventListener> AFTER_NAVIGATE =
-		valueOf(AFTER, "navigate");
+		valueOf(AFTER, "navigate", DRIVER);
 	public static final EventListenerLocation<OnNavigateBackEventListener> BEFORE_NAVIGATE_BACK =
-		valueOf(BEFORE, "back");
+		valueOf(BEFORE, "back", NAVIGATION);
 	public static final EventListenerLocation<OnNavigateBackEventListener> AFTER_NAVIGATE_BACK =
-		valueOf(AFTER, "back");
+		valueOf(AFTER, "back", NAVIGATION);
 	public static final EventListenerLocation<OnNavigateForwardEventListener> BEFORE_NAVIGATE_FORWARD =
-		valueOf(BEFORE, "forward");
+		valueOf(BEFORE, "forward", NAVIGATION);
 	public static final EventListenerLocation<OnNavigateForwardEventListener> AFTER_NAVIGATE_FORWARD =
-		valueOf(AFTER, "forward");
+		valueOf(AFTER, "forward", NAVIGATION);
 	public static final EventListenerLocation<OnRefreshEventListener> BEFORE_REFRESH =
-		valueOf(BEFORE, "refresh");
+		valueOf(BEFORE, "refresh", NAVIGATION);
 	public static final EventListenerLocation<OnRefreshEventListener> AFTER_REFRESH =
-		valueOf(AFTER, "refresh");
+		valueOf(AFTER, "refresh", NAVIGATION);
 	public static final EventListenerLocation<OnNavigateToEventListener> BEFORE_NAVIGATE_TO =
-		valueOf(BEFORE, "to");
+		valueOf(BEFORE, "to", NAVIGATION);
 	public static final EventListenerLocation<OnNavigateToEventListener> AFTER_NAVIGATE_TO =
-		valueOf(AFTER, "to");
+		valueOf(AFTER, "to", NAVIGATION);
 	public static final EventListenerLocation<OnSwitchToBeforeEventListener> BEFORE_SWITCH_TO =
-		valueOf(BEFORE, "switchTo");
+		valueOf(BEFORE, "switchTo", DRIVER);
 	public static final EventListenerLocation<OnSwitchToAfterEventListener> AFTER_SWITCH_TO =
-		valueOf(AFTER, "switchTo");
+		valueOf(AFTER, "switchTo", DRIVER);
 	public static final EventListenerLocation<OnSwitchToFrameEventListener> BEFORE_SWITCH_TO_FRAME =
-		valueOf(BEFORE, "frame");
+		valueOf(BEFORE, "frame", TARGET_LOCATOR);
 	public static final EventListenerLocation<OnSwitchToFrameEventListener> AFTER_SWITCH_TO_FRAME =
-		valueOf(AFTER, "frame");
+		valueOf(AFTER, "frame", TARGET_LOCATOR);
 	public static final EventListenerLocation<OnSwitchToWindowEventListener> BEFORE_SWITCH_TO_WINDOW =
-		valueOf(BEFORE, "window");
+		valueOf(BEFORE, "window", TARGET_LOCATOR);
 	public static final EventListenerLocation<OnSwitchToWindowEventListener> AFTER_SWITCH_TO_WINDOW =
-		valueOf(AFTER, "window");
+		valueOf(AFTER, "window", TARGET_LOCATOR);
 	public static final EventListenerLocation<OnSwitchToDefaultContentEventListener> BEFORE_SWITCH_TO_DEFAULT_CONTENT =
-		valueOf(BEFORE, "defaultContent");
+		valueOf(BEFORE, "defaultContent", TARGET_LOCATOR);
 	public static final EventListenerLocation<OnSwitchToDefaultContentEventListener> AFTER_SWITCH_TO_DEFAULT_CONTENT =
-		valueOf(AFTER, "defaultContent");
+		valueOf(AFTER, "defaultContent", TARGET_LOCATOR);
 	public static final EventListenerLocation<OnSwitchToParentFrameEventListener> BEFORE_SWITCH_TO_PARENT_FRAME =
-		valueOf(BEFORE, "parentFrame");
+		valueOf(BEFORE, "parentFrame", TARGET_LOCATOR);
 	public static final EventListenerLocation<OnSwitchToParentFrameEventListener> AFTER_SWITCH_TO_PARENT_FRAME =
-		valueOf(AFTER, "parentFrame");
+		valueOf(AFTER, "parentFrame", TARGET_LOCATOR);
 	public static final EventListenerLocation<OnSwitchToActiveElementBeforeEventListener> BEFORE_SWITCH_TO_ACTIVE_ELEMENT =
-		valueOf(BEFORE, "activeElement");
+		valueOf(BEFORE, "activeElement", TARGET_LOCATOR);
 	public static final EventListenerLocation<OnSwitchToActiveElementAfterEventListener> AFTER_SWITCH_TO_ACTIVE_ELEMENT =
-		valueOf(AFTER, "activeElement");
+		valueOf(AFTER, "activeElement", TARGET_LOCATOR);
 	public static final EventListenerLocation<OnSwitchToAlertBeforeEventListener> BEFORE_SWITCH_TO_ALERT =
-		valueOf(BEFORE, "alert");
+		valueOf(BEFORE, "alert", TARGET_LOCATOR);
 	public static final EventListenerLocation<OnSwitchToAlertAfterEventListener> AFTER_SWITCH_TO_ALERT =
-		valueOf(AFTER, "alert");
+		valueOf(AFTER, "alert", TARGET_LOCATOR);
 	public static final EventListenerLocation<OnAcceptEventListener> BEFORE_ACCEPT =
-		valueOf(BEFORE, "accept");
+		valueOf(BEFORE, "accept", ALERT);
 	public static final EventListenerLocation<OnAcceptEventListener> AFTER_ACCEPT =
-		valueOf(AFTER, "accept");
+		valueOf(AFTER, "accept", ALERT);
 	public static final EventListenerLocation<OnDismissEventListener> BEFORE_DISMISS =
-		valueOf(BEFORE, "dismiss");
+		valueOf(BEFORE, "dismiss", ALERT);
 	public static final EventListenerLocation<OnDismissEventListener> AFTER_DISMISS =
-		valueOf(AFTER, "dismiss");
+		valueOf(AFTER, "dismiss", ALERT);
 	public static final EventListenerLocation<OnGetTextOfAlertBeforeEventListener> BEFORE_GET_TEXT_OF_ALERT =
-		valueOf(BEFORE, "getText");
+		valueOf(BEFORE, "getText", ALERT);
 	public static final EventListenerLocation<OnGetTextOfAlertAfterEventListener> AFTER_GET_TEXT_OF_ALERT =
-		valueOf(AFTER, "getText");
+		valueOf(AFTER, "getText", ALERT);
 	public static final EventListenerLocation<OnSendKeysToAlertEventListener> BEFORE_SEND_KEYS_TO_ALERT =
-		valueOf(BEFORE, "sendKeys");
+		valueOf(BEFORE, "sendKeys", ALERT);
 	public static final EventListenerLocation<OnSendKeysToAlertEventListener> AFTER_SEND_KEYS_TO_ALERT =
-		valueOf(AFTER, "sendKeys");
+		valueOf(AFTER, "sendKeys", ALERT);
 	public static final EventListenerLocation<OnAuthenticateUsingEventListener> BEFORE_AUTHENTICATE_USING =
-		valueOf(BEFORE, "authenticateUsing");
+		valueOf(BEFORE, "authenticateUsing", ALERT);
 	public static final EventListenerLocation<OnAuthenticateUsingEventListener> AFTER_AUTHENTICATE_USING =
-		valueOf(AFTER, "authenticateUsing");
+		valueOf(AFTER, "authenticateUsing", ALERT);
 	public static final EventListenerLocation<OnSetCredentialsEventListener> BEFORE_SET_CREDENTIALS =
-		valueOf(BEFORE, "setCredentials");
+		valueOf(BEFORE, "setCredentials", ALERT);
 	public static final EventListenerLocation<OnSetCredentialsEventListener> AFTER_SET_CREDENTIALS =
-		valueOf(AFTER, "setCredentials");
+		valueOf(AFTER, "setCredentials", ALERT);
 	public static final EventListenerLocation<OnManageBeforeEventListener> BEFORE_MANAGE =
-		valueOf(BEFORE, "manage");
+		valueOf(BEFORE, "manage", DRIVER);
 	public static final EventListenerLocation<OnManageAfterEventListener> AFTER_MANAGE =
-		valueOf(AFTER, "manage");
+		valueOf(AFTER, "manage", DRIVER);
 	public static final EventListenerLocation<OnAddCookieEventListener> BEFORE_ADD_COOKIE =
-		valueOf(BEFORE, "addCookie");
+		valueOf(BEFORE, "addCookie", OPTIONS);
 	public static final EventListenerLocation<OnAddCookieEventListener> AFTER_ADD_COOKIE =
-		valueOf(AFTER, "addCookie");
+		valueOf(AFTER, "addCookie", OPTIONS);
 	public static final EventListenerLocation<OnDeleteCookieEventListener> BEFORE_DELETE_COOKIE =
-		valueOf(BEFORE, "deleteCookie");
+		valueOf(BEFORE, "deleteCookie", OPTIONS);
 	public static final EventListenerLocation<OnDeleteCookieEventListener> AFTER_DELETE_COOKIE =
-		valueOf(AFTER, "deleteCookie");
+		valueOf(AFTER, "deleteCookie", OPTIONS);
 	public static final EventListenerLocation<OnDeleteAllCookiesEventListener> BEFORE_DELETE_ALL_COOKIES =
-		valueOf(BEFORE, "deleteAllCookies");
+		valueOf(BEFORE, "deleteAllCookies", OPTIONS);
 	public static final EventListenerLocation<OnDeleteAllCookiesEventListener> AFTER_DELETE_ALL_COOKIES =
-		valueOf(AFTER, "deleteAllCookies");
+		valueOf(AFTER, "deleteAllCookies", OPTIONS);
 	public static final EventListenerLocation<OnGetCookieNamedBeforeEventListener> BEFORE_GET_COOKIE_NAMED =
-		valueOf(BEFORE, "getCookieNamed");
+		valueOf(BEFORE, "getCookieNamed", OPTIONS);
 	public static final EventListenerLocation<OnGetCookieNamedAfterEventListener> AFTER_GET_COOKIE_NAMED =
-		valueOf(AFTER, "getCookieNamed");
+		valueOf(AFTER, "getCookieNamed", OPTIONS);
 	public static final EventListenerLocation<OnDeleteCookieNamedEventListener> BEFORE_DELETE_COOKIE_NAMED =
-		valueOf(BEFORE, "deleteCookieNamed");
+		valueOf(BEFORE, "deleteCookieNamed", OPTIONS);
 	public static final EventListenerLocation<OnDeleteCookieNamedEventListener> AFTER_DELETE_COOKIE_NAMED =
-		valueOf(AFTER, "deleteCookieNamed");
+		valueOf(AFTER, "deleteCookieNamed", OPTIONS);
 	public static final EventListenerLocation<OnGetCookiesBeforeEventListener> BEFORE_GET_COOKIES =
-		valueOf(BEFORE, "getCookies");
+		valueOf(BEFORE, "getCookies", OPTIONS);
 	public static final EventListenerLocation<OnGetCookiesAfterEventListener> AFTER_GET_COOKIES =
-		valueOf(AFTER, "getCookies");
+		valueOf(AFTER, "getCookies", OPTIONS);
 	public static final EventListenerLocation<OnLogsBeforeEventListener> BEFORE_LOGS =
-		valueOf(BEFORE, "logs");
+		valueOf(BEFORE, "logs", OPTIONS);
 	public static final EventListenerLocation<OnLogsAfterEventListener> AFTER_LOGS =
-		valueOf(AFTER, "logs");
+		valueOf(AFTER, "logs", OPTIONS);
 	public static final EventListenerLocation<OnLogsGetBeforeEventListener> BEFORE_LOGS_GET =
-		valueOf(BEFORE, "get");
+		valueOf(BEFORE, "get", LOGS);
 	public static final EventListenerLocation<OnLogsGetAfterEventListener> AFTER_LOGS_GET =
-		valueOf(AFTER, "get");
+		valueOf(AFTER, "get", LOGS);
 	public static final EventListenerLocation<OnGetAvailableLogTypesBeforeEventListener> BEFORE_GET_AVAILABLE_LOG_TYPES =
-		valueOf(BEFORE, "getAvailableLogTypes");
+		valueOf(BEFORE, "getAvailableLogTypes", LOGS);
 	public static final EventListenerLocation<OnGetAvailableLogTypesAfterEventListener> AFTER_GET_AVAILABLE_LOG_TYPES =
-		valueOf(AFTER, "getAvailableLogTypes");
+		valueOf(AFTER, "getAvailableLogTypes", LOGS);
 	public static final EventListenerLocation<OnImeBeforeEventListener> BEFORE_IME =
-		valueOf(BEFORE, "ime");
+		valueOf(BEFORE, "ime", OPTIONS);
 	public static final EventListenerLocation<OnImeAfterEventListener> AFTER_IME =
-		valueOf(AFTER, "ime");
+		valueOf(AFTER, "ime", OPTIONS);
 	public static final EventListenerLocation<OnGetAvailableEnginesBeforeEventListener> BEFORE_GET_AVAILABLE_ENGINES =
-		valueOf(BEFORE, "getAvailableEngines");
+		valueOf(BEFORE, "getAvailableEngines", IME_HANDLER);
 	public static final EventListenerLocation<OnGetAvailableEnginesAfterEventListener> AFTER_GET_AVAILABLE_ENGINES =
-		valueOf(AFTER, "getAvailableEngines");
+		valueOf(AFTER, "getAvailableEngines", IME_HANDLER);
 	public static final EventListenerLocation<OnActivateEngineEventListener> BEFORE_ACTIVATE_ENGINE =
-		valueOf(BEFORE, "activateEngine");
+		valueOf(BEFORE, "activateEngine", IME_HANDLER);
 	public static final EventListenerLocation<OnActivateEngineEventListener> AFTER_ACTIVATE_ENGINE =
-		valueOf(AFTER, "activateEngine");
+		valueOf(AFTER, "activateEngine", IME_HANDLER);
 	public static final EventListenerLocation<OnDeactivateEventListener> BEFORE_DEACTIVATE =
-		valueOf(BEFORE, "deactivate");
+		valueOf(BEFORE, "deactivate", IME_HANDLER);
 	public static final EventListenerLocation<OnDeactivateEventListener> AFTER_DEACTIVATE =
-		valueOf(AFTER, "deactivate");
+		valueOf(AFTER, "deactivate", IME_HANDLER);
 	public static final EventListenerLocation<OnGetActiveEngineBeforeEventListener> BEFORE_GET_ACTIVE_ENGINE =
-		valueOf(BEFORE, "getActiveEngine");
+		valueOf(BEFORE, "getActiveEngine", IME_HANDLER);
 	public static final EventListenerLocation<OnGetActiveEngineAfterEventListener> AFTER_GET_ACTIVE_ENGINE =
-		valueOf(AFTER, "getActiveEngine");
+		valueOf(AFTER, "getActiveEngine", IME_HANDLER);
 	public static final EventListenerLocation<OnIsActivatedBeforeEventListener> BEFORE_IS_ACTIVATED =
-		valueOf(BEFORE, "isActivated");
+		valueOf(BEFORE, "isActivated", IME_HANDLER);
 	public static final EventListenerLocation<OnIsActivatedAfterEventListener> AFTER_IS_ACTIVATED =
-		valueOf(AFTER, "isActivated");
+		valueOf(AFTER, "isActivated", IME_HANDLER);
 	public static final EventListenerLocation<OnWindowBeforeEventListener> BEFORE_WINDOW =
-		valueOf(BEFORE, "window");
+		valueOf(BEFORE, "window", OPTIONS);
 	public static final EventListenerLocation<OnWindowAfterEventListener> AFTER_WINDOW =
-		valueOf(AFTER, "window");
+		valueOf(AFTER, "window", OPTIONS);
 	public static final EventListenerLocation<OnFullscreenEventListener> BEFORE_FULLSCREEN =
-		valueOf(BEFORE, "fullscreen");
+		valueOf(BEFORE, "fullscreen", WINDOW);
 	public static final EventListenerLocation<OnFullscreenEventListener> AFTER_FULLSCREEN =
-		valueOf(AFTER, "fullscreen");
+		valueOf(AFTER, "fullscreen", WINDOW);
 	public static final EventListenerLocation<OnMaximizeEventListener> BEFORE_MAXIMIZE =
-		valueOf(BEFORE, "maximize");
+		valueOf(BEFORE, "maximize", WINDOW);
 	public static final EventListenerLocation<OnMaximizeEventListener> AFTER_MAXIMIZE =
-		valueOf(AFTER, "maximize");
+		valueOf(AFTER, "maximize", WINDOW);
 	public static final EventListenerLocation<OnGetPositionBeforeEventListener> BEFORE_GET_POSITION =
-		valueOf(BEFORE, "getPosition");
+		valueOf(BEFORE, "getPosition", WINDOW);
 	public static final EventListenerLocation<OnGetPositionAfterEventListener> AFTER_GET_POSITION =
-		valueOf(AFTER, "getPosition");
+		valueOf(AFTER, "getPosition", WINDOW);
 	public static final EventListenerLocation<OnGetWindowSizeBeforeEventListener> BEFORE_GET_WINDOW_SIZE =
-		valueOf(BEFORE, "getSize");
+		valueOf(BEFORE, "getSize", WINDOW);
 	public static final EventListenerLocation<OnGetWindowSizeAfterEventListener> AFTER_GET_WINDOW_SIZE =
-		valueOf(AFTER, "getSize");
+		valueOf(AFTER, "getSize", WINDOW);
 	public static final EventListenerLocation<OnSetPositionEventListener> BEFORE_SET_POSITION =
-		valueOf(BEFORE, "setPosition");
+		valueOf(BEFORE, "setPosition", WINDOW);
 	public static final EventListenerLocation<OnSetPositionEventListener> AFTER_SET_POSITION =
-		valueOf(AFTER, "setPosition");
+		valueOf(AFTER, "setPosition", WINDOW);
 	public static final EventListenerLocation<OnSetWindowSizeEventListener> BEFORE_SET_WINDOW_SIZE =
-		valueOf(BEFORE, "setSize");
+		valueOf(BEFORE, "setSize", WINDOW);
 	public static final EventListenerLocation<OnSetWindowSizeEventListener> AFTER_SET_WINDOW_SIZE =
-		valueOf(AFTER, "setSize");
+		valueOf(AFTER, "setSize", WINDOW);
 	public static final EventListenerLocation<OnTimeoutsBeforeEventListener> BEFORE_TIMEOUTS =
-		valueOf(BEFORE, "timeouts");
+		valueOf(BEFORE, "timeouts", OPTIONS);
 	public static final EventListenerLocation<OnTimeoutsAfterEventListener> AFTER_TIMEOUTS =
-		valueOf(AFTER, "timeouts");
+		valueOf(AFTER, "timeouts", OPTIONS);
 	public static final EventListenerLocation<OnImplicitlyWaitEventListener> BEFORE_IMPLICITLY_WAIT =
-		valueOf(BEFORE, "implicitlyWait");
+		valueOf(BEFORE, "implicitlyWait", TIMEOUTS);
 	public static final EventListenerLocation<OnImplicitlyWaitEventListener> AFTER_IMPLICITLY_WAIT =
-		valueOf(AFTER, "implicitlyWait");
+		valueOf(AFTER, "implicitlyWait", TIMEOUTS);
 	public static final EventListenerLocation<OnSetScriptTimeoutEventListener> BEFORE_SET_SCRIPT_TIMEOUT =
-		valueOf(BEFORE, "setScriptTimeout");
+		valueOf(BEFORE, "setScriptTimeout", TIMEOUTS);
 	public static final EventListenerLocation<OnSetScriptTimeoutEventListener> AFTER_SET_SCRIPT_TIMEOUT =
-		valueOf(AFTER, "setScriptTimeout");
+		valueOf(AFTER, "setScriptTimeout", TIMEOUTS);
 	public static final EventListenerLocation<OnPageLoadTimeoutEventListener> BEFORE_PAGE_LOAD_TIMEOUT =
-		valueOf(BEFORE, "pageLoadTimeout");
+		valueOf(BEFORE, "pageLoadTimeout", TIMEOUTS);
 	public static final EventListenerLocation<OnPageLoadTimeoutEventListener> AFTER_PAGE_LOAD_TIMEOUT =
-		valueOf(AFTER, "pageLoadTimeout");
+		valueOf(AFTER, "pageLoadTimeout", TIMEOUTS);
 	public static final EventListenerLocation<OnGetKeyboardBeforeEventListener> BEFORE_GET_KEYBOARD =
-		valueOf(BEFORE, "getKeyboard");
+		valueOf(BEFORE, "getKeyboard", DRIVER);
 	public static final EventListenerLocation<OnGetKeyboardAfterEventListener> AFTER_GET_KEYBOARD =
-		valueOf(AFTER, "getKeyboard");
+		valueOf(AFTER, "getKeyboard", DRIVER);
 	public static final EventListenerLocation<OnPressKeyEventListener> BEFORE_PRESS_KEY =
-		valueOf(BEFORE, "pressKey");
+		valueOf(BEFORE, "pressKey", KEYBOARD);
 	public static final EventListenerLocation<OnPressKeyEventListener> AFTER_PRESS_KEY =
-		valueOf(AFTER, "pressKey");
+		valueOf(AFTER, "pressKey", KEYBOARD);
 	public static final EventListenerLocation<OnReleaseKeyEventListener> BEFORE_RELEASE_KEY =
-		valueOf(BEFORE, "releaseKey");
+		valueOf(BEFORE, "releaseKey", KEYBOARD);
 	public static final EventListenerLocation<OnReleaseKeyEventListener> AFTER_RELEASE_KEY =
-		valueOf(AFTER, "releaseKey");
+		valueOf(AFTER, "releaseKey", KEYBOARD);
 	public static final EventListenerLocation<OnSendKeysFromKeyboardEventListener> BEFORE_SEND_KEYS_FROM_KEYBOARD =
-		valueOf(BEFORE, "sendKeys");
+		valueOf(BEFORE, "sendKeys", KEYBOARD);
 	public static final EventListenerLocation<OnSendKeysFromKeyboardEventListener> AFTER_SEND_KEYS_FROM_KEYBOARD =
-		valueOf(AFTER, "sendKeys");
+		valueOf(AFTER, "sendKeys", KEYBOARD);
 	public static final EventListenerLocation<OnGetMouseBeforeEventListener> BEFORE_GET_MOUSE =
-		valueOf(BEFORE, "getMouse");
+		valueOf(BEFORE, "getMouse", DRIVER);
 	public static final EventListenerLocation<OnGetMouseAfterEventListener> AFTER_GET_MOUSE =
-		valueOf(AFTER, "getMouse");
+		valueOf(AFTER, "getMouse", DRIVER);
 	public static final EventListenerLocation<OnMouseClickEventListener> BEFORE_MOUSE_CLICK =
-		valueOf(BEFORE, "click");
+		valueOf(BEFORE, "click", MOUSE);
 	public static final EventListenerLocation<OnMouseClickEventListener> AFTER_MOUSE_CLICK =
-		valueOf(AFTER, "click");
+		valueOf(AFTER, "click", MOUSE);
 	public static final EventListenerLocation<OnContextClickEventListener> BEFORE_CONTEXT_CLICK =
-		valueOf(BEFORE, "contextClick");
+		valueOf(BEFORE, "contextClick", MOUSE);
 	public static final EventListenerLocation<OnContextClickEventListener> AFTER_CONTEXT_CLICK =
-		valueOf(AFTER, "contextClick");
+		valueOf(AFTER, "contextClick", MOUSE);
 	public static final EventListenerLocation<OnDoubleClickEventListener> BEFORE_DOUBLE_CLICK =
-		valueOf(BEFORE, "doubleClick");
+		valueOf(BEFORE, "doubleClick", MOUSE);
 	public static final EventListenerLocation<OnDoubleClickEventListener> AFTER_DOUBLE_CLICK =
-		valueOf(AFTER, "doubleClick");
+		valueOf(AFTER, "doubleClick", MOUSE);
 	public static final EventListenerLocation<OnMouseDownEventListener> BEFORE_MOUSE_DOWN =
-		valueOf(BEFORE, "mouseDown");
+		valueOf(BEFORE, "mouseDown", MOUSE);
 	public static final EventListenerLocation<OnMouseDownEventListener> AFTER_MOUSE_DOWN =
-		valueOf(AFTER, "mouseDown");
+		valueOf(AFTER, "mouseDown", MOUSE);
 	public static final EventListenerLocation<OnMouseUpEventListener> BEFORE_MOUSE_UP =
-		valueOf(BEFORE, "mouseUp");
+		valueOf(BEFORE, "mouseUp", MOUSE);
 	public static final EventListenerLocation<OnMouseUpEventListener> AFTER_MOUSE_UP =
-		valueOf(AFTER, "mouseUp");
+		valueOf(AFTER, "mouseUp", MOUSE);
 	public static final EventListenerLocation<OnMouseMoveEventListener> BEFORE_MOUSE_MOVE =
-		valueOf(BEFORE, "mouseMove");
+		valueOf(BEFORE, "mouseMove", MOUSE);
 	public static final EventListenerLocation<OnMouseMoveEventListener> AFTER_MOUSE_MOVE =
-		valueOf(AFTER, "mouseMove");
+		valueOf(AFTER, "mouseMove", MOUSE);
 	public static final EventListenerLocation<OnGetTouchBeforeEventListener> BEFORE_GET_TOUCH =
-		valueOf(BEFORE, "getTouch");
+		valueOf(BEFORE, "getTouch", DRIVER);
 	public static final EventListenerLocation<OnGetTouchAfterEventListener> AFTER_GET_TOUCH =
-		valueOf(AFTER, "getTouch");
+		valueOf(AFTER, "getTouch", DRIVER);
 	public static final EventListenerLocation<OnSingleTapEventListener> BEFORE_SINGLE_TAP =
-		valueOf(BEFORE, "singleTap");
+		valueOf(BEFORE, "singleTap", TOUCH_SCREEN);
 	public static final EventListenerLocation<OnSingleTapEventListener> AFTER_SINGLE_TAP =
-		valueOf(AFTER, "singleTap");
+		valueOf(AFTER, "singleTap", TOUCH_SCREEN);
 	public static final EventListenerLocation<OnDoubleTapEventListener> BEFORE_DOUBLE_TAP =
-		valueOf(BEFORE, "doubleTap");
+		valueOf(BEFORE, "doubleTap", TOUCH_SCREEN);
 	public static final EventListenerLocation<OnDoubleTapEventListener> AFTER_DOUBLE_TAP =
-		valueOf(AFTER, "doubleTap");
+		valueOf(AFTER, "doubleTap", TOUCH_SCREEN);
 	public static final EventListenerLocation<OnLongPressEventListener> BEFORE_LONG_PRESS =
-		valueOf(BEFORE, "longPress");
+		valueOf(BEFORE, "longPress", TOUCH_SCREEN);
 	public static final EventListenerLocation<OnLongPressEventListener> AFTER_LONG_PRESS =
-		valueOf(AFTER, "longPress");
+		valueOf(AFTER, "longPress", TOUCH_SCREEN);
 	public static final EventListenerLocation<OnTouchUpEventListener> BEFORE_TOUCH_UP =
-		valueOf(BEFORE, "up");
+		valueOf(BEFORE, "up", TOUCH_SCREEN);
 	public static final EventListenerLocation<OnTouchUpEventListener> AFTER_TOUCH_UP =
-		valueOf(AFTER, "up");
+		valueOf(AFTER, "up", TOUCH_SCREEN);
 	public static final EventListenerLocation<OnTouchDownEventListener> BEFORE_TOUCH_DOWN =
-		valueOf(BEFORE, "down");
+		valueOf(BEFORE, "down", TOUCH_SCREEN);
 	public static final EventListenerLocation<OnTouchDownEventListener> AFTER_TOUCH_DOWN =
-		valueOf(AFTER, "down");
+		valueOf(AFTER, "down", TOUCH_SCREEN);
 	public static final EventListenerLocation<OnTouchMoveEventListener> BEFORE_TOUCH_MOVE =
-		valueOf(BEFORE, "move");
+		valueOf(BEFORE, "move", TOUCH_SCREEN);
 	public static final EventListenerLocation<OnTouchMoveEventListener> AFTER_TOUCH_MOVE =
-		valueOf(AFTER, "move");
+		valueOf(AFTER, "move", TOUCH_SCREEN);
 	public static final EventListenerLocation<OnTouchScrollEventListener> BEFORE_TOUCH_SCROLL =
-		valueOf(BEFORE, "scroll");
+		valueOf(BEFORE, "scroll", TOUCH_SCREEN);
 	public static final EventListenerLocation<OnTouchScrollEventListener> AFTER_TOUCH_SCROLL =
-		valueOf(AFTER, "scroll");
+		valueOf(AFTER, "scroll", TOUCH_SCREEN);
 	public static final EventListenerLocation<OnTouchFlickEventListener> BEFORE_TOUCH_FLICK =
-		valueOf(BEFORE, "flick");
+		valueOf(BEFORE, "flick", TOUCH_SCREEN);
 	public static final EventListenerLocation<OnTouchFlickEventListener> AFTER_TOUCH_FLICK =
-		valueOf(AFTER, "flick");
+		valueOf(AFTER, "flick", TOUCH_SCREEN);
 	public static final EventListenerLocation<OnExecuteScriptBeforeEventListener> BEFORE_EXECUTE_SCRIPT =
-		valueOf(BEFORE, "executeScript");
+		valueOf(BEFORE, "executeScript", DRIVER);
 	public static final EventListenerLocation<OnExecuteScriptAfterEventListener> AFTER_EXECUTE_SCRIPT =
-		valueOf(AFTER, "executeScript");
+		valueOf(AFTER, "executeScript", DRIVER);
 	public static final EventListenerLocation<OnExecuteAsyncScriptBeforeEventListener> BEFORE_EXECUTE_ASYNC_SCRIPT =
-		valueOf(BEFORE, "executeAsyncScript");
+		valueOf(BEFORE, "executeAsyncScript", DRIVER);
 	public static final EventListenerLocation<OnExecuteAsyncScriptAfterEventListener> AFTER_EXECUTE_ASYNC_SCRIPT =
-		valueOf(AFTER, "executeAsyncScript");
+		valueOf(AFTER, "executeAsyncScript", DRIVER);
+	
+	private static <T> EventListenerLocation<T> valueOf(TimeClause timeClause, String methodName, Scope... scopes) {
+		EventListenerLocation<T> location = new EventListenerLocation<T>(values.size(), methodName, timeClause);
+		values.add(location);
+		Locations.register(location, scopes);
+		return location;
+	}
 	
-	private static <T> EventListenerLocation<T> valueOf(TimeClause timeClause, String methodName) {
-		return new EventListenerLocation<T>(methodName, timeClause);
+	public static List<EventListenerLocation<?>> values() {
+		return Collections.unmodifiableList(values);
 	}
 	
-	private String methodName;
-	private TimeClause timeClause;
+	public static int count() {
+		return values.size();
+	}
+	
+	private final int ordinal;
+	private final String methodName;
+	private final TimeClause timeClause;
 	
-	private EventListenerLocation(String methodName, TimeClause timeClause) {
+	private EventListenerLocation(int ordinal, String methodName, TimeClause timeClause) {
+		this.ordinal = ordinal;
 		this.methodName = methodName;
 		this.timeClause = timeClause;
 	}
 	
+	public int ordinal() {
+		return ordinal;
+	}
+	
 	public TimeClause timeClause() {
 		return timeClause;
 	}
@@ -427,6 +453,6 @@ public final class EventListenerLocation<T> {
 	
 	@Override
 	public int hashCode() {
-		return toString().hashCode();
+		return ordinal;
 	}
 }
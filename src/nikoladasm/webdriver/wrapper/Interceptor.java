@@ -0,0 +1,30 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper;
+
+/*
+ * Runs around a call of a wrapped object, inside its before and after
+ * listeners. An interceptor decides what the caller gets: it can return the
+ * result of Invocation.proceed as is, return a different value instead, skip
+ * proceed altogether or call it again, for example to retry a failed command.
+ */
+@FunctionalInterface
+public interface Interceptor {
+	Object intercept(Invocation invocation) throws Throwable;
+}
@@ -0,0 +1,38 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper;
+
+import java.lang.reflect.Method;
+
+import org.openqa.selenium.WebDriver;
+
+/*
+ * A call seen by an interceptor. proceed hands the call to the next
+ * interceptor of the chain, or to the wrapped object after the last one, and
+ * can be called any number of times.
+ */
+public interface Invocation {
+	WebDriver driver();
+	Object target();
+	Object wrapper();
+	Method method();
+	Object[] arguments();
+	Object proceed() throws Throwable;
+	Object proceed(Object[] arguments) throws Throwable;
+}
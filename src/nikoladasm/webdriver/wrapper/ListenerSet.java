@@ -0,0 +1,74 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class ListenerSet {
+
+	@FunctionalInterface
+	public interface Action {
+		void accept(EventListenerLocation<?> method, Object eventListener, int priority);
+	}
+	
+	private static class Entry {
+		
+		private final EventListenerLocation<?> method;
+		private final Object eventListener;
+		private final int priority;
+		
+		public Entry(EventListenerLocation<?> method, Object eventListener, int priority) {
+			this.method = method;
+			this.eventListener = eventListener;
+			this.priority = priority;
+		}
+	}
+	
+	private final List<Entry> entries = new ArrayList<>();
+	
+	public <T> ListenerSet setListener(EventListenerLocation<T> method, T eventListener) {
+		removeListener(method);
+		return addListener(method, eventListener, 0);
+	}
+	
+	public <T> ListenerSet addListener(EventListenerLocation<T> method, T eventListener) {
+		return addListener(method, eventListener, 0);
+	}
+	
+	public <T> ListenerSet addListener(EventListenerLocation<T> method, T eventListener, int priority) {
+		entries.add(new Entry(method, eventListener, priority));
+		return this;
+	}
+	
+	public <T> ListenerSet removeListener(EventListenerLocation<T> method) {
+		entries.removeIf(entry -> entry.method == method);
+		return this;
+	}
+	
+	public <T> ListenerSet removeListener(EventListenerLocation<T> method, T eventListener) {
+		entries.removeIf(entry -> entry.method == method && entry.eventListener == eventListener);
+		return this;
+	}
+	
+	public void forEach(Action action) {
+		for (Entry entry : entries)
+			action.accept(entry.method, entry.eventListener, entry.priority);
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+/*
+ * Locators to find at once with WebDriverListenableWrapper.findBatch, each
+ * on the driver or on an element of it.
+ */
+public final class LocatorBatch {
+
+	private final List<WebElement> roots = new ArrayList<>();
+	private final List<By> locators = new ArrayList<>();
+	
+	public LocatorBatch add(By by) {
+		return add(null, by);
+	}
+	
+	public LocatorBatch add(WebElement root, By by) {
+		roots.add(root);
+		locators.add(by);
+		return this;
+	}
+	
+	List<WebElement> roots() {
+		return roots;
+	}
+	
+	List<By> locators() {
+		return locators;
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.openqa.selenium.WebElement;
+
+import nikoladasm.webdriver.wrapper.internal.BulkReads;
+import nikoladasm.webdriver.wrapper.internal.ElementProperty;
+
+/*
+ * Properties to read from many elements at once: fetch reads all of them
+ * for every element with a single script rather than a command per element
+ * and property, and fires the after listeners of the corresponding getters
+ * (AFTER_GET_TEXT, AFTER_GET_ATTRIBUTE, ...) for every element as if they
+ * had been called, or the exception listeners when the script fails. The
+ * script approximates the getters (see BulkReads).
+ * The elements have to come from the same driver, which has to execute
+ * scripts.
+ */
+public final class PropertyQuery {
+
+	private final List<ElementProperty> properties = new ArrayList<>();
+	private final List<String> names = new ArrayList<>();
+	
+	public PropertyQuery text() {
+		return add(ElementProperty.TEXT, null);
+	}
+	
+	public PropertyQuery attribute(String name) {
+		return add(ElementProperty.ATTRIBUTE, name);
+	}
+	
+	public PropertyQuery cssValue(String name) {
+		return add(ElementProperty.CSS_VALUE, name);
+	}
+	
+	public PropertyQuery rect() {
+		return add(ElementProperty.RECT, null);
+	}
+	
+	public PropertyQuery displayed() {
+		return add(ElementProperty.DISPLAYED, null);
+	}
+	
+	public PropertyQuery enabled() {
+		return add(ElementProperty.ENABLED, null);
+	}
+	
+	public PropertyQuery selected() {
+		return add(ElementProperty.SELECTED, null);
+	}
+	
+	private PropertyQuery add(ElementProperty property, String name) {
+		for (int column = 0; column < properties.size(); column++)
+			if (properties.get(column) == property && Objects.equals(names.get(column), name))
+				return this;
+		properties.add(property);
+		names.add(name);
+		return this;
+	}
+	
+	public PropertyTable fetch(WebElement element) {
+		return fetch(Collections.singletonList(element));
+	}
+	
+	public PropertyTable fetch(List<? extends WebElement> elements) {
+		ElementProperty[] properties = this.properties.toArray(new ElementProperty[this.properties.size()]);
+		String[] names = this.names.toArray(new String[this.names.size()]);
+		return new PropertyTable(properties, names, elements.size(), BulkReads.read(elements, properties, names));
+	}
+}
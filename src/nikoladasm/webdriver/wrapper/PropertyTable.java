@@ -0,0 +1,86 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper;
+
+import java.util.Objects;
+
+import org.openqa.selenium.Rectangle;
+
+import nikoladasm.webdriver.wrapper.internal.ElementProperty;
+
+/*
+ * Properties fetched by a PropertyQuery, a row per element in the order the
+ * elements were given. Asking for a property the query did not read throws
+ * IllegalArgumentException.
+ */
+public final class PropertyTable {
+
+	private final ElementProperty[] properties;
+	private final String[] names;
+	private final int rows;
+	private final Object[] values;
+	
+	PropertyTable(ElementProperty[] properties, String[] names, int rows, Object[] values) {
+		this.properties = properties;
+		this.names = names;
+		this.rows = rows;
+		this.values = values;
+	}
+	
+	public int size() {
+		return rows;
+	}
+	
+	public String text(int row) {
+		return (String) value(row, ElementProperty.TEXT, null);
+	}
+	
+	public String attribute(int row, String name) {
+		return (String) value(row, ElementProperty.ATTRIBUTE, name);
+	}
+	
+	public String cssValue(int row, String name) {
+		return (String) value(row, ElementProperty.CSS_VALUE, name);
+	}
+	
+	public Rectangle rect(int row) {
+		return (Rectangle) value(row, ElementProperty.RECT, null);
+	}
+	
+	public boolean displayed(int row) {
+		return (Boolean) value(row, ElementProperty.DISPLAYED, null);
+	}
+	
+	public boolean enabled(int row) {
+		return (Boolean) value(row, ElementProperty.ENABLED, null);
+	}
+	
+	public boolean selected(int row) {
+		return (Boolean) value(row, ElementProperty.SELECTED, null);
+	}
+	
+	private Object value(int row, ElementProperty property, String name) {
+		if (row < 0 || row >= rows)
+			throw new IndexOutOfBoundsException("Row: " + row + ", rows: " + rows);
+		for (int column = 0; column < properties.length; column++)
+			if (properties[column] == property && Objects.equals(names[column], name))
+				return values[row * properties.length + column];
+		throw new IllegalArgumentException("Not fetched: " + property + (name != null ? " " + name : ""));
+	}
+}
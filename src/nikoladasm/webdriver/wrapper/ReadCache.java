@@ -0,0 +1,147 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.By;
+
+import nikoladasm.webdriver.wrapper.internal.CacheCounters;
+import nikoladasm.webdriver.wrapper.internal.DomEpoch;
+import nikoladasm.webdriver.wrapper.internal.LocatorCaching;
+import nikoladasm.webdriver.wrapper.internal.ScriptCaching;
+
+/*
+ * Answers repeated reads of the drivers it is given to (see
+ * WebDriverWrapperFactory.wrapWebDriver) from memory until the page may
+ * have changed. Elements keep the results of getTagName, getAttribute,
+ * getCssValue, getRect, getSize, getLocation and isDisplayed; every command
+ * that may change the page (clicking, typing, submitting, clearing,
+ * navigating, running a script, switching windows, frames or alerts,
+ * resizing the window, input devices) advances the driver's DOM epoch and
+ * so drops them all. Changes the page makes on its own are not noticed, so
+ * only reads of a page that settled are safe to cache. A driver caching
+ * reads wraps everything it hands out, whatever its wrapping mode.
+ *
+ * Results of findElement and findElements are only cached once asked for
+ * (see cacheLocators), per search root and locator. A lookup that failed is
+ * not cached.
+ *
+ * Results of executeScript are cached for pure scripts only: scripts that
+ * neither change the page nor depend on anything but the page and their
+ * arguments (document.readyState, element counts, computed styles). A
+ * script is pure when registered with pureScript or when it starts with
+ * PURE. Their results are kept by script and arguments, up to
+ * scriptCacheSize of them per driver, and running them does not advance the
+ * DOM epoch.
+ */
+public final class ReadCache {
+
+	public static final String PURE = ScriptCaching.MARKER + " ";
+	
+	private final CacheCounters elementReads = new CacheCounters();
+	private final LocatorCaching locators = new LocatorCaching();
+	private final ScriptCaching scripts = new ScriptCaching(64);
+	
+	DomEpoch newEpoch() {
+		return new DomEpoch(elementReads, locators, scripts);
+	}
+	
+	/*
+	 * Caches the results of every locator until the DOM epoch advances.
+	 */
+	public ReadCache cacheLocators() {
+		locators.cache(Long.MAX_VALUE);
+		return this;
+	}
+	
+	/*
+	 * Caches the results of every locator until the DOM epoch advances, but
+	 * for no longer than ttl.
+	 */
+	public ReadCache cacheLocators(long ttl, TimeUnit unit) {
+		locators.cache(unit.toNanos(ttl));
+		return this;
+	}
+	
+	/*
+	 * Caches the results of by for no longer than ttl, whether other
+	 * locators are cached or not; a ttl of zero keeps them from being cached.
+	 */
+	public ReadCache cacheLocator(By by, long ttl, TimeUnit unit) {
+		locators.cache(by, unit.toNanos(ttl));
+		return this;
+	}
+	
+	public ReadCache pureScript(String script) {
+		scripts.pure(script);
+		return this;
+	}
+	
+	/*
+	 * How many results of pure scripts each driver keeps, 64 unless set; a
+	 * size of zero keeps none.
+	 */
+	public ReadCache scriptCacheSize(int size) {
+		scripts.size(size);
+		return this;
+	}
+	
+	/*
+	 * Element reads answered from the cache.
+	 */
+	public long hits() {
+		return elementReads.hits();
+	}
+	
+	/*
+	 * Element reads that went to the element.
+	 */
+	public long misses() {
+		return elementReads.misses();
+	}
+	
+	/*
+	 * Lookups answered from the cache.
+	 */
+	public long locatorHits() {
+		return locators.counters().hits();
+	}
+	
+	/*
+	 * Lookups that went to the driver or element.
+	 */
+	public long locatorMisses() {
+		return locators.counters().misses();
+	}
+	
+	/*
+	 * Pure scripts answered from the cache.
+	 */
+	public long scriptHits() {
+		return scripts.counters().hits();
+	}
+	
+	/*
+	 * Pure scripts that went to the driver.
+	 */
+	public long scriptMisses() {
+		return scripts.counters().misses();
+	}
+}
@@ -18,7 +18,23 @@
 
 package nikoladasm.webdriver.wrapper;
 
+import nikoladasm.webdriver.wrapper.listeners.FirehoseListener;
+
 public interface WebDriverListenableWrapper {
 	<T> void setListener(EventListenerLocation<T> method, T eventListener);
 	<T> void removeListener(EventListenerLocation<T> method);
+	<T> void addListener(EventListenerLocation<T> method, T eventListener);
+	<T> void addListener(EventListenerLocation<T> method, T eventListener, int priority);
+	<T> void removeListener(EventListenerLocation<T> method, T eventListener);
+	void replaceListeners(ListenerSet listeners);
+	void addInterceptor(Interceptor interceptor);
+	void addInterceptor(EventListenerLocation<?> method, Interceptor interceptor);
+	void removeInterceptor(Interceptor interceptor);
+	void addFirehoseListener(FirehoseListener listener);
+	void removeFirehoseListener(FirehoseListener listener);
+	/*
+	 * Finds the first element of every locator of batch with a single
+	 * script; see BatchFind for which listeners fire.
+	 */
+	BatchResult findBatch(LocatorBatch batch);
 }
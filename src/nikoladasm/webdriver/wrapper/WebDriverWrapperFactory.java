@@ -18,18 +18,16 @@
 
 package nikoladasm.webdriver.wrapper;
 
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebDriver.Navigation;
 import org.openqa.selenium.WebDriver.Options;
 import org.openqa.selenium.WebDriver.TargetLocator;
@@ -38,19 +36,32 @@ import org.openqa.selenium.interactions.Keyboard;
 import org.openqa.selenium.interactions.Mouse;
 import org.openqa.selenium.interactions.TouchScreen;
 import org.openqa.selenium.internal.WrapsDriver;
-import org.openqa.selenium.internal.WrapsElement;
 
+import nikoladasm.webdriver.wrapper.internal.BatchFind;
+import nikoladasm.webdriver.wrapper.internal.CachedLookups;
+import nikoladasm.webdriver.wrapper.internal.CachedScripts;
+import nikoladasm.webdriver.wrapper.internal.ElementWrappers;
+import nikoladasm.webdriver.wrapper.internal.InterceptedInvocation;
+import nikoladasm.webdriver.wrapper.internal.LazyList;
+import nikoladasm.webdriver.wrapper.internal.ListenableInvocationHandler;
 import nikoladasm.webdriver.wrapper.internal.Listeners;
-import nikoladasm.webdriver.wrapper.internal.WebElementListenableWrapper;
+import nikoladasm.webdriver.wrapper.internal.MethodDescriptor;
+import nikoladasm.webdriver.wrapper.internal.MethodDescriptors;
+import nikoladasm.webdriver.wrapper.internal.MethodInvoker;
+import nikoladasm.webdriver.wrapper.internal.Scope;
+import nikoladasm.webdriver.wrapper.internal.ScriptValues;
+import nikoladasm.webdriver.wrapper.internal.WrapperConstructor;
+import nikoladasm.webdriver.wrapper.internal.WrapperSlot;
+import nikoladasm.webdriver.wrapper.listeners.FirehoseListener;
 import nikoladasm.webdriver.wrapper.listeners.WebDriverEventListener;
 
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toMap;
-import static java.util.Arrays.stream;
-
-import static nikoladasm.webdriver.wrapper.EventListenerLocation.ON_EXCEPTION;
 import static nikoladasm.webdriver.wrapper.internal.WebElementWrapperFactory.wrapWebElement;
-import static nikoladasm.webdriver.wrapper.internal.TimeClause.*;
+import static nikoladasm.webdriver.wrapper.internal.WrapperGenerator.handlerOf;
+import static nikoladasm.webdriver.wrapper.internal.WrapperGenerator.wrapperConstructor;
+import static nikoladasm.webdriver.wrapper.internal.MethodDescriptor.Kind.*;
+import static nikoladasm.webdriver.wrapper.internal.MethodDescriptor.Result.*;
+import static nikoladasm.webdriver.wrapper.internal.MethodDescriptors.is;
+import static nikoladasm.webdriver.wrapper.internal.Scope.DRIVER;
 import static nikoladasm.webdriver.wrapper.internal.NavigationWrapperFactory.wrapNavigation;
 import static nikoladasm.webdriver.wrapper.internal.TargetLocatorWrapperFactory.wrapTargetLocator;
 import static nikoladasm.webdriver.wrapper.internal.OptionsWrapperFactory.wrapOptions;
@@ -60,76 +71,136 @@ import static nikoladasm.webdriver.wrapper.internal.TouchScreenWrapperFactory.wr
 
 public final class WebDriverWrapperFactory {
 
-	private static class InvocationHandlerImpl implements InvocationHandler {
+	private static final MethodDescriptors descriptors = new MethodDescriptors(WebDriverWrapperFactory::describe);
+	private static final Method FIND_ELEMENT;
+	
+	static {
+		try {
+			FIND_ELEMENT = WebDriver.class.getMethod("findElement", By.class);
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	private static final ClassValue<WrapperConstructor> constructors = new ClassValue<WrapperConstructor>() {
+		@Override
+		protected WrapperConstructor computeValue(Class<?> type) {
+			return wrapperConstructor(extractInterfaces(type));
+		}
+	};
+	
+	private static class InvocationHandlerImpl extends ListenableInvocationHandler {
 		
 		private final WebDriver driver;
-		private final Listeners listeners = new Listeners();
+		private final Listeners listeners;
+		private final ElementWrappers elements = new ElementWrappers();
+		private final CachedLookups lookups = new CachedLookups();
+		private final CachedScripts scripts = new CachedScripts();
+		private final Function<WebElement, WebElement> wrapElement;
+		private final WrapperSlot<Navigation> navigation;
+		private final WrapperSlot<Options> options;
+		private final WrapperSlot<Keyboard> keyboard;
+		private final WrapperSlot<Mouse> mouse;
+		private final WrapperSlot<TouchScreen> touchScreen;
+		private WrapperSlot<TargetLocator> targetLocator;
 		
-		public InvocationHandlerImpl(WebDriver driver) {
+		public InvocationHandlerImpl(WebDriver driver, Listeners listeners) {
+			super(descriptors);
 			this.driver = driver;
+			this.listeners = listeners;
+			this.wrapElement = element -> wrapWebElement(element, driver, listeners, elements);
+			this.navigation = new WrapperSlot<>(navigation -> wrapNavigation(navigation, driver, listeners));
+			this.options = new WrapperSlot<>(options -> wrapOptions(options, driver, listeners));
+			this.keyboard = new WrapperSlot<>(keyboard -> wrapKeyboard(keyboard, driver, listeners));
+			this.mouse = new WrapperSlot<>(mouse -> wrapMouse(mouse, driver, listeners));
+			this.touchScreen = new WrapperSlot<>(touchScreen -> wrapTouchScreen(touchScreen, driver, listeners));
 		}
 		
 		@SuppressWarnings({ "rawtypes"})
 		@Override
-		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-			String methodName = method.getName();
-			if ("getWrappedDriver".equals(methodName))
+		protected Object invoke(Object proxy, MethodDescriptor descriptor, Object[] args) throws Throwable {
+			if (descriptor.kind() == GET_WRAPPED)
 				return driver();
-			if ("setListener".equals(methodName)) {
-				EventListenerLocation listenableMethod =
-					(EventListenerLocation) args[0];
-				WebDriverEventListener listener = (WebDriverEventListener) args[1];
-				if (ON_EXCEPTION.equals(listenableMethod)) {
-					listeners.setExeptionListener(listener);
-				} else {
-					if (listenableMethod.timeClause() == BEFORE)
-						listeners.setBeforeListener(listenableMethod.name(), listener);
-					else
-						listeners.setAfterListener(listenableMethod.name(), listener);
-				}
+			if (descriptor.kind() == SET_LISTENER) {
+				listeners.setListener((EventListenerLocation) args[0], (WebDriverEventListener) args[1]);
 				return null;
 			}
-			if ("removeListener".equals(methodName)) {
-				EventListenerLocation listenableMethod =
-					(EventListenerLocation) args[0];
-				if (ON_EXCEPTION.equals(listenableMethod)) {
-					listeners.setExeptionListener(null);
-				} else {
-					if (listenableMethod.timeClause() == BEFORE)
-						listeners.removeBeforeListener(listenableMethod.name());
-					else
-						listeners.removeAfterListener(listenableMethod.name());
-				}
+			if (descriptor.kind() == ADD_LISTENER) {
+				listeners.addListener((EventListenerLocation) args[0], (WebDriverEventListener) args[1], args.length > 2 ? (Integer) args[2] : 0);
+				return null;
+			}
+			if (descriptor.kind() == REMOVE_LISTENER) {
+				if (args.length > 1)
+					listeners.removeListener((EventListenerLocation) args[0], (WebDriverEventListener) args[1]);
+				else
+					listeners.removeListener((EventListenerLocation) args[0]);
+				return null;
+			}
+			if (descriptor.kind() == REPLACE_LISTENERS) {
+				listeners.replaceListeners((ListenerSet) args[0]);
+				return null;
+			}
+			if (descriptor.kind() == ADD_INTERCEPTOR) {
+				if (args.length > 1)
+					listeners.addInterceptor((EventListenerLocation) args[0], (Interceptor) args[1]);
+				else
+					listeners.addInterceptor(null, (Interceptor) args[0]);
+				return null;
+			}
+			if (descriptor.kind() == REMOVE_INTERCEPTOR) {
+				listeners.removeInterceptor((Interceptor) args[0]);
+				return null;
+			}
+			if (descriptor.kind() == ADD_FIREHOSE_LISTENER) {
+				listeners.addFirehoseListener((FirehoseListener) args[0]);
 				return null;
 			}
-			WebDriverEventListener<Void> listener;
-			Class<?>[] parameterTypes = method.getParameterTypes();
-			if ((listener = listeners.getBeforeListener(methodName)) != null && listener.isApplicable(proxy, parameterTypes))
-				listener.invoke(driver, null, proxy, method, args, null);
+			if (descriptor.kind() == REMOVE_FIREHOSE_LISTENER) {
+				listeners.removeFirehoseListener((FirehoseListener) args[0]);
+				return null;
+			}
+			if (descriptor.kind() == FIND_BATCH)
+				return findBatch((WebDriver) proxy, (LocatorBatch) args[0]);
+			long invocation = listeners.invocationId(descriptor);
+			long start = invocation != 0 ? System.nanoTime() : 0;
+			listeners.<Void>fireBefore(proxy, descriptor, driver, null, args, invocation, start);
 			Object result;
-			Object wrappedResult;
 			try {
-				if (("executeScript".equals(methodName) || "executeAsyncScript".equals(methodName))
-					&& Arrays.equals(parameterTypes, new Class<?>[]{String.class, Object[].class})) {
-					Object[] uArgs = new Object[args.length];
-					uArgs[0] = args[0];
-					uArgs[1] = unwrap((Object[]) args[1]);
-					result = method.invoke(driver, uArgs);
-				} else {
-					result = method.invoke(driver, args);
+				Object[] driverArgs = args;
+				if (descriptor.unwrapScriptArguments()) {
+					Object[] scriptArgs = (Object[]) args[1];
+					Object[] unwrappedScriptArgs = ScriptValues.unwrap(scriptArgs);
+					if (unwrappedScriptArgs != scriptArgs)
+						driverArgs = new Object[]{args[0], unwrappedScriptArgs};
 				}
-				wrappedResult = wrapResult((WebDriver) proxy, result, methodName, parameterTypes);
-			} catch (InvocationTargetException e) {
-				Throwable t = e.getTargetException();
-				if (listeners.getExeptionListener() != null)
-					listeners.getExeptionListener().invoke(driver, null, proxy, method, args, t);
+				if (descriptor.lookup() && listeners.epoch() != null)
+					result = lookups.find(listeners, descriptor, driver, driver, proxy, driverArgs);
+				else if (descriptor.script() && listeners.epoch() != null)
+					result = scripts.execute(listeners, descriptor, driver, proxy, driverArgs);
+				else
+					result = InterceptedInvocation.invoke(listeners, descriptor, driver, driver, proxy, driverArgs);
+			} catch (Throwable t) {
+				long elapsed = invocation != 0 ? System.nanoTime() - start : 0;
+				listeners.<Void>fireException(proxy, descriptor, driver, null, args, t, invocation, start, elapsed);
 				throw t;
 			}
-			if ((listener = listeners.getAfterListener(methodName)) != null && listener.isApplicable(proxy, parameterTypes))
-				listener.invoke(driver, null, proxy, method, args, result);
+			long elapsed = invocation != 0 ? System.nanoTime() - start : 0;
+			Object wrappedResult = wrapResult((WebDriver) proxy, result, descriptor.result());
+			listeners.<Void>fireAfter(proxy, descriptor, driver, null, args, result, invocation, start, elapsed);
 			return wrappedResult;
 		}
 		
+		private BatchResult findBatch(WebDriver wrappedDriver, LocatorBatch batch) {
+			int size = batch.locators().size();
+			WebElement[] found = new WebElement[size];
+			long[] elapsedNanos = new long[size];
+			WebDriverException[] errors = new WebDriverException[size];
+			MethodDescriptor findElement = descriptors.get(wrappedDriver.getClass(), FIND_ELEMENT, null);
+			Function<WebElement, WebElement> wrap = element -> listeners.shouldWrap(Scope.ELEMENT) ? wrapElement.apply(element) : element;
+			new BatchFind(driver, wrappedDriver, findElement, listeners, wrap).find(batch.roots(), batch.locators(), found, elapsedNanos, errors);
+			return new BatchResult(found, elapsedNanos, errors);
+		}
+		
 		private WebDriver driver() {
 			if (driver instanceof WrapsDriver)
 				return ((WrapsDriver) driver).getWrappedDriver();
@@ -137,53 +208,141 @@ public final class WebDriverWrapperFactory {
 		}
 		
 		@SuppressWarnings("unchecked")
-		private Object wrapResult(WebDriver wrappedDriver, Object result, String methodName, Class<?>[] parameterTypes) {
-			if ("findElement".equals(methodName) && Arrays.equals(parameterTypes, new Class<?>[]{By.class}))
-				return wrapWebElement((WebElement) result, driver, listeners);
-			if ("findElements".equals(methodName) && Arrays.equals(parameterTypes, new Class<?>[]{By.class}))
-				return ((List<WebElement>) result).stream().map(element -> wrapWebElement(element, driver, listeners)).collect(toList());
-			if ("navigate".equals(methodName) && Arrays.equals(parameterTypes, new Class<?>[]{}))
-				return wrapNavigation((Navigation) result, driver, listeners);
-			if ("switchTo".equals(methodName) && Arrays.equals(parameterTypes, new Class<?>[]{}))
-				return wrapTargetLocator((TargetLocator) result, driver, listeners, wrappedDriver);
-			if ("manage".equals(methodName) && Arrays.equals(parameterTypes, new Class<?>[]{}))
-				return wrapOptions((Options) result, driver, listeners);
-			if ("getKeyboard".equals(methodName) && Arrays.equals(parameterTypes, new Class<?>[]{}))
-				return wrapKeyboard((Keyboard) result, driver, listeners);
-			if ("getMouse".equals(methodName) && Arrays.equals(parameterTypes, new Class<?>[]{}))
-				return wrapMouse((Mouse) result, driver, listeners);
-			if ("getTouch".equals(methodName) && Arrays.equals(parameterTypes, new Class<?>[]{}))
-				return wrapTouchScreen((TouchScreen) result, driver, listeners);
-			return result;
-		}
-		
-		private Object[] unwrap(Object[] args) {
-			return stream(args).map(this::unwrap).toArray();
-		}
-		
-		private Object unwrap(Object arg) {
-			if (arg instanceof List<?>)
-				return ((List<?>) arg).stream().map(this::unwrap).collect(toList());
-			if (arg instanceof Map<?, ?>)
-				return ((Map<?, ?>) arg).entrySet().stream().collect(toMap(e -> e.getKey(), e -> unwrap(e.getKey())));
-			if (arg instanceof WebElementListenableWrapper)
-				return ((WrapsElement) arg).getWrappedElement();
-			return arg;
+		private Object wrapResult(WebDriver wrappedDriver, Object result, MethodDescriptor.Result kind) {
+			switch (kind) {
+				case ELEMENT:
+					if (!listeners.shouldWrap(Scope.ELEMENT))
+						return result;
+					return wrapWebElement((WebElement) result, driver, listeners, elements);
+				case SCRIPT_RESULT:
+					if (!listeners.shouldWrap(Scope.ELEMENT))
+						return result;
+					return ScriptValues.wrap(result, wrapElement);
+				case ELEMENTS:
+					if (!listeners.shouldWrap(Scope.ELEMENT))
+						return result;
+					return new LazyList<>((List<WebElement>) result, wrapElement);
+				case NAVIGATION:
+					if (!listeners.shouldWrap(Scope.NAVIGATION))
+						return result;
+					return navigation.get((Navigation) result);
+				case TARGET_LOCATOR:
+					// The wrapped driver is only known once it is called; racing threads create equivalent slots.
+					if (targetLocator == null)
+						targetLocator = new WrapperSlot<>(targetLocator -> wrapTargetLocator(targetLocator, driver, listeners, elements, wrappedDriver));
+					return targetLocator.get((TargetLocator) result);
+				case OPTIONS:
+					if (!listeners.shouldWrap(Scope.OPTIONS))
+						return result;
+					return options.get((Options) result);
+				case KEYBOARD:
+					if (!listeners.shouldWrap(Scope.KEYBOARD))
+						return result;
+					return keyboard.get((Keyboard) result);
+				case MOUSE:
+					if (!listeners.shouldWrap(Scope.MOUSE))
+						return result;
+					return mouse.get((Mouse) result);
+				case TOUCH_SCREEN:
+					if (!listeners.shouldWrap(Scope.TOUCH_SCREEN))
+						return result;
+					return touchScreen.get((TouchScreen) result);
+				default:
+					return result;
+			}
 		}
 	}
 	
+	private static MethodDescriptor describe(Method method, MethodInvoker invoker) {
+		String methodName = method.getName();
+		if ("getWrappedDriver".equals(methodName))
+			return new MethodDescriptor(DRIVER, method, invoker, GET_WRAPPED, AS_IS);
+		if ("setListener".equals(methodName))
+			return new MethodDescriptor(DRIVER, method, invoker, SET_LISTENER, AS_IS);
+		if ("addListener".equals(methodName))
+			return new MethodDescriptor(DRIVER, method, invoker, ADD_LISTENER, AS_IS);
+		if ("removeListener".equals(methodName))
+			return new MethodDescriptor(DRIVER, method, invoker, REMOVE_LISTENER, AS_IS);
+		if ("replaceListeners".equals(methodName))
+			return new MethodDescriptor(DRIVER, method, invoker, REPLACE_LISTENERS, AS_IS);
+		if ("addInterceptor".equals(methodName))
+			return new MethodDescriptor(DRIVER, method, invoker, ADD_INTERCEPTOR, AS_IS);
+		if ("removeInterceptor".equals(methodName))
+			return new MethodDescriptor(DRIVER, method, invoker, REMOVE_INTERCEPTOR, AS_IS);
+		if ("addFirehoseListener".equals(methodName))
+			return new MethodDescriptor(DRIVER, method, invoker, ADD_FIREHOSE_LISTENER, AS_IS);
+		if ("removeFirehoseListener".equals(methodName))
+			return new MethodDescriptor(DRIVER, method, invoker, REMOVE_FIREHOSE_LISTENER, AS_IS);
+		if ("findBatch".equals(methodName))
+			return new MethodDescriptor(DRIVER, method, invoker, FIND_BATCH, AS_IS);
+		if (is(method, "executeScript", String.class, Object[].class) ||
+			is(method, "executeAsyncScript", String.class, Object[].class))
+			return new MethodDescriptor(DRIVER, method, invoker, DELEGATE, SCRIPT_RESULT, true);
+		if (is(method, "findElement", By.class))
+			return new MethodDescriptor(DRIVER, method, invoker, DELEGATE, ELEMENT);
+		if (is(method, "findElements", By.class))
+			return new MethodDescriptor(DRIVER, method, invoker, DELEGATE, ELEMENTS);
+		if (is(method, "navigate"))
+			return new MethodDescriptor(DRIVER, method, invoker, DELEGATE, NAVIGATION);
+		if (is(method, "switchTo"))
+			return new MethodDescriptor(DRIVER, method, invoker, DELEGATE, TARGET_LOCATOR);
+		if (is(method, "manage"))
+			return new MethodDescriptor(DRIVER, method, invoker, DELEGATE, OPTIONS);
+		if (is(method, "getKeyboard"))
+			return new MethodDescriptor(DRIVER, method, invoker, DELEGATE, KEYBOARD);
+		if (is(method, "getMouse"))
+			return new MethodDescriptor(DRIVER, method, invoker, DELEGATE, MOUSE);
+		if (is(method, "getTouch"))
+			return new MethodDescriptor(DRIVER, method, invoker, DELEGATE, TOUCH_SCREEN);
+		return new MethodDescriptor(DRIVER, method, invoker, DELEGATE, AS_IS);
+	}
+	
 	public static WebDriver wrapWebDriver(WebDriver driver) {
-		return (WebDriver) Proxy.newProxyInstance(
-			WebDriverWrapperFactory.class.getClassLoader(),
-			extractInterfaces(driver),
-			new InvocationHandlerImpl(driver));
+		return wrapWebDriver(driver, WrappingMode.EAGER);
+	}
+	
+	public static WebDriver wrapWebDriver(WebDriver driver, WrappingMode mode) {
+		return wrapWebDriver(driver, mode, null);
+	}
+	
+	/*
+	 * With a dispatcher the after and exception listeners of the driver and of
+	 * everything obtained from it run on the dispatcher's thread.
+	 *
+	 * Wrapping one of our own wrappers does not add a second interception
+	 * layer: the new wrapper delegates to the same driver and fires its own
+	 * listeners around those of the wrapper it was given.
+	 */
+	public static WebDriver wrapWebDriver(WebDriver driver, WrappingMode mode, AsyncDispatcher dispatcher) {
+		return wrapWebDriver(driver, mode, dispatcher, null);
+	}
+	
+	/*
+	 * With a cache, reads are answered from it until a command of the driver
+	 * may have changed the page (see ReadCache). A cache can be shared by
+	 * several drivers; each one keeps its own DOM epoch.
+	 */
+	public static WebDriver wrapWebDriver(WebDriver driver, WrappingMode mode, AsyncDispatcher dispatcher, ReadCache cache) {
+		Listeners listeners = new Listeners(
+			mode == WrappingMode.ON_DEMAND,
+			dispatcher != null ? dispatcher.events() : null,
+			cache != null ? cache.newEpoch() : null);
+		if (driver instanceof WebDriverListenableWrapper) {
+			ListenableInvocationHandler handler = handlerOf(driver);
+			if (handler instanceof InvocationHandlerImpl) {
+				InvocationHandlerImpl wrapped = (InvocationHandlerImpl) handler;
+				driver = wrapped.driver;
+				listeners = Listeners.compose(listeners, wrapped.listeners);
+			}
+		}
+		return (WebDriver) constructors.get(driver.getClass()).newInstance(new InvocationHandlerImpl(driver, listeners));
 	}
 	
-	private static Class<?>[] extractInterfaces(Object object) {
+	private static Class<?>[] extractInterfaces(Class<?> type) {
 		Set<Class<?>> allInterfaces = new HashSet<>();
 		allInterfaces.add(WrapsDriver.class);
 		allInterfaces.add(WebDriverListenableWrapper.class);
-		extractInterfaces(allInterfaces, object.getClass());
+		extractInterfaces(allInterfaces, type);
 		return allInterfaces.toArray(new Class<?>[allInterfaces.size()]);
 	}
 	
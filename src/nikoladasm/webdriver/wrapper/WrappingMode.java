@@ -0,0 +1,33 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper;
+
+public enum WrappingMode {
+	/*
+	 * Every object obtained from the driver is wrapped.
+	 */
+	EAGER,
+	/*
+	 * Objects obtained from the driver (elements, alerts, options, mouse and
+	 * so on) are only wrapped while a listener is registered that can observe
+	 * them; otherwise the driver's own object is returned. Objects obtained
+	 * before such a listener was registered stay unwrapped.
+	 */
+	ON_DEMAND
+}
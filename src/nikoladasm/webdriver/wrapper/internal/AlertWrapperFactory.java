@@ -18,19 +18,22 @@
 
 package nikoladasm.webdriver.wrapper.internal;
 
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.InvocationTargetException;
+import static nikoladasm.webdriver.wrapper.internal.WrapperGenerator.wrapperConstructor;
+import static nikoladasm.webdriver.wrapper.internal.MethodDescriptor.Kind.*;
+import static nikoladasm.webdriver.wrapper.internal.MethodDescriptor.Result.*;
+import static nikoladasm.webdriver.wrapper.internal.Scope.ALERT;
+
 import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
 
 import org.openqa.selenium.Alert;
 import org.openqa.selenium.WebDriver;
 
-import nikoladasm.webdriver.wrapper.listeners.WebDriverEventListener;
-
 public final class AlertWrapperFactory {
 
-	private static class InvocationHandlerImpl implements InvocationHandler {
+	private static final MethodDescriptors descriptors = new MethodDescriptors(AlertWrapperFactory::describe);
+	private static final WrapperConstructor constructor = wrapperConstructor(Alert.class, WrapsAlert.class);
+	
+	private static class InvocationHandlerImpl extends ListenableInvocationHandler {
 
 		private final Alert alert;
 		private final WebDriver driver;
@@ -40,43 +43,44 @@ public final class AlertWrapperFactory {
 				Alert alert,
 				WebDriver driver,
 				Listeners listeners) {
+			super(descriptors);
 			this.alert = alert;
 			this.driver = driver;
 			this.listeners = listeners;
 		}
 		
 		@Override
-		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-			String methodName = method.getName();
-			if ("getWrappedAlert".equals(methodName))
+		protected Object invoke(Object proxy, MethodDescriptor descriptor, Object[] args) throws Throwable {
+			if (descriptor.kind() == GET_WRAPPED)
 				return alert;
-			Class<?>[] parameterTypes = method.getParameterTypes();
-			WebDriverEventListener<Alert> listener;
-			if ((listener = listeners.getBeforeListener(methodName)) != null && listener.isApplicable(proxy, parameterTypes))
-				listener.invoke(driver, alert, proxy, method, args, null);
+			long invocation = listeners.invocationId(descriptor);
+			long start = invocation != 0 ? System.nanoTime() : 0;
+			listeners.<Alert>fireBefore(proxy, descriptor, driver, alert, args, invocation, start);
 			Object result;
 			try {
-				result = method.invoke(alert, args);
-			} catch (InvocationTargetException e) {
-				Throwable t = e.getTargetException();
-				if (listeners.getExeptionListener() != null)
-					listeners.getExeptionListener().invoke(driver, alert, proxy, method, args, t);
+				result = InterceptedInvocation.invoke(listeners, descriptor, driver, alert, proxy, args);
+			} catch (Throwable t) {
+				long elapsed = invocation != 0 ? System.nanoTime() - start : 0;
+				listeners.<Alert>fireException(proxy, descriptor, driver, alert, args, t, invocation, start, elapsed);
 				throw t;
 			}
-			if ((listener = listeners.getAfterListener(methodName)) != null && listener.isApplicable(proxy, parameterTypes))
-				listener.invoke(driver, alert, proxy, method, args, result);
+			long elapsed = invocation != 0 ? System.nanoTime() - start : 0;
+			listeners.<Alert>fireAfter(proxy, descriptor, driver, alert, args, result, invocation, start, elapsed);
 			return result;
 		}
 	}
 	
+	private static MethodDescriptor describe(Method method, MethodInvoker invoker) {
+		if ("getWrappedAlert".equals(method.getName()))
+			return new MethodDescriptor(ALERT, method, invoker, GET_WRAPPED, AS_IS);
+		return new MethodDescriptor(ALERT, method, invoker, DELEGATE, AS_IS);
+	}
+	
 	public static Alert wrapAlert(
 			Alert alert,
 			WebDriver driver,
 			Listeners listeners) {
-		return (Alert) Proxy.newProxyInstance(
-			AlertWrapperFactory.class.getClassLoader(),
-			new Class<?>[]{Alert.class, WrapsAlert.class},
-			new InvocationHandlerImpl(alert, driver, listeners));
+		return (Alert) constructor.newInstance(new InvocationHandlerImpl(alert, driver, listeners));
 	}
 	
 	private AlertWrapperFactory() {}
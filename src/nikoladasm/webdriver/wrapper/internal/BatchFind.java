@@ -0,0 +1,237 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper.internal;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+/*
+ * Finds the first element of many locators, each on the driver or on an
+ * element, with a single script. Locators of the kinds By provides (id,
+ * name, class name, CSS selector, tag name, XPath, link text, partial link
+ * text) are resolved by the script, which times each of them; any other
+ * locator is found with a regular findElement on its root.
+ *
+ * The before and after find-element listeners of the roots fire for every
+ * locator the script resolves: all before ones ahead of the script, the
+ * after ones once it returned. A locator that found nothing fires the
+ * exception listeners with a NoSuchElementException, an invalid one with
+ * an InvalidSelectorException, and the exception is kept as its error.
+ */
+public final class BatchFind {
+
+	private static final Method FIND_ELEMENT;
+	
+	static {
+		try {
+			FIND_ELEMENT = WebElement.class.getMethod("findElement", By.class);
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	private static final String SCRIPT =
+		"var entries = arguments[0], results = [];" +
+		"function quote(value) {" +
+		"  return '\"' + value.replace(/([\"\\\\])/g, '\\\\$1') + '\"';" +
+		"}" +
+		"function find(root, using, value) {" +
+		"  switch (using) {" +
+		"    case 'id':" +
+		"      return root.querySelector('[id=' + quote(value) + ']');" +
+		"    case 'name':" +
+		"      return root.querySelector('[name=' + quote(value) + ']');" +
+		"    case 'className':" +
+		"      return root.getElementsByClassName(value)[0] || null;" +
+		"    case 'cssSelector':" +
+		"      return root.querySelector(value);" +
+		"    case 'tagName':" +
+		"      return root.getElementsByTagName(value)[0] || null;" +
+		"    case 'xpath':" +
+		"      return document.evaluate(value, root, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;" +
+		"    default:" +
+		"      var links = root.getElementsByTagName('a');" +
+		"      for (var i = 0; i < links.length; i++) {" +
+		"        var text = (links[i].innerText || '').trim();" +
+		"        if (using === 'linkText' ? text === value : text.indexOf(value) >= 0)" +
+		"          return links[i];" +
+		"      }" +
+		"      return null;" +
+		"  }" +
+		"}" +
+		"function now() {" +
+		"  return window.performance ? window.performance.now() : Date.now();" +
+		"}" +
+		"for (var i = 0; i < entries.length; i++) {" +
+		"  var start = now(), element = null, error = null;" +
+		"  try {" +
+		"    element = find(entries[i][0] || document, entries[i][1], entries[i][2]);" +
+		"  } catch (e) {" +
+		"    error = String(e && e.message || e);" +
+		"  }" +
+		"  results.push([element, now() - start, error]);" +
+		"}" +
+		"return results;";
+	
+	private static final class Strategy {
+		
+		final Class<? extends By> type;
+		final String using;
+		final String prefix;
+		
+		Strategy(Class<? extends By> type, String using) {
+			this.type = type;
+			this.using = using;
+			this.prefix = "By." + using + ": ";
+		}
+	}
+	
+	private static final Strategy[] STRATEGIES = {
+		new Strategy(By.ById.class, "id"),
+		new Strategy(By.ByName.class, "name"),
+		new Strategy(By.ByClassName.class, "className"),
+		new Strategy(By.ByCssSelector.class, "cssSelector"),
+		new Strategy(By.ByTagName.class, "tagName"),
+		new Strategy(By.ByXPath.class, "xpath"),
+		new Strategy(By.ByLinkText.class, "linkText"),
+		new Strategy(By.ByPartialLinkText.class, "partialLinkText")
+	};
+	
+	private final WebDriver driver;
+	private final WebDriver wrapper;
+	private final MethodDescriptor findElement;
+	private final Listeners listeners;
+	private final Function<WebElement, WebElement> wrap;
+	
+	/*
+	 * driver is the wrapped driver, wrapper its wrapper and findElement the
+	 * descriptor of the wrapper's findElement; wrap wraps what the script
+	 * found.
+	 */
+	public BatchFind(
+			WebDriver driver,
+			WebDriver wrapper,
+			MethodDescriptor findElement,
+			Listeners listeners,
+			Function<WebElement, WebElement> wrap) {
+		this.driver = driver;
+		this.wrapper = wrapper;
+		this.findElement = findElement;
+		this.listeners = listeners;
+		this.wrap = wrap;
+	}
+	
+	/*
+	 * Fills elements, elapsedNanos and errors for every locator of
+	 * locators, found on the matching root of roots (null for the driver).
+	 */
+	public void find(List<WebElement> roots, List<By> locators, WebElement[] elements, long[] elapsedNanos, WebDriverException[] errors) {
+		List<Integer> scripted = new ArrayList<>(locators.size());
+		List<List<Object>> entries = new ArrayList<>(locators.size());
+		for (int index = 0; index < locators.size(); index++) {
+			String[] strategy = strategy(locators.get(index));
+			if (strategy == null) {
+				findOne(index, roots.get(index), locators.get(index), elements, elapsedNanos, errors);
+				continue;
+			}
+			scripted.add(index);
+			entries.add(Arrays.asList(ScriptValues.unwrap(roots.get(index)), strategy[0], strategy[1]));
+		}
+		if (entries.isEmpty())
+			return;
+		ListenedCall[] calls = new ListenedCall[scripted.size()];
+		for (int entry = 0; entry < calls.length; entry++) {
+			int index = scripted.get(entry);
+			calls[entry] = call(roots.get(index), locators.get(index));
+			if (calls[entry] != null)
+				calls[entry].before();
+		}
+		long start = System.nanoTime();
+		List<?> results;
+		try {
+			results = (List<?>) ((JavascriptExecutor) driver).executeScript(SCRIPT, entries);
+		} catch (RuntimeException e) {
+			long elapsed = System.nanoTime() - start;
+			for (ListenedCall call : calls)
+				if (call != null)
+					call.exception(e, elapsed);
+			throw e;
+		}
+		for (int entry = 0; entry < calls.length; entry++) {
+			int index = scripted.get(entry);
+			List<?> result = (List<?>) results.get(entry);
+			WebElement element = (WebElement) result.get(0);
+			elapsedNanos[index] = (long) (((Number) result.get(1)).doubleValue() * 1_000_000);
+			if (element != null) {
+				elements[index] = wrap.apply(element);
+				if (calls[entry] != null)
+					calls[entry].after(element, elapsedNanos[index]);
+				continue;
+			}
+			By by = locators.get(index);
+			errors[index] = result.get(2) != null ?
+				new InvalidSelectorException(by + ": " + result.get(2)) :
+				new NoSuchElementException("Unable to locate element: " + by);
+			if (calls[entry] != null)
+				calls[entry].exception(errors[index], elapsedNanos[index]);
+		}
+	}
+	
+	private void findOne(int index, WebElement root, By by, WebElement[] elements, long[] elapsedNanos, WebDriverException[] errors) {
+		long start = System.nanoTime();
+		try {
+			elements[index] = root != null ? root.findElement(by) : wrapper.findElement(by);
+		} catch (WebDriverException e) {
+			errors[index] = e;
+		}
+		elapsedNanos[index] = System.nanoTime() - start;
+	}
+	
+	private ListenedCall call(WebElement root, By by) {
+		if (root == null)
+			return new ListenedCall(wrapper, findElement, listeners, driver, null, new Object[]{by});
+		return WebElementWrapperFactory.call(root, FIND_ELEMENT, new Object[]{by});
+	}
+	
+	/*
+	 * The script's name of the kind of by and its value, or null for a kind
+	 * the script does not know, subclasses of By's own kinds included.
+	 */
+	static String[] strategy(By by) {
+		for (Strategy strategy : STRATEGIES)
+			if (strategy.type == by.getClass()) {
+				String description = by.toString();
+				if (!description.startsWith(strategy.prefix))
+					return null;
+				return new String[]{strategy.using, description.substring(strategy.prefix.length())};
+			}
+		return null;
+	}
+}
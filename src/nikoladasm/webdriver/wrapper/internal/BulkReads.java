@@ -0,0 +1,137 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.WrapsDriver;
+
+/*
+ * Reads properties of many elements with a single script instead of a
+ * command per element and property. The script follows what the getters
+ * return closely but not exactly: text is the trimmed innerText of a
+ * displayed element, an attribute is read as a property first (booleans as
+ * "true" or null) and as an attribute otherwise, and an element is displayed
+ * when it has a box and is neither hidden nor transparent.
+ *
+ * The script runs on the driver the elements came from, not on its wrapper,
+ * so it neither fires script listeners nor advances the DOM epoch; the
+ * after listeners of the getters are fired for every element and property
+ * instead, once all of them were read, or their exception listeners when
+ * the script failed. Each of them gets the time the whole script took.
+ */
+public final class BulkReads {
+
+	private static final String SCRIPT =
+		"var elements = arguments[0], properties = arguments[1], rows = [];" +
+		"function displayed(element) {" +
+		"  var style = window.getComputedStyle(element);" +
+		"  return style.visibility !== 'hidden' && style.visibility !== 'collapse' &&" +
+		"    style.opacity !== '0' && element.getClientRects().length > 0;" +
+		"}" +
+		"for (var i = 0; i < elements.length; i++) {" +
+		"  var element = elements[i], row = [];" +
+		"  for (var j = 0; j < properties.length; j++) {" +
+		"    var name = properties[j][1], value = null, property, rect;" +
+		"    switch (properties[j][0]) {" +
+		"      case 'TEXT':" +
+		"        value = displayed(element) ? (element.innerText || '').trim() : '';" +
+		"        break;" +
+		"      case 'ATTRIBUTE':" +
+		"        property = element[name];" +
+		"        if (property === true || property === false)" +
+		"          value = property ? 'true' : null;" +
+		"        else if (property != null && typeof property !== 'object' && typeof property !== 'function')" +
+		"          value = String(property);" +
+		"        else" +
+		"          value = element.getAttribute(name);" +
+		"        break;" +
+		"      case 'CSS_VALUE':" +
+		"        value = window.getComputedStyle(element).getPropertyValue(name);" +
+		"        break;" +
+		"      case 'RECT':" +
+		"        rect = element.getBoundingClientRect();" +
+		"        value = [Math.round(rect.left + window.pageXOffset), Math.round(rect.top + window.pageYOffset)," +
+		"          Math.round(rect.width), Math.round(rect.height)];" +
+		"        break;" +
+		"      case 'DISPLAYED':" +
+		"        value = displayed(element);" +
+		"        break;" +
+		"      case 'ENABLED':" +
+		"        value = !element.disabled;" +
+		"        break;" +
+		"      case 'SELECTED':" +
+		"        value = !!(element.checked || element.selected);" +
+		"        break;" +
+		"    }" +
+		"    row.push(value);" +
+		"  }" +
+		"  rows.push(row);" +
+		"}" +
+		"return rows;";
+	
+	/*
+	 * Returns the values of properties (with names for the named ones) of
+	 * elements, row by row. The elements have to come from the same driver.
+	 */
+	public static Object[] read(List<? extends WebElement> elements, ElementProperty[] properties, String[] names) {
+		if (elements.isEmpty() || properties.length == 0)
+			return new Object[0];
+		WebDriver driver = ((WrapsDriver) elements.get(0)).getWrappedDriver();
+		List<List<String>> columns = new ArrayList<>(properties.length);
+		for (int column = 0; column < properties.length; column++)
+			columns.add(Arrays.asList(properties[column].name(), names[column]));
+		ListenedCall[] calls = new ListenedCall[elements.size() * properties.length];
+		for (int row = 0; row < elements.size(); row++)
+			for (int column = 0; column < properties.length; column++)
+				calls[row * properties.length + column] = WebElementWrapperFactory.call(
+					elements.get(row),
+					properties[column].getter(),
+					properties[column].named() ? new Object[]{names[column]} : null);
+		long start = System.nanoTime();
+		List<?> rows;
+		try {
+			rows = (List<?>) ((JavascriptExecutor) driver).executeScript(SCRIPT, ScriptValues.unwrap(elements), columns);
+		} catch (RuntimeException e) {
+			long elapsed = System.nanoTime() - start;
+			for (ListenedCall call : calls)
+				if (call != null)
+					call.exception(e, elapsed);
+			throw e;
+		}
+		long elapsed = System.nanoTime() - start;
+		Object[] values = new Object[calls.length];
+		for (int row = 0; row < elements.size(); row++) {
+			List<?> rowValues = (List<?>) rows.get(row);
+			for (int column = 0; column < properties.length; column++)
+				values[row * properties.length + column] = properties[column].value(rowValues.get(column));
+		}
+		for (int index = 0; index < calls.length; index++)
+			if (calls[index] != null)
+				calls[index].after(values[index], elapsed);
+		return values;
+	}
+	
+	private BulkReads() {}
+}
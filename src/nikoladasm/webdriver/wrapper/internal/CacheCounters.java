@@ -0,0 +1,46 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper.internal;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * Hits and misses of a cache; shared by every driver the cache is given to.
+ */
+public final class CacheCounters {
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	
+	public void hit() {
+		hits.increment();
+	}
+	
+	public void miss() {
+		misses.increment();
+	}
+	
+	public long hits() {
+		return hits.sum();
+	}
+	
+	public long misses() {
+		return misses.sum();
+	}
+}
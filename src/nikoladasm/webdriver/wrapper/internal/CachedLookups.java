@@ -0,0 +1,115 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper.internal;
+
+import static nikoladasm.webdriver.wrapper.internal.MethodDescriptors.is;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/*
+ * Results of findElement and findElements on one search root (a driver or
+ * an element), kept per locator for a single DOM epoch and for no longer
+ * than the time the locator is cached for (see LocatorCaching). Lists are
+ * copied in and out, so that callers can not change what is kept.
+ */
+public final class CachedLookups {
+
+	private static final class Lookup {
+		
+		final Object result;
+		final long found;
+		final long ttl;
+		
+		Lookup(Object result, long found, long ttl) {
+			this.result = result;
+			this.found = found;
+			this.ttl = ttl;
+		}
+	}
+	
+	private final Map<By, Lookup> elements = new HashMap<>();
+	private final Map<By, Lookup> lists = new HashMap<>();
+	private long epoch;
+	
+	static boolean isLookup(Scope scope, Method method) {
+		return (scope == Scope.DRIVER || scope == Scope.ELEMENT) &&
+			(is(method, "findElement", By.class) || is(method, "findElements", By.class));
+	}
+	
+	/*
+	 * Calls the lookup of the descriptor on root, unless the locator was
+	 * looked up there before in the current epoch and its result did not
+	 * expire yet.
+	 */
+	@SuppressWarnings("unchecked")
+	public Object find(
+			Listeners listeners,
+			MethodDescriptor descriptor,
+			WebDriver driver,
+			Object root,
+			Object wrapper,
+			Object[] args) throws Throwable {
+		DomEpoch epoch = listeners.epoch();
+		By by = (By) args[0];
+		long ttl = epoch.locators().ttl(by);
+		if (ttl <= 0)
+			return InterceptedInvocation.invoke(listeners, descriptor, driver, root, wrapper, args);
+		boolean list = descriptor.result() == MethodDescriptor.Result.ELEMENTS;
+		long current = epoch.current();
+		long now = System.nanoTime();
+		Object result = get(list ? lists : elements, by, current, now);
+		if (result != null) {
+			epoch.locators().counters().hit();
+			return list ? new ArrayList<>((List<WebElement>) result) : result;
+		}
+		epoch.locators().counters().miss();
+		result = InterceptedInvocation.invoke(listeners, descriptor, driver, root, wrapper, args);
+		if (result != null)
+			put(list ? lists : elements, by, list ? new ArrayList<>((List<WebElement>) result) : result, current, now, ttl);
+		return result;
+	}
+	
+	private synchronized Object get(Map<By, Lookup> lookups, By by, long epoch, long now) {
+		if (this.epoch != epoch)
+			return null;
+		Lookup lookup = lookups.get(by);
+		if (lookup == null || now - lookup.found >= lookup.ttl)
+			return null;
+		return lookup.result;
+	}
+	
+	private synchronized void put(Map<By, Lookup> lookups, By by, Object result, long epoch, long found, long ttl) {
+		if (epoch < this.epoch)
+			return;
+		if (epoch > this.epoch) {
+			elements.clear();
+			lists.clear();
+			this.epoch = epoch;
+		}
+		lookups.put(by, new Lookup(result, found, ttl));
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper.internal;
+
+import static nikoladasm.webdriver.wrapper.internal.MethodDescriptors.is;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+ * Results of the read-only getters of one element, valid for a single DOM
+ * epoch: the first access in a newer epoch drops everything kept so far.
+ * Getters taking a name (getAttribute, getCssValue) are kept per name.
+ * Values are kept as the driver returned them, so a mutable one (a
+ * Rectangle) is shared by every caller that gets it from the cache.
+ */
+final class CachedReads {
+
+	static final int NONE = -1;
+	static final Object MISSING = new Object();
+	
+	private static final int GETTERS = 7;
+	
+	private final Object[] values = new Object[GETTERS];
+	private final Map<?, ?>[] named = new Map<?, ?>[GETTERS];
+	private long epoch;
+	
+	/*
+	 * Index of a cached getter of an element, or NONE.
+	 */
+	static int getter(Scope scope, Method method) {
+		if (scope != Scope.ELEMENT)
+			return NONE;
+		if (is(method, "getTagName"))
+			return 0;
+		if (is(method, "getAttribute", String.class))
+			return 1;
+		if (is(method, "getCssValue", String.class))
+			return 2;
+		if (is(method, "getRect"))
+			return 3;
+		if (is(method, "getSize"))
+			return 4;
+		if (is(method, "getLocation"))
+			return 5;
+		if (is(method, "isDisplayed"))
+			return 6;
+		return NONE;
+	}
+	
+	CachedReads() {
+		Arrays.fill(values, MISSING);
+	}
+	
+	synchronized Object get(int getter, Object[] args, long epoch) {
+		if (this.epoch != epoch)
+			return MISSING;
+		if (args == null)
+			return values[getter];
+		Map<?, ?> values = named[getter];
+		return values != null && values.containsKey(args[0]) ? values.get(args[0]) : MISSING;
+	}
+	
+	@SuppressWarnings("unchecked")
+	synchronized void put(int getter, Object[] args, Object value, long epoch) {
+		if (epoch < this.epoch)
+			return;
+		if (epoch > this.epoch) {
+			Arrays.fill(values, MISSING);
+			Arrays.fill(named, null);
+			this.epoch = epoch;
+		}
+		if (args == null) {
+			values[getter] = value;
+			return;
+		}
+		if (named[getter] == null)
+			named[getter] = new HashMap<>();
+		((Map<Object, Object>) named[getter]).put(args[0], value);
+	}
+}
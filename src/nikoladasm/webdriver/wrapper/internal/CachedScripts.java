@@ -0,0 +1,128 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper.internal;
+
+import static nikoladasm.webdriver.wrapper.internal.MethodDescriptors.is;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import org.openqa.selenium.WebDriver;
+
+/*
+ * Results of the pure scripts (see ScriptCaching) a driver executed in the
+ * current DOM epoch, by script and arguments, least recently used first.
+ * Arguments are compared by value, elements by the driver's own equals.
+ * Running a pure script does not advance the epoch. Results are copied in
+ * and out, so that callers can not change what is kept.
+ */
+public final class CachedScripts {
+
+	private static final Object MISSING = new Object();
+	private static final Object[] NO_ARGUMENTS = new Object[0];
+	
+	private static final class Key {
+		
+		final String script;
+		final Object[] arguments;
+		final int hash;
+		
+		Key(String script, Object[] arguments) {
+			this.script = script;
+			this.arguments = arguments;
+			this.hash = 31 * script.hashCode() + Arrays.deepHashCode(arguments);
+		}
+		
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+		
+		@Override
+		public boolean equals(Object object) {
+			if (!(object instanceof Key))
+				return false;
+			Key key = (Key) object;
+			return hash == key.hash && script.equals(key.script) && Arrays.deepEquals(arguments, key.arguments);
+		}
+	}
+	
+	private final LinkedHashMap<Key, Object> results = new LinkedHashMap<>(16, 0.75f, true);
+	private long epoch;
+	
+	static boolean isScript(Scope scope, Method method) {
+		return scope == Scope.DRIVER && is(method, "executeScript", String.class, Object[].class);
+	}
+	
+	/*
+	 * Executes the script of args (script and script arguments, already
+	 * unwrapped), answering a pure one from the cache when it ran with equal
+	 * arguments before in the current epoch.
+	 */
+	public Object execute(
+			Listeners listeners,
+			MethodDescriptor descriptor,
+			WebDriver driver,
+			Object wrapper,
+			Object[] args) throws Throwable {
+		DomEpoch epoch = listeners.epoch();
+		ScriptCaching scripts = epoch.scripts();
+		if (!scripts.isPure((String) args[0]))
+			return InterceptedInvocation.invoke(listeners, descriptor, driver, driver, wrapper, args);
+		int size = scripts.size();
+		if (size <= 0)
+			return InterceptedInvocation.invokeReadOnly(listeners, descriptor, driver, driver, wrapper, args);
+		Object[] arguments = (Object[]) args[1];
+		Key key = new Key((String) args[0], arguments != null ? (Object[]) ScriptValues.copy(arguments) : NO_ARGUMENTS);
+		long current = epoch.current();
+		Object result = get(key, current);
+		if (result != MISSING) {
+			scripts.counters().hit();
+			return ScriptValues.copy(result);
+		}
+		scripts.counters().miss();
+		result = InterceptedInvocation.invokeReadOnly(listeners, descriptor, driver, driver, wrapper, args);
+		put(key, ScriptValues.copy(result), current, size);
+		return result;
+	}
+	
+	private synchronized Object get(Key key, long epoch) {
+		if (this.epoch != epoch)
+			return MISSING;
+		Object result = results.get(key);
+		return result != null || results.containsKey(key) ? result : MISSING;
+	}
+	
+	private synchronized void put(Key key, Object result, long epoch, int size) {
+		if (epoch < this.epoch)
+			return;
+		if (epoch > this.epoch) {
+			results.clear();
+			this.epoch = epoch;
+		}
+		results.put(key, result);
+		Iterator<Key> eldest = results.keySet().iterator();
+		while (results.size() > size) {
+			eldest.next();
+			eldest.remove();
+		}
+	}
+}
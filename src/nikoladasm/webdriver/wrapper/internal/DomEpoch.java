@@ -0,0 +1,127 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper.internal;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/*
+ * Counts the commands of a driver that may have changed the page: anything
+ * read from the page before the epoch last advanced may be stale. Commands
+ * are judged by scope and name only (but see CachedScripts), so changes the
+ * page makes on its own (timers, pushed content) do not advance it.
+ */
+public final class DomEpoch {
+
+	private static final AtomicLongFieldUpdater<DomEpoch> EPOCH =
+		AtomicLongFieldUpdater.newUpdater(DomEpoch.class, "epoch");
+	
+	private final CacheCounters elementReads;
+	private final LocatorCaching locators;
+	private final ScriptCaching scripts;
+	private volatile long epoch;
+	
+	public DomEpoch(CacheCounters elementReads, LocatorCaching locators, ScriptCaching scripts) {
+		this.elementReads = elementReads;
+		this.locators = locators;
+		this.scripts = scripts;
+	}
+	
+	public long current() {
+		return epoch;
+	}
+	
+	public void advance() {
+		EPOCH.incrementAndGet(this);
+	}
+	
+	public CacheCounters elementReads() {
+		return elementReads;
+	}
+	
+	public LocatorCaching locators() {
+		return locators;
+	}
+	
+	public ScriptCaching scripts() {
+		return scripts;
+	}
+	
+	/*
+	 * Whether the method of scope may change the page: interacting with
+	 * elements or input devices, navigating, running scripts, switching
+	 * windows, frames or alerts, and resizing or moving the window.
+	 */
+	public static boolean mutates(Scope scope, String name) {
+		switch (scope) {
+			case DRIVER:
+				return "get".equals(name) ||
+					"executeScript".equals(name) ||
+					"executeAsyncScript".equals(name) ||
+					"close".equals(name);
+			case ELEMENT:
+				return "click".equals(name) ||
+					"sendKeys".equals(name) ||
+					"submit".equals(name) ||
+					"clear".equals(name);
+			case TARGET_LOCATOR:
+				return "frame".equals(name) ||
+					"parentFrame".equals(name) ||
+					"window".equals(name) ||
+					"defaultContent".equals(name);
+			case NAVIGATION:
+				return "back".equals(name) ||
+					"forward".equals(name) ||
+					"to".equals(name) ||
+					"refresh".equals(name);
+			case ALERT:
+				return "accept".equals(name) ||
+					"dismiss".equals(name) ||
+					"sendKeys".equals(name) ||
+					"setCredentials".equals(name) ||
+					"authenticateUsing".equals(name);
+			case WINDOW:
+				return "setSize".equals(name) ||
+					"setPosition".equals(name) ||
+					"maximize".equals(name) ||
+					"fullscreen".equals(name);
+			case KEYBOARD:
+				return "sendKeys".equals(name) ||
+					"pressKey".equals(name) ||
+					"releaseKey".equals(name);
+			case MOUSE:
+				return "click".equals(name) ||
+					"doubleClick".equals(name) ||
+					"contextClick".equals(name) ||
+					"mouseDown".equals(name) ||
+					"mouseUp".equals(name) ||
+					"mouseMove".equals(name);
+			case TOUCH_SCREEN:
+				return "singleTap".equals(name) ||
+					"doubleTap".equals(name) ||
+					"longPress".equals(name) ||
+					"down".equals(name) ||
+					"up".equals(name) ||
+					"move".equals(name) ||
+					"scroll".equals(name) ||
+					"flick".equals(name);
+			default:
+				return false;
+		}
+	}
+}
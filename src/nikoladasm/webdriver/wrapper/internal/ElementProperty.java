@@ -0,0 +1,76 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper.internal;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebElement;
+
+/*
+ * A property of an element that can be read in bulk (see BulkReads), with
+ * the getter whose after listeners are fired for it.
+ */
+public enum ElementProperty {
+	TEXT("getText"),
+	ATTRIBUTE("getAttribute", String.class),
+	CSS_VALUE("getCssValue", String.class),
+	RECT("getRect"),
+	DISPLAYED("isDisplayed"),
+	ENABLED("isEnabled"),
+	SELECTED("isSelected");
+	
+	private final Method getter;
+	
+	private ElementProperty(String getter, Class<?>... parameterTypes) {
+		try {
+			this.getter = WebElement.class.getMethod(getter, parameterTypes);
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	Method getter() {
+		return getter;
+	}
+	
+	/*
+	 * Whether the property needs a name (of an attribute or CSS property).
+	 */
+	public boolean named() {
+		return getter.getParameterCount() > 0;
+	}
+	
+	/*
+	 * Turns what the script returned for the property into what its getter
+	 * returns.
+	 */
+	Object value(Object value) {
+		if (this == RECT) {
+			List<?> rect = (List<?>) value;
+			return new Rectangle(
+				((Number) rect.get(0)).intValue(),
+				((Number) rect.get(1)).intValue(),
+				((Number) rect.get(3)).intValue(),
+				((Number) rect.get(2)).intValue());
+		}
+		return value;
+	}
+}
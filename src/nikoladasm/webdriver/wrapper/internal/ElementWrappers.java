@@ -0,0 +1,71 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper.internal;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.openqa.selenium.WebElement;
+
+/*
+ * Per driver cache of element wrappers, so that the same underlying element
+ * is always represented by the same wrapper. Wrappers are only weakly
+ * reachable from the cache; the entry of a collected wrapper is dropped on
+ * the next access, which also releases the underlying element.
+ */
+public final class ElementWrappers {
+
+	private static class WrapperReference extends WeakReference<WebElement> {
+		
+		private final WebElement element;
+		
+		public WrapperReference(WebElement element, WebElement wrapper, ReferenceQueue<WebElement> queue) {
+			super(wrapper, queue);
+			this.element = element;
+		}
+	}
+	
+	private final Map<WebElement, WrapperReference> wrappers = new IdentityHashMap<>();
+	private final ReferenceQueue<WebElement> queue = new ReferenceQueue<>();
+	
+	public synchronized WebElement get(WebElement element, Function<WebElement, WebElement> wrap) {
+		expunge();
+		WrapperReference reference = wrappers.get(element);
+		WebElement wrapper = reference != null ? reference.get() : null;
+		if (wrapper == null) {
+			wrapper = wrap.apply(element);
+			wrappers.put(element, new WrapperReference(element, wrapper, queue));
+		}
+		return wrapper;
+	}
+	
+	public synchronized int size() {
+		expunge();
+		return wrappers.size();
+	}
+	
+	private void expunge() {
+		WrapperReference reference;
+		while ((reference = (WrapperReference) queue.poll()) != null)
+			wrappers.remove(reference.element, reference);
+	}
+}
@@ -0,0 +1,274 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper.internal;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.openqa.selenium.WebDriver;
+
+import nikoladasm.webdriver.wrapper.AsyncDispatcher.OverflowPolicy;
+import nikoladasm.webdriver.wrapper.listeners.WebDriverEventListener;
+
+/*
+ * Bounded ring of preallocated events drained by a single consumer thread.
+ * Publishing copies the call into the next free slot under a lock, so that
+ * dropping the oldest event can not race with the consumer; the consumer
+ * copies a slot out under the same lock and fires it after releasing it.
+ * Neither side allocates per event. Listeners throwing an exception are
+ * counted; an error thrown by one ends the consumer thread, which closes the
+ * ring and drops the events still waiting in it.
+ */
+public final class EventRing {
+
+	private static final class Event {
+		
+		WebDriverEventListener<?>[] listeners;
+		WebDriver driver;
+		Object element;
+		Object proxy;
+		Method method;
+		Object[] args;
+		Object value;
+		long invocationId;
+		long elapsedNanos;
+		
+		void copy(Event event) {
+			listeners = event.listeners;
+			driver = event.driver;
+			element = event.element;
+			proxy = event.proxy;
+			method = event.method;
+			args = event.args;
+			value = event.value;
+			invocationId = event.invocationId;
+			elapsedNanos = event.elapsedNanos;
+		}
+		
+		void clear() {
+			listeners = null;
+			driver = null;
+			element = null;
+			proxy = null;
+			method = null;
+			args = null;
+			value = null;
+		}
+	}
+	
+	private final Event[] events;
+	private final int mask;
+	private final OverflowPolicy policy;
+	private final int sampleInterval;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition notEmpty = lock.newCondition();
+	private final Condition notFull = lock.newCondition();
+	private final Condition idle = lock.newCondition();
+	private final Thread consumer;
+	private long head;
+	private long tail;
+	private long overflows;
+	private long dropped;
+	private volatile long failed;
+	private boolean busy;
+	private boolean closed;
+	
+	public EventRing(int capacity, OverflowPolicy policy, int sampleInterval) {
+		events = new Event[capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1];
+		for (int index = 0; index < events.length; index++)
+			events[index] = new Event();
+		this.mask = events.length - 1;
+		this.policy = policy;
+		this.sampleInterval = Math.max(1, sampleInterval);
+		consumer = new Thread(this::consume, "webdriver-wrapper-events");
+		consumer.setDaemon(true);
+		consumer.start();
+	}
+	
+	/*
+	 * Returns false once the ring is closed; the caller fires the listeners
+	 * itself then.
+	 */
+	public boolean publish(
+			WebDriverEventListener<?>[] listeners,
+			WebDriver driver,
+			Object element,
+			Object proxy,
+			Method method,
+			Object[] args,
+			Object value,
+			long invocationId,
+			long elapsedNanos) {
+		lock.lock();
+		try {
+			if (closed)
+				return false;
+			boolean sampled = false;
+			while (head - tail == events.length) {
+				if (closed)
+					return false;
+				switch (policy) {
+					case DROP_NEW:
+						dropped++;
+						return true;
+					case DROP_OLDEST:
+						events[(int) tail & mask].clear();
+						tail++;
+						dropped++;
+						break;
+					case SAMPLE:
+						if (!sampled && ++overflows % sampleInterval != 0) {
+							dropped++;
+							return true;
+						}
+						sampled = true;
+						notFull.awaitUninterruptibly();
+						break;
+					default:
+						notFull.awaitUninterruptibly();
+				}
+			}
+			Event event = events[(int) head & mask];
+			event.listeners = listeners;
+			event.driver = driver;
+			event.element = element;
+			event.proxy = proxy;
+			event.method = method;
+			event.args = args;
+			event.value = value;
+			event.invocationId = invocationId;
+			event.elapsedNanos = elapsedNanos;
+			head++;
+			notEmpty.signal();
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	public long dropped() {
+		lock.lock();
+		try {
+			return dropped;
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	public long failed() {
+		return failed;
+	}
+	
+	public void flush() {
+		if (Thread.currentThread() == consumer)
+			throw new IllegalStateException("Flush on the dispatcher thread");
+		lock.lock();
+		try {
+			while (head != tail || busy)
+				idle.awaitUninterruptibly();
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	public void close() {
+		lock.lock();
+		try {
+			closed = true;
+			notEmpty.signal();
+		} finally {
+			lock.unlock();
+		}
+		if (Thread.currentThread() == consumer)
+			return;
+		boolean interrupted = false;
+		while (consumer.isAlive()) {
+			try {
+				consumer.join();
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted)
+			Thread.currentThread().interrupt();
+	}
+	
+	private void consume() {
+		try {
+			drain();
+		} finally {
+			stopped();
+		}
+	}
+	
+	private void drain() {
+		Event event = new Event();
+		while (true) {
+			lock.lock();
+			try {
+				busy = false;
+				while (head == tail) {
+					idle.signalAll();
+					if (closed)
+						return;
+					notEmpty.awaitUninterruptibly();
+				}
+				busy = true;
+				Event slot = events[(int) tail & mask];
+				event.copy(slot);
+				slot.clear();
+				tail++;
+				notFull.signal();
+			} finally {
+				lock.unlock();
+			}
+			fire(event);
+			event.clear();
+		}
+	}
+	
+	@SuppressWarnings("unchecked")
+	private void fire(Event event) {
+		for (WebDriverEventListener<?> listener : event.listeners) {
+			try {
+				((WebDriverEventListener<Object>) listener).invoke(event.driver, event.element, event.proxy, event.method,
+					event.args, event.value, event.invocationId, event.elapsedNanos);
+			} catch (Exception e) {
+				failed++;
+			}
+		}
+	}
+	
+	private void stopped() {
+		lock.lock();
+		try {
+			closed = true;
+			busy = false;
+			for (; tail != head; tail++) {
+				events[(int) tail & mask].clear();
+				dropped++;
+			}
+			idle.signalAll();
+			notFull.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+}
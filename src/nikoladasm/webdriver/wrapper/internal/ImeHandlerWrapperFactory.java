@@ -18,19 +18,22 @@
 
 package nikoladasm.webdriver.wrapper.internal;
 
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.InvocationTargetException;
+import static nikoladasm.webdriver.wrapper.internal.WrapperGenerator.wrapperConstructor;
+import static nikoladasm.webdriver.wrapper.internal.MethodDescriptor.Kind.*;
+import static nikoladasm.webdriver.wrapper.internal.MethodDescriptor.Result.*;
+import static nikoladasm.webdriver.wrapper.internal.Scope.IME_HANDLER;
+
 import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
 
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriver.ImeHandler;
 
-import nikoladasm.webdriver.wrapper.listeners.WebDriverEventListener;
-
 public final class ImeHandlerWrapperFactory {
 
-	private static class InvocationHandlerImpl implements InvocationHandler {
+	private static final MethodDescriptors descriptors = new MethodDescriptors(ImeHandlerWrapperFactory::describe);
+	private static final WrapperConstructor constructor = wrapperConstructor(ImeHandler.class, WrapsImeHandler.class);
+	
+	private static class InvocationHandlerImpl extends ListenableInvocationHandler {
 
 		private final ImeHandler imeHandler;
 		private final WebDriver driver;
@@ -40,43 +43,44 @@ public final class ImeHandlerWrapperFactory {
 				ImeHandler imeHandler,
 				WebDriver driver,
 				Listeners listeners) {
+			super(descriptors);
 			this.imeHandler = imeHandler;
 			this.driver = driver;
 			this.listeners = listeners;
 		}
 		
 		@Override
-		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-			String methodName = method.getName();
-			if ("getWrappedImeHandler".equals(methodName))
+		protected Object invoke(Object proxy, MethodDescriptor descriptor, Object[] args) throws Throwable {
+			if (descriptor.kind() == GET_WRAPPED)
 				return imeHandler;
-			Class<?>[] parameterTypes = method.getParameterTypes();
-			WebDriverEventListener<ImeHandler> listener;
-			if ((listener = listeners.getBeforeListener(methodName)) != null && listener.isApplicable(proxy, parameterTypes))
-				listener.invoke(driver, imeHandler, proxy, method, args, null);
+			long invocation = listeners.invocationId(descriptor);
+			long start = invocation != 0 ? System.nanoTime() : 0;
+			listeners.<ImeHandler>fireBefore(proxy, descriptor, driver, imeHandler, args, invocation, start);
 			Object result;
 			try {
-				result = method.invoke(imeHandler, args);
-			} catch (InvocationTargetException e) {
-				Throwable t = e.getTargetException();
-				if (listeners.getExeptionListener() != null)
-					listeners.getExeptionListener().invoke(driver, imeHandler, proxy, method, args, t);
+				result = InterceptedInvocation.invoke(listeners, descriptor, driver, imeHandler, proxy, args);
+			} catch (Throwable t) {
+				long elapsed = invocation != 0 ? System.nanoTime() - start : 0;
+				listeners.<ImeHandler>fireException(proxy, descriptor, driver, imeHandler, args, t, invocation, start, elapsed);
 				throw t;
 			}
-			if ((listener = listeners.getAfterListener(methodName)) != null && listener.isApplicable(proxy, parameterTypes))
-				listener.invoke(driver, imeHandler, proxy, method, args, result);
+			long elapsed = invocation != 0 ? System.nanoTime() - start : 0;
+			listeners.<ImeHandler>fireAfter(proxy, descriptor, driver, imeHandler, args, result, invocation, start, elapsed);
 			return result;
 		}
 	}
 	
+	private static MethodDescriptor describe(Method method, MethodInvoker invoker) {
+		if ("getWrappedImeHandler".equals(method.getName()))
+			return new MethodDescriptor(IME_HANDLER, method, invoker, GET_WRAPPED, AS_IS);
+		return new MethodDescriptor(IME_HANDLER, method, invoker, DELEGATE, AS_IS);
+	}
+	
 	public static ImeHandler wrapImeHandler(
 			ImeHandler imeHandler,
 			WebDriver driver,
 			Listeners listeners) {
-		return (ImeHandler) Proxy.newProxyInstance(
-			ImeHandlerWrapperFactory.class.getClassLoader(),
-			new Class<?>[]{ImeHandler.class, WrapsImeHandler.class},
-			new InvocationHandlerImpl(imeHandler, driver, listeners));
+		return (ImeHandler) constructor.newInstance(new InvocationHandlerImpl(imeHandler, driver, listeners));
 	}
 	
 	private ImeHandlerWrapperFactory() {}
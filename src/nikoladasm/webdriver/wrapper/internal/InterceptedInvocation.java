@@ -0,0 +1,136 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper.internal;
+
+import java.lang.reflect.Method;
+
+import org.openqa.selenium.WebDriver;
+
+import nikoladasm.webdriver.wrapper.Interceptor;
+import nikoladasm.webdriver.wrapper.Invocation;
+
+/*
+ * The invocation handed to the interceptor at index of a chain. Proceeding
+ * creates the invocation for the next one, so a chain can be proceeded
+ * through more than once.
+ */
+public final class InterceptedInvocation implements Invocation {
+
+	private final Interceptor[] interceptors;
+	private final int index;
+	private final MethodDescriptor descriptor;
+	private final WebDriver driver;
+	private final Object target;
+	private final Object wrapper;
+	private final Object[] arguments;
+	
+	private InterceptedInvocation(
+			Interceptor[] interceptors,
+			int index,
+			MethodDescriptor descriptor,
+			WebDriver driver,
+			Object target,
+			Object wrapper,
+			Object[] arguments) {
+		this.interceptors = interceptors;
+		this.index = index;
+		this.descriptor = descriptor;
+		this.driver = driver;
+		this.target = target;
+		this.wrapper = wrapper;
+		this.arguments = arguments;
+	}
+	
+	/*
+	 * Calls the method of the descriptor on target through the interceptors
+	 * registered for it; without interceptors this is a plain call. A
+	 * mutating call advances the DOM epoch once it is over, whether it
+	 * succeeded or not.
+	 */
+	public static Object invoke(
+			Listeners listeners,
+			MethodDescriptor descriptor,
+			WebDriver driver,
+			Object target,
+			Object wrapper,
+			Object[] arguments) throws Throwable {
+		if (!descriptor.mutating() || listeners.epoch() == null)
+			return invokeReadOnly(listeners, descriptor, driver, target, wrapper, arguments);
+		try {
+			return invokeReadOnly(listeners, descriptor, driver, target, wrapper, arguments);
+		} finally {
+			listeners.advanceEpoch();
+		}
+	}
+	
+	/*
+	 * Like invoke, for a call known not to change the page even though its
+	 * method may.
+	 */
+	public static Object invokeReadOnly(
+			Listeners listeners,
+			MethodDescriptor descriptor,
+			WebDriver driver,
+			Object target,
+			Object wrapper,
+			Object[] arguments) throws Throwable {
+		Interceptor[] interceptors = listeners.getInterceptors(descriptor);
+		if (interceptors.length == 0)
+			return descriptor.invoker().invoke(target, arguments);
+		return interceptors[0].intercept(new InterceptedInvocation(interceptors, 0, descriptor, driver, target, wrapper, arguments));
+	}
+	
+	@Override
+	public WebDriver driver() {
+		return driver;
+	}
+	
+	@Override
+	public Object target() {
+		return target;
+	}
+	
+	@Override
+	public Object wrapper() {
+		return wrapper;
+	}
+	
+	@Override
+	public Method method() {
+		return descriptor.method();
+	}
+	
+	@Override
+	public Object[] arguments() {
+		return arguments;
+	}
+	
+	@Override
+	public Object proceed() throws Throwable {
+		return proceed(arguments);
+	}
+	
+	@Override
+	public Object proceed(Object[] arguments) throws Throwable {
+		int next = index + 1;
+		if (next == interceptors.length)
+			return descriptor.invoker().invoke(target, arguments);
+		return interceptors[next].intercept(new InterceptedInvocation(interceptors, next, descriptor, driver, target, wrapper, arguments));
+	}
+}
@@ -18,19 +18,22 @@
 
 package nikoladasm.webdriver.wrapper.internal;
 
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.InvocationTargetException;
+import static nikoladasm.webdriver.wrapper.internal.WrapperGenerator.wrapperConstructor;
+import static nikoladasm.webdriver.wrapper.internal.MethodDescriptor.Kind.*;
+import static nikoladasm.webdriver.wrapper.internal.MethodDescriptor.Result.*;
+import static nikoladasm.webdriver.wrapper.internal.Scope.KEYBOARD;
+
 import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
 
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.interactions.Keyboard;
 
-import nikoladasm.webdriver.wrapper.listeners.WebDriverEventListener;
-
 public final class KeyboardWrapperFactory {
 
-	private static class InvocationHandlerImpl implements InvocationHandler {
+	private static final MethodDescriptors descriptors = new MethodDescriptors(KeyboardWrapperFactory::describe);
+	private static final WrapperConstructor constructor = wrapperConstructor(Keyboard.class, WrapsKeyboard.class);
+	
+	private static class InvocationHandlerImpl extends ListenableInvocationHandler {
 
 		private final Keyboard keyboard;
 		private final WebDriver driver;
@@ -40,43 +43,44 @@ public final class KeyboardWrapperFactory {
 				Keyboard keyboard,
 				WebDriver driver,
 				Listeners listeners) {
+			super(descriptors);
 			this.keyboard = keyboard;
 			this.driver = driver;
 			this.listeners = listeners;
 		}
 		
 		@Override
-		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-			String methodName = method.getName();
-			if ("getWrappedKeyboard".equals(methodName))
+		protected Object invoke(Object proxy, MethodDescriptor descriptor, Object[] args) throws Throwable {
+			if (descriptor.kind() == GET_WRAPPED)
 				return keyboard;
-			Class<?>[] parameterTypes = method.getParameterTypes();
-			WebDriverEventListener<Keyboard> listener;
-			if ((listener = listeners.getBeforeListener(methodName)) != null && listener.isApplicable(proxy, parameterTypes))
-				listener.invoke(driver, keyboard, proxy, method, args, null);
+			long invocation = listeners.invocationId(descriptor);
+			long start = invocation != 0 ? System.nanoTime() : 0;
+			listeners.<Keyboard>fireBefore(proxy, descriptor, driver, keyboard, args, invocation, start);
 			Object result;
 			try {
-				result = method.invoke(keyboard, args);
-			} catch (InvocationTargetException e) {
-				Throwable t = e.getTargetException();
-				if (listeners.getExeptionListener() != null)
-					listeners.getExeptionListener().invoke(driver, keyboard, proxy, method, args, t);
+				result = InterceptedInvocation.invoke(listeners, descriptor, driver, keyboard, proxy, args);
+			} catch (Throwable t) {
+				long elapsed = invocation != 0 ? System.nanoTime() - start : 0;
+				listeners.<Keyboard>fireException(proxy, descriptor, driver, keyboard, args, t, invocation, start, elapsed);
 				throw t;
 			}
-			if ((listener = listeners.getAfterListener(methodName)) != null && listener.isApplicable(proxy, parameterTypes))
-				listener.invoke(driver, keyboard, proxy, method, args, result);
+			long elapsed = invocation != 0 ? System.nanoTime() - start : 0;
+			listeners.<Keyboard>fireAfter(proxy, descriptor, driver, keyboard, args, result, invocation, start, elapsed);
 			return result;
 		}
 	}
 	
+	private static MethodDescriptor describe(Method method, MethodInvoker invoker) {
+		if ("getWrappedKeyboard".equals(method.getName()))
+			return new MethodDescriptor(KEYBOARD, method, invoker, GET_WRAPPED, AS_IS);
+		return new MethodDescriptor(KEYBOARD, method, invoker, DELEGATE, AS_IS);
+	}
+	
 	public static Keyboard wrapKeyboard(
 			Keyboard keyboard,
 			WebDriver driver,
 			Listeners listeners) {
-		return (Keyboard) Proxy.newProxyInstance(
-			KeyboardWrapperFactory.class.getClassLoader(),
-			new Class<?>[]{Keyboard.class, WrapsKeyboard.class},
-			new InvocationHandlerImpl(keyboard, driver, listeners));
+		return (Keyboard) constructor.newInstance(new InvocationHandlerImpl(keyboard, driver, listeners));
 	}
 	
 	private KeyboardWrapperFactory() {}
@@ -0,0 +1,87 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper.internal;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+/*
+ * Result list of a wrapped findElements or executeScript: an item is wrapped
+ * when it is first read and then kept, so size() and isEmpty() never wrap
+ * anything and large result lists only pay for the items that are used.
+ * Items set or added later are kept as they are.
+ */
+public final class LazyList<T> extends AbstractList<T> implements RandomAccess {
+
+	private static final Object UNWRAPPED = new Object();
+	
+	private final List<T> items;
+	private final List<Object> wrappedItems;
+	private final Function<? super T, ? extends T> wrap;
+	
+	public LazyList(List<? extends T> items, Function<? super T, ? extends T> wrap) {
+		this.items = new ArrayList<>(items);
+		this.wrappedItems = new ArrayList<>(Collections.nCopies(items.size(), UNWRAPPED));
+		this.wrap = wrap;
+	}
+	
+	@SuppressWarnings("unchecked")
+	@Override
+	public T get(int index) {
+		Object wrappedItem = wrappedItems.get(index);
+		if (wrappedItem == UNWRAPPED) {
+			wrappedItem = wrap.apply(items.get(index));
+			wrappedItems.set(index, wrappedItem);
+		}
+		return (T) wrappedItem;
+	}
+	
+	@Override
+	public int size() {
+		return items.size();
+	}
+	
+	@Override
+	public T set(int index, T item) {
+		T previous = get(index);
+		items.set(index, item);
+		wrappedItems.set(index, item);
+		return previous;
+	}
+	
+	@Override
+	public void add(int index, T item) {
+		items.add(index, item);
+		wrappedItems.add(index, item);
+		modCount++;
+	}
+	
+	@Override
+	public T remove(int index) {
+		T previous = get(index);
+		items.remove(index);
+		wrappedItems.remove(index);
+		modCount++;
+		return previous;
+	}
+}
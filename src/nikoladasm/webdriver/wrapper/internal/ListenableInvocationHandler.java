@@ -0,0 +1,71 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper.internal;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+
+public abstract class ListenableInvocationHandler implements InvocationHandler {
+
+	private final MethodDescriptors descriptors;
+	/*
+	 * A handler serves a single wrapper instance, so its wrapper class never
+	 * changes and the descriptor table can be looked up once. Racing threads
+	 * can only ever store the same table.
+	 */
+	private MethodDescriptors.Table table;
+	
+	protected ListenableInvocationHandler(MethodDescriptors descriptors) {
+		this.descriptors = descriptors;
+	}
+	
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		return invoke(proxy, table(proxy).get(method, null), args);
+	}
+	
+	public final Object dispatch(Object proxy, int index, Method method, MethodInvoker invoker, Object[] args) {
+		MethodDescriptor descriptor = table(proxy).get(index, method, invoker);
+		try {
+			return invoke(proxy, descriptor, args);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable t) {
+			for (Class<?> exceptionType : descriptor.exceptionTypes())
+				if (exceptionType.isInstance(t))
+					throw ListenableInvocationHandler.<RuntimeException>sneakyThrow(t);
+			throw new UndeclaredThrowableException(t);
+		}
+	}
+	
+	private MethodDescriptors.Table table(Object proxy) {
+		MethodDescriptors.Table table = this.table;
+		if (table == null)
+			this.table = table = descriptors.table(proxy.getClass());
+		return table;
+	}
+	
+	protected abstract Object invoke(Object proxy, MethodDescriptor descriptor, Object[] args) throws Throwable;
+	
+	@SuppressWarnings("unchecked")
+	private static <T extends Throwable> T sneakyThrow(Throwable t) throws T {
+		throw (T) t;
+	}
+}
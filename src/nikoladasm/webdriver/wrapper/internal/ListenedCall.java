@@ -0,0 +1,64 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper.internal;
+
+import org.openqa.selenium.WebDriver;
+
+/*
+ * A call of a wrapper's method that is answered some other way (see
+ * BulkReads and BatchFind) but fires the wrapper's listeners as if it had
+ * been made through it.
+ */
+public final class ListenedCall {
+
+	private final Object proxy;
+	private final MethodDescriptor descriptor;
+	private final Listeners listeners;
+	private final WebDriver driver;
+	private final Object target;
+	private final Object[] args;
+	private final long invocation;
+	private final long start;
+	
+	/*
+	 * target is the element of an element's call and null for a driver's.
+	 */
+	public ListenedCall(Object proxy, MethodDescriptor descriptor, Listeners listeners, WebDriver driver, Object target, Object[] args) {
+		this.proxy = proxy;
+		this.descriptor = descriptor;
+		this.listeners = listeners;
+		this.driver = driver;
+		this.target = target;
+		this.args = args;
+		this.invocation = listeners.invocationId(descriptor);
+		this.start = invocation != 0 ? System.nanoTime() : 0;
+	}
+	
+	public void before() {
+		listeners.fireBefore(proxy, descriptor, driver, target, args, invocation, start);
+	}
+	
+	public void after(Object result, long elapsedNanos) {
+		listeners.fireAfter(proxy, descriptor, driver, target, args, result, invocation, start, elapsedNanos);
+	}
+	
+	public void exception(Throwable throwable, long elapsedNanos) {
+		listeners.fireException(proxy, descriptor, driver, target, args, throwable, invocation, start, elapsedNanos);
+	}
+}
@@ -18,48 +18,684 @@
 
 package nikoladasm.webdriver.wrapper.internal;
 
-import java.util.HashMap;
-import java.util.Map;
+import static nikoladasm.webdriver.wrapper.EventListenerLocation.ON_EXCEPTION;
 
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import org.openqa.selenium.WebDriver;
+
+import nikoladasm.webdriver.wrapper.EventListenerLocation;
+import nikoladasm.webdriver.wrapper.Interceptor;
+import nikoladasm.webdriver.wrapper.ListenerSet;
+import nikoladasm.webdriver.wrapper.listeners.EventRecord.Phase;
+import nikoladasm.webdriver.wrapper.listeners.FirehoseListener;
 import nikoladasm.webdriver.wrapper.listeners.WebDriverEventListener;
 
+/*
+ * Listeners are published as an immutable snapshot through a single volatile
+ * reference: calls read it without locking, and every change builds a new
+ * snapshot and swaps it in with compare-and-set, so a call never sees a half
+ * applied change. Every location holds an array of listeners ordered by
+ * descending priority, listeners of equal priority in the order they were
+ * added.
+ *
+ * Interceptors are kept the same way, one array per method location in the
+ * order they were added; an interceptor for every call is added to the array
+ * of every location, as well as to the one of methods without a location.
+ *
+ * A composed instance (see compose) stacks the listeners of an outer
+ * registry on those of an inner one, firing them in the order two nested
+ * wrappers would: outer before inner ahead of a call, inner before outer
+ * after it and on exceptions. Changes are made to the outer registry. It
+ * caches reads with the DOM epoch of the outer registry, or of the inner one
+ * when only that one has an epoch. When the two registries dispatch events
+ * to different rings, after and exception events are fired by each registry
+ * in turn, inner first, so every listener stays on its own thread.
+ */
 public final class Listeners {
-	private final Map<String, WebDriverEventListener<?>> beforeListeners = new HashMap<>();
-	private final Map<String, WebDriverEventListener<?>> afterListeners = new HashMap<>();
-	private WebDriverEventListener<?> exeptionListener;
-
-	public void setBeforeListener(String methodName, WebDriverEventListener<?> eventListener) {
-		beforeListeners.put(methodName, eventListener);
+	
+	public static final int NO_SLOT = EventListenerLocation.count();
+	public static final WebDriverEventListener<?>[] NONE = new WebDriverEventListener<?>[0];
+	
+	private static final int[] NO_PRIORITIES = new int[0];
+	private static final Interceptor[] NO_INTERCEPTORS = new Interceptor[0];
+	private static final FirehoseListener[] NO_FIREHOSE = new FirehoseListener[0];
+	private static final boolean[] NOT_TIMED = new boolean[NO_SLOT + 1];
+	/*
+	 * Only listeners overriding the form of invoke that takes the invocation
+	 * id and the elapsed time get them, so calls only read the clock and
+	 * count while one of those (or a firehose listener) is registered.
+	 */
+	private static final ClassValue<Boolean> TIMED = new ClassValue<Boolean>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			try {
+				return type.getMethod("invoke", WebDriver.class, Object.class, Object.class, Method.class, Object[].class,
+					Object.class, long.class, long.class).getDeclaringClass() != WebDriverEventListener.class;
+			} catch (NoSuchMethodException e) {
+				return false;
+			}
+		}
+	};
+	private static final ThreadLocal<MutableEventRecord> RECORDS = ThreadLocal.withInitial(MutableEventRecord::new);
+	
+	private static final class Snapshot {
+		
+		static final Snapshot EMPTY = new Snapshot();
+		
+		final WebDriverEventListener<?>[][] listeners;
+		final int[][] priorities;
+		final Interceptor[][] interceptors;
+		FirehoseListener[] firehose = NO_FIREHOSE;
+		long observedScopes;
+		boolean[] timed = NOT_TIMED;
+		/*
+		 * The applicable before and after listeners of every descriptor seen,
+		 * filled in on first use; a snapshot is never changed once published,
+		 * so they stay valid as long as it does.
+		 */
+		final ConcurrentMap<MethodDescriptor, WebDriverEventListener<?>[][]> applicable = new ConcurrentHashMap<>();
+		
+		private Snapshot() {
+			listeners = new WebDriverEventListener<?>[NO_SLOT + 1][];
+			priorities = new int[NO_SLOT + 1][];
+			interceptors = new Interceptor[NO_SLOT + 1][];
+			Arrays.fill(listeners, NONE);
+			Arrays.fill(priorities, NO_PRIORITIES);
+			Arrays.fill(interceptors, NO_INTERCEPTORS);
+		}
+		
+		private Snapshot(Snapshot snapshot) {
+			this(snapshot, snapshot);
+		}
+		
+		private Snapshot(Snapshot listenersOf, Snapshot othersOf) {
+			listeners = listenersOf.listeners.clone();
+			priorities = listenersOf.priorities.clone();
+			interceptors = othersOf.interceptors.clone();
+			firehose = othersOf.firehose;
+			timed = listenersOf.timed;
+			observedScopes = listenersOf.observedScopes;
+		}
+		
+		Snapshot add(int slot, WebDriverEventListener<?> listener, int priority) {
+			WebDriverEventListener<?>[] slotListeners = listeners[slot];
+			int[] slotPriorities = priorities[slot];
+			int index = 0;
+			while (index < slotPriorities.length && slotPriorities[index] >= priority)
+				index++;
+			WebDriverEventListener<?>[] nextListeners = new WebDriverEventListener<?>[slotListeners.length + 1];
+			int[] nextPriorities = new int[slotPriorities.length + 1];
+			System.arraycopy(slotListeners, 0, nextListeners, 0, index);
+			System.arraycopy(slotPriorities, 0, nextPriorities, 0, index);
+			nextListeners[index] = listener;
+			nextPriorities[index] = priority;
+			System.arraycopy(slotListeners, index, nextListeners, index + 1, slotListeners.length - index);
+			System.arraycopy(slotPriorities, index, nextPriorities, index + 1, slotPriorities.length - index);
+			listeners[slot] = nextListeners;
+			priorities[slot] = nextPriorities;
+			return this;
+		}
+		
+		Snapshot remove(int slot, WebDriverEventListener<?> listener) {
+			WebDriverEventListener<?>[] slotListeners = listeners[slot];
+			int[] slotPriorities = priorities[slot];
+			int count = 0;
+			for (WebDriverEventListener<?> slotListener : slotListeners)
+				if (slotListener != listener)
+					count++;
+			if (count == 0)
+				return clear(slot);
+			WebDriverEventListener<?>[] nextListeners = new WebDriverEventListener<?>[count];
+			int[] nextPriorities = new int[count];
+			int next = 0;
+			for (int index = 0; index < slotListeners.length; index++) {
+				if (slotListeners[index] == listener)
+					continue;
+				nextListeners[next] = slotListeners[index];
+				nextPriorities[next++] = slotPriorities[index];
+			}
+			listeners[slot] = nextListeners;
+			priorities[slot] = nextPriorities;
+			return this;
+		}
+		
+		Snapshot clear(int slot) {
+			listeners[slot] = NONE;
+			priorities[slot] = NO_PRIORITIES;
+			return this;
+		}
+		
+		Snapshot intercept(int slot, Interceptor interceptor) {
+			Interceptor[] slotInterceptors = interceptors[slot];
+			Interceptor[] nextInterceptors = Arrays.copyOf(slotInterceptors, slotInterceptors.length + 1);
+			nextInterceptors[slotInterceptors.length] = interceptor;
+			interceptors[slot] = nextInterceptors;
+			return this;
+		}
+		
+		Snapshot unintercept(Interceptor interceptor) {
+			for (int slot = 0; slot <= NO_SLOT; slot++) {
+				Interceptor[] slotInterceptors = interceptors[slot];
+				int count = 0;
+				for (Interceptor slotInterceptor : slotInterceptors)
+					if (slotInterceptor != interceptor)
+						count++;
+				if (count == slotInterceptors.length)
+					continue;
+				Interceptor[] nextInterceptors = count == 0 ? NO_INTERCEPTORS : new Interceptor[count];
+				int next = 0;
+				for (Interceptor slotInterceptor : slotInterceptors)
+					if (slotInterceptor != interceptor)
+						nextInterceptors[next++] = slotInterceptor;
+				interceptors[slot] = nextInterceptors;
+			}
+			return this;
+		}
+		
+		Snapshot addFirehose(FirehoseListener listener) {
+			firehose = Arrays.copyOf(firehose, firehose.length + 1);
+			firehose[firehose.length - 1] = listener;
+			return this;
+		}
+		
+		Snapshot removeFirehose(FirehoseListener listener) {
+			firehose = Arrays.stream(firehose)
+				.filter(firehoseListener -> firehoseListener != listener)
+				.toArray(FirehoseListener[]::new);
+			if (firehose.length == 0)
+				firehose = NO_FIREHOSE;
+			return this;
+		}
+		
+		WebDriverEventListener<?>[][] applicable(MethodDescriptor descriptor, Object proxy) {
+			WebDriverEventListener<?>[][] slots = applicable.get(descriptor);
+			if (slots != null)
+				return slots;
+			slots = new WebDriverEventListener<?>[][]{
+				descriptor.applicable(listeners[descriptor.beforeSlot()], proxy),
+				descriptor.applicable(listeners[descriptor.afterSlot()], proxy)
+			};
+			WebDriverEventListener<?>[][] previous = applicable.putIfAbsent(descriptor, slots);
+			return previous != null ? previous : slots;
+		}
+		
+		Snapshot merge(Snapshot outer, Snapshot inner) {
+			for (int slot = 0; slot < NO_SLOT; slot++) {
+				Snapshot first = BEFORE[slot] ? outer : inner;
+				Snapshot second = BEFORE[slot] ? inner : outer;
+				listeners[slot] = concat(first.listeners[slot], second.listeners[slot]);
+				priorities[slot] = concat(first.priorities[slot], second.priorities[slot]);
+			}
+			for (int slot = 0; slot <= NO_SLOT; slot++)
+				interceptors[slot] = concat(outer.interceptors[slot], inner.interceptors[slot]);
+			firehose = concat(outer.firehose, inner.firehose);
+			observedScopes = outer.observedScopes | inner.observedScopes;
+			return time();
+		}
+		
+		Snapshot observe() {
+			observedScopes = interceptors[NO_SLOT].length > 0 || firehose.length > 0 ? -1L : 0;
+			for (int slot = 0; slot < NO_SLOT; slot++)
+				if (listeners[slot].length > 0 || interceptors[slot].length > 0)
+					observedScopes |= SCOPES[slot];
+			return time();
+		}
+		
+		Snapshot time() {
+			timed = new boolean[NO_SLOT + 1];
+			for (int slot = 0; slot < NO_SLOT; slot++)
+				for (WebDriverEventListener<?> listener : listeners[slot])
+					timed[slot] |= TIMED.get(listener.getClass());
+			return this;
+		}
 	}
 	
-	@SuppressWarnings("unchecked")
-	public <T> WebDriverEventListener<T> getBeforeListener(String methodName) {
-		return (WebDriverEventListener<T>) beforeListeners.get(methodName);
+	private static final class Composition {
+		
+		final Snapshot outer;
+		final Snapshot inner;
+		final Snapshot merged;
+		
+		Composition(Snapshot outer, Snapshot inner) {
+			this.outer = outer;
+			this.inner = inner;
+			this.merged = new Snapshot(Snapshot.EMPTY).merge(outer, inner);
+		}
+	}
+	
+	private static final long[] SCOPES = new long[NO_SLOT];
+	private static final boolean[] BEFORE = new boolean[NO_SLOT];
+	private static final int[] AROUND = new int[NO_SLOT];
+	
+	static {
+		for (EventListenerLocation<?> location : EventListenerLocation.values()) {
+			SCOPES[location.ordinal()] = Locations.scopes(location);
+			BEFORE[location.ordinal()] = location.timeClause() == TimeClause.BEFORE;
+			AROUND[location.ordinal()] = location.ordinal();
+			if (location.timeClause() == TimeClause.AFTER)
+				for (Scope scope : Scope.values()) {
+					if ((SCOPES[location.ordinal()] & scope.mask()) == 0)
+						continue;
+					EventListenerLocation<?> before = Locations.locate(scope, TimeClause.BEFORE, location.name());
+					if (before != null)
+						AROUND[location.ordinal()] = before.ordinal();
+				}
+		}
+	}
+	
+	private static WebDriverEventListener<?>[] concat(WebDriverEventListener<?>[] first, WebDriverEventListener<?>[] second) {
+		if (second.length == 0)
+			return first;
+		if (first.length == 0)
+			return second;
+		WebDriverEventListener<?>[] result = Arrays.copyOf(first, first.length + second.length);
+		System.arraycopy(second, 0, result, first.length, second.length);
+		return result;
+	}
+	
+	private static Interceptor[] concat(Interceptor[] first, Interceptor[] second) {
+		if (second.length == 0)
+			return first;
+		if (first.length == 0)
+			return second;
+		Interceptor[] result = Arrays.copyOf(first, first.length + second.length);
+		System.arraycopy(second, 0, result, first.length, second.length);
+		return result;
+	}
+	
+	private static FirehoseListener[] concat(FirehoseListener[] first, FirehoseListener[] second) {
+		if (second.length == 0)
+			return first;
+		if (first.length == 0)
+			return second;
+		FirehoseListener[] result = Arrays.copyOf(first, first.length + second.length);
+		System.arraycopy(second, 0, result, first.length, second.length);
+		return result;
+	}
+	
+	private static int[] concat(int[] first, int[] second) {
+		if (second.length == 0)
+			return first;
+		if (first.length == 0)
+			return second;
+		int[] result = Arrays.copyOf(first, first.length + second.length);
+		System.arraycopy(second, 0, result, first.length, second.length);
+		return result;
+	}
+	
+	private static final AtomicReferenceFieldUpdater<Listeners, Snapshot> SNAPSHOT =
+		AtomicReferenceFieldUpdater.newUpdater(Listeners.class, Snapshot.class, "snapshot");
+	
+	private static final AtomicLongFieldUpdater<Listeners> INVOCATIONS =
+		AtomicLongFieldUpdater.newUpdater(Listeners.class, "invocations");
+	
+	private final boolean onDemand;
+	private final EventRing events;
+	private final DomEpoch epoch;
+	private final Listeners outer;
+	private final Listeners inner;
+	private final boolean split;
+	private volatile Snapshot snapshot = Snapshot.EMPTY;
+	private volatile Composition composition;
+	private volatile long invocations;
+	
+	public Listeners() {
+		this(false);
+	}
+	
+	/*
+	 * With onDemand set, sub-objects are only wrapped while a listener is
+	 * registered that can observe them (see shouldWrap).
+	 */
+	public Listeners(boolean onDemand) {
+		this(onDemand, null);
+	}
+	
+	/*
+	 * With events set, after and exception listeners are fired on the thread
+	 * draining it rather than on the calling one.
+	 */
+	public Listeners(boolean onDemand, EventRing events) {
+		this(onDemand, events, null);
+	}
+	
+	/*
+	 * With epoch set, reads are cached per DOM epoch; every sub-object is
+	 * then wrapped, so that each mutating command can advance it.
+	 */
+	public Listeners(boolean onDemand, EventRing events, DomEpoch epoch) {
+		this(onDemand && epoch == null, events, epoch, null, null);
+	}
+	
+	private Listeners(boolean onDemand, EventRing events, DomEpoch epoch, Listeners outer, Listeners inner) {
+		this.onDemand = onDemand;
+		this.events = events;
+		this.epoch = epoch;
+		this.outer = outer;
+		this.inner = inner;
+		this.split = outer != null && (outer.events != inner.events || outer.split || inner.split);
+	}
+	
+	public static Listeners compose(Listeners outer, Listeners inner) {
+		DomEpoch epoch = outer.epoch != null ? outer.epoch : inner.epoch;
+		return new Listeners(outer.onDemand && epoch == null, outer.events, epoch, outer, inner);
+	}
+	
+	public void setListener(EventListenerLocation<?> location, WebDriverEventListener<?> eventListener) {
+		if (outer != null) {
+			outer.setListener(location, eventListener);
+			return;
+		}
+		int slot = location.ordinal();
+		Snapshot current;
+		do {
+			current = snapshot;
+		} while (!SNAPSHOT.compareAndSet(this, current, new Snapshot(current).clear(slot).add(slot, eventListener, 0).observe()));
+	}
+	
+	public void addListener(EventListenerLocation<?> location, WebDriverEventListener<?> eventListener, int priority) {
+		if (outer != null) {
+			outer.addListener(location, eventListener, priority);
+			return;
+		}
+		int slot = location.ordinal();
+		Snapshot current;
+		do {
+			current = snapshot;
+		} while (!SNAPSHOT.compareAndSet(this, current, new Snapshot(current).add(slot, eventListener, priority).observe()));
+	}
+	
+	public void removeListener(EventListenerLocation<?> location) {
+		if (outer != null) {
+			outer.removeListener(location);
+			return;
+		}
+		int slot = location.ordinal();
+		Snapshot current;
+		do {
+			current = snapshot;
+		} while (!SNAPSHOT.compareAndSet(this, current, new Snapshot(current).clear(slot).observe()));
+	}
+	
+	public void removeListener(EventListenerLocation<?> location, WebDriverEventListener<?> eventListener) {
+		if (outer != null) {
+			outer.removeListener(location, eventListener);
+			return;
+		}
+		int slot = location.ordinal();
+		Snapshot current;
+		do {
+			current = snapshot;
+		} while (!SNAPSHOT.compareAndSet(this, current, new Snapshot(current).remove(slot, eventListener).observe()));
+	}
+	
+	public void replaceListeners(ListenerSet listeners) {
+		if (outer != null) {
+			outer.replaceListeners(listeners);
+			return;
+		}
+		Snapshot replacement = new Snapshot(Snapshot.EMPTY);
+		listeners.forEach((location, eventListener, priority) ->
+			replacement.add(location.ordinal(), (WebDriverEventListener<?>) eventListener, priority));
+		replacement.observe();
+		Snapshot current;
+		do {
+			current = snapshot;
+		} while (!SNAPSHOT.compareAndSet(this, current, new Snapshot(replacement, current).observe()));
+	}
+	
+	/*
+	 * Adds an interceptor for the method of location, or for every call when
+	 * location is null. Interceptors run in the order they were added.
+	 */
+	public void addInterceptor(EventListenerLocation<?> location, Interceptor interceptor) {
+		if (outer != null) {
+			outer.addInterceptor(location, interceptor);
+			return;
+		}
+		Snapshot current;
+		Snapshot next;
+		do {
+			current = snapshot;
+			next = new Snapshot(current);
+			if (location != null) {
+				next.intercept(AROUND[location.ordinal()], interceptor);
+			} else {
+				for (int slot = 0; slot <= NO_SLOT; slot++)
+					next.intercept(slot, interceptor);
+			}
+		} while (!SNAPSHOT.compareAndSet(this, current, next.observe()));
+	}
+	
+	public void removeInterceptor(Interceptor interceptor) {
+		if (outer != null) {
+			outer.removeInterceptor(interceptor);
+			return;
+		}
+		Snapshot current;
+		do {
+			current = snapshot;
+		} while (!SNAPSHOT.compareAndSet(this, current, new Snapshot(current).unintercept(interceptor).observe()));
+	}
+	
+	public void addFirehoseListener(FirehoseListener listener) {
+		if (outer != null) {
+			outer.addFirehoseListener(listener);
+			return;
+		}
+		Snapshot current;
+		do {
+			current = snapshot;
+		} while (!SNAPSHOT.compareAndSet(this, current, new Snapshot(current).addFirehose(listener).observe()));
+	}
+	
+	public void removeFirehoseListener(FirehoseListener listener) {
+		if (outer != null) {
+			outer.removeFirehoseListener(listener);
+			return;
+		}
+		Snapshot current;
+		do {
+			current = snapshot;
+		} while (!SNAPSHOT.compareAndSet(this, current, new Snapshot(current).removeFirehose(listener).observe()));
 	}
 	
-	public void removeBeforeListener(String methodName) {
-		beforeListeners.remove(methodName);
+	/*
+	 * The DOM epoch of the driver, or null when it does not cache reads.
+	 */
+	public DomEpoch epoch() {
+		return epoch;
 	}
 	
-	public void setAfterListener(String methodName, WebDriverEventListener<?> eventListener) {
-		afterListeners.put(methodName, eventListener);
+	/*
+	 * Advances the epoch of every driver sharing this registry, which are
+	 * two or more when wrappers were stacked.
+	 */
+	public void advanceEpoch() {
+		if (outer != null) {
+			outer.advanceEpoch();
+			inner.advanceEpoch();
+			return;
+		}
+		if (epoch != null)
+			epoch.advance();
+	}
+	
+	public boolean shouldWrap(Scope scope) {
+		return !onDemand || (snapshot().observedScopes & scope.reachableMask()) != 0;
 	}
 	
 	@SuppressWarnings("unchecked")
-	public <T> WebDriverEventListener<T> getAfterListener(String methodName) {
-		return (WebDriverEventListener<T>) afterListeners.get(methodName);
+	public <T> WebDriverEventListener<T>[] getListeners(int slot) {
+		return (WebDriverEventListener<T>[]) snapshot().listeners[slot];
 	}
 	
-	public void removeAfterListener(String methodName) {
-		afterListeners.remove(methodName);
+	private Snapshot snapshot() {
+		if (outer == null)
+			return snapshot;
+		Snapshot outerSnapshot = outer.snapshot();
+		Snapshot innerSnapshot = inner.snapshot();
+		Composition composition = this.composition;
+		if (composition == null || composition.outer != outerSnapshot || composition.inner != innerSnapshot)
+			this.composition = composition = new Composition(outerSnapshot, innerSnapshot);
+		return composition.merged;
 	}
 	
-	public void setExeptionListener(WebDriverEventListener<?> exeptionListener) {
-		this.exeptionListener = exeptionListener;
+	/*
+	 * Returns the id the before, after and exception events of a call share,
+	 * counted up per registry (and so per driver) from 1, or 0 when no
+	 * listener of the call takes it (see TIMED).
+	 */
+	public long invocationId(MethodDescriptor descriptor) {
+		if (!observes(snapshot(), descriptor))
+			return 0;
+		return nextInvocationId();
 	}
-
+	
+	private long nextInvocationId() {
+		if (outer != null)
+			return outer.nextInvocationId();
+		return INVOCATIONS.incrementAndGet(this);
+	}
+	
+	private static boolean observes(Snapshot snapshot, MethodDescriptor descriptor) {
+		boolean[] timed = snapshot.timed;
+		return timed[descriptor.beforeSlot()] ||
+			timed[descriptor.afterSlot()] ||
+			timed[ON_EXCEPTION.ordinal()] ||
+			snapshot.firehose.length != 0;
+	}
+	
+	public Interceptor[] getInterceptors(MethodDescriptor descriptor) {
+		return snapshot().interceptors[descriptor.interceptorSlot()];
+	}
+	
 	@SuppressWarnings("unchecked")
-	public <T> WebDriverEventListener<T> getExeptionListener() {
-		return (WebDriverEventListener<T>) exeptionListener;
+	public <T> WebDriverEventListener<T>[] getBeforeListeners(Object proxy, MethodDescriptor descriptor) {
+		Snapshot snapshot = snapshot();
+		WebDriverEventListener<?>[] listeners = snapshot.listeners[descriptor.beforeSlot()];
+		return (WebDriverEventListener<T>[]) (listeners.length == 0 ? listeners : snapshot.applicable(descriptor, proxy)[0]);
+	}
+	
+	@SuppressWarnings("unchecked")
+	public <T> WebDriverEventListener<T>[] getAfterListeners(Object proxy, MethodDescriptor descriptor) {
+		Snapshot snapshot = snapshot();
+		WebDriverEventListener<?>[] listeners = snapshot.listeners[descriptor.afterSlot()];
+		return (WebDriverEventListener<T>[]) (listeners.length == 0 ? listeners : snapshot.applicable(descriptor, proxy)[1]);
+	}
+	
+	public <T> WebDriverEventListener<T>[] getExceptionListeners() {
+		return getListeners(ON_EXCEPTION.ordinal());
+	}
+	
+	public <T> void fireBefore(
+			Object proxy,
+			MethodDescriptor descriptor,
+			WebDriver driver,
+			T element,
+			Object[] args,
+			long invocationId,
+			long startNanos) {
+		for (WebDriverEventListener<T> listener : this.<T>getBeforeListeners(proxy, descriptor))
+			listener.invoke(driver, element, proxy, descriptor.method(), args, null, invocationId, 0);
+		FirehoseListener[] firehose = snapshot().firehose;
+		if (firehose.length != 0)
+			fire(firehose, Phase.BEFORE, descriptor.beforeSlot(), descriptor, driver, element, proxy, args, null, null,
+				invocationId, startNanos, 0);
+	}
+	
+	public <T> void fireAfter(
+			Object proxy,
+			MethodDescriptor descriptor,
+			WebDriver driver,
+			T element,
+			Object[] args,
+			Object result,
+			long invocationId,
+			long startNanos,
+			long elapsedNanos) {
+		if (split) {
+			inner.fireAfter(proxy, descriptor, driver, element, args, result, invocationId, startNanos, elapsedNanos);
+			outer.fireAfter(proxy, descriptor, driver, element, args, result, invocationId, startNanos, elapsedNanos);
+			return;
+		}
+		fire(this.<T>getAfterListeners(proxy, descriptor), driver, element, proxy, descriptor.method(), args, result, invocationId, elapsedNanos);
+		FirehoseListener[] firehose = snapshot().firehose;
+		if (firehose.length != 0)
+			fire(firehose, Phase.AFTER, descriptor.afterSlot(), descriptor, driver, element, proxy, args, result, null,
+				invocationId, startNanos, elapsedNanos);
+	}
+	
+	public <T> void fireException(
+			Object proxy,
+			MethodDescriptor descriptor,
+			WebDriver driver,
+			T element,
+			Object[] args,
+			Throwable throwable,
+			long invocationId,
+			long startNanos,
+			long elapsedNanos) {
+		if (split) {
+			inner.fireException(proxy, descriptor, driver, element, args, throwable, invocationId, startNanos, elapsedNanos);
+			outer.fireException(proxy, descriptor, driver, element, args, throwable, invocationId, startNanos, elapsedNanos);
+			return;
+		}
+		fire(this.<T>getExceptionListeners(), driver, element, proxy, descriptor.method(), args, throwable, invocationId, elapsedNanos);
+		FirehoseListener[] firehose = snapshot().firehose;
+		if (firehose.length != 0)
+			fire(firehose, Phase.EXCEPTION, descriptor.interceptorSlot(), descriptor, driver, element, proxy, args, null, throwable,
+				invocationId, startNanos, elapsedNanos);
+	}
+	
+	private static void fire(
+			FirehoseListener[] firehose,
+			Phase phase,
+			int slot,
+			MethodDescriptor descriptor,
+			WebDriver driver,
+			Object element,
+			Object proxy,
+			Object[] args,
+			Object result,
+			Throwable throwable,
+			long invocationId,
+			long startNanos,
+			long elapsedNanos) {
+		MutableEventRecord record = RECORDS.get();
+		if (record.inUse)
+			record = new MutableEventRecord();
+		record.set(phase, slot != NO_SLOT ? EventListenerLocation.values().get(slot) : null, descriptor, driver,
+			element != null ? element : driver, proxy, args, result, throwable, invocationId, startNanos, elapsedNanos);
+		try {
+			for (FirehoseListener listener : firehose)
+				listener.onEvent(record);
+		} finally {
+			record.clear();
+		}
+	}
+	
+	private <T> void fire(
+			WebDriverEventListener<T>[] listeners,
+			WebDriver driver,
+			T element,
+			Object proxy,
+			Method method,
+			Object[] args,
+			Object value,
+			long invocationId,
+			long elapsedNanos) {
+		if (listeners.length == 0)
+			return;
+		if (events != null && events.publish(listeners, driver, element, proxy, method, args, value, invocationId, elapsedNanos))
+			return;
+		for (WebDriverEventListener<T> listener : listeners)
+			listener.invoke(driver, element, proxy, method, args, value, invocationId, elapsedNanos);
 	}
 }
@@ -0,0 +1,56 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper.internal;
+
+import java.util.Arrays;
+
+import nikoladasm.webdriver.wrapper.EventListenerLocation;
+
+/*
+ * Scopes of every EventListenerLocation, indexed by ordinal. Locations
+ * register themselves while EventListenerLocation is initialized, so the
+ * table is complete once any location is reachable.
+ */
+public final class Locations {
+	
+	private static long[] scopes = new long[0];
+	
+	private Locations() {}
+	
+	public static void register(EventListenerLocation<?> location, Scope... locationScopes) {
+		long mask = 0;
+		for (Scope scope : locationScopes)
+			mask |= scope.mask();
+		if (location.ordinal() >= scopes.length)
+			scopes = Arrays.copyOf(scopes, location.ordinal() + 1);
+		scopes[location.ordinal()] = mask;
+	}
+	
+	static long scopes(EventListenerLocation<?> location) {
+		return scopes[location.ordinal()];
+	}
+	
+	static EventListenerLocation<?> locate(Scope scope, TimeClause timeClause, String methodName) {
+		for (EventListenerLocation<?> location : EventListenerLocation.values())
+			if (location.timeClause() == timeClause && location.name().equals(methodName) &&
+					(scopes(location) & scope.mask()) != 0)
+				return location;
+		return null;
+	}
+}
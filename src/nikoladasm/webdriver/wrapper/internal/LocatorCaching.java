@@ -0,0 +1,54 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openqa.selenium.By;
+
+/*
+ * Which locators are cached and for how long (in nanoseconds) their results
+ * stay valid within a DOM epoch. A locator with a time of its own is cached
+ * for that long even while locators are not cached in general; a time of
+ * zero keeps it from being cached at all.
+ */
+public final class LocatorCaching {
+
+	private final Map<By, Long> ttls = new ConcurrentHashMap<>();
+	private final CacheCounters counters = new CacheCounters();
+	private volatile long ttl;
+	
+	public void cache(long ttl) {
+		this.ttl = ttl;
+	}
+	
+	public void cache(By by, long ttl) {
+		ttls.put(by, ttl);
+	}
+	
+	long ttl(By by) {
+		Long ttl = ttls.get(by);
+		return ttl != null ? ttl : this.ttl;
+	}
+	
+	public CacheCounters counters() {
+		return counters;
+	}
+}
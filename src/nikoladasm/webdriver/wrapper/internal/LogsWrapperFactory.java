@@ -18,19 +18,22 @@
 
 package nikoladasm.webdriver.wrapper.internal;
 
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.InvocationTargetException;
+import static nikoladasm.webdriver.wrapper.internal.WrapperGenerator.wrapperConstructor;
+import static nikoladasm.webdriver.wrapper.internal.MethodDescriptor.Kind.*;
+import static nikoladasm.webdriver.wrapper.internal.MethodDescriptor.Result.*;
+import static nikoladasm.webdriver.wrapper.internal.Scope.LOGS;
+
 import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
 
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.logging.Logs;
 
-import nikoladasm.webdriver.wrapper.listeners.WebDriverEventListener;
-
 public final class LogsWrapperFactory {
 
-	private static class InvocationHandlerImpl implements InvocationHandler {
+	private static final MethodDescriptors descriptors = new MethodDescriptors(LogsWrapperFactory::describe);
+	private static final WrapperConstructor constructor = wrapperConstructor(Logs.class, WrapsLogs.class);
+	
+	private static class InvocationHandlerImpl extends ListenableInvocationHandler {
 
 		private final Logs logs;
 		private final WebDriver driver;
@@ -40,43 +43,44 @@ public final class LogsWrapperFactory {
 				Logs logs,
 				WebDriver driver,
 				Listeners listeners) {
+			super(descriptors);
 			this.logs = logs;
 			this.driver = driver;
 			this.listeners = listeners;
 		}
 		
 		@Override
-		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-			String methodName = method.getName();
-			if ("getWrappedLogs".equals(methodName))
+		protected Object invoke(Object proxy, MethodDescriptor descriptor, Object[] args) throws Throwable {
+			if (descriptor.kind() == GET_WRAPPED)
 				return logs;
-			Class<?>[] parameterTypes = method.getParameterTypes();
-			WebDriverEventListener<Logs> listener;
-			if ((listener = listeners.getBeforeListener(methodName)) != null && listener.isApplicable(proxy, parameterTypes))
-				listener.invoke(driver, logs, proxy, method, args, null);
+			long invocation = listeners.invocationId(descriptor);
+			long start = invocation != 0 ? System.nanoTime() : 0;
+			listeners.<Logs>fireBefore(proxy, descriptor, driver, logs, args, invocation, start);
 			Object result;
 			try {
-				result = method.invoke(logs, args);
-			} catch (InvocationTargetException e) {
-				Throwable t = e.getTargetException();
-				if (listeners.getExeptionListener() != null)
-					listeners.getExeptionListener().invoke(driver, logs, proxy, method, args, t);
+				result = InterceptedInvocation.invoke(listeners, descriptor, driver, logs, proxy, args);
+			} catch (Throwable t) {
+				long elapsed = invocation != 0 ? System.nanoTime() - start : 0;
+				listeners.<Logs>fireException(proxy, descriptor, driver, logs, args, t, invocation, start, elapsed);
 				throw t;
 			}
-			if ((listener = listeners.getAfterListener(methodName)) != null && listener.isApplicable(proxy, parameterTypes))
-				listener.invoke(driver, logs, proxy, method, args, result);
+			long elapsed = invocation != 0 ? System.nanoTime() - start : 0;
+			listeners.<Logs>fireAfter(proxy, descriptor, driver, logs, args, result, invocation, start, elapsed);
 			return result;
 		}
 	}
 	
+	private static MethodDescriptor describe(Method method, MethodInvoker invoker) {
+		if ("getWrappedLogs".equals(method.getName()))
+			return new MethodDescriptor(LOGS, method, invoker, GET_WRAPPED, AS_IS);
+		return new MethodDescriptor(LOGS, method, invoker, DELEGATE, AS_IS);
+	}
+	
 	public static Logs wrapLogs(
 			Logs logs,
 			WebDriver driver,
 			Listeners listeners) {
-		return (Logs) Proxy.newProxyInstance(
-			LogsWrapperFactory.class.getClassLoader(),
-			new Class<?>[]{Logs.class, WrapsLogs.class},
-			new InvocationHandlerImpl(logs, driver, listeners));
+		return (Logs) constructor.newInstance(new InvocationHandlerImpl(logs, driver, listeners));
 	}
 	
 	private LogsWrapperFactory() {}
@@ -0,0 +1,242 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper.internal;
+
+import static java.lang.invoke.MethodType.methodType;
+import static nikoladasm.webdriver.wrapper.internal.TimeClause.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import nikoladasm.webdriver.wrapper.EventListenerLocation;
+import nikoladasm.webdriver.wrapper.listeners.WebDriverEventListener;
+
+/*
+ * Everything a wrapper needs to know about a method of a wrapped interface,
+ * resolved once per wrapper class and method (see MethodDescriptors), so
+ * that a call does not have to inspect the Method again.
+ */
+public final class MethodDescriptor {
+
+	public enum Kind {
+		DELEGATE,
+		GET_WRAPPED,
+		GET_WRAPPED_DRIVER,
+		SET_LISTENER,
+		ADD_LISTENER,
+		REMOVE_LISTENER,
+		REPLACE_LISTENERS,
+		ADD_INTERCEPTOR,
+		REMOVE_INTERCEPTOR,
+		ADD_FIREHOSE_LISTENER,
+		REMOVE_FIREHOSE_LISTENER,
+		FIND_BATCH,
+		IDENTITY_EQUALS,
+		UNWRAPPED_EQUALS,
+		HASH_CODE
+	}
+	
+	public enum Result {
+		AS_IS,
+		ELEMENT,
+		ELEMENTS,
+		ACTIVE_ELEMENT,
+		NAVIGATION,
+		TARGET_LOCATOR,
+		OPTIONS,
+		KEYBOARD,
+		MOUSE,
+		TOUCH_SCREEN,
+		LOGS,
+		IME_HANDLER,
+		WINDOW,
+		TIMEOUTS,
+		ALERT,
+		WRAPPED_DRIVER,
+		SCRIPT_RESULT,
+		PROXY
+	}
+	
+	private final Scope scope;
+	private final Method method;
+	private final String name;
+	private final Class<?>[] parameterTypes;
+	private final Class<?>[] exceptionTypes;
+	private final MethodInvoker invoker;
+	private final Kind kind;
+	private final Result result;
+	private final boolean unwrapScriptArguments;
+	private final int beforeSlot;
+	private final int afterSlot;
+	private final boolean mutating;
+	private final int cachedRead;
+	private final boolean lookup;
+	private final boolean script;
+	
+	public MethodDescriptor(Scope scope, Method method, MethodInvoker invoker, Kind kind, Result result) {
+		this(scope, method, invoker, kind, result, false);
+	}
+	
+	public MethodDescriptor(Scope scope, Method method, MethodInvoker invoker, Kind kind, Result result, boolean unwrapScriptArguments) {
+		this.scope = scope;
+		this.method = method;
+		this.name = method.getName();
+		this.parameterTypes = method.getParameterTypes();
+		this.exceptionTypes = method.getExceptionTypes();
+		this.invoker = invoker != null ? invoker : invoker(method);
+		this.kind = kind;
+		this.result = result;
+		this.unwrapScriptArguments = unwrapScriptArguments;
+		this.beforeSlot = slot(scope, BEFORE, name);
+		this.afterSlot = slot(scope, AFTER, name);
+		this.mutating = kind == Kind.DELEGATE && DomEpoch.mutates(scope, name);
+		this.cachedRead = kind == Kind.DELEGATE ? CachedReads.getter(scope, method) : CachedReads.NONE;
+		this.lookup = kind == Kind.DELEGATE && CachedLookups.isLookup(scope, method);
+		this.script = kind == Kind.DELEGATE && CachedScripts.isScript(scope, method);
+	}
+	
+	private static int slot(Scope scope, TimeClause timeClause, String name) {
+		EventListenerLocation<?> location = Locations.locate(scope, timeClause, name);
+		return location != null ? location.ordinal() : Listeners.NO_SLOT;
+	}
+	
+	private static MethodInvoker invoker(Method method) {
+		MethodHandle handle;
+		try {
+			handle = MethodHandles.publicLookup().unreflect(method)
+				.asSpreader(Object[].class, method.getParameterCount())
+				.asType(methodType(Object.class, Object.class, Object[].class));
+		} catch (IllegalAccessException e) {
+			return reflectiveInvoker(method);
+		}
+		return (target, args) -> handle.invokeExact(target, args);
+	}
+	
+	private static MethodInvoker reflectiveInvoker(Method method) {
+		return (target, args) -> {
+			try {
+				return method.invoke(target, args);
+			} catch (InvocationTargetException e) {
+				throw e.getTargetException();
+			}
+		};
+	}
+	
+	public Scope scope() {
+		return scope;
+	}
+	
+	public Method method() {
+		return method;
+	}
+	
+	public String name() {
+		return name;
+	}
+	
+	public Class<?>[] parameterTypes() {
+		return parameterTypes;
+	}
+	
+	public Class<?>[] exceptionTypes() {
+		return exceptionTypes;
+	}
+	
+	public MethodInvoker invoker() {
+		return invoker;
+	}
+	
+	public Kind kind() {
+		return kind;
+	}
+	
+	public Result result() {
+		return result;
+	}
+	
+	public boolean unwrapScriptArguments() {
+		return unwrapScriptArguments;
+	}
+	
+	public int beforeSlot() {
+		return beforeSlot;
+	}
+	
+	public int afterSlot() {
+		return afterSlot;
+	}
+	
+	/*
+	 * Whether calling the method advances the DOM epoch (see DomEpoch).
+	 */
+	public boolean mutating() {
+		return mutating;
+	}
+	
+	int cachedRead() {
+		return cachedRead;
+	}
+	
+	/*
+	 * Whether the method is findElement or findElements of a driver or an
+	 * element, whose results may be cached (see CachedLookups).
+	 */
+	public boolean lookup() {
+		return lookup;
+	}
+	
+	/*
+	 * Whether the method is executeScript of a driver, whose results may be
+	 * cached (see CachedScripts).
+	 */
+	public boolean script() {
+		return script;
+	}
+	
+	/*
+	 * Interceptors of a method are kept under its before location, or under
+	 * its after location for a method that only has that one.
+	 */
+	public int interceptorSlot() {
+		return beforeSlot != Listeners.NO_SLOT ? beforeSlot : afterSlot;
+	}
+	
+	/*
+	 * The listeners that apply to the method of proxy; the array itself when
+	 * all of them do. Whether a listener applies depends only on the wrapper
+	 * class and the method, so the answer can be kept per descriptor (see
+	 * Listeners).
+	 */
+	WebDriverEventListener<?>[] applicable(WebDriverEventListener<?>[] listeners, Object proxy) {
+		int count = 0;
+		for (WebDriverEventListener<?> listener : listeners)
+			if (listener.isApplicable(proxy, parameterTypes))
+				count++;
+		if (count == listeners.length)
+			return listeners;
+		WebDriverEventListener<?>[] applicable = new WebDriverEventListener<?>[count];
+		int index = 0;
+		for (WebDriverEventListener<?> listener : listeners)
+			if (listener.isApplicable(proxy, parameterTypes))
+				applicable[index++] = listener;
+		return applicable;
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper.internal;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/*
+ * Per wrapper class cache of method descriptors. Wrapper classes always hand
+ * over the same Method instances, so the descriptors are kept in an identity
+ * map that is copied on write and read without locking. Generated wrapper
+ * classes also number their methods, which turns the lookup into an array
+ * load.
+ */
+public final class MethodDescriptors {
+
+	public static final class Table {
+		
+		private final BiFunction<Method, MethodInvoker, MethodDescriptor> factory;
+		private volatile Map<Method, MethodDescriptor> descriptors = new IdentityHashMap<>();
+		private volatile MethodDescriptor[] indexed = new MethodDescriptor[0];
+		
+		private Table(BiFunction<Method, MethodInvoker, MethodDescriptor> factory) {
+			this.factory = factory;
+		}
+		
+		public MethodDescriptor get(Method method, MethodInvoker invoker) {
+			MethodDescriptor descriptor = descriptors.get(method);
+			if (descriptor == null)
+				descriptor = add(factory.apply(method, invoker));
+			return descriptor;
+		}
+		
+		public MethodDescriptor get(int index, Method method, MethodInvoker invoker) {
+			MethodDescriptor[] indexed = this.indexed;
+			MethodDescriptor descriptor;
+			if (index < indexed.length && (descriptor = indexed[index]) != null)
+				return descriptor;
+			return add(index, get(method, invoker));
+		}
+		
+		private synchronized MethodDescriptor add(int index, MethodDescriptor descriptor) {
+			MethodDescriptor[] copy = Arrays.copyOf(indexed, Math.max(indexed.length, index + 1));
+			copy[index] = descriptor;
+			indexed = copy;
+			return descriptor;
+		}
+		
+		private synchronized MethodDescriptor add(MethodDescriptor descriptor) {
+			MethodDescriptor existing = descriptors.get(descriptor.method());
+			if (existing != null)
+				return existing;
+			Map<Method, MethodDescriptor> copy = new IdentityHashMap<>(descriptors);
+			copy.put(descriptor.method(), descriptor);
+			descriptors = copy;
+			return descriptor;
+		}
+	}
+	
+	private final BiFunction<Method, MethodInvoker, MethodDescriptor> factory;
+	private final ClassValue<Table> tables = new ClassValue<Table>() {
+		@Override
+		protected Table computeValue(Class<?> type) {
+			return new Table(factory);
+		}
+	};
+	
+	public MethodDescriptors(BiFunction<Method, MethodInvoker, MethodDescriptor> factory) {
+		this.factory = factory;
+	}
+	
+	public Table table(Class<?> wrapperType) {
+		return tables.get(wrapperType);
+	}
+	
+	public MethodDescriptor get(Class<?> wrapperType, Method method, MethodInvoker invoker) {
+		return tables.get(wrapperType).get(method, invoker);
+	}
+	
+	public static boolean is(Method method, String name, Class<?>... parameterTypes) {
+		return name.equals(method.getName()) && Arrays.equals(method.getParameterTypes(), parameterTypes);
+	}
+}
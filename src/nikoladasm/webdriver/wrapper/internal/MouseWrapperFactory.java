@@ -18,19 +18,22 @@
 
 package nikoladasm.webdriver.wrapper.internal;
 
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.InvocationTargetException;
+import static nikoladasm.webdriver.wrapper.internal.WrapperGenerator.wrapperConstructor;
+import static nikoladasm.webdriver.wrapper.internal.MethodDescriptor.Kind.*;
+import static nikoladasm.webdriver.wrapper.internal.MethodDescriptor.Result.*;
+import static nikoladasm.webdriver.wrapper.internal.Scope.MOUSE;
+
 import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
 
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.interactions.Mouse;
 
-import nikoladasm.webdriver.wrapper.listeners.WebDriverEventListener;
-
 public final class MouseWrapperFactory {
 
-	private static class InvocationHandlerImpl implements InvocationHandler {
+	private static final MethodDescriptors descriptors = new MethodDescriptors(MouseWrapperFactory::describe);
+	private static final WrapperConstructor constructor = wrapperConstructor(Mouse.class, WrapsMouse.class);
+	
+	private static class InvocationHandlerImpl extends ListenableInvocationHandler {
 
 		private final Mouse mouse;
 		private final WebDriver driver;
@@ -40,43 +43,44 @@ public final class MouseWrapperFactory {
 				Mouse mouse,
 				WebDriver driver,
 				Listeners listeners) {
+			super(descriptors);
 			this.mouse = mouse;
 			this.driver = driver;
 			this.listeners = listeners;
 		}
 		
 		@Override
-		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-			String methodName = method.getName();
-			if ("getWrappedMouse".equals(methodName))
+		protected Object invoke(Object proxy, MethodDescriptor descriptor, Object[] args) throws Throwable {
+			if (descriptor.kind() == GET_WRAPPED)
 				return mouse;
-			Class<?>[] parameterTypes = method.getParameterTypes();
-			WebDriverEventListener<Mouse> listener;
-			if ((listener = listeners.getBeforeListener(methodName)) != null && listener.isApplicable(proxy, parameterTypes))
-				listener.invoke(driver, mouse, proxy, method, args, null);
+			long invocation = listeners.invocationId(descriptor);
+			long start = invocation != 0 ? System.nanoTime() : 0;
+			listeners.<Mouse>fireBefore(proxy, descriptor, driver, mouse, args, invocation, start);
 			Object result;
 			try {
-				result = method.invoke(mouse, args);
-			} catch (InvocationTargetException e) {
-				Throwable t = e.getTargetException();
-				if (listeners.getExeptionListener() != null)
-					listeners.getExeptionListener().invoke(driver, mouse, proxy, method, args, t);
+				result = InterceptedInvocation.invoke(listeners, descriptor, driver, mouse, proxy, args);
+			} catch (Throwable t) {
+				long elapsed = invocation != 0 ? System.nanoTime() - start : 0;
+				listeners.<Mouse>fireException(proxy, descriptor, driver, mouse, args, t, invocation, start, elapsed);
 				throw t;
 			}
-			if ((listener = listeners.getAfterListener(methodName)) != null && listener.isApplicable(proxy, parameterTypes))
-				listener.invoke(driver, mouse, proxy, method, args, result);
+			long elapsed = invocation != 0 ? System.nanoTime() - start : 0;
+			listeners.<Mouse>fireAfter(proxy, descriptor, driver, mouse, args, result, invocation, start, elapsed);
 			return result;
 		}
 	}
 	
+	private static MethodDescriptor describe(Method method, MethodInvoker invoker) {
+		if ("getWrappedMouse".equals(method.getName()))
+			return new MethodDescriptor(MOUSE, method, invoker, GET_WRAPPED, AS_IS);
+		return new MethodDescriptor(MOUSE, method, invoker, DELEGATE, AS_IS);
+	}
+	
 	public static Mouse wrapMouse(
 			Mouse mouse,
 			WebDriver driver,
 			Listeners listeners) {
-		return (Mouse) Proxy.newProxyInstance(
-			MouseWrapperFactory.class.getClassLoader(),
-			new Class<?>[]{Mouse.class, WrapsMouse.class},
-			new InvocationHandlerImpl(mouse, driver, listeners));
+		return (Mouse) constructor.newInstance(new InvocationHandlerImpl(mouse, driver, listeners));
 	}
 	
 	private MouseWrapperFactory() {}
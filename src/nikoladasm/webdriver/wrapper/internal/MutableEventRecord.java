@@ -0,0 +1,155 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper.internal;
+
+import java.lang.reflect.Method;
+
+import org.openqa.selenium.WebDriver;
+
+import nikoladasm.webdriver.wrapper.EventListenerLocation;
+import nikoladasm.webdriver.wrapper.listeners.EventRecord;
+
+/*
+ * The record Listeners keeps per thread and refills for every event; one
+ * that is still in use by an outer event (a firehose listener calling the
+ * driver) is not refilled.
+ */
+final class MutableEventRecord implements EventRecord {
+
+	private Phase phase;
+	private EventListenerLocation<?> location;
+	private WebDriver driver;
+	private Object target;
+	private Object wrapper;
+	private Method method;
+	private Object[] arguments;
+	private Object result;
+	private Throwable throwable;
+	private long invocationId;
+	private long startNanos;
+	private long elapsedNanos;
+	boolean inUse;
+	
+	void set(
+			Phase phase,
+			EventListenerLocation<?> location,
+			MethodDescriptor descriptor,
+			WebDriver driver,
+			Object target,
+			Object wrapper,
+			Object[] arguments,
+			Object result,
+			Throwable throwable,
+			long invocationId,
+			long startNanos,
+			long elapsedNanos) {
+		this.phase = phase;
+		this.location = location;
+		this.driver = driver;
+		this.target = target;
+		this.wrapper = wrapper;
+		this.method = descriptor.method();
+		this.arguments = arguments;
+		this.result = result;
+		this.throwable = throwable;
+		this.invocationId = invocationId;
+		this.startNanos = startNanos;
+		this.elapsedNanos = elapsedNanos;
+		inUse = true;
+	}
+	
+	void clear() {
+		location = null;
+		driver = null;
+		target = null;
+		wrapper = null;
+		method = null;
+		arguments = null;
+		result = null;
+		throwable = null;
+		inUse = false;
+	}
+	
+	@Override
+	public Phase phase() {
+		return phase;
+	}
+	
+	@Override
+	public EventListenerLocation<?> location() {
+		return location;
+	}
+	
+	@Override
+	public WebDriver driver() {
+		return driver;
+	}
+	
+	@Override
+	public Object target() {
+		return target;
+	}
+	
+	@Override
+	public Object wrapper() {
+		return wrapper;
+	}
+	
+	@Override
+	public Method method() {
+		return method;
+	}
+	
+	@Override
+	public int argumentCount() {
+		return arguments != null ? arguments.length : 0;
+	}
+	
+	@Override
+	public Object argument(int index) {
+		if (arguments == null)
+			throw new IndexOutOfBoundsException(String.valueOf(index));
+		return arguments[index];
+	}
+	
+	@Override
+	public Object result() {
+		return result;
+	}
+	
+	@Override
+	public Throwable throwable() {
+		return throwable;
+	}
+	
+	@Override
+	public long invocationId() {
+		return invocationId;
+	}
+	
+	@Override
+	public long startNanos() {
+		return startNanos;
+	}
+	
+	@Override
+	public long elapsedNanos() {
+		return elapsedNanos;
+	}
+}
@@ -18,19 +18,22 @@
 
 package nikoladasm.webdriver.wrapper.internal;
 
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.InvocationTargetException;
+import static nikoladasm.webdriver.wrapper.internal.WrapperGenerator.wrapperConstructor;
+import static nikoladasm.webdriver.wrapper.internal.MethodDescriptor.Kind.*;
+import static nikoladasm.webdriver.wrapper.internal.MethodDescriptor.Result.*;
+import static nikoladasm.webdriver.wrapper.internal.Scope.NAVIGATION;
+
 import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
 
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriver.Navigation;
 
-import nikoladasm.webdriver.wrapper.listeners.WebDriverEventListener;
-
 public final class NavigationWrapperFactory {
 
-	private static class InvocationHandlerImpl implements InvocationHandler {
+	private static final MethodDescriptors descriptors = new MethodDescriptors(NavigationWrapperFactory::describe);
+	private static final WrapperConstructor constructor = wrapperConstructor(Navigation.class, WrapsNavigation.class);
+	
+	private static class InvocationHandlerImpl extends ListenableInvocationHandler {
 
 		private final Navigation navigation;
 		private final WebDriver driver;
@@ -40,43 +43,44 @@ public final class NavigationWrapperFactory {
 				Navigation navigation,
 				WebDriver driver,
 				Listeners listeners) {
+			super(descriptors);
 			this.navigation = navigation;
 			this.driver = driver;
 			this.listeners = listeners;
 		}
 		
 		@Override
-		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-			String methodName = method.getName();
-			if ("getWrappedNavigation".equals(methodName))
+		protected Object invoke(Object proxy, MethodDescriptor descriptor, Object[] args) throws Throwable {
+			if (descriptor.kind() == GET_WRAPPED)
 				return navigation;
-			Class<?>[] parameterTypes = method.getParameterTypes();
-			WebDriverEventListener<Navigation> listener;
-			if ((listener = listeners.getBeforeListener(methodName)) != null && listener.isApplicable(proxy, parameterTypes))
-				listener.invoke(driver, navigation, proxy, method, args, null);
+			long invocation = listeners.invocationId(descriptor);
+			long start = invocation != 0 ? System.nanoTime() : 0;
+			listeners.<Navigation>fireBefore(proxy, descriptor, driver, navigation, args, invocation, start);
 			Object result;
 			try {
-				result = method.invoke(navigation, args);
-			} catch (InvocationTargetException e) {
-				Throwable t = e.getTargetException();
-				if (listeners.getExeptionListener() != null)
-					listeners.getExeptionListener().invoke(driver, navigation, proxy, method, args, t);
+				result = InterceptedInvocation.invoke(listeners, descriptor, driver, navigation, proxy, args);
+			} catch (Throwable t) {
+				long elapsed = invocation != 0 ? System.nanoTime() - start : 0;
+				listeners.<Navigation>fireException(proxy, descriptor, driver, navigation, args, t, invocation, start, elapsed);
 				throw t;
 			}
-			if ((listener = listeners.getAfterListener(methodName)) != null && listener.isApplicable(proxy, parameterTypes))
-				listener.invoke(driver, navigation, proxy, method, args, result);
+			long elapsed = invocation != 0 ? System.nanoTime() - start : 0;
+			listeners.<Navigation>fireAfter(proxy, descriptor, driver, navigation, args, result, invocation, start, elapsed);
 			return result;
 		}
 	}
 	
+	private static MethodDescriptor describe(Method method, MethodInvoker invoker) {
+		if ("getWrappedNavigation".equals(method.getName()))
+			return new MethodDescriptor(NAVIGATION, method, invoker, GET_WRAPPED, AS_IS);
+		return new MethodDescriptor(NAVIGATION, method, invoker, DELEGATE, AS_IS);
+	}
+	
 	public static Navigation wrapNavigation(
 			Navigation navigation,
 			WebDriver driver,
 			Listeners listeners) {
-		return (Navigation) Proxy.newProxyInstance(
-			NavigationWrapperFactory.class.getClassLoader(),
-			new Class<?>[]{Navigation.class, WrapsNavigation.class},
-			new InvocationHandlerImpl(navigation, driver, listeners));
+		return (Navigation) constructor.newInstance(new InvocationHandlerImpl(navigation, driver, listeners));
 	}
 	
 	private NavigationWrapperFactory() {}
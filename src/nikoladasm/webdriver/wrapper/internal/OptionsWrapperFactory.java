@@ -18,11 +18,7 @@
 
 package nikoladasm.webdriver.wrapper.internal;
 
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
-import java.util.Arrays;
 
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.logging.Logs;
@@ -31,76 +27,109 @@ import org.openqa.selenium.WebDriver.Options;
 import org.openqa.selenium.WebDriver.Timeouts;
 import org.openqa.selenium.WebDriver.Window;
 
-import nikoladasm.webdriver.wrapper.listeners.WebDriverEventListener;
-
 import static nikoladasm.webdriver.wrapper.internal.LogsWrapperFactory.wrapLogs;
 import static nikoladasm.webdriver.wrapper.internal.ImeHandlerWrapperFactory.wrapImeHandler;
 import static nikoladasm.webdriver.wrapper.internal.WindowWrapperFactory.wrapWindow;
 import static nikoladasm.webdriver.wrapper.internal.TimeoutsWrapperFactory.wrapTimeouts;
+import static nikoladasm.webdriver.wrapper.internal.WrapperGenerator.wrapperConstructor;
+import static nikoladasm.webdriver.wrapper.internal.MethodDescriptor.Kind.*;
+import static nikoladasm.webdriver.wrapper.internal.MethodDescriptor.Result.*;
+import static nikoladasm.webdriver.wrapper.internal.Scope.OPTIONS;
+import static nikoladasm.webdriver.wrapper.internal.MethodDescriptors.is;
 
 public final class OptionsWrapperFactory {
 
-	private static class InvocationHandlerImpl implements InvocationHandler {
+	private static final MethodDescriptors descriptors = new MethodDescriptors(OptionsWrapperFactory::describe);
+	private static final WrapperConstructor constructor = wrapperConstructor(Options.class, WrapsOptions.class);
+	
+	private static class InvocationHandlerImpl extends ListenableInvocationHandler {
 
 		private final Options options;
 		private final WebDriver driver;
 		private final Listeners listeners;
+		private final WrapperSlot<Logs> logs;
+		private final WrapperSlot<ImeHandler> imeHandler;
+		private final WrapperSlot<Window> window;
+		private final WrapperSlot<Timeouts> timeouts;
 		
 		public InvocationHandlerImpl(
 				Options options,
 				WebDriver driver,
 				Listeners listeners) {
+			super(descriptors);
 			this.options = options;
 			this.driver = driver;
 			this.listeners = listeners;
+			this.logs = new WrapperSlot<>(logs -> wrapLogs(logs, driver, listeners));
+			this.imeHandler = new WrapperSlot<>(imeHandler -> wrapImeHandler(imeHandler, driver, listeners));
+			this.window = new WrapperSlot<>(window -> wrapWindow(window, driver, listeners));
+			this.timeouts = new WrapperSlot<>(timeouts -> wrapTimeouts(timeouts, driver, listeners));
 		}
 		
 		@Override
-		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-			String methodName = method.getName();
-			if ("getWrappedOptions".equals(methodName))
+		protected Object invoke(Object proxy, MethodDescriptor descriptor, Object[] args) throws Throwable {
+			if (descriptor.kind() == GET_WRAPPED)
 				return options;
-			Class<?>[] parameterTypes = method.getParameterTypes();
-			WebDriverEventListener<Options> listener;
-			if ((listener = listeners.getBeforeListener(methodName)) != null && listener.isApplicable(proxy, parameterTypes))
-				listener.invoke(driver, options, proxy, method, args, null);
+			long invocation = listeners.invocationId(descriptor);
+			long start = invocation != 0 ? System.nanoTime() : 0;
+			listeners.<Options>fireBefore(proxy, descriptor, driver, options, args, invocation, start);
 			Object result;
-			Object wrappedResult;
 			try {
-				result = method.invoke(options, args);
-				wrappedResult = wrapResult(result, methodName, parameterTypes);
-			} catch (InvocationTargetException e) {
-				Throwable t = e.getTargetException();
-				if (listeners.getExeptionListener() != null)
-					listeners.getExeptionListener().invoke(driver, options, proxy, method, args, t);
+				result = InterceptedInvocation.invoke(listeners, descriptor, driver, options, proxy, args);
+			} catch (Throwable t) {
+				long elapsed = invocation != 0 ? System.nanoTime() - start : 0;
+				listeners.<Options>fireException(proxy, descriptor, driver, options, args, t, invocation, start, elapsed);
 				throw t;
 			}
-			if ((listener = listeners.getAfterListener(methodName)) != null && listener.isApplicable(proxy, parameterTypes))
-				listener.invoke(driver, options, proxy, method, args, result);
+			long elapsed = invocation != 0 ? System.nanoTime() - start : 0;
+			Object wrappedResult = wrapResult(result, descriptor.result());
+			listeners.<Options>fireAfter(proxy, descriptor, driver, options, args, result, invocation, start, elapsed);
 			return wrappedResult;
 		}
 
-		private Object wrapResult(Object result, String methodName, Class<?>[] parameterTypes) {
-			if ("logs".equals(methodName) && Arrays.equals(parameterTypes, new Class<?>[]{}))
-				return wrapLogs((Logs) result, driver, listeners);
-			if ("ime".equals(methodName) && Arrays.equals(parameterTypes, new Class<?>[]{}))
-				return wrapImeHandler((ImeHandler) result, driver, listeners);
-			if ("window".equals(methodName) && Arrays.equals(parameterTypes, new Class<?>[]{}))
-				return wrapWindow((Window) result, driver, listeners);
-			if ("timeouts".equals(methodName) && Arrays.equals(parameterTypes, new Class<?>[]{}))
-				return wrapTimeouts((Timeouts) result, driver, listeners);
-			return result;
+		private Object wrapResult(Object result, MethodDescriptor.Result kind) {
+			switch (kind) {
+				case LOGS:
+					if (!listeners.shouldWrap(Scope.LOGS))
+						return result;
+					return logs.get((Logs) result);
+				case IME_HANDLER:
+					if (!listeners.shouldWrap(Scope.IME_HANDLER))
+						return result;
+					return imeHandler.get((ImeHandler) result);
+				case WINDOW:
+					if (!listeners.shouldWrap(Scope.WINDOW))
+						return result;
+					return window.get((Window) result);
+				case TIMEOUTS:
+					if (!listeners.shouldWrap(Scope.TIMEOUTS))
+						return result;
+					return timeouts.get((Timeouts) result);
+				default:
+					return result;
+			}
 		}
 	}
 	
+	private static MethodDescriptor describe(Method method, MethodInvoker invoker) {
+		if ("getWrappedOptions".equals(method.getName()))
+			return new MethodDescriptor(OPTIONS, method, invoker, GET_WRAPPED, AS_IS);
+		if (is(method, "logs"))
+			return new MethodDescriptor(OPTIONS, method, invoker, DELEGATE, LOGS);
+		if (is(method, "ime"))
+			return new MethodDescriptor(OPTIONS, method, invoker, DELEGATE, IME_HANDLER);
+		if (is(method, "window"))
+			return new MethodDescriptor(OPTIONS, method, invoker, DELEGATE, WINDOW);
+		if (is(method, "timeouts"))
+			return new MethodDescriptor(OPTIONS, method, invoker, DELEGATE, TIMEOUTS);
+		return new MethodDescriptor(OPTIONS, method, invoker, DELEGATE, AS_IS);
+	}
+	
 	public static Options wrapOptions(
 			Options options,
 			WebDriver driver,
 			Listeners listeners) {
-		return (Options) Proxy.newProxyInstance(
-			OptionsWrapperFactory.class.getClassLoader(),
-			new Class<?>[]{Options.class, WrapsOptions.class},
-			new InvocationHandlerImpl(options, driver, listeners));
+		return (Options) constructor.newInstance(new InvocationHandlerImpl(options, driver, listeners));
 	}
 	
 	private OptionsWrapperFactory() {}
@@ -0,0 +1,56 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper.internal;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * Wrapper classes generated from source at build time (see the generate-wrappers
+ * target). The generated index registers a constructor for every interface set
+ * it was generated for while it is being initialized; a tree built without that
+ * step simply has no index and every wrapper is generated at runtime instead.
+ */
+public final class PrecompiledWrappers {
+
+	public static final String INDEX_CLASS_NAME = "nikoladasm.webdriver.wrapper.internal.WrapperIndex";
+	
+	private static final Map<Set<Class<?>>, WrapperConstructor> constructors = new HashMap<>();
+	
+	static {
+		try {
+			Class.forName(INDEX_CLASS_NAME, true, PrecompiledWrappers.class.getClassLoader());
+		} catch (ClassNotFoundException e) {
+			// built without generated wrappers
+		}
+	}
+	
+	static void register(WrapperConstructor constructor, Class<?>... interfaces) {
+		constructors.put(new HashSet<>(Arrays.asList(interfaces)), constructor);
+	}
+	
+	static WrapperConstructor constructor(Class<?>[] interfaces) {
+		return constructors.get(new HashSet<>(Arrays.asList(interfaces)));
+	}
+	
+	private PrecompiledWrappers() {}
+}
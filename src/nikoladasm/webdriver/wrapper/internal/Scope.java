@@ -0,0 +1,67 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper.internal;
+
+public enum Scope {
+	DRIVER,
+	ELEMENT,
+	NAVIGATION,
+	TARGET_LOCATOR,
+	ALERT,
+	OPTIONS,
+	LOGS,
+	IME_HANDLER,
+	WINDOW,
+	TIMEOUTS,
+	KEYBOARD,
+	MOUSE,
+	TOUCH_SCREEN;
+	
+	private static final long[] reachable = new long[values().length];
+	
+	static {
+		for (Scope scope : values())
+			for (Scope reachableScope : scope.reachableScopes())
+				reachable[scope.ordinal()] |= reachableScope.mask();
+	}
+	
+	public long mask() {
+		return 1L << ordinal();
+	}
+	
+	/*
+	 * Scopes of this scope and of every wrapper that can be obtained from it.
+	 */
+	public long reachableMask() {
+		return reachable[ordinal()];
+	}
+	
+	private Scope[] reachableScopes() {
+		switch (this) {
+			case DRIVER:
+				return values();
+			case TARGET_LOCATOR:
+				return new Scope[]{TARGET_LOCATOR, ALERT, ELEMENT};
+			case OPTIONS:
+				return new Scope[]{OPTIONS, LOGS, IME_HANDLER, WINDOW, TIMEOUTS};
+			default:
+				return new Scope[]{this};
+		}
+	}
+}
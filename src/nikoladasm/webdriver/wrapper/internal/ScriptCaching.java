@@ -0,0 +1,61 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper.internal;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Which scripts are pure, that is neither change the page nor depend on
+ * anything but the page and their arguments, and how many results of them a
+ * driver keeps. A script is pure when it was registered as such or starts
+ * with MARKER.
+ */
+public final class ScriptCaching {
+
+	public static final String MARKER = "/* @pure */";
+	
+	private final Set<String> pure = ConcurrentHashMap.newKeySet();
+	private final CacheCounters counters = new CacheCounters();
+	private volatile int size;
+	
+	public ScriptCaching(int size) {
+		this.size = size;
+	}
+	
+	public void pure(String script) {
+		pure.add(script);
+	}
+	
+	public void size(int size) {
+		this.size = size;
+	}
+	
+	boolean isPure(String script) {
+		return script != null && (script.startsWith(MARKER) || pure.contains(script));
+	}
+	
+	int size() {
+		return size;
+	}
+	
+	public CacheCounters counters() {
+		return counters;
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper.internal;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.WrapsElement;
+
+/*
+ * Arguments and results of executeScript/executeAsyncScript. Arguments are
+ * unwrapped in a single pass that only copies a list, map or array once it
+ * actually contains a wrapped element, so the common case allocates nothing.
+ * Elements in results are wrapped: elements and maps directly, lists when
+ * their items are read.
+ */
+public final class ScriptValues {
+
+	public static Object[] unwrap(Object[] values) {
+		if (values == null)
+			return null;
+		Object[] unwrapped = values;
+		for (int index = 0; index < values.length; index++) {
+			Object value = unwrap(values[index]);
+			if (value != values[index]) {
+				if (unwrapped == values)
+					unwrapped = values.clone();
+				unwrapped[index] = value;
+			}
+		}
+		return unwrapped;
+	}
+	
+	public static Object unwrap(Object value) {
+		if (value instanceof WebElementListenableWrapper)
+			return ((WrapsElement) value).getWrappedElement();
+		if (value instanceof List<?>)
+			return unwrap((List<?>) value);
+		if (value instanceof Map<?, ?>)
+			return unwrap((Map<?, ?>) value);
+		if (value instanceof Object[])
+			return unwrap((Object[]) value);
+		return value;
+	}
+	
+	private static List<?> unwrap(List<?> values) {
+		List<Object> unwrapped = null;
+		int index = 0;
+		for (Object value : values) {
+			Object unwrappedValue = unwrap(value);
+			if (unwrapped == null && unwrappedValue != value) {
+				unwrapped = new ArrayList<>(values.size());
+				Iterator<?> iterator = values.iterator();
+				for (int copied = 0; copied < index; copied++)
+					unwrapped.add(iterator.next());
+			}
+			if (unwrapped != null)
+				unwrapped.add(unwrappedValue);
+			index++;
+		}
+		return unwrapped != null ? unwrapped : values;
+	}
+	
+	private static Map<?, ?> unwrap(Map<?, ?> values) {
+		Map<Object, Object> unwrapped = null;
+		for (Map.Entry<?, ?> entry : values.entrySet()) {
+			Object value = unwrap(entry.getValue());
+			if (unwrapped == null && value != entry.getValue())
+				unwrapped = new LinkedHashMap<>(values);
+			if (unwrapped != null)
+				unwrapped.put(entry.getKey(), value);
+		}
+		return unwrapped != null ? unwrapped : values;
+	}
+	
+	public static Object wrap(Object value, Function<WebElement, WebElement> wrapElement) {
+		if (value instanceof WebElement && !(value instanceof WebElementListenableWrapper))
+			return wrapElement.apply((WebElement) value);
+		if (value instanceof List<?>)
+			return new LazyList<Object>((List<?>) value, item -> wrap(item, wrapElement));
+		if (value instanceof Map<?, ?>)
+			return wrap((Map<?, ?>) value, wrapElement);
+		return value;
+	}
+	
+	private static Map<?, ?> wrap(Map<?, ?> values, Function<WebElement, WebElement> wrapElement) {
+		Map<Object, Object> wrapped = null;
+		for (Map.Entry<?, ?> entry : values.entrySet()) {
+			Object value = wrap(entry.getValue(), wrapElement);
+			if (wrapped == null && value != entry.getValue())
+				wrapped = new LinkedHashMap<>(values);
+			if (wrapped != null)
+				wrapped.put(entry.getKey(), value);
+		}
+		return wrapped != null ? wrapped : values;
+	}
+	
+	/*
+	 * Copies the lists, maps and arrays of a result or of script arguments,
+	 * so that a kept value can be handed out more than once.
+	 */
+	public static Object copy(Object value) {
+		if (value instanceof Object[]) {
+			Object[] values = (Object[]) value;
+			Object[] copy = new Object[values.length];
+			for (int index = 0; index < values.length; index++)
+				copy[index] = copy(values[index]);
+			return copy;
+		}
+		if (value instanceof List<?>) {
+			List<Object> copy = new ArrayList<>(((List<?>) value).size());
+			for (Object item : (List<?>) value)
+				copy.add(copy(item));
+			return copy;
+		}
+		if (value instanceof Map<?, ?>) {
+			Map<Object, Object> copy = new LinkedHashMap<>();
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet())
+				copy.put(entry.getKey(), copy(entry.getValue()));
+			return copy;
+		}
+		return value;
+	}
+	
+	private ScriptValues() {}
+}
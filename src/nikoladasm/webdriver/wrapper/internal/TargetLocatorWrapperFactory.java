@@ -18,86 +18,108 @@
 
 package nikoladasm.webdriver.wrapper.internal;
 
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
-import java.util.Arrays;
 
 import org.openqa.selenium.Alert;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.WebDriver.TargetLocator;
 
-import nikoladasm.webdriver.wrapper.listeners.WebDriverEventListener;
-
 import static nikoladasm.webdriver.wrapper.internal.WebElementWrapperFactory.wrapWebElement;
 import static nikoladasm.webdriver.wrapper.internal.AlertWrapperFactory.wrapAlert;
+import static nikoladasm.webdriver.wrapper.internal.WrapperGenerator.wrapperConstructor;
+import static nikoladasm.webdriver.wrapper.internal.MethodDescriptor.Kind.*;
+import static nikoladasm.webdriver.wrapper.internal.MethodDescriptor.Result.*;
+import static nikoladasm.webdriver.wrapper.internal.Scope.TARGET_LOCATOR;
+import static nikoladasm.webdriver.wrapper.internal.MethodDescriptors.is;
 
 public final class TargetLocatorWrapperFactory {
 
-	private static class InvocationHandlerImpl implements InvocationHandler {
+	private static final MethodDescriptors descriptors = new MethodDescriptors(TargetLocatorWrapperFactory::describe);
+	private static final WrapperConstructor constructor = wrapperConstructor(TargetLocator.class, WrapsTargetLocator.class);
+	
+	private static class InvocationHandlerImpl extends ListenableInvocationHandler {
 
 		private final TargetLocator targetLocator;
 		private final WebDriver driver;
 		private final Listeners listeners;
+		private final ElementWrappers elements;
 		private final WebDriver wrappedDriver;
+		private final WrapperSlot<Alert> alert;
 		
 		public InvocationHandlerImpl(
 				TargetLocator targetLocator,
 				WebDriver driver,
 				Listeners listeners,
+				ElementWrappers elements,
 				WebDriver wrappedDriver) {
+			super(descriptors);
 			this.targetLocator = targetLocator;
 			this.driver = driver;
 			this.listeners = listeners;
+			this.elements = elements;
 			this.wrappedDriver = wrappedDriver;
+			this.alert = new WrapperSlot<>(alert -> wrapAlert(alert, driver, listeners));
 		}
 		
 		@Override
-		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-			String methodName = method.getName();
-			if ("getWrappedTargetLocator".equals(methodName))
+		protected Object invoke(Object proxy, MethodDescriptor descriptor, Object[] args) throws Throwable {
+			if (descriptor.kind() == GET_WRAPPED)
 				return targetLocator;
-			Class<?>[] parameterTypes = method.getParameterTypes();
-			WebDriverEventListener<TargetLocator> listener;
-			if ((listener = listeners.getBeforeListener(methodName)) != null && listener.isApplicable(proxy, parameterTypes))
-				listener.invoke(driver, targetLocator, proxy, method, args, null);
+			long invocation = listeners.invocationId(descriptor);
+			long start = invocation != 0 ? System.nanoTime() : 0;
+			listeners.<TargetLocator>fireBefore(proxy, descriptor, driver, targetLocator, args, invocation, start);
 			Object result;
-			Object wrappedResult;
 			try {
-				result = method.invoke(targetLocator, args);
-				wrappedResult = wrapResult(result, methodName, parameterTypes);
-			} catch (InvocationTargetException e) {
-				Throwable t = e.getTargetException();
-				if (listeners.getExeptionListener() != null)
-					listeners.getExeptionListener().invoke(driver, targetLocator, proxy, method, args, t);
+				result = InterceptedInvocation.invoke(listeners, descriptor, driver, targetLocator, proxy, args);
+			} catch (Throwable t) {
+				long elapsed = invocation != 0 ? System.nanoTime() - start : 0;
+				listeners.<TargetLocator>fireException(proxy, descriptor, driver, targetLocator, args, t, invocation, start, elapsed);
 				throw t;
 			}
-			if ((listener = listeners.getAfterListener(methodName)) != null && listener.isApplicable(proxy, parameterTypes))
-				listener.invoke(driver, targetLocator, proxy, method, args, result);
+			long elapsed = invocation != 0 ? System.nanoTime() - start : 0;
+			Object wrappedResult = wrapResult(result, descriptor.result());
+			listeners.<TargetLocator>fireAfter(proxy, descriptor, driver, targetLocator, args, result, invocation, start, elapsed);
 			return wrappedResult;
 		}
 
-		private Object wrapResult(Object result, String methodName, Class<?>[] parameterTypes) {
-			if ("activeElement".equals(methodName) && Arrays.equals(parameterTypes, new Class<?>[]{}) &&
-				!(result instanceof WebElementListenableWrapper))
-				return wrapWebElement((WebElement) result, driver, listeners);
-			if ("alert".equals(methodName) && Arrays.equals(parameterTypes, new Class<?>[]{}))
-				return wrapAlert((Alert) result, driver, listeners);
-			return wrappedDriver;
+		private Object wrapResult(Object result, MethodDescriptor.Result kind) {
+			switch (kind) {
+				case ACTIVE_ELEMENT:
+					if (result instanceof WebElementListenableWrapper || !listeners.shouldWrap(Scope.ELEMENT))
+						return result;
+					return wrapWebElement((WebElement) result, driver, listeners, elements);
+				case ALERT:
+					if (!listeners.shouldWrap(Scope.ALERT))
+						return result;
+					return alert.get((Alert) result);
+				case WRAPPED_DRIVER:
+					return wrappedDriver;
+				default:
+					return result;
+			}
 		}
 	}
 	
+	private static MethodDescriptor describe(Method method, MethodInvoker invoker) {
+		if ("getWrappedTargetLocator".equals(method.getName()))
+			return new MethodDescriptor(TARGET_LOCATOR, method, invoker, GET_WRAPPED, AS_IS);
+		if (is(method, "activeElement"))
+			return new MethodDescriptor(TARGET_LOCATOR, method, invoker, DELEGATE, ACTIVE_ELEMENT);
+		if (is(method, "alert"))
+			return new MethodDescriptor(TARGET_LOCATOR, method, invoker, DELEGATE, ALERT);
+		if (WebDriver.class.equals(method.getReturnType()))
+			return new MethodDescriptor(TARGET_LOCATOR, method, invoker, DELEGATE, WRAPPED_DRIVER);
+		return new MethodDescriptor(TARGET_LOCATOR, method, invoker, DELEGATE, AS_IS);
+	}
+	
 	public static TargetLocator wrapTargetLocator(
 			TargetLocator targetLocator,
 			WebDriver driver,
 			Listeners listeners,
+			ElementWrappers elements,
 			WebDriver wrappedDriver) {
-		return (TargetLocator) Proxy.newProxyInstance(
-			TargetLocatorWrapperFactory.class.getClassLoader(),
-			new Class<?>[]{TargetLocator.class, WrapsTargetLocator.class},
-			new InvocationHandlerImpl(targetLocator, driver, listeners, wrappedDriver));
+		return (TargetLocator) constructor.newInstance(new InvocationHandlerImpl(targetLocator, driver, listeners, elements, wrappedDriver));
 	}
 	
 	private TargetLocatorWrapperFactory() {}
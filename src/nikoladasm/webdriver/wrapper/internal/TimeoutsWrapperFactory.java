@@ -18,21 +18,24 @@
 
 package nikoladasm.webdriver.wrapper.internal;
 
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.InvocationTargetException;
+import static nikoladasm.webdriver.wrapper.internal.WrapperGenerator.wrapperConstructor;
+import static nikoladasm.webdriver.wrapper.internal.MethodDescriptor.Kind.*;
+import static nikoladasm.webdriver.wrapper.internal.MethodDescriptor.Result.*;
+import static nikoladasm.webdriver.wrapper.internal.Scope.TIMEOUTS;
+import static nikoladasm.webdriver.wrapper.internal.MethodDescriptors.is;
+
 import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
-import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriver.Timeouts;
 
-import nikoladasm.webdriver.wrapper.listeners.WebDriverEventListener;
-
 public final class TimeoutsWrapperFactory {
 
-	private static class InvocationHandlerImpl implements InvocationHandler {
+	private static final MethodDescriptors descriptors = new MethodDescriptors(TimeoutsWrapperFactory::describe);
+	private static final WrapperConstructor constructor = wrapperConstructor(Timeouts.class, WrapsTimeouts.class);
+	
+	private static class InvocationHandlerImpl extends ListenableInvocationHandler {
 
 		private final Timeouts timeouts;
 		private final WebDriver driver;
@@ -42,49 +45,55 @@ public final class TimeoutsWrapperFactory {
 				Timeouts timeouts,
 				WebDriver driver,
 				Listeners listeners) {
+			super(descriptors);
 			this.timeouts = timeouts;
 			this.driver = driver;
 			this.listeners = listeners;
 		}
 		
 		@Override
-		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-			String methodName = method.getName();
-			if ("getWrappedTimeouts".equals(methodName))
+		protected Object invoke(Object proxy, MethodDescriptor descriptor, Object[] args) throws Throwable {
+			if (descriptor.kind() == GET_WRAPPED)
 				return timeouts;
-			if ("equals".equals(methodName))
+			if (descriptor.kind() == IDENTITY_EQUALS)
 				return proxy.getClass().isInstance(args[0]) && args[0] == proxy;
-			Class<?>[] parameterTypes = method.getParameterTypes();
-			WebDriverEventListener<Timeouts> listener;
-			if ((listener = listeners.getBeforeListener(methodName)) != null && listener.isApplicable(proxy, parameterTypes))
-				listener.invoke(driver, timeouts, proxy, method, args, null);
+			long invocation = listeners.invocationId(descriptor);
+			long start = invocation != 0 ? System.nanoTime() : 0;
+			listeners.<Timeouts>fireBefore(proxy, descriptor, driver, timeouts, args, invocation, start);
 			Object result;
 			try {
-				result = method.invoke(timeouts, args);
-			} catch (InvocationTargetException e) {
-				Throwable t = e.getTargetException();
-				if (listeners.getExeptionListener() != null)
-					listeners.getExeptionListener().invoke(driver, timeouts, proxy, method, args, t);
+				result = InterceptedInvocation.invoke(listeners, descriptor, driver, timeouts, proxy, args);
+			} catch (Throwable t) {
+				long elapsed = invocation != 0 ? System.nanoTime() - start : 0;
+				listeners.<Timeouts>fireException(proxy, descriptor, driver, timeouts, args, t, invocation, start, elapsed);
 				throw t;
 			}
-			if ((listener = listeners.getAfterListener(methodName)) != null && listener.isApplicable(proxy, parameterTypes))
-				listener.invoke(driver, timeouts, proxy, method, args, result);
-			if (("implicitlyWait".equals(methodName) || "setScriptTimeout".equals(methodName) ||
-				"pageLoadTimeout".equals(methodName)) && Arrays.equals(parameterTypes, new Class<?>[]{long.class, TimeUnit.class}))
+			long elapsed = invocation != 0 ? System.nanoTime() - start : 0;
+			listeners.<Timeouts>fireAfter(proxy, descriptor, driver, timeouts, args, result, invocation, start, elapsed);
+			if (descriptor.result() == PROXY)
 				return proxy;
 			else
 				return result;
 		}
 	}
 	
+	private static MethodDescriptor describe(Method method, MethodInvoker invoker) {
+		if ("getWrappedTimeouts".equals(method.getName()))
+			return new MethodDescriptor(TIMEOUTS, method, invoker, GET_WRAPPED, AS_IS);
+		if ("equals".equals(method.getName()))
+			return new MethodDescriptor(TIMEOUTS, method, invoker, IDENTITY_EQUALS, AS_IS);
+		if (is(method, "implicitlyWait", long.class, TimeUnit.class) ||
+			is(method, "setScriptTimeout", long.class, TimeUnit.class) ||
+			is(method, "pageLoadTimeout", long.class, TimeUnit.class))
+			return new MethodDescriptor(TIMEOUTS, method, invoker, DELEGATE, PROXY);
+		return new MethodDescriptor(TIMEOUTS, method, invoker, DELEGATE, AS_IS);
+	}
+	
 	public static Timeouts wrapTimeouts(
 			Timeouts timeouts,
 			WebDriver driver,
 			Listeners listeners) {
-		return (Timeouts) Proxy.newProxyInstance(
-			TimeoutsWrapperFactory.class.getClassLoader(),
-			new Class<?>[]{Timeouts.class, WrapsTimeouts.class},
-			new InvocationHandlerImpl(timeouts, driver, listeners));
+		return (Timeouts) constructor.newInstance(new InvocationHandlerImpl(timeouts, driver, listeners));
 	}
 	
 	private TimeoutsWrapperFactory() {}
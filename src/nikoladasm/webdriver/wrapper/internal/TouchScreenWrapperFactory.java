@@ -18,19 +18,22 @@
 
 package nikoladasm.webdriver.wrapper.internal;
 
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.InvocationTargetException;
+import static nikoladasm.webdriver.wrapper.internal.WrapperGenerator.wrapperConstructor;
+import static nikoladasm.webdriver.wrapper.internal.MethodDescriptor.Kind.*;
+import static nikoladasm.webdriver.wrapper.internal.MethodDescriptor.Result.*;
+import static nikoladasm.webdriver.wrapper.internal.Scope.TOUCH_SCREEN;
+
 import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
 
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.interactions.TouchScreen;
 
-import nikoladasm.webdriver.wrapper.listeners.WebDriverEventListener;
-
 public final class TouchScreenWrapperFactory {
 
-	private static class InvocationHandlerImpl implements InvocationHandler {
+	private static final MethodDescriptors descriptors = new MethodDescriptors(TouchScreenWrapperFactory::describe);
+	private static final WrapperConstructor constructor = wrapperConstructor(TouchScreen.class, WrapsTouchScreen.class);
+	
+	private static class InvocationHandlerImpl extends ListenableInvocationHandler {
 
 		private final TouchScreen touchScreen;
 		private final WebDriver driver;
@@ -40,43 +43,44 @@ public final class TouchScreenWrapperFactory {
 				TouchScreen touchScreen,
 				WebDriver driver,
 				Listeners listeners) {
+			super(descriptors);
 			this.touchScreen = touchScreen;
 			this.driver = driver;
 			this.listeners = listeners;
 		}
 		
 		@Override
-		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-			String methodName = method.getName();
-			if ("getWrappedTouchScreen".equals(methodName))
+		protected Object invoke(Object proxy, MethodDescriptor descriptor, Object[] args) throws Throwable {
+			if (descriptor.kind() == GET_WRAPPED)
 				return touchScreen;
-			Class<?>[] parameterTypes = method.getParameterTypes();
-			WebDriverEventListener<TouchScreen> listener;
-			if ((listener = listeners.getBeforeListener(methodName)) != null && listener.isApplicable(proxy, parameterTypes))
-				listener.invoke(driver, touchScreen, proxy, method, args, null);
+			long invocation = listeners.invocationId(descriptor);
+			long start = invocation != 0 ? System.nanoTime() : 0;
+			listeners.<TouchScreen>fireBefore(proxy, descriptor, driver, touchScreen, args, invocation, start);
 			Object result;
 			try {
-				result = method.invoke(touchScreen, args);
-			} catch (InvocationTargetException e) {
-				Throwable t = e.getTargetException();
-				if (listeners.getExeptionListener() != null)
-					listeners.getExeptionListener().invoke(driver, touchScreen, proxy, method, args, t);
+				result = InterceptedInvocation.invoke(listeners, descriptor, driver, touchScreen, proxy, args);
+			} catch (Throwable t) {
+				long elapsed = invocation != 0 ? System.nanoTime() - start : 0;
+				listeners.<TouchScreen>fireException(proxy, descriptor, driver, touchScreen, args, t, invocation, start, elapsed);
 				throw t;
 			}
-			if ((listener = listeners.getAfterListener(methodName)) != null && listener.isApplicable(proxy, parameterTypes))
-				listener.invoke(driver, touchScreen, proxy, method, args, result);
+			long elapsed = invocation != 0 ? System.nanoTime() - start : 0;
+			listeners.<TouchScreen>fireAfter(proxy, descriptor, driver, touchScreen, args, result, invocation, start, elapsed);
 			return result;
 		}
 	}
 	
+	private static MethodDescriptor describe(Method method, MethodInvoker invoker) {
+		if ("getWrappedTouchScreen".equals(method.getName()))
+			return new MethodDescriptor(TOUCH_SCREEN, method, invoker, GET_WRAPPED, AS_IS);
+		return new MethodDescriptor(TOUCH_SCREEN, method, invoker, DELEGATE, AS_IS);
+	}
+	
 	public static TouchScreen wrapTouchScreen(
 			TouchScreen touchScreen,
 			WebDriver driver,
 			Listeners listeners) {
-		return (TouchScreen) Proxy.newProxyInstance(
-			TouchScreenWrapperFactory.class.getClassLoader(),
-			new Class<?>[]{TouchScreen.class, WrapsTouchScreen.class},
-			new InvocationHandlerImpl(touchScreen, driver, listeners));
+		return (TouchScreen) constructor.newInstance(new InvocationHandlerImpl(touchScreen, driver, listeners));
 	}
 	
 	private TouchScreenWrapperFactory() {}
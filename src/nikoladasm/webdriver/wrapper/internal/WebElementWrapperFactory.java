@@ -18,12 +18,13 @@
 
 package nikoladasm.webdriver.wrapper.internal;
 
-import static java.util.stream.Collectors.toList;
+import static nikoladasm.webdriver.wrapper.internal.WrapperGenerator.handlerOf;
+import static nikoladasm.webdriver.wrapper.internal.WrapperGenerator.wrapperConstructor;
+import static nikoladasm.webdriver.wrapper.internal.MethodDescriptor.Kind.*;
+import static nikoladasm.webdriver.wrapper.internal.MethodDescriptor.Result.*;
+import static nikoladasm.webdriver.wrapper.internal.MethodDescriptors.is;
 
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -35,78 +36,191 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.internal.WrapsDriver;
 import org.openqa.selenium.internal.WrapsElement;
 
-import nikoladasm.webdriver.wrapper.listeners.WebDriverEventListener;
-
 public final class WebElementWrapperFactory {
 
-	private static class InvocationHandlerImpl implements InvocationHandler {
+	private static final MethodDescriptors descriptors = new MethodDescriptors(WebElementWrapperFactory::describe);
+	private static final ClassValue<WrapperConstructor> constructors = new ClassValue<WrapperConstructor>() {
+		@Override
+		protected WrapperConstructor computeValue(Class<?> type) {
+			return wrapperConstructor(extractInterfaces(type));
+		}
+	};
+	
+	private static class InvocationHandlerImpl extends ListenableInvocationHandler {
 
 		private final WebElement element;
 		private final WebDriver driver;
 		private final Listeners listeners;
+		private final ElementWrappers elements;
+		private CachedReads reads;
+		private CachedLookups lookups;
 		
 		public InvocationHandlerImpl(
 				WebElement element,
 				WebDriver driver,
-				Listeners listeners) {
+				Listeners listeners,
+				ElementWrappers elements) {
+			super(descriptors);
 			this.element = element;
 			this.driver = driver;
 			this.listeners = listeners;
+			this.elements = elements;
 		}
 		
 		@Override
-		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-			String methodName = method.getName();
-			if ("getWrappedElement".equals(methodName))
+		protected Object invoke(Object proxy, MethodDescriptor descriptor, Object[] args) throws Throwable {
+			if (descriptor.kind() == GET_WRAPPED)
 				return element;
-			if ("getWrappedDriver".equals(methodName))
+			if (descriptor.kind() == GET_WRAPPED_DRIVER)
 				return driver;
-			Class<?>[] parameterTypes = method.getParameterTypes();
-			WebDriverEventListener<WebElement> listener;
-			if ((listener = listeners.getBeforeListener(methodName)) != null && listener.isApplicable(proxy, parameterTypes))
-				listener.invoke(driver, element, proxy, method, args, null);
+			if (descriptor.kind() == UNWRAPPED_EQUALS) {
+				Object other = args[0];
+				if (other instanceof WebElementListenableWrapper)
+					other = ((WrapsElement) other).getWrappedElement();
+				return element == other || element.equals(other);
+			}
+			if (descriptor.kind() == HASH_CODE)
+				return element.hashCode();
+			long invocation = listeners.invocationId(descriptor);
+			long start = invocation != 0 ? System.nanoTime() : 0;
+			listeners.<WebElement>fireBefore(proxy, descriptor, driver, element, args, invocation, start);
 			Object result;
-			Object wrappedResult;
 			try {
-				result = method.invoke(element, args);
-				wrappedResult = wrapResult(result, methodName, parameterTypes);
-			} catch (InvocationTargetException e) {
-				Throwable t = e.getTargetException();
-				if (listeners.getExeptionListener() != null)
-					listeners.getExeptionListener().invoke(driver, element, proxy, method, args, t);
+				DomEpoch epoch = listeners.epoch();
+				if (epoch != null && descriptor.cachedRead() != CachedReads.NONE)
+					result = cachedRead(proxy, descriptor, args, epoch);
+				else if (epoch != null && descriptor.lookup())
+					result = lookups().find(listeners, descriptor, driver, element, proxy, args);
+				else
+					result = InterceptedInvocation.invoke(listeners, descriptor, driver, element, proxy, args);
+			} catch (Throwable t) {
+				long elapsed = invocation != 0 ? System.nanoTime() - start : 0;
+				listeners.<WebElement>fireException(proxy, descriptor, driver, element, args, t, invocation, start, elapsed);
 				throw t;
 			}
-			if ((listener = listeners.getAfterListener(methodName)) != null && listener.isApplicable(proxy, parameterTypes))
-				listener.invoke(driver, element, proxy, method, args, result);
+			long elapsed = invocation != 0 ? System.nanoTime() - start : 0;
+			Object wrappedResult = wrapResult(result, descriptor.result());
+			listeners.<WebElement>fireAfter(proxy, descriptor, driver, element, args, result, invocation, start, elapsed);
 			return wrappedResult;
 		}
 		
-		@SuppressWarnings("unchecked")
-		private Object wrapResult(Object result, String methodName, Class<?>[] parameterTypes) {
-			if ("findElement".equals(methodName) && Arrays.equals(parameterTypes, new Class<?>[]{By.class}))
-				return wrapWebElement((WebElement) result, driver, listeners);
-			if ("findElements".equals(methodName) && Arrays.equals(parameterTypes, new Class<?>[]{By.class}))
-				return ((List<WebElement>) result).stream().map(element -> wrapWebElement(element, driver, listeners)).collect(toList());
+		/*
+		 * Listeners still see a call answered from the cache; interceptors
+		 * only see the calls that reach the element.
+		 */
+		private Object cachedRead(Object proxy, MethodDescriptor descriptor, Object[] args, DomEpoch epoch) throws Throwable {
+			// Racing threads may each create one; the reads kept by the losers are simply read again.
+			CachedReads reads = this.reads;
+			if (reads == null)
+				this.reads = reads = new CachedReads();
+			long current = epoch.current();
+			Object result = reads.get(descriptor.cachedRead(), args, current);
+			if (result != CachedReads.MISSING) {
+				epoch.elementReads().hit();
+				return result;
+			}
+			epoch.elementReads().miss();
+			result = InterceptedInvocation.invoke(listeners, descriptor, driver, element, proxy, args);
+			reads.put(descriptor.cachedRead(), args, result, current);
 			return result;
 		}
+		
+		private CachedLookups lookups() {
+			// Racing threads may each create one, as for reads.
+			CachedLookups lookups = this.lookups;
+			if (lookups == null)
+				this.lookups = lookups = new CachedLookups();
+			return lookups;
+		}
+		
+		@SuppressWarnings("unchecked")
+		private Object wrapResult(Object result, MethodDescriptor.Result kind) {
+			switch (kind) {
+				case ELEMENT:
+					if (!listeners.shouldWrap(Scope.ELEMENT))
+						return result;
+					return wrapWebElement((WebElement) result, driver, listeners, elements);
+				case ELEMENTS:
+					if (!listeners.shouldWrap(Scope.ELEMENT))
+						return result;
+					return new LazyList<>((List<WebElement>) result, found -> wrapWebElement(found, driver, listeners, elements));
+				default:
+					return result;
+			}
+		}
+	}
+	
+	private static MethodDescriptor describe(Method method, MethodInvoker invoker) {
+		if ("getWrappedElement".equals(method.getName()))
+			return new MethodDescriptor(Scope.ELEMENT, method, invoker, GET_WRAPPED, AS_IS);
+		if ("getWrappedDriver".equals(method.getName()))
+			return new MethodDescriptor(Scope.ELEMENT, method, invoker, GET_WRAPPED_DRIVER, AS_IS);
+		if (is(method, "equals", Object.class))
+			return new MethodDescriptor(Scope.ELEMENT, method, invoker, UNWRAPPED_EQUALS, AS_IS);
+		if (is(method, "hashCode"))
+			return new MethodDescriptor(Scope.ELEMENT, method, invoker, HASH_CODE, AS_IS);
+		if (is(method, "findElement", By.class))
+			return new MethodDescriptor(Scope.ELEMENT, method, invoker, DELEGATE, ELEMENT);
+		if (is(method, "findElements", By.class))
+			return new MethodDescriptor(Scope.ELEMENT, method, invoker, DELEGATE, ELEMENTS);
+		return new MethodDescriptor(Scope.ELEMENT, method, invoker, DELEGATE, AS_IS);
 	}
 	
 	public static WebElement wrapWebElement(
 			WebElement element,
 			WebDriver driver,
 			Listeners listeners) {
-		return (WebElement) Proxy.newProxyInstance(
-			WebElementWrapperFactory.class.getClassLoader(),
-			extractInterfaces(element),
-			new InvocationHandlerImpl(element, driver, listeners));
+		return wrapWebElement(element, driver, listeners, new ElementWrappers());
+	}
+	
+	public static WebElement wrapWebElement(
+			WebElement element,
+			WebDriver driver,
+			Listeners listeners,
+			ElementWrappers elements) {
+		return elements.get(element, unwrapped -> newWrapper(unwrapped, driver, listeners, elements));
+	}
+	
+	/*
+	 * An element that already is one of our wrappers is not wrapped again; the
+	 * new wrapper delegates to the same element and fires the given listeners
+	 * around those of the wrapper it replaces.
+	 */
+	private static WebElement newWrapper(
+			WebElement element,
+			WebDriver driver,
+			Listeners listeners,
+			ElementWrappers elements) {
+		if (element instanceof WebElementListenableWrapper) {
+			ListenableInvocationHandler handler = handlerOf(element);
+			if (handler instanceof InvocationHandlerImpl) {
+				InvocationHandlerImpl wrapped = (InvocationHandlerImpl) handler;
+				element = wrapped.element;
+				listeners = Listeners.compose(listeners, wrapped.listeners);
+			}
+		}
+		return (WebElement) constructors.get(element.getClass()).newInstance(new InvocationHandlerImpl(element, driver, listeners, elements));
+	}
+	
+	/*
+	 * A call of method on element made some other way (see ListenedCall), or
+	 * null when element is not one of our wrappers and so has no listeners.
+	 */
+	static ListenedCall call(WebElement element, Method method, Object[] args) {
+		ListenableInvocationHandler handler = handlerOf(element);
+		if (!(handler instanceof InvocationHandlerImpl))
+			return null;
+		InvocationHandlerImpl wrapper = (InvocationHandlerImpl) handler;
+		MethodDescriptor descriptor = descriptors.get(element.getClass(), method, null);
+		return new ListenedCall(element, descriptor, wrapper.listeners, wrapper.driver, wrapper.element, args);
 	}
 	
-	private static Class<?>[] extractInterfaces(Object object) {
+	private static Class<?>[] extractInterfaces(Class<?> type) {
 		Set<Class<?>> allInterfaces = new HashSet<>();
 		allInterfaces.add(WrapsElement.class);
 		allInterfaces.add(WrapsDriver.class);
 		allInterfaces.add(WebElementListenableWrapper.class);
-		extractInterfaces(allInterfaces, object.getClass());
+		extractInterfaces(allInterfaces, type);
 		return allInterfaces.toArray(new Class<?>[allInterfaces.size()]);
 	}
 
@@ -18,19 +18,22 @@
 
 package nikoladasm.webdriver.wrapper.internal;
 
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.InvocationTargetException;
+import static nikoladasm.webdriver.wrapper.internal.WrapperGenerator.wrapperConstructor;
+import static nikoladasm.webdriver.wrapper.internal.MethodDescriptor.Kind.*;
+import static nikoladasm.webdriver.wrapper.internal.MethodDescriptor.Result.*;
+import static nikoladasm.webdriver.wrapper.internal.Scope.WINDOW;
+
 import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
 
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriver.Window;
 
-import nikoladasm.webdriver.wrapper.listeners.WebDriverEventListener;
-
 public final class WindowWrapperFactory {
 
-	private static class InvocationHandlerImpl implements InvocationHandler {
+	private static final MethodDescriptors descriptors = new MethodDescriptors(WindowWrapperFactory::describe);
+	private static final WrapperConstructor constructor = wrapperConstructor(Window.class, WrapsWindow.class);
+	
+	private static class InvocationHandlerImpl extends ListenableInvocationHandler {
 
 		private final Window window;
 		private final WebDriver driver;
@@ -40,43 +43,44 @@ public final class WindowWrapperFactory {
 				Window window,
 				WebDriver driver,
 				Listeners listeners) {
+			super(descriptors);
 			this.window = window;
 			this.driver = driver;
 			this.listeners = listeners;
 		}
 		
 		@Override
-		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-			String methodName = method.getName();
-			if ("getWrappedWindow".equals(methodName))
+		protected Object invoke(Object proxy, MethodDescriptor descriptor, Object[] args) throws Throwable {
+			if (descriptor.kind() == GET_WRAPPED)
 				return window;
-			Class<?>[] parameterTypes = method.getParameterTypes();
-			WebDriverEventListener<Window> listener;
-			if ((listener = listeners.getBeforeListener(methodName)) != null && listener.isApplicable(proxy, parameterTypes))
-				listener.invoke(driver, window, proxy, method, args, null);
+			long invocation = listeners.invocationId(descriptor);
+			long start = invocation != 0 ? System.nanoTime() : 0;
+			listeners.<Window>fireBefore(proxy, descriptor, driver, window, args, invocation, start);
 			Object result;
 			try {
-				result = method.invoke(window, args);
-			} catch (InvocationTargetException e) {
-				Throwable t = e.getTargetException();
-				if (listeners.getExeptionListener() != null)
-					listeners.getExeptionListener().invoke(driver, window, proxy, method, args, t);
+				result = InterceptedInvocation.invoke(listeners, descriptor, driver, window, proxy, args);
+			} catch (Throwable t) {
+				long elapsed = invocation != 0 ? System.nanoTime() - start : 0;
+				listeners.<Window>fireException(proxy, descriptor, driver, window, args, t, invocation, start, elapsed);
 				throw t;
 			}
-			if ((listener = listeners.getAfterListener(methodName)) != null && listener.isApplicable(proxy, parameterTypes))
-				listener.invoke(driver, window, proxy, method, args, result);
+			long elapsed = invocation != 0 ? System.nanoTime() - start : 0;
+			listeners.<Window>fireAfter(proxy, descriptor, driver, window, args, result, invocation, start, elapsed);
 			return result;
 		}
 	}
 	
+	private static MethodDescriptor describe(Method method, MethodInvoker invoker) {
+		if ("getWrappedWindow".equals(method.getName()))
+			return new MethodDescriptor(WINDOW, method, invoker, GET_WRAPPED, AS_IS);
+		return new MethodDescriptor(WINDOW, method, invoker, DELEGATE, AS_IS);
+	}
+	
 	public static Window wrapWindow(
 			Window window,
 			WebDriver driver,
 			Listeners listeners) {
-		return (Window) Proxy.newProxyInstance(
-			WindowWrapperFactory.class.getClassLoader(),
-			new Class<?>[]{Window.class, WrapsWindow.class},
-			new InvocationHandlerImpl(window, driver, listeners));
+		return (Window) constructor.newInstance(new InvocationHandlerImpl(window, driver, listeners));
 	}
 	
 	private WindowWrapperFactory() {}
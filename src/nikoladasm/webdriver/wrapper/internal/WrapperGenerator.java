@@ -0,0 +1,422 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper.internal;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.method.ParameterDescription;
+import net.bytebuddy.description.modifier.FieldManifestation;
+import net.bytebuddy.description.modifier.Ownership;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.implementation.bytecode.Duplication;
+import net.bytebuddy.implementation.bytecode.StackManipulation;
+import net.bytebuddy.implementation.bytecode.Throw;
+import net.bytebuddy.implementation.bytecode.TypeCreation;
+import net.bytebuddy.implementation.bytecode.assign.Assigner;
+import net.bytebuddy.implementation.bytecode.assign.TypeCasting;
+import net.bytebuddy.implementation.bytecode.collection.ArrayAccess;
+import net.bytebuddy.implementation.bytecode.collection.ArrayFactory;
+import net.bytebuddy.implementation.bytecode.constant.IntegerConstant;
+import net.bytebuddy.implementation.bytecode.constant.NullConstant;
+import net.bytebuddy.implementation.bytecode.member.FieldAccess;
+import net.bytebuddy.implementation.bytecode.member.MethodInvocation;
+import net.bytebuddy.implementation.bytecode.member.MethodReturn;
+import net.bytebuddy.implementation.bytecode.member.MethodVariableAccess;
+import net.bytebuddy.jar.asm.Label;
+import net.bytebuddy.jar.asm.MethodVisitor;
+import net.bytebuddy.jar.asm.Opcodes;
+
+/*
+ * Creates wrappers for an interface set. Interface sets known at build time have
+ * a precompiled wrapper class (see PrecompiledWrappers); for any other set a
+ * wrapper class is generated here. Every interface method of the wrapper hands
+ * its arguments to ListenableInvocationHandler.dispatch together with its index
+ * in the wrapper class and a MethodInvoker whose generated body calls the delegate with a plain
+ * invokeinterface, so neither java.lang.reflect.Proxy nor Method.invoke is on
+ * the call path. Interface sets that can not be implemented this way (non public
+ * interfaces, conflicting return types) or environments that can not define
+ * classes at runtime fall back to a dynamic proxy.
+ */
+public final class WrapperGenerator {
+
+	private static final String HANDLER_FIELD = "handler";
+	private static final String METHODS_FIELD = "methods";
+	private static final String INVOKERS_FIELD = "invokers";
+	private static final String INDEX_FIELD = "index";
+
+	/*
+	 * Constructors by interface set, kept with the interface of the set whose
+	 * class loader is the most specific one, so that a set does not keep the
+	 * class loader of its interfaces alive.
+	 */
+	private static final ClassValue<ConcurrentMap<List<Class<?>>, WrapperConstructor>> constructors =
+		new ClassValue<ConcurrentMap<List<Class<?>>, WrapperConstructor>>() {
+		@Override
+		protected ConcurrentMap<List<Class<?>>, WrapperConstructor> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+	private static final AtomicInteger counter = new AtomicInteger();
+	private static final ClassValue<Field> handlerFields = new ClassValue<Field>() {
+		@Override
+		protected Field computeValue(Class<?> type) {
+			try {
+				Field field = type.getDeclaredField(HANDLER_FIELD);
+				if (!ListenableInvocationHandler.class.equals(field.getType()))
+					return null;
+				field.setAccessible(true);
+				return field;
+			} catch (NoSuchFieldException | SecurityException e) {
+				return null;
+			}
+		}
+	};
+
+	public static Object newWrapper(Class<?>[] interfaces, ListenableInvocationHandler handler) {
+		return wrapperConstructor(interfaces).newInstance(handler);
+	}
+
+	/*
+	 * Returns the handler behind a wrapper created here, or null for any other
+	 * object.
+	 */
+	public static ListenableInvocationHandler handlerOf(Object wrapper) {
+		if (Proxy.isProxyClass(wrapper.getClass())) {
+			InvocationHandler handler = Proxy.getInvocationHandler(wrapper);
+			return handler instanceof ListenableInvocationHandler ? (ListenableInvocationHandler) handler : null;
+		}
+		Field field = handlerFields.get(wrapper.getClass());
+		if (field == null)
+			return null;
+		try {
+			return (ListenableInvocationHandler) field.get(wrapper);
+		} catch (IllegalAccessException e) {
+			return null;
+		}
+	}
+
+	public static WrapperConstructor wrapperConstructor(Class<?>... interfaces) {
+		List<Class<?>> key = Arrays.asList(interfaces);
+		ConcurrentMap<List<Class<?>>, WrapperConstructor> owned = constructors.get(owner(interfaces));
+		WrapperConstructor constructor = owned.get(key);
+		if (constructor == null)
+			constructor = owned.computeIfAbsent(key, k -> constructor(interfaces));
+		return constructor;
+	}
+
+	private static Class<?> owner(Class<?>[] interfaces) {
+		Class<?> owner = Object.class;
+		for (Class<?> clazz : interfaces)
+			if (isAncestor(owner.getClassLoader(), clazz.getClassLoader()))
+				owner = clazz;
+		return owner;
+	}
+
+	private static boolean isAncestor(ClassLoader ancestor, ClassLoader classLoader) {
+		if (ancestor == classLoader)
+			return false;
+		if (ancestor == null)
+			return true;
+		try {
+			for (ClassLoader parent = classLoader; parent != null; parent = parent.getParent())
+				if (parent == ancestor)
+					return true;
+		} catch (SecurityException e) {
+			return false;
+		}
+		return false;
+	}
+
+	private static WrapperConstructor constructor(Class<?>[] interfaces) {
+		WrapperConstructor constructor = PrecompiledWrappers.constructor(interfaces);
+		if (constructor == null)
+			constructor = generate(interfaces);
+		if (constructor == null) {
+			ClassLoader classLoader = WrapperGenerator.class.getClassLoader();
+			constructor = handler -> Proxy.newProxyInstance(classLoader, interfaces, handler);
+		}
+		return constructor;
+	}
+
+	private static WrapperConstructor generate(Class<?>[] interfaces) {
+		List<Method> methods = wrapperMethods(interfaces);
+		if (methods == null)
+			return null;
+		try {
+			ClassLoader classLoader = WrapperGenerator.class.getClassLoader();
+			String name = WrapperGenerator.class.getName() + "$Wrapper$" + counter.incrementAndGet();
+			ByteBuddy byteBuddy = new ByteBuddy(ClassFileVersion.JAVA_V8);
+			Class<?> invokerType = byteBuddy
+				.subclass(Object.class, ConstructorStrategy.Default.NO_CONSTRUCTORS)
+				.name(name + "$Invoker")
+				.modifiers(Visibility.PUBLIC)
+				.implement(MethodInvoker.class)
+				.intercept(new Implementation.Simple(new InvokerAppender(methods)))
+				.defineField(INDEX_FIELD, int.class, Visibility.PRIVATE, FieldManifestation.FINAL)
+				.defineConstructor(Visibility.PUBLIC)
+				.withParameters(int.class)
+				.intercept(new Implementation.Simple(new ConstructorAppender(INDEX_FIELD, int.class)))
+				.make()
+				.load(classLoader, ClassLoadingStrategy.Default.WRAPPER)
+				.getLoaded();
+			DynamicType.Builder<Object> builder = byteBuddy
+				.subclass(Object.class, ConstructorStrategy.Default.NO_CONSTRUCTORS)
+				.name(name)
+				.modifiers(Visibility.PUBLIC)
+				.implement(interfaces)
+				.defineField(HANDLER_FIELD, ListenableInvocationHandler.class, Visibility.PRIVATE, FieldManifestation.FINAL)
+				.defineField(METHODS_FIELD, Method[].class, Visibility.PUBLIC, Ownership.STATIC)
+				.defineField(INVOKERS_FIELD, MethodInvoker[].class, Visibility.PUBLIC, Ownership.STATIC)
+				.defineConstructor(Visibility.PUBLIC)
+				.withParameters(ListenableInvocationHandler.class)
+				.intercept(new Implementation.Simple(new ConstructorAppender(HANDLER_FIELD, ListenableInvocationHandler.class)));
+			for (int index = 0; index < methods.size(); index++) {
+				Method method = methods.get(index);
+				builder = builder
+					.defineMethod(method.getName(), method.getReturnType(), Visibility.PUBLIC)
+					.withParameters(method.getParameterTypes())
+					.throwing(method.getExceptionTypes())
+					.intercept(new Implementation.Simple(new DispatchAppender(index)));
+			}
+			Class<?> wrapperType = builder
+				.make()
+				.load(classLoader, ClassLoadingStrategy.Default.WRAPPER)
+				.getLoaded();
+			Constructor<?> invokerConstructor = invokerType.getConstructor(int.class);
+			MethodInvoker[] invokers = new MethodInvoker[methods.size()];
+			for (int index = 0; index < invokers.length; index++)
+				invokers[index] = (MethodInvoker) invokerConstructor.newInstance(index);
+			wrapperType.getField(METHODS_FIELD).set(null, methods.toArray(new Method[methods.size()]));
+			wrapperType.getField(INVOKERS_FIELD).set(null, invokers);
+			Constructor<?> constructor = wrapperType.getConstructor(ListenableInvocationHandler.class);
+			return handler -> {
+				try {
+					return constructor.newInstance(handler);
+				} catch (ReflectiveOperationException e) {
+					throw new IllegalStateException(e);
+				}
+			};
+		} catch (Exception | LinkageError e) {
+			return null;
+		}
+	}
+
+	public static List<Method> wrapperMethods(Class<?>[] interfaces) {
+		Map<String, Method> methods = new LinkedHashMap<>();
+		try {
+			for (String name : new String[]{"hashCode", "equals", "toString"}) {
+				Method method = name.equals("equals") ?
+					Object.class.getMethod(name, Object.class) :
+					Object.class.getMethod(name);
+				methods.put(signature(method), method);
+			}
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException(e);
+		}
+		for (Class<?> clazz : interfaces) {
+			if (!Modifier.isPublic(clazz.getModifiers()))
+				return null;
+			for (Method method : clazz.getMethods()) {
+				if (Modifier.isStatic(method.getModifiers()))
+					continue;
+				if (!Modifier.isPublic(method.getDeclaringClass().getModifiers()))
+					return null;
+				Method existing = methods.putIfAbsent(signature(method), method);
+				if (existing != null && !existing.getReturnType().equals(method.getReturnType()))
+					return null;
+			}
+		}
+		return new ArrayList<>(methods.values());
+	}
+
+	private static String signature(Method method) {
+		StringBuilder signature = new StringBuilder(method.getName()).append('(');
+		for (Class<?> parameterType : method.getParameterTypes())
+			signature.append(parameterType.getName()).append(';');
+		return signature.append(')').toString();
+	}
+
+	private static TypeDescription.Generic generic(Class<?> type) {
+		return new TypeDescription.ForLoadedType(type).asGenericType();
+	}
+
+	private static class ConstructorAppender implements ByteCodeAppender {
+
+		private final String fieldName;
+		private final Class<?> fieldType;
+
+		public ConstructorAppender(String fieldName, Class<?> fieldType) {
+			this.fieldName = fieldName;
+			this.fieldType = fieldType;
+		}
+
+		@Override
+		public Size apply(MethodVisitor methodVisitor, Implementation.Context context, MethodDescription instrumentedMethod) {
+			StackManipulation.Size size;
+			try {
+				size = new StackManipulation.Compound(
+					MethodVariableAccess.REFERENCE.loadOffset(0),
+					MethodInvocation.invoke(new MethodDescription.ForLoadedConstructor(Object.class.getConstructor())),
+					MethodVariableAccess.REFERENCE.loadOffset(0),
+					MethodVariableAccess.of(generic(fieldType)).loadOffset(1),
+					FieldAccess.forField(context.getInstrumentedType().getDeclaredFields().filter(named(fieldName)).getOnly()).putter(),
+					MethodReturn.VOID
+				).apply(methodVisitor, context);
+			} catch (NoSuchMethodException e) {
+				throw new IllegalStateException(e);
+			}
+			return new Size(size.getMaximalSize(), instrumentedMethod.getStackSize());
+		}
+	}
+
+	private static class DispatchAppender implements ByteCodeAppender {
+
+		private final int index;
+
+		public DispatchAppender(int index) {
+			this.index = index;
+		}
+
+		@Override
+		public Size apply(MethodVisitor methodVisitor, Implementation.Context context, MethodDescription instrumentedMethod) {
+			TypeDescription instrumentedType = context.getInstrumentedType();
+			StackManipulation arguments;
+			if (instrumentedMethod.getParameters().isEmpty()) {
+				arguments = NullConstant.INSTANCE;
+			} else {
+				List<StackManipulation> values = new ArrayList<>();
+				for (ParameterDescription parameter : instrumentedMethod.getParameters())
+					values.add(new StackManipulation.Compound(
+						MethodVariableAccess.of(parameter.getType()).loadOffset(parameter.getOffset()),
+						Assigner.DEFAULT.assign(parameter.getType(), TypeDescription.Generic.OBJECT, Assigner.Typing.STATIC)));
+				arguments = ArrayFactory.forType(TypeDescription.Generic.OBJECT).withValues(values);
+			}
+			StackManipulation.Size size;
+			try {
+				size = new StackManipulation.Compound(
+					MethodVariableAccess.REFERENCE.loadOffset(0),
+					FieldAccess.forField(instrumentedType.getDeclaredFields().filter(named(HANDLER_FIELD)).getOnly()).getter(),
+					MethodVariableAccess.REFERENCE.loadOffset(0),
+					IntegerConstant.forValue(index),
+					FieldAccess.forField(instrumentedType.getDeclaredFields().filter(named(METHODS_FIELD)).getOnly()).getter(),
+					IntegerConstant.forValue(index),
+					ArrayAccess.REFERENCE.load(),
+					FieldAccess.forField(instrumentedType.getDeclaredFields().filter(named(INVOKERS_FIELD)).getOnly()).getter(),
+					IntegerConstant.forValue(index),
+					ArrayAccess.REFERENCE.load(),
+					arguments,
+					MethodInvocation.invoke(new MethodDescription.ForLoadedMethod(ListenableInvocationHandler.class.getMethod(
+						"dispatch", Object.class, int.class, Method.class, MethodInvoker.class, Object[].class))),
+					Assigner.DEFAULT.assign(TypeDescription.Generic.OBJECT, instrumentedMethod.getReturnType(), Assigner.Typing.DYNAMIC),
+					MethodReturn.returning(instrumentedMethod.getReturnType().asErasure())
+				).apply(methodVisitor, context);
+			} catch (NoSuchMethodException e) {
+				throw new IllegalStateException(e);
+			}
+			return new Size(size.getMaximalSize(), instrumentedMethod.getStackSize());
+		}
+	}
+
+	private static class InvokerAppender implements ByteCodeAppender {
+
+		private final List<Method> methods;
+
+		public InvokerAppender(List<Method> methods) {
+			this.methods = methods;
+		}
+
+		@Override
+		public Size apply(MethodVisitor methodVisitor, Implementation.Context context, MethodDescription instrumentedMethod) {
+			Label[] labels = new Label[methods.size()];
+			for (int index = 0; index < labels.length; index++)
+				labels[index] = new Label();
+			Label unknownMethod = new Label();
+			int stackSize = new StackManipulation.Compound(
+				MethodVariableAccess.REFERENCE.loadOffset(0),
+				FieldAccess.forField(context.getInstrumentedType().getDeclaredFields().filter(named(INDEX_FIELD)).getOnly()).getter()
+			).apply(methodVisitor, context).getMaximalSize();
+			methodVisitor.visitTableSwitchInsn(0, labels.length - 1, unknownMethod, labels);
+			// Every branch starts with the locals of the method entry and an empty stack.
+			for (int index = 0; index < labels.length; index++) {
+				methodVisitor.visitLabel(labels[index]);
+				methodVisitor.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+				stackSize = Math.max(stackSize, invocation(methods.get(index)).apply(methodVisitor, context).getMaximalSize());
+			}
+			methodVisitor.visitLabel(unknownMethod);
+			methodVisitor.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+			try {
+				stackSize = Math.max(stackSize, new StackManipulation.Compound(
+					TypeCreation.of(new TypeDescription.ForLoadedType(AbstractMethodError.class)),
+					Duplication.SINGLE,
+					MethodInvocation.invoke(new MethodDescription.ForLoadedConstructor(AbstractMethodError.class.getConstructor())),
+					Throw.INSTANCE
+				).apply(methodVisitor, context).getMaximalSize());
+			} catch (NoSuchMethodException e) {
+				throw new IllegalStateException(e);
+			}
+			return new Size(stackSize, instrumentedMethod.getStackSize());
+		}
+
+		private StackManipulation invocation(Method method) {
+			List<StackManipulation> invocation = new ArrayList<>();
+			invocation.add(MethodVariableAccess.REFERENCE.loadOffset(1));
+			invocation.add(TypeCasting.to(new TypeDescription.ForLoadedType(method.getDeclaringClass())));
+			Class<?>[] parameterTypes = method.getParameterTypes();
+			for (int index = 0; index < parameterTypes.length; index++) {
+				invocation.add(MethodVariableAccess.REFERENCE.loadOffset(2));
+				invocation.add(IntegerConstant.forValue(index));
+				invocation.add(ArrayAccess.REFERENCE.load());
+				invocation.add(Assigner.DEFAULT.assign(TypeDescription.Generic.OBJECT, generic(parameterTypes[index]), Assigner.Typing.DYNAMIC));
+			}
+			invocation.add(MethodInvocation.invoke(new MethodDescription.ForLoadedMethod(method)));
+			if (method.getReturnType() == void.class)
+				invocation.add(NullConstant.INSTANCE);
+			else
+				invocation.add(Assigner.DEFAULT.assign(generic(method.getReturnType()), TypeDescription.Generic.OBJECT, Assigner.Typing.STATIC));
+			invocation.add(MethodReturn.REFERENCE);
+			return new StackManipulation.Compound(invocation);
+		}
+	}
+
+	private WrapperGenerator() {}
+}
@@ -0,0 +1,57 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper.internal;
+
+import java.util.function.Function;
+
+/*
+ * Keeps the wrapper of the last delegate it was asked for, so that a
+ * sub-object the driver hands out again and again (navigate(), manage(),
+ * timeouts(), ...) is wrapped once and only rewrapped when the driver starts
+ * returning a different instance.
+ */
+public final class WrapperSlot<T> {
+
+	private static final class Entry<T> {
+		
+		final T delegate;
+		final T wrapper;
+		
+		Entry(T delegate, T wrapper) {
+			this.delegate = delegate;
+			this.wrapper = wrapper;
+		}
+	}
+	
+	private final Function<T, T> wrap;
+	private volatile Entry<T> entry;
+	
+	public WrapperSlot(Function<T, T> wrap) {
+		this.wrap = wrap;
+	}
+	
+	public T get(T delegate) {
+		Entry<T> entry = this.entry;
+		if (entry != null && entry.delegate == delegate)
+			return entry.wrapper;
+		T wrapper = wrap.apply(delegate);
+		this.entry = new Entry<>(delegate, wrapper);
+		return wrapper;
+	}
+}
@@ -0,0 +1,54 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper.listeners;
+
+import java.lang.reflect.Method;
+
+import org.openqa.selenium.WebDriver;
+
+import nikoladasm.webdriver.wrapper.EventListenerLocation;
+
+/*
+ * A single event as seen by a FirehoseListener. location is the location of
+ * the event, null for a method without one; an exception event reports the
+ * before location of the method. startNanos is the System.nanoTime of the
+ * start of the call and elapsedNanos is 0 for before events.
+ */
+public interface EventRecord {
+	
+	enum Phase {
+		BEFORE,
+		AFTER,
+		EXCEPTION
+	}
+	
+	Phase phase();
+	EventListenerLocation<?> location();
+	WebDriver driver();
+	Object target();
+	Object wrapper();
+	Method method();
+	int argumentCount();
+	Object argument(int index);
+	Object result();
+	Throwable throwable();
+	long invocationId();
+	long startNanos();
+	long elapsedNanos();
+}
@@ -0,0 +1,30 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper.listeners;
+
+/*
+ * Sees every event of every call: before, after and exception. The record
+ * is reused for the next event of the same thread, so it is only valid
+ * during the callback; copy out whatever has to outlive it. Firehose
+ * listeners always run on the calling thread.
+ */
+@FunctionalInterface
+public interface FirehoseListener {
+	void onEvent(EventRecord record);
+}
@@ -24,5 +24,16 @@ import org.openqa.selenium.WebDriver;
 
 public interface WebDriverEventListener<T> {
 	void invoke(WebDriver driver, T element, Object proxy, Method method, Object[] args, Object returnValue);
+	
+	/*
+	 * The form wrappers call. invocationId is shared by the before, after and
+	 * exception events of one call and elapsedNanos is the time the call took,
+	 * 0 for before events; override it to time calls.
+	 */
+	default void invoke(WebDriver driver, T element, Object proxy, Method method, Object[] args, Object returnValue,
+			long invocationId, long elapsedNanos) {
+		invoke(driver, element, proxy, method, args, returnValue);
+	}
+	
 	boolean isApplicable(Object obj, Class<?>[] parameterTypes);
 }
@@ -0,0 +1,239 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper;
+
+import static nikoladasm.webdriver.wrapper.EventListenerLocation.*;
+import static nikoladasm.webdriver.wrapper.WebDriverWrapperFactory.wrapWebDriver;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+import org.openqa.selenium.WebDriver;
+
+import nikoladasm.webdriver.wrapper.AsyncDispatcher.OverflowPolicy;
+import nikoladasm.webdriver.wrapper.listeners.OnCloseEventListener;
+import nikoladasm.webdriver.wrapper.listeners.OnExceptionEventListener;
+import nikoladasm.webdriver.wrapper.listeners.OnGetCurrentUrlAfterEventListener;
+
+public class AsyncDispatcherUnitTest {
+
+	private final UnderlyingWebDriver uDriver = mock(UnderlyingWebDriver.class);
+	private final List<String> urls = new CopyOnWriteArrayList<>();
+	private final CountDownLatch started = new CountDownLatch(1);
+	private final CountDownLatch released = new CountDownLatch(1);
+	private AsyncDispatcher dispatcher;
+	
+	@After
+	public void close() {
+		released.countDown();
+		if (dispatcher != null)
+			dispatcher.close();
+	}
+	
+	private WebDriver blockedDriver(OverflowPolicy policy) throws InterruptedException {
+		dispatcher = new AsyncDispatcher(1, policy);
+		WebDriver driver = wrapWebDriver(uDriver, WrappingMode.EAGER, dispatcher);
+		when(uDriver.getCurrentUrl()).thenReturn("1", "2", "3");
+		((WebDriverListenableWrapper) driver).setListener(AFTER_GET_CURRENT_URL, (OnGetCurrentUrlAfterEventListener) (d, url) -> {
+			if ("1".equals(url)) {
+				started.countDown();
+				try {
+					released.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			urls.add(url);
+		});
+		driver.getCurrentUrl();
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		return driver;
+	}
+	
+	@Test
+	public void shouldBeFireAfterListenersOnDispatcherThread() {
+		dispatcher = new AsyncDispatcher(16, OverflowPolicy.BLOCK);
+		WebDriver driver = wrapWebDriver(uDriver, WrappingMode.EAGER, dispatcher);
+		List<Thread> threads = new CopyOnWriteArrayList<>();
+		((WebDriverListenableWrapper) driver).setListener(BEFORE_CLOSE, (OnCloseEventListener) d -> threads.add(Thread.currentThread()));
+		((WebDriverListenableWrapper) driver).setListener(AFTER_CLOSE, (OnCloseEventListener) d -> threads.add(Thread.currentThread()));
+		driver.close();
+		dispatcher.flush();
+		assertThat(threads.size(), is(equalTo(2)));
+		assertThat(threads.get(0), is(sameInstance(Thread.currentThread())));
+		assertThat(threads.get(1), is(not(sameInstance(Thread.currentThread()))));
+	}
+	
+	@Test
+	public void shouldBeFireExceptionListenersOnDispatcherThread() {
+		dispatcher = new AsyncDispatcher(16, OverflowPolicy.BLOCK);
+		WebDriver driver = wrapWebDriver(uDriver, WrappingMode.EAGER, dispatcher);
+		List<Throwable> exceptions = new CopyOnWriteArrayList<>();
+		((WebDriverListenableWrapper) driver).setListener(ON_EXCEPTION, (OnExceptionEventListener) (d, o, t, name) -> exceptions.add(t));
+		RuntimeException exeption = new RuntimeException("testException");
+		doThrow(exeption).when(uDriver).close();
+		try {
+			driver.close();
+			fail();
+		} catch (RuntimeException e) {
+			assertThat(e, is(equalTo(exeption)));
+		}
+		dispatcher.flush();
+		assertThat(exceptions, is(equalTo(Arrays.<Throwable>asList(exeption))));
+	}
+	
+	@Test
+	public void shouldBeKeepDispatcherOfFlattenedWrappers() {
+		dispatcher = new AsyncDispatcher(16, OverflowPolicy.BLOCK);
+		WebDriver inner = wrapWebDriver(uDriver, WrappingMode.EAGER, dispatcher);
+		WebDriver outer = wrapWebDriver(inner);
+		List<Thread> innerThreads = new CopyOnWriteArrayList<>();
+		List<Thread> outerThreads = new CopyOnWriteArrayList<>();
+		((WebDriverListenableWrapper) inner).setListener(AFTER_CLOSE, (OnCloseEventListener) d -> innerThreads.add(Thread.currentThread()));
+		((WebDriverListenableWrapper) outer).setListener(AFTER_CLOSE, (OnCloseEventListener) d -> outerThreads.add(Thread.currentThread()));
+		outer.close();
+		dispatcher.flush();
+		assertThat(innerThreads.size(), is(equalTo(1)));
+		assertThat(innerThreads.get(0), is(not(sameInstance(Thread.currentThread()))));
+		assertThat(outerThreads, is(equalTo(Arrays.asList(Thread.currentThread()))));
+	}
+	
+	@Test
+	public void shouldBeDropNewEvents() throws InterruptedException {
+		WebDriver driver = blockedDriver(OverflowPolicy.DROP_NEW);
+		driver.getCurrentUrl();
+		driver.getCurrentUrl();
+		released.countDown();
+		dispatcher.flush();
+		assertThat(urls, is(equalTo(Arrays.asList("1", "2"))));
+		assertThat(dispatcher.dropped(), is(equalTo(1L)));
+	}
+	
+	@Test
+	public void shouldBeDropOldestEvents() throws InterruptedException {
+		WebDriver driver = blockedDriver(OverflowPolicy.DROP_OLDEST);
+		driver.getCurrentUrl();
+		driver.getCurrentUrl();
+		released.countDown();
+		dispatcher.flush();
+		assertThat(urls, is(equalTo(Arrays.asList("1", "3"))));
+		assertThat(dispatcher.dropped(), is(equalTo(1L)));
+	}
+	
+	@Test
+	public void shouldBeSampleEvents() throws InterruptedException {
+		dispatcher = new AsyncDispatcher(1, OverflowPolicy.SAMPLE, 2);
+		WebDriver driver = wrapWebDriver(uDriver, WrappingMode.EAGER, dispatcher);
+		when(uDriver.getCurrentUrl()).thenReturn("1", "2", "3", "4");
+		((WebDriverListenableWrapper) driver).setListener(AFTER_GET_CURRENT_URL, (OnGetCurrentUrlAfterEventListener) (d, url) -> {
+			if ("1".equals(url)) {
+				started.countDown();
+				try {
+					released.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			urls.add(url);
+		});
+		driver.getCurrentUrl();
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		driver.getCurrentUrl();
+		Thread releaser = new Thread(() -> {
+			try {
+				Thread.sleep(100);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			released.countDown();
+		});
+		driver.getCurrentUrl();
+		releaser.start();
+		driver.getCurrentUrl();
+		dispatcher.flush();
+		assertThat(urls, is(equalTo(Arrays.asList("1", "2", "4"))));
+		assertThat(dispatcher.dropped(), is(equalTo(1L)));
+	}
+	
+	@Test
+	public void shouldBeCountFailedListeners() {
+		dispatcher = new AsyncDispatcher(16, OverflowPolicy.BLOCK);
+		WebDriver driver = wrapWebDriver(uDriver, WrappingMode.EAGER, dispatcher);
+		((WebDriverListenableWrapper) driver).setListener(AFTER_CLOSE, (OnCloseEventListener) d -> {
+			throw new IllegalStateException();
+		});
+		driver.close();
+		dispatcher.flush();
+		assertThat(dispatcher.failed(), is(equalTo(1L)));
+	}
+	
+	@Test
+	public void shouldBeRejectFlushFromListener() {
+		dispatcher = new AsyncDispatcher(16, OverflowPolicy.BLOCK);
+		WebDriver driver = wrapWebDriver(uDriver, WrappingMode.EAGER, dispatcher);
+		List<Throwable> exceptions = new CopyOnWriteArrayList<>();
+		((WebDriverListenableWrapper) driver).setListener(AFTER_CLOSE, (OnCloseEventListener) d -> {
+			try {
+				dispatcher.flush();
+			} catch (IllegalStateException e) {
+				exceptions.add(e);
+			}
+		});
+		driver.close();
+		dispatcher.flush();
+		assertThat(exceptions.size(), is(equalTo(1)));
+	}
+	
+	@Test
+	public void shouldBeFireOnCallingThreadAfterListenerError() {
+		dispatcher = new AsyncDispatcher(16, OverflowPolicy.BLOCK);
+		WebDriver driver = wrapWebDriver(uDriver, WrappingMode.EAGER, dispatcher);
+		List<Thread> threads = new CopyOnWriteArrayList<>();
+		((WebDriverListenableWrapper) driver).setListener(AFTER_CLOSE, (OnCloseEventListener) d -> {
+			threads.add(Thread.currentThread());
+			if (threads.size() == 1)
+				throw new AssertionError();
+		});
+		driver.close();
+		dispatcher.flush();
+		driver.close();
+		assertThat(threads.size(), is(equalTo(2)));
+		assertThat(threads.get(1), is(sameInstance(Thread.currentThread())));
+		assertThat(dispatcher.failed(), is(equalTo(0L)));
+	}
+	
+	@Test
+	public void shouldBeFireOnCallingThreadAfterClose() {
+		dispatcher = new AsyncDispatcher(16, OverflowPolicy.BLOCK);
+		WebDriver driver = wrapWebDriver(uDriver, WrappingMode.EAGER, dispatcher);
+		List<Thread> threads = new CopyOnWriteArrayList<>();
+		((WebDriverListenableWrapper) driver).setListener(AFTER_CLOSE, (OnCloseEventListener) d -> threads.add(Thread.currentThread()));
+		dispatcher.close();
+		driver.close();
+		assertThat(threads, is(equalTo(Arrays.asList(Thread.currentThread()))));
+	}
+}
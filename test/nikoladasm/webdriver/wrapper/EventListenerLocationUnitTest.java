@@ -0,0 +1,40 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper;
+
+import static nikoladasm.webdriver.wrapper.EventListenerLocation.*;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.junit.Test;
+
+public class EventListenerLocationUnitTest {
+
+	@Test
+	public void shouldBeNumberLocationsInDeclarationOrder() {
+		List<EventListenerLocation<?>> locations = EventListenerLocation.values();
+		assertThat(locations.size(), is(equalTo(count())));
+		for (int ordinal = 0; ordinal < locations.size(); ordinal++)
+			assertThat(locations.get(ordinal).ordinal(), is(equalTo(ordinal)));
+		assertThat(ON_EXCEPTION.ordinal(), is(equalTo(0)));
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper;
+
+import static nikoladasm.webdriver.wrapper.EventListenerLocation.*;
+import static nikoladasm.webdriver.wrapper.WebDriverWrapperFactory.wrapWebDriver;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.WrapsElement;
+
+import nikoladasm.webdriver.wrapper.listeners.OnExceptionEventListener;
+import nikoladasm.webdriver.wrapper.listeners.OnFindElementAfterEventListener;
+import nikoladasm.webdriver.wrapper.listeners.OnFindElementBeforeEventListener;
+
+public class LocatorBatchUnitTest {
+
+	private final UnderlyingWebDriver uDriver = mock(UnderlyingWebDriver.class);
+	private final UnderlyingWebElement uRoot = mock(UnderlyingWebElement.class);
+	private final UnderlyingWebElement uFirst = mock(UnderlyingWebElement.class);
+	private final UnderlyingWebElement uSecond = mock(UnderlyingWebElement.class);
+	private final WebDriver wDriver = wrapWebDriver(uDriver);
+	private final By byId = By.id("first");
+	private final By byCss = By.cssSelector(".missing");
+	private final By byXPath = By.xpath("./second");
+	
+	private BatchResult findBatch() {
+		By rootBy = By.id("root");
+		when(uDriver.findElement(rootBy)).thenReturn(uRoot);
+		WebElement root = wDriver.findElement(rootBy);
+		when(uDriver.executeScript(anyString(), (Object[]) any())).thenReturn(Arrays.asList(
+			Arrays.asList(uFirst, 1.5, null),
+			Arrays.asList(null, 0.5, null),
+			Arrays.asList(uSecond, 2L, null)));
+		return ((WebDriverListenableWrapper) wDriver).findBatch(new LocatorBatch()
+			.add(byId)
+			.add(byCss)
+			.add(root, byXPath));
+	}
+	
+	@Test
+	public void shouldBeFindLocatorsWithSingleScript() {
+		BatchResult result = findBatch();
+		assertThat(result.size(), is(equalTo(3)));
+		assertThat(((WrapsElement) result.element(0)).getWrappedElement(), is(sameInstance(uFirst)));
+		assertThat(result.element(1), is(nullValue()));
+		assertThat(result.error(1), is(instanceOf(NoSuchElementException.class)));
+		assertThat(((WrapsElement) result.element(2)).getWrappedElement(), is(sameInstance(uSecond)));
+		assertThat(result.error(2), is(nullValue()));
+		assertThat(result.elapsedNanos(0), is(equalTo(1_500_000L)));
+		assertThat(result.elapsedNanos(2), is(equalTo(2_000_000L)));
+		verify(uDriver, times(1)).executeScript(anyString(), eq(Arrays.asList(
+			Arrays.asList(null, "id", "first"),
+			Arrays.asList(null, "cssSelector", ".missing"),
+			Arrays.asList(uRoot, "xpath", "./second"))));
+		verify(uDriver, never()).findElement(byId);
+		verify(uRoot, never()).findElement(byXPath);
+	}
+	
+	@Test
+	public void shouldBeFireFindElementListenersPerLocator() {
+		OnFindElementBeforeEventListener before = mock(OnFindElementBeforeEventListener.class, CALLS_REAL_METHODS);
+		OnFindElementAfterEventListener after = mock(OnFindElementAfterEventListener.class, CALLS_REAL_METHODS);
+		OnExceptionEventListener exception = mock(OnExceptionEventListener.class, CALLS_REAL_METHODS);
+		((WebDriverListenableWrapper) wDriver).setListener(BEFORE_FIND_ELEMENT, before);
+		((WebDriverListenableWrapper) wDriver).setListener(AFTER_FIND_ELEMENT, after);
+		((WebDriverListenableWrapper) wDriver).setListener(ON_EXCEPTION, exception);
+		findBatch();
+		verify(before).onFindElement(uDriver, null, byId);
+		verify(before).onFindElement(uDriver, null, byCss);
+		verify(before).onFindElement(uDriver, uRoot, byXPath);
+		verify(after).onFindElement(uDriver, null, byId, uFirst);
+		verify(after).onFindElement(uDriver, uRoot, byXPath, uSecond);
+		verify(after, never()).onFindElement(uDriver, null, byCss, null);
+		ArgumentCaptor<Throwable> throwable = ArgumentCaptor.forClass(Throwable.class);
+		verify(exception).onException(eq(uDriver), any(), throwable.capture(), eq("findElement"));
+		assertThat(throwable.getValue(), is(instanceOf(NoSuchElementException.class)));
+	}
+	
+	@Test
+	public void shouldBeReportInvalidSelectors() {
+		when(uDriver.executeScript(anyString(), (Object[]) any())).thenReturn(Arrays.asList(
+			Arrays.asList(null, 0L, "not a valid selector")));
+		BatchResult result = ((WebDriverListenableWrapper) wDriver).findBatch(new LocatorBatch().add(By.cssSelector("[")));
+		assertThat(result.element(0), is(nullValue()));
+		assertThat(result.error(0), is(instanceOf(InvalidSelectorException.class)));
+	}
+	
+	@Test
+	public void shouldBeFindOtherLocatorsRegularly() {
+		By custom = new By() {
+			@Override
+			public List<WebElement> findElements(SearchContext context) {
+				return null;
+			}
+		};
+		when(uDriver.findElement(custom)).thenReturn(uFirst);
+		BatchResult result = ((WebDriverListenableWrapper) wDriver).findBatch(new LocatorBatch().add(custom));
+		assertThat(((WrapsElement) result.element(0)).getWrappedElement(), is(sameInstance(uFirst)));
+		verify(uDriver, never()).executeScript(anyString(), (Object[]) any());
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper;
+
+import static nikoladasm.webdriver.wrapper.EventListenerLocation.*;
+import static nikoladasm.webdriver.wrapper.WebDriverWrapperFactory.wrapWebDriver;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import nikoladasm.webdriver.wrapper.listeners.OnExceptionEventListener;
+import nikoladasm.webdriver.wrapper.listeners.OnGetAttributeAfterEventListener;
+import nikoladasm.webdriver.wrapper.listeners.OnGetRectAfterEventListener;
+import nikoladasm.webdriver.wrapper.listeners.OnGetTextAfterEventListener;
+
+public class PropertyQueryUnitTest {
+
+	private final UnderlyingWebDriver uDriver = mock(UnderlyingWebDriver.class);
+	private final UnderlyingWebElement uFirst = mock(UnderlyingWebElement.class);
+	private final UnderlyingWebElement uSecond = mock(UnderlyingWebElement.class);
+	private final WebDriver wDriver = wrapWebDriver(uDriver);
+	private final By by = By.className("row");
+	
+	private List<WebElement> rows() {
+		when(uDriver.findElements(by)).thenReturn(Arrays.asList(uFirst, uSecond));
+		when(uDriver.executeScript(anyString(), (Object[]) any())).thenReturn(Arrays.asList(
+			Arrays.asList("first", "a", Arrays.asList(1L, 2L, 30L, 40L), true),
+			Arrays.asList("second", null, Arrays.asList(1.4, 2.6, 30L, 40L), false)));
+		return wDriver.findElements(by);
+	}
+	
+	@Test
+	public void shouldBeFetchPropertiesWithSingleScript() {
+		PropertyTable table = new PropertyQuery().text().attribute("href").rect().displayed().fetch(rows());
+		assertThat(table.size(), is(equalTo(2)));
+		assertThat(table.text(0), is(equalTo("first")));
+		assertThat(table.attribute(0, "href"), is(equalTo("a")));
+		assertThat(table.rect(0), is(equalTo(new Rectangle(1, 2, 40, 30))));
+		assertThat(table.displayed(0), is(true));
+		assertThat(table.text(1), is(equalTo("second")));
+		assertThat(table.attribute(1, "href"), is(nullValue()));
+		assertThat(table.rect(1), is(equalTo(new Rectangle(1, 2, 40, 30))));
+		assertThat(table.displayed(1), is(false));
+		verify(uDriver, times(1)).executeScript(anyString(), eq(Arrays.asList(uFirst, uSecond)), eq(Arrays.asList(
+			Arrays.asList("TEXT", null),
+			Arrays.asList("ATTRIBUTE", "href"),
+			Arrays.asList("RECT", null),
+			Arrays.asList("DISPLAYED", null))));
+		verify(uFirst, never()).getText();
+		verify(uSecond, never()).getText();
+	}
+	
+	@Test
+	public void shouldBeFireAfterListenersPerElement() {
+		List<WebElement> rows = rows();
+		OnGetTextAfterEventListener text = mock(OnGetTextAfterEventListener.class, CALLS_REAL_METHODS);
+		OnGetAttributeAfterEventListener attribute = mock(OnGetAttributeAfterEventListener.class, CALLS_REAL_METHODS);
+		OnGetRectAfterEventListener rect = mock(OnGetRectAfterEventListener.class, CALLS_REAL_METHODS);
+		((WebDriverListenableWrapper) wDriver).setListener(AFTER_GET_TEXT, text);
+		((WebDriverListenableWrapper) wDriver).setListener(AFTER_GET_ATTRIBUTE, attribute);
+		((WebDriverListenableWrapper) wDriver).setListener(AFTER_GET_RECT, rect);
+		new PropertyQuery().text().attribute("href").rect().displayed().fetch(rows);
+		verify(text).onGetText(uDriver, uFirst, "first");
+		verify(text).onGetText(uDriver, uSecond, "second");
+		verify(attribute).onGetAttribute(uDriver, uFirst, "href", "a");
+		verify(attribute).onGetAttribute(uDriver, uSecond, "href", null);
+		verify(rect).onGetRect(uDriver, uFirst, new Rectangle(1, 2, 40, 30));
+		verify(rect).onGetRect(uDriver, uSecond, new Rectangle(1, 2, 40, 30));
+	}
+	
+	@Test
+	public void shouldBePassScriptTimeToAfterListeners() {
+		List<WebElement> rows = rows();
+		List<Long> durations = new LinkedList<>();
+		((WebDriverListenableWrapper) wDriver).setListener(AFTER_GET_TEXT, new OnGetTextAfterEventListener() {
+			
+			@Override
+			public void onGetText(WebDriver driver, WebElement element, String text) {}
+			
+			@Override
+			public void invoke(WebDriver driver, WebElement element, Object proxy, Method method,
+					Object[] args, Object returnValue, long invocationId, long elapsedNanos) {
+				durations.add(elapsedNanos);
+			}
+		});
+		new PropertyQuery().text().fetch(rows);
+		assertThat(durations.size(), is(equalTo(2)));
+		assertTrue(durations.get(0) > 0);
+		assertThat(durations.get(1), is(equalTo(durations.get(0))));
+	}
+	
+	@Test
+	public void shouldBeFireExceptionListenersWhenScriptFails() {
+		List<WebElement> rows = rows();
+		RuntimeException exeption = new RuntimeException("testException");
+		when(uDriver.executeScript(anyString(), (Object[]) any())).thenThrow(exeption);
+		OnExceptionEventListener listener = mock(OnExceptionEventListener.class, CALLS_REAL_METHODS);
+		((WebDriverListenableWrapper) wDriver).setListener(ON_EXCEPTION, listener);
+		try {
+			new PropertyQuery().text().fetch(rows);
+			fail();
+		} catch (RuntimeException e) {
+			assertThat(e, is(sameInstance(exeption)));
+		}
+		verify(listener).onException(uDriver, uFirst, exeption, "getText");
+		verify(listener).onException(uDriver, uSecond, exeption, "getText");
+	}
+	
+	@Test
+	public void shouldBeFetchSingleElement() {
+		when(uDriver.findElement(by)).thenReturn(uFirst);
+		when(uDriver.executeScript(anyString(), (Object[]) any())).thenReturn(Arrays.asList(Arrays.asList(true, false)));
+		PropertyTable table = new PropertyQuery().enabled().selected().fetch(wDriver.findElement(by));
+		assertThat(table.enabled(0), is(true));
+		assertThat(table.selected(0), is(false));
+	}
+	
+	@Test
+	public void shouldBeNotRunScriptForNoElements() {
+		PropertyTable table = new PropertyQuery().text().fetch(Arrays.<WebElement>asList());
+		assertThat(table.size(), is(equalTo(0)));
+		verify(uDriver, never()).executeScript(anyString(), (Object[]) any());
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldBeRejectPropertyNotFetched() {
+		new PropertyQuery().text().fetch(rows()).attribute(0, "href");
+	}
+}
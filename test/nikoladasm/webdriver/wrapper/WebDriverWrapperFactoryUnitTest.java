@@ -28,6 +28,7 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriver.Navigation;
 import org.openqa.selenium.WebDriver.Options;
 import org.openqa.selenium.WebDriver.TargetLocator;
+import org.openqa.selenium.WebDriver.Window;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.HasInputDevices;
 import org.openqa.selenium.interactions.HasTouchScreen;
@@ -44,8 +45,12 @@ import nikoladasm.webdriver.wrapper.internal.WrapsNavigation;
 import nikoladasm.webdriver.wrapper.internal.WrapsOptions;
 import nikoladasm.webdriver.wrapper.internal.WrapsTargetLocator;
 import nikoladasm.webdriver.wrapper.internal.WrapsTouchScreen;
+import nikoladasm.webdriver.wrapper.listeners.EventRecord;
+import nikoladasm.webdriver.wrapper.listeners.FirehoseListener;
 import nikoladasm.webdriver.wrapper.listeners.OnCloseEventListener;
 import nikoladasm.webdriver.wrapper.listeners.OnExceptionEventListener;
+import nikoladasm.webdriver.wrapper.listeners.OnNavigateBackEventListener;
+import nikoladasm.webdriver.wrapper.listeners.OnFullscreenEventListener;
 import nikoladasm.webdriver.wrapper.listeners.OnExecuteAsyncScriptAfterEventListener;
 import nikoladasm.webdriver.wrapper.listeners.OnExecuteAsyncScriptBeforeEventListener;
 import nikoladasm.webdriver.wrapper.listeners.OnExecuteScriptAfterEventListener;
@@ -62,6 +67,8 @@ import nikoladasm.webdriver.wrapper.listeners.OnGetKeyboardBeforeEventListener;
 import nikoladasm.webdriver.wrapper.listeners.OnGetMouseAfterEventListener;
 import nikoladasm.webdriver.wrapper.listeners.OnGetMouseBeforeEventListener;
 import nikoladasm.webdriver.wrapper.listeners.OnGetPageSourceAfterEventListener;
+import nikoladasm.webdriver.wrapper.listeners.OnGetTagNameAfterEventListener;
+import nikoladasm.webdriver.wrapper.listeners.OnGetTextAfterEventListener;
 import nikoladasm.webdriver.wrapper.listeners.OnGetPageSourceBeforeEventListener;
 import nikoladasm.webdriver.wrapper.listeners.OnGetScreenshotAsAfterEventListener;
 import nikoladasm.webdriver.wrapper.listeners.OnGetScreenshotAsBeforeEventListener;
@@ -84,12 +91,16 @@ import nikoladasm.webdriver.wrapper.listeners.OnSwitchToBeforeEventListener;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.*;
 
@@ -115,6 +126,76 @@ public class WebDriverWrapperFactoryUnitTest {
 		assertThat(((WrapsDriver) wDriver).getWrappedDriver(), is(equalTo(uDriver)));
 	}
 	
+	@Test
+	public void shouldBeWrapWithGeneratedClass() {
+		By by = By.id("testId");
+		when(uDriver.findElement(by)).thenReturn(uElement);
+		assertFalse(Proxy.isProxyClass(wDriver.getClass()));
+		assertFalse(Proxy.isProxyClass(wDriver.findElement(by).getClass()));
+		assertThat(wrapWebDriver(uDriver).getClass(), is(equalTo(wDriver.getClass())));
+	}
+	
+	@Test
+	public void shouldBeWrapWithPrecompiledClass() {
+		when(uDriver.navigate()).thenReturn(mock(Navigation.class));
+		when(uDriver.manage()).thenReturn(mock(Options.class));
+		assertThat(wDriver.navigate().getClass().getSimpleName(), is(equalTo("GeneratedNavigationWrapper")));
+		assertThat(wDriver.manage().getClass().getSimpleName(), is(equalTo("GeneratedOptionsWrapper")));
+	}
+	
+	@Test
+	public void shouldBeReuseSubWrapperForSameDelegate() {
+		Navigation first = mock(Navigation.class);
+		Navigation second = mock(Navigation.class);
+		TargetLocator targetLocator = mock(TargetLocator.class);
+		when(uDriver.navigate()).thenReturn(first, first, second);
+		when(uDriver.switchTo()).thenReturn(targetLocator);
+		Navigation navigation = wDriver.navigate();
+		assertThat(wDriver.navigate(), is(sameInstance(navigation)));
+		Navigation other = wDriver.navigate();
+		assertThat(other, is(not(sameInstance(navigation))));
+		assertThat(((WrapsNavigation) other).getWrappedNavigation(), is(sameInstance(second)));
+		assertThat(wDriver.switchTo(), is(sameInstance(wDriver.switchTo())));
+	}
+	
+	@Test
+	public void shouldBeReturnUnobservedObjectsOnDemand() {
+		WebDriver driver = wrapWebDriver(uDriver, WrappingMode.ON_DEMAND);
+		By by = By.id("testId");
+		Navigation navigation = mock(Navigation.class);
+		when(uDriver.findElement(by)).thenReturn(uElement);
+		when(uDriver.navigate()).thenReturn(navigation);
+		assertThat(driver.findElement(by), is(sameInstance(uElement)));
+		assertThat(driver.navigate(), is(sameInstance(navigation)));
+		((WebDriverListenableWrapper) driver).setListener(BEFORE_NAVIGATE_BACK, mock(OnNavigateBackEventListener.class));
+		assertThat(driver.findElement(by), is(sameInstance(uElement)));
+		assertThat(((WrapsNavigation) driver.navigate()).getWrappedNavigation(), is(sameInstance(navigation)));
+	}
+	
+	@Test
+	public void shouldBeWrapObjectsLeadingToObservedScopeOnDemand() {
+		WebDriver driver = wrapWebDriver(uDriver, WrappingMode.ON_DEMAND);
+		Options options = mock(Options.class);
+		Window window = mock(Window.class);
+		when(uDriver.manage()).thenReturn(options);
+		when(options.window()).thenReturn(window);
+		OnFullscreenEventListener listener = mock(OnFullscreenEventListener.class, CALLS_REAL_METHODS);
+		((WebDriverListenableWrapper) driver).setListener(BEFORE_FULLSCREEN, listener);
+		driver.manage().window().fullscreen();
+		verify(listener).onFullscreen(uDriver, window);
+		((WebDriverListenableWrapper) driver).removeListener(BEFORE_FULLSCREEN);
+		assertThat(driver.manage(), is(sameInstance(options)));
+	}
+	
+	@Test
+	public void shouldBeWrapEverythingWithExceptionListenerOnDemand() {
+		WebDriver driver = wrapWebDriver(uDriver, WrappingMode.ON_DEMAND);
+		By by = By.id("testId");
+		when(uDriver.findElement(by)).thenReturn(uElement);
+		((WebDriverListenableWrapper) driver).setListener(ON_EXCEPTION, mock(OnExceptionEventListener.class));
+		assertThat(((WrapsElement) driver.findElement(by)).getWrappedElement(), is(sameInstance(uElement)));
+	}
+	
 	@Test
 	public void shouldBeFireOnCloseListeners() {
 		OnCloseEventListener before = mock(OnCloseEventListener.class, CALLS_REAL_METHODS);
@@ -147,6 +228,673 @@ public class WebDriverWrapperFactoryUnitTest {
 		inOrder.verifyNoMoreInteractions();
 	}
 
+	@Test
+	public void shouldBeFireAddedListenersInPriorityOrder() {
+		OnCloseEventListener first = mock(OnCloseEventListener.class, CALLS_REAL_METHODS);
+		OnCloseEventListener second = mock(OnCloseEventListener.class, CALLS_REAL_METHODS);
+		OnCloseEventListener third = mock(OnCloseEventListener.class, CALLS_REAL_METHODS);
+		((WebDriverListenableWrapper) wDriver).addListener(BEFORE_CLOSE, second);
+		((WebDriverListenableWrapper) wDriver).addListener(BEFORE_CLOSE, third);
+		((WebDriverListenableWrapper) wDriver).addListener(BEFORE_CLOSE, first, 10);
+		InOrder inOrder = inOrder(first, second, third, uDriver);
+		wDriver.close();
+		inOrder.verify(first).onClose(uDriver);
+		inOrder.verify(second).onClose(uDriver);
+		inOrder.verify(third).onClose(uDriver);
+		inOrder.verify(uDriver).close();
+		inOrder.verifyNoMoreInteractions();
+	}
+	
+	@Test
+	public void shouldBeRemoveAddedListener() {
+		OnCloseEventListener kept = mock(OnCloseEventListener.class, CALLS_REAL_METHODS);
+		OnCloseEventListener removed = mock(OnCloseEventListener.class, CALLS_REAL_METHODS);
+		((WebDriverListenableWrapper) wDriver).addListener(BEFORE_CLOSE, kept);
+		((WebDriverListenableWrapper) wDriver).addListener(BEFORE_CLOSE, removed);
+		((WebDriverListenableWrapper) wDriver).removeListener(BEFORE_CLOSE, removed);
+		wDriver.close();
+		verify(kept).onClose(uDriver);
+		verify(removed, never()).onClose(any());
+	}
+	
+	@Test
+	public void shouldBeReplaceAddedListenersWithSetListener() {
+		OnCloseEventListener added = mock(OnCloseEventListener.class, CALLS_REAL_METHODS);
+		OnCloseEventListener set = mock(OnCloseEventListener.class, CALLS_REAL_METHODS);
+		((WebDriverListenableWrapper) wDriver).addListener(BEFORE_CLOSE, added);
+		((WebDriverListenableWrapper) wDriver).setListener(BEFORE_CLOSE, set);
+		wDriver.close();
+		verify(set).onClose(uDriver);
+		verify(added, never()).onClose(any());
+	}
+	
+	@Test
+	public void shouldBeFireAllExceptionListeners() {
+		OnExceptionEventListener first = mock(OnExceptionEventListener.class, CALLS_REAL_METHODS);
+		OnExceptionEventListener second = mock(OnExceptionEventListener.class, CALLS_REAL_METHODS);
+		((WebDriverListenableWrapper) wDriver).addListener(ON_EXCEPTION, first);
+		((WebDriverListenableWrapper) wDriver).addListener(ON_EXCEPTION, second);
+		RuntimeException exeption = new RuntimeException("testException");
+		doThrow(exeption).when(uDriver).close();
+		try {
+			wDriver.close();
+			fail();
+		} catch (RuntimeException e) {
+			assertThat(e, is(equalTo(exeption)));
+		}
+		verify(first).onException(uDriver, null, exeption, "close");
+		verify(second).onException(uDriver, null, exeption, "close");
+	}
+	
+	private static class TimingCloseListener implements OnCloseEventListener {
+		
+		private final List<Long> invocations = new LinkedList<>();
+		private final List<Long> durations = new LinkedList<>();
+		
+		@Override
+		public void onClose(WebDriver driver) {}
+		
+		@Override
+		public void invoke(WebDriver driver, Void element, Object proxy, Method method,
+				Object[] args, Object returnValue, long invocationId, long elapsedNanos) {
+			invocations.add(invocationId);
+			durations.add(elapsedNanos);
+		}
+	}
+	
+	@Test
+	public void shouldBeShareInvocationIdBetweenBeforeAndAfterListeners() {
+		TimingCloseListener before = new TimingCloseListener();
+		TimingCloseListener after = new TimingCloseListener();
+		((WebDriverListenableWrapper) wDriver).setListener(BEFORE_CLOSE, before);
+		((WebDriverListenableWrapper) wDriver).setListener(AFTER_CLOSE, after);
+		doAnswer(invocation -> {
+			Thread.sleep(1);
+			return null;
+		}).when(uDriver).close();
+		wDriver.close();
+		wDriver.close();
+		assertThat(before.invocations, is(equalTo(after.invocations)));
+		assertThat(before.invocations.get(0), is(not(equalTo(before.invocations.get(1)))));
+		assertThat(before.invocations.get(0), is(not(equalTo(0L))));
+		assertThat(before.durations, is(equalTo(Arrays.asList(0L, 0L))));
+		for (long duration : after.durations)
+			assertTrue(duration >= 1_000_000L);
+	}
+	
+	@Test
+	public void shouldBePassInvocationIdAndDurationToExceptionListeners() {
+		TimingCloseListener before = new TimingCloseListener();
+		List<Long> exceptions = new LinkedList<>();
+		((WebDriverListenableWrapper) wDriver).setListener(BEFORE_CLOSE, before);
+		((WebDriverListenableWrapper) wDriver).setListener(ON_EXCEPTION, new OnExceptionEventListener() {
+			@Override
+			public void onException(WebDriver driver, Object object, Throwable throwable, String methodName) {}
+			
+			@Override
+			public void invoke(WebDriver driver, Object element, Object proxy, Method method,
+					Object[] args, Object returnValue, long invocationId, long elapsedNanos) {
+				exceptions.add(invocationId);
+			}
+		});
+		doThrow(new RuntimeException("testException")).when(uDriver).close();
+		try {
+			wDriver.close();
+			fail();
+		} catch (RuntimeException e) {
+			assertThat(exceptions, is(equalTo(before.invocations)));
+		}
+	}
+	
+	@Test
+	public void shouldBeFireFirehoseListenerForEveryEvent() {
+		By by = By.id("testId");
+		when(uDriver.findElement(by)).thenReturn(uElement);
+		RuntimeException exeption = new RuntimeException("testException");
+		doThrow(exeption).when(uElement).click();
+		List<String> events = new LinkedList<>();
+		Set<EventRecord> records = new HashSet<>();
+		((WebDriverListenableWrapper) wDriver).addFirehoseListener(record -> {
+			records.add(record);
+			events.add(record.phase() + " " + record.location() + " " + record.method().getDeclaringClass().getSimpleName() + " " +
+				(record.argumentCount() > 0 ? record.argument(0) : "-") + " " +
+				(record.target() == uElement ? "element" : record.target() == uDriver ? "driver" : "?") + " " +
+				(record.throwable() != null ? record.throwable().getMessage() : "-"));
+			assertTrue(record.invocationId() > 0);
+		});
+		try {
+			wDriver.findElement(by).click();
+			fail();
+		} catch (RuntimeException e) {
+			assertThat(e, is(equalTo(exeption)));
+		}
+		assertThat(events, is(equalTo(Arrays.asList(
+			"BEFORE before findElement WebDriver " + by + " driver -",
+			"AFTER after findElement WebDriver " + by + " driver -",
+			"BEFORE before click WebElement - element -",
+			"EXCEPTION before click WebElement - element testException"))));
+		assertThat(records.size(), is(equalTo(1)));
+	}
+	
+	@Test
+	public void shouldBeRemoveFirehoseListener() {
+		List<EventRecord.Phase> phases = new LinkedList<>();
+		FirehoseListener listener = record -> phases.add(record.phase());
+		((WebDriverListenableWrapper) wDriver).addFirehoseListener(listener);
+		wDriver.close();
+		((WebDriverListenableWrapper) wDriver).removeFirehoseListener(listener);
+		wDriver.close();
+		assertThat(phases, is(equalTo(Arrays.asList(EventRecord.Phase.BEFORE, EventRecord.Phase.AFTER))));
+	}
+	
+	@Test
+	public void shouldBeAnswerElementReadsFromCache() {
+		ReadCache cache = new ReadCache();
+		WebDriver driver = wrapWebDriver(uDriver, WrappingMode.EAGER, null, cache);
+		By by = By.id("testId");
+		when(uDriver.findElement(by)).thenReturn(uElement);
+		when(uElement.getTagName()).thenReturn("div");
+		when(uElement.getAttribute("a")).thenReturn("first");
+		when(uElement.getAttribute("b")).thenReturn(null);
+		WebElement wElement = driver.findElement(by);
+		assertThat(wElement.getTagName(), is(equalTo("div")));
+		assertThat(wElement.getTagName(), is(equalTo("div")));
+		assertThat(wElement.getAttribute("a"), is(equalTo("first")));
+		assertThat(wElement.getAttribute("b"), is(nullValue()));
+		assertThat(wElement.getAttribute("a"), is(equalTo("first")));
+		assertThat(wElement.getAttribute("b"), is(nullValue()));
+		verify(uElement, times(1)).getTagName();
+		verify(uElement, times(1)).getAttribute("a");
+		verify(uElement, times(1)).getAttribute("b");
+		assertThat(cache.hits(), is(equalTo(3L)));
+		assertThat(cache.misses(), is(equalTo(3L)));
+	}
+	
+	@Test
+	public void shouldBeFireListenersForCachedReads() {
+		WebDriver driver = wrapWebDriver(uDriver, WrappingMode.EAGER, null, new ReadCache());
+		By by = By.id("testId");
+		when(uDriver.findElement(by)).thenReturn(uElement);
+		when(uElement.getTagName()).thenReturn("div");
+		OnGetTagNameAfterEventListener after = mock(OnGetTagNameAfterEventListener.class, CALLS_REAL_METHODS);
+		((WebDriverListenableWrapper) driver).setListener(AFTER_GET_TAG_NAME, after);
+		WebElement wElement = driver.findElement(by);
+		wElement.getTagName();
+		wElement.getTagName();
+		verify(after, times(2)).onGetTagName(uDriver, uElement, "div");
+		verify(uElement, times(1)).getTagName();
+	}
+	
+	@Test
+	public void shouldBeDropCachedReadsAfterMutatingCommands() {
+		Navigation navigation = mock(Navigation.class);
+		TargetLocator targetLocator = mock(TargetLocator.class);
+		Keyboard keyboard = mock(Keyboard.class);
+		when(uDriver.navigate()).thenReturn(navigation);
+		when(uDriver.switchTo()).thenReturn(targetLocator);
+		when(uDriver.getKeyboard()).thenReturn(keyboard);
+		ReadCache cache = new ReadCache();
+		WebDriver driver = wrapWebDriver(uDriver, WrappingMode.EAGER, null, cache);
+		By by = By.id("testId");
+		when(uDriver.findElement(by)).thenReturn(uElement);
+		WebElement wElement = driver.findElement(by);
+		wElement.isDisplayed();
+		wElement.click();
+		wElement.isDisplayed();
+		driver.navigate().refresh();
+		wElement.isDisplayed();
+		((JavascriptExecutor) driver).executeScript("testScript");
+		wElement.isDisplayed();
+		driver.switchTo().defaultContent();
+		wElement.isDisplayed();
+		((HasInputDevices) driver).getKeyboard().pressKey("a");
+		wElement.isDisplayed();
+		wElement.isDisplayed();
+		verify(uElement, times(6)).isDisplayed();
+		assertThat(cache.hits(), is(equalTo(1L)));
+		assertThat(cache.misses(), is(equalTo(6L)));
+	}
+	
+	@Test
+	public void shouldBeKeepCachedReadsAfterObjectMethods() {
+		Navigation navigation = mock(Navigation.class);
+		Keyboard keyboard = mock(Keyboard.class);
+		when(uDriver.navigate()).thenReturn(navigation);
+		when(uDriver.getKeyboard()).thenReturn(keyboard);
+		ReadCache cache = new ReadCache();
+		WebDriver driver = wrapWebDriver(uDriver, WrappingMode.EAGER, null, cache);
+		By by = By.id("testId");
+		when(uDriver.findElement(by)).thenReturn(uElement);
+		WebElement wElement = driver.findElement(by);
+		wElement.isDisplayed();
+		driver.navigate().toString();
+		driver.navigate().hashCode();
+		((HasInputDevices) driver).getKeyboard().toString();
+		wElement.isDisplayed();
+		verify(uElement, times(1)).isDisplayed();
+		assertThat(cache.hits(), is(equalTo(1L)));
+	}
+	
+	@Test
+	public void shouldBeDropCachedReadsAfterFailedMutatingCommand() {
+		WebDriver driver = wrapWebDriver(uDriver, WrappingMode.EAGER, null, new ReadCache());
+		By by = By.id("testId");
+		when(uDriver.findElement(by)).thenReturn(uElement);
+		doThrow(new RuntimeException()).when(uElement).click();
+		WebElement wElement = driver.findElement(by);
+		wElement.getSize();
+		try {
+			wElement.click();
+			fail();
+		} catch (RuntimeException e) {}
+		wElement.getSize();
+		verify(uElement, times(2)).getSize();
+	}
+	
+	@Test
+	public void shouldBeNotCacheReadsWithoutReadCache() {
+		By by = By.id("testId");
+		when(uDriver.findElement(by)).thenReturn(uElement);
+		WebElement wElement = wDriver.findElement(by);
+		wElement.getTagName();
+		wElement.getTagName();
+		verify(uElement, times(2)).getTagName();
+	}
+	
+	@Test
+	public void shouldBeWrapEverythingOnDemandWhenCachingReads() {
+		Navigation navigation = mock(Navigation.class);
+		when(uDriver.navigate()).thenReturn(navigation);
+		WebDriver driver = wrapWebDriver(uDriver, WrappingMode.ON_DEMAND, null, new ReadCache());
+		assertThat(driver.navigate(), is(instanceOf(WrapsNavigation.class)));
+	}
+	
+	@Test
+	public void shouldBeDropCachedReadsOfInnerWrapperAfterOuterCommands() {
+		ReadCache cache = new ReadCache();
+		WebDriver inner = wrapWebDriver(uDriver, WrappingMode.EAGER, null, cache);
+		WebDriver outer = wrapWebDriver(inner);
+		By by = By.id("testId");
+		when(uDriver.findElement(by)).thenReturn(uElement);
+		WebElement wElement = inner.findElement(by);
+		wElement.getTagName();
+		outer.get("http://example.com");
+		wElement.getTagName();
+		verify(uElement, times(2)).getTagName();
+	}
+	
+	@Test
+	public void shouldBeAnswerLookupsFromCache() {
+		ReadCache cache = new ReadCache().cacheLocators();
+		WebDriver driver = wrapWebDriver(uDriver, WrappingMode.EAGER, null, cache);
+		By by = By.id("testId");
+		when(uDriver.findElement(by)).thenReturn(uElement);
+		when(uDriver.findElements(by)).thenReturn(Arrays.asList(uElement));
+		WebElement wElement = driver.findElement(by);
+		assertThat(driver.findElement(by), is(sameInstance(wElement)));
+		assertThat(driver.findElements(by).get(0), is(sameInstance(wElement)));
+		assertThat(driver.findElements(by).get(0), is(sameInstance(wElement)));
+		verify(uDriver, times(1)).findElement(by);
+		verify(uDriver, times(1)).findElements(by);
+		assertThat(cache.locatorHits(), is(equalTo(2L)));
+		assertThat(cache.locatorMisses(), is(equalTo(2L)));
+	}
+	
+	@Test
+	public void shouldBeNotCacheLookupsUnlessAskedFor() {
+		WebDriver driver = wrapWebDriver(uDriver, WrappingMode.EAGER, null, new ReadCache());
+		By by = By.id("testId");
+		when(uDriver.findElement(by)).thenReturn(uElement);
+		driver.findElement(by);
+		driver.findElement(by);
+		verify(uDriver, times(2)).findElement(by);
+	}
+	
+	@Test
+	public void shouldBeCacheLookupsPerSearchRoot() {
+		WebDriver driver = wrapWebDriver(uDriver, WrappingMode.EAGER, null, new ReadCache().cacheLocators());
+		By by = By.id("testId");
+		By childBy = By.id("childId");
+		UnderlyingWebElement uChild = mock(UnderlyingWebElement.class);
+		when(uDriver.findElement(by)).thenReturn(uElement);
+		when(uDriver.findElement(childBy)).thenReturn(uChild);
+		when(uElement.findElement(childBy)).thenReturn(uChild);
+		WebElement wElement = driver.findElement(by);
+		WebElement wChild = wElement.findElement(childBy);
+		assertThat(wElement.findElement(childBy), is(sameInstance(wChild)));
+		driver.findElement(childBy);
+		verify(uElement, times(1)).findElement(childBy);
+		verify(uDriver, times(1)).findElement(childBy);
+	}
+	
+	@Test
+	public void shouldBeDropCachedLookupsAfterMutatingCommands() {
+		Navigation navigation = mock(Navigation.class);
+		when(uDriver.navigate()).thenReturn(navigation);
+		WebDriver driver = wrapWebDriver(uDriver, WrappingMode.EAGER, null, new ReadCache().cacheLocators());
+		By by = By.id("testId");
+		when(uDriver.findElement(by)).thenReturn(uElement);
+		driver.findElement(by).click();
+		driver.findElement(by);
+		driver.navigate().back();
+		driver.findElement(by);
+		verify(uDriver, times(3)).findElement(by);
+	}
+	
+	@Test
+	public void shouldBeCacheLocatorsForTheirOwnTime() throws InterruptedException {
+		By by = By.id("testId");
+		By uncachedBy = By.id("uncachedId");
+		By expiringBy = By.id("expiringId");
+		ReadCache cache = new ReadCache()
+			.cacheLocators()
+			.cacheLocator(uncachedBy, 0, TimeUnit.SECONDS)
+			.cacheLocator(expiringBy, 1, TimeUnit.MILLISECONDS);
+		WebDriver driver = wrapWebDriver(uDriver, WrappingMode.EAGER, null, cache);
+		when(uDriver.findElement(by)).thenReturn(uElement);
+		when(uDriver.findElement(uncachedBy)).thenReturn(uElement);
+		when(uDriver.findElement(expiringBy)).thenReturn(uElement);
+		driver.findElement(by);
+		driver.findElement(uncachedBy);
+		driver.findElement(expiringBy);
+		Thread.sleep(10);
+		driver.findElement(by);
+		driver.findElement(uncachedBy);
+		driver.findElement(expiringBy);
+		verify(uDriver, times(1)).findElement(by);
+		verify(uDriver, times(2)).findElement(uncachedBy);
+		verify(uDriver, times(2)).findElement(expiringBy);
+	}
+	
+	@Test
+	public void shouldBeCacheOnlyLocatorsWithTheirOwnTime() {
+		By by = By.id("testId");
+		By cachedBy = By.id("cachedId");
+		WebDriver driver = wrapWebDriver(uDriver, WrappingMode.EAGER, null,
+			new ReadCache().cacheLocator(cachedBy, 1, TimeUnit.MINUTES));
+		when(uDriver.findElement(by)).thenReturn(uElement);
+		when(uDriver.findElement(cachedBy)).thenReturn(uElement);
+		driver.findElement(by);
+		driver.findElement(cachedBy);
+		driver.findElement(by);
+		driver.findElement(cachedBy);
+		verify(uDriver, times(2)).findElement(by);
+		verify(uDriver, times(1)).findElement(cachedBy);
+	}
+	
+	@Test
+	public void shouldBeAnswerPureScriptsFromCache() {
+		ReadCache cache = new ReadCache().pureScript("return arguments[0]");
+		JavascriptExecutor driver = (JavascriptExecutor) wrapWebDriver(uDriver, WrappingMode.EAGER, null, cache);
+		when(uDriver.executeScript("return arguments[0]", "a")).thenReturn("a");
+		when(uDriver.executeScript("return arguments[0]", "b")).thenReturn("b");
+		when(uDriver.executeScript("return 1")).thenReturn(1L);
+		assertThat(driver.executeScript("return arguments[0]", "a"), is(equalTo("a")));
+		assertThat(driver.executeScript("return arguments[0]", "b"), is(equalTo("b")));
+		assertThat(driver.executeScript("return arguments[0]", "a"), is(equalTo("a")));
+		assertThat(driver.executeScript("return 1"), is(equalTo(1L)));
+		assertThat(driver.executeScript("return 1"), is(equalTo(1L)));
+		verify(uDriver, times(1)).executeScript("return arguments[0]", "a");
+		verify(uDriver, times(1)).executeScript("return arguments[0]", "b");
+		verify(uDriver, times(2)).executeScript("return 1");
+		assertThat(cache.scriptHits(), is(equalTo(1L)));
+		assertThat(cache.scriptMisses(), is(equalTo(2L)));
+	}
+	
+	@Test
+	public void shouldBeAnswerMarkedPureScriptsFromCache() {
+		JavascriptExecutor driver = (JavascriptExecutor) wrapWebDriver(uDriver, WrappingMode.EAGER, null, new ReadCache());
+		String script = ReadCache.PURE + "return document.readyState";
+		when(uDriver.executeScript(script)).thenReturn("complete");
+		driver.executeScript(script);
+		assertThat(driver.executeScript(script), is(equalTo("complete")));
+		verify(uDriver, times(1)).executeScript(script);
+	}
+	
+	@Test
+	public void shouldBeDropCachedScriptResultsAfterMutatingCommands() {
+		WebDriver driver = wrapWebDriver(uDriver, WrappingMode.EAGER, null, new ReadCache().pureScript("pure"));
+		By by = By.id("testId");
+		when(uDriver.findElement(by)).thenReturn(uElement);
+		WebElement wElement = driver.findElement(by);
+		((JavascriptExecutor) driver).executeScript("pure");
+		((JavascriptExecutor) driver).executeScript("impure");
+		((JavascriptExecutor) driver).executeScript("pure");
+		wElement.click();
+		((JavascriptExecutor) driver).executeScript("pure");
+		((JavascriptExecutor) driver).executeScript("pure");
+		verify(uDriver, times(3)).executeScript("pure");
+	}
+	
+	@Test
+	public void shouldBeNotDropCachedReadsAfterPureScripts() {
+		WebDriver driver = wrapWebDriver(uDriver, WrappingMode.EAGER, null, new ReadCache().pureScript("pure"));
+		By by = By.id("testId");
+		when(uDriver.findElement(by)).thenReturn(uElement);
+		WebElement wElement = driver.findElement(by);
+		wElement.getTagName();
+		((JavascriptExecutor) driver).executeScript("pure");
+		wElement.getTagName();
+		verify(uElement, times(1)).getTagName();
+	}
+	
+	@Test
+	public void shouldBeEvictLeastRecentlyUsedScriptResults() {
+		JavascriptExecutor driver = (JavascriptExecutor) wrapWebDriver(uDriver, WrappingMode.EAGER, null,
+			new ReadCache().pureScript("a").pureScript("b").pureScript("c").scriptCacheSize(2));
+		driver.executeScript("a");
+		driver.executeScript("b");
+		driver.executeScript("a");
+		driver.executeScript("c");
+		driver.executeScript("b");
+		verify(uDriver, times(1)).executeScript("a");
+		verify(uDriver, times(2)).executeScript("b");
+		verify(uDriver, times(1)).executeScript("c");
+	}
+	
+	@SuppressWarnings("unchecked")
+	@Test
+	public void shouldBeCopyCachedScriptResults() {
+		JavascriptExecutor driver = (JavascriptExecutor) wrapWebDriver(uDriver, WrappingMode.EAGER, null, new ReadCache().pureScript("pure"));
+		when(uDriver.executeScript("pure")).thenReturn(new LinkedList<>(Arrays.asList("first")));
+		((List<Object>) driver.executeScript("pure")).add("second");
+		((List<Object>) driver.executeScript("pure")).add("second");
+		assertThat(driver.executeScript("pure"), is(equalTo(Arrays.asList("first"))));
+		verify(uDriver, times(1)).executeScript("pure");
+	}
+	
+	@Test
+	public void shouldBeKeepCachedScriptArgumentsApart() {
+		ReadCache cache = new ReadCache().pureScript("pure");
+		JavascriptExecutor driver = (JavascriptExecutor) wrapWebDriver(uDriver, WrappingMode.EAGER, null, cache);
+		List<String> values = new LinkedList<>(Arrays.asList("a"));
+		driver.executeScript("pure", values);
+		values.add("b");
+		driver.executeScript("pure", Arrays.asList("a"));
+		assertThat(cache.scriptHits(), is(equalTo(1L)));
+		assertThat(cache.scriptMisses(), is(equalTo(1L)));
+	}
+	
+	@Test
+	public void shouldBeRunNullScriptWithReadCache() {
+		JavascriptExecutor driver = (JavascriptExecutor) wrapWebDriver(uDriver, WrappingMode.EAGER, null, new ReadCache());
+		when(uDriver.executeScript(null)).thenReturn("result");
+		assertThat(driver.executeScript(null), is(equalTo("result")));
+		verify(uDriver).executeScript(null);
+	}
+	
+	@Test
+	public void shouldBeShortCircuitWithInterceptor() {
+		((WebDriverListenableWrapper) wDriver).addInterceptor(BEFORE_GET_TITLE, invocation -> "intercepted");
+		assertThat(wDriver.getTitle(), is(equalTo("intercepted")));
+		verify(uDriver, never()).getTitle();
+	}
+	
+	@Test
+	public void shouldBeReplaceResultWithInterceptor() {
+		when(uDriver.getTitle()).thenReturn("title");
+		((WebDriverListenableWrapper) wDriver).addInterceptor(invocation -> invocation.proceed() + " intercepted");
+		assertThat(wDriver.getTitle(), is(equalTo("title intercepted")));
+	}
+	
+	@Test
+	public void shouldBeRetryWithInterceptor() {
+		RuntimeException exeption = new RuntimeException("testException");
+		when(uDriver.getTitle()).thenThrow(exeption).thenReturn("title");
+		OnExceptionEventListener listener = mock(OnExceptionEventListener.class, CALLS_REAL_METHODS);
+		((WebDriverListenableWrapper) wDriver).setListener(ON_EXCEPTION, listener);
+		((WebDriverListenableWrapper) wDriver).addInterceptor(invocation -> {
+			try {
+				return invocation.proceed();
+			} catch (RuntimeException e) {
+				return invocation.proceed();
+			}
+		});
+		assertThat(wDriver.getTitle(), is(equalTo("title")));
+		verify(uDriver, times(2)).getTitle();
+		verify(listener, never()).onException(any(), any(), any(), any());
+	}
+	
+	@Test
+	public void shouldBeReplaceArgumentsWithInterceptor() {
+		((WebDriverListenableWrapper) wDriver).addInterceptor(AFTER_GET, invocation -> invocation.proceed(new Object[]{"http://other"}));
+		wDriver.get("http://test");
+		verify(uDriver).get("http://other");
+	}
+	
+	@Test
+	public void shouldBeRunInterceptorsInsideListenersInOrder() {
+		List<String> calls = new LinkedList<>();
+		((WebDriverListenableWrapper) wDriver).setListener(BEFORE_CLOSE, (OnCloseEventListener) driver -> calls.add("before"));
+		((WebDriverListenableWrapper) wDriver).setListener(AFTER_CLOSE, (OnCloseEventListener) driver -> calls.add("after"));
+		((WebDriverListenableWrapper) wDriver).addInterceptor(BEFORE_CLOSE, invocation -> {
+			calls.add("first");
+			return invocation.proceed();
+		});
+		((WebDriverListenableWrapper) wDriver).addInterceptor(invocation -> {
+			calls.add("second");
+			return invocation.proceed();
+		});
+		doAnswer(invocation -> calls.add("close")).when(uDriver).close();
+		wDriver.close();
+		assertThat(calls, is(equalTo(Arrays.asList("before", "first", "second", "close", "after"))));
+	}
+	
+	@Test
+	public void shouldBeInterceptOnlyMethodOfLocation() {
+		when(uDriver.getTitle()).thenReturn("title");
+		((WebDriverListenableWrapper) wDriver).addInterceptor(BEFORE_GET_CURRENT_URL, invocation -> "intercepted");
+		assertThat(wDriver.getTitle(), is(equalTo("title")));
+		assertThat(wDriver.getCurrentUrl(), is(equalTo("intercepted")));
+	}
+	
+	@Test
+	public void shouldBeRemoveInterceptor() {
+		when(uDriver.getTitle()).thenReturn("title");
+		Interceptor interceptor = invocation -> "intercepted";
+		((WebDriverListenableWrapper) wDriver).addInterceptor(interceptor);
+		((WebDriverListenableWrapper) wDriver).removeInterceptor(interceptor);
+		assertThat(wDriver.getTitle(), is(equalTo("title")));
+	}
+	
+	@Test
+	public void shouldBeInterceptElementsOnDemand() {
+		WebDriver driver = wrapWebDriver(uDriver, WrappingMode.ON_DEMAND);
+		By by = By.id("testId");
+		when(uDriver.findElement(by)).thenReturn(uElement);
+		when(uElement.getText()).thenReturn("text");
+		((WebDriverListenableWrapper) driver).addInterceptor(BEFORE_GET_TEXT, invocation -> {
+			assertThat(invocation.target(), is(sameInstance(uElement)));
+			assertThat(invocation.driver(), is(sameInstance(uDriver)));
+			return "intercepted";
+		});
+		assertThat(driver.findElement(by).getText(), is(equalTo("intercepted")));
+	}
+	
+	@Test
+	public void shouldBeCheckListenerApplicabilityOncePerDriver() {
+		UnderlyingWebDriver uOtherDriver = mock(UnderlyingWebDriver.class);
+		UnderlyingWebElement uOtherElement = mock(UnderlyingWebElement.class);
+		WebDriver wOtherDriver = wrapWebDriver(uOtherDriver);
+		By by = By.id("testId");
+		when(uDriver.findElement(by)).thenReturn(uElement);
+		when(uOtherDriver.findElement(by)).thenReturn(uOtherElement);
+		OnGetTextAfterEventListener listener = mock(OnGetTextAfterEventListener.class, CALLS_REAL_METHODS);
+		OnGetTextAfterEventListener otherListener = mock(OnGetTextAfterEventListener.class, CALLS_REAL_METHODS);
+		((WebDriverListenableWrapper) wDriver).setListener(AFTER_GET_TEXT, listener);
+		((WebDriverListenableWrapper) wOtherDriver).setListener(AFTER_GET_TEXT, otherListener);
+		WebElement element = wDriver.findElement(by);
+		WebElement otherElement = wOtherDriver.findElement(by);
+		for (int call = 0; call < 5; call++) {
+			element.getText();
+			otherElement.getText();
+		}
+		verify(listener, times(1)).isApplicable(any(), any());
+		verify(otherListener, times(1)).isApplicable(any(), any());
+		verify(listener, times(5)).onGetText(any(), any(), any());
+		verify(otherListener, times(5)).onGetText(any(), any(), any());
+	}
+	
+	@Test
+	public void shouldBeFlattenNestedWrappers() {
+		OnCloseEventListener innerBefore = mock(OnCloseEventListener.class, CALLS_REAL_METHODS);
+		OnCloseEventListener innerAfter = mock(OnCloseEventListener.class, CALLS_REAL_METHODS);
+		OnCloseEventListener outerBefore = mock(OnCloseEventListener.class, CALLS_REAL_METHODS);
+		OnCloseEventListener outerAfter = mock(OnCloseEventListener.class, CALLS_REAL_METHODS);
+		((WebDriverListenableWrapper) wDriver).setListener(BEFORE_CLOSE, innerBefore);
+		WebDriver outer = wrapWebDriver(wDriver);
+		((WebDriverListenableWrapper) outer).setListener(BEFORE_CLOSE, outerBefore);
+		((WebDriverListenableWrapper) outer).setListener(AFTER_CLOSE, outerAfter);
+		((WebDriverListenableWrapper) wDriver).setListener(AFTER_CLOSE, innerAfter);
+		InOrder inOrder = inOrder(outerBefore, innerBefore, uDriver, innerAfter, outerAfter);
+		outer.close();
+		inOrder.verify(outerBefore).onClose(uDriver);
+		inOrder.verify(innerBefore).onClose(uDriver);
+		inOrder.verify(uDriver).close();
+		inOrder.verify(innerAfter).onClose(uDriver);
+		inOrder.verify(outerAfter).onClose(uDriver);
+		inOrder.verifyNoMoreInteractions();
+		assertThat(((WrapsDriver) outer).getWrappedDriver(), is(sameInstance(uDriver)));
+	}
+	
+	@Test
+	public void shouldBeNotFireOuterListenersFromInnerWrapper() {
+		OnCloseEventListener outerBefore = mock(OnCloseEventListener.class, CALLS_REAL_METHODS);
+		WebDriver outer = wrapWebDriver(wDriver);
+		((WebDriverListenableWrapper) outer).setListener(BEFORE_CLOSE, outerBefore);
+		wDriver.close();
+		verify(uDriver).close();
+		verify(outerBefore, never()).onClose(any());
+	}
+	
+	@Test
+	public void shouldBeFlattenNestedWrappersElements() {
+		By by = By.id("testId");
+		when(uDriver.findElement(by)).thenReturn(uElement);
+		WebDriver outer = wrapWebDriver(wDriver);
+		WebElement element = outer.findElement(by);
+		assertThat(((WrapsElement) element).getWrappedElement(), is(sameInstance(uElement)));
+	}
+	
+	@Test
+	public void shouldBeReplaceListeners() {
+		OnCloseEventListener before = mock(OnCloseEventListener.class, CALLS_REAL_METHODS);
+		OnCloseEventListener after = mock(OnCloseEventListener.class, CALLS_REAL_METHODS);
+		OnQuitEventListener quit = mock(OnQuitEventListener.class, CALLS_REAL_METHODS);
+		((WebDriverListenableWrapper) wDriver).setListener(BEFORE_CLOSE, before);
+		((WebDriverListenableWrapper) wDriver).replaceListeners(new ListenerSet()
+			.setListener(AFTER_CLOSE, after)
+			.setListener(BEFORE_QUIT, quit));
+		InOrder inOrder = inOrder(before, uDriver, after, quit);
+		wDriver.close();
+		wDriver.quit();
+		inOrder.verify(uDriver).close();
+		inOrder.verify(after).onClose(uDriver);
+		inOrder.verify(quit).onQuit(uDriver);
+		inOrder.verify(uDriver).quit();
+		inOrder.verifyNoMoreInteractions();
+	}
+	
 	@Test
 	public void shouldBeFireOnExceptionListener() {
 		OnExceptionEventListener listener = mock(OnExceptionEventListener.class, CALLS_REAL_METHODS);
@@ -452,10 +1200,10 @@ public class WebDriverWrapperFactoryUnitTest {
 		uElements.add(uElement);
 		List<WebElement> wElements = new LinkedList<>();
 		wElements.add(wElement);
-		Map<WebElement, Object> wsElements = new HashMap<>();
-		wsElements.put(wElement, new Object());
-		Map<WebElement, Object> usElements = new HashMap<>();
-		usElements.put(wElement, uElement);
+		Map<String, Object> wsElements = new HashMap<>();
+		wsElements.put("element", wElement);
+		Map<String, Object> usElements = new HashMap<>();
+		usElements.put("element", uElement);
 		when(uDriver.executeScript("testScript", "stringArgs")).thenReturn("testReturnValueForStringArgs");
 		when(uDriver.executeScript("testScript", uElement)).thenReturn("testReturnValueForWebElementArgs");
 		when(uDriver.executeScript("testScript", uElements)).thenReturn("testReturnValueForWebElementsArgs");
@@ -484,6 +1232,15 @@ public class WebDriverWrapperFactoryUnitTest {
 		inOrder.verifyNoMoreInteractions();
 	}
 
+	@Test
+	public void shouldBeWrapElementReturnedByScript() {
+		By by = By.id("testId");
+		when(uDriver.findElement(by)).thenReturn(uElement);
+		when(uDriver.executeScript("testScript")).thenReturn(uElement);
+		WebElement wElement = wDriver.findElement(by);
+		assertThat(((JavascriptExecutor) wDriver).executeScript("testScript"), is(sameInstance(wElement)));
+	}
+	
 	@Test
 	public void shouldBeFireOnExecuteAsyncScriptListeners() {
 		By by = By.id("testId");
@@ -493,10 +1250,10 @@ public class WebDriverWrapperFactoryUnitTest {
 		uElements.add(uElement);
 		List<WebElement> wElements = new LinkedList<>();
 		wElements.add(wElement);
-		Map<WebElement, Object> wsElements = new HashMap<>();
-		wsElements.put(wElement, new Object());
-		Map<WebElement, Object> usElements = new HashMap<>();
-		usElements.put(wElement, uElement);
+		Map<String, Object> wsElements = new HashMap<>();
+		wsElements.put("element", wElement);
+		Map<String, Object> usElements = new HashMap<>();
+		usElements.put("element", uElement);
 		when(uDriver.executeAsyncScript("testScript", "stringArgs")).thenReturn("testReturnValueForStringArgs");
 		when(uDriver.executeAsyncScript("testScript", uElement)).thenReturn("testReturnValueForWebElementArgs");
 		when(uDriver.executeAsyncScript("testScript", uElements)).thenReturn("testReturnValueForWebElementsArgs");
@@ -0,0 +1,68 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper.benchmark;
+
+import java.util.function.Supplier;
+
+/*
+ * Minimal benchmark harness: every case is warmed up before it is measured
+ * and its results are consumed, so that the JIT can not drop the measured
+ * work. Numbers are only comparable between cases of the same run.
+ */
+public final class BenchmarkRunner {
+
+	private static final int WARMUP_ROUNDS = 5;
+	private static final int MEASURED_ROUNDS = 5;
+	private static final long ROUND_NANOS = 200_000_000L;
+	
+	private static volatile Object sink;
+	
+	/*
+	 * Runs the given operations through the measuring loop once, so that the
+	 * first measured case is not the only one the JIT sees as monomorphic.
+	 */
+	public static void warmup(Supplier<?>... operations) {
+		for (Supplier<?> operation : operations)
+			round(operation);
+	}
+	
+	public static void run(String name, Supplier<?> operation) {
+		for (int round = 0; round < WARMUP_ROUNDS; round++)
+			round(operation);
+		double best = Double.MAX_VALUE;
+		for (int round = 0; round < MEASURED_ROUNDS; round++)
+			best = Math.min(best, round(operation));
+		System.out.println(String.format("%-50s %10.1f ns/op", name, best));
+	}
+	
+	private static double round(Supplier<?> operation) {
+		long operations = 0;
+		long start = System.nanoTime();
+		long elapsed;
+		do {
+			for (int i = 0; i < 1000; i++)
+				sink = operation.get();
+			operations += 1000;
+			elapsed = System.nanoTime() - start;
+		} while (elapsed < ROUND_NANOS);
+		return (double) elapsed / operations;
+	}
+	
+	private BenchmarkRunner() {}
+}
@@ -0,0 +1,92 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper.benchmark;
+
+import static nikoladasm.webdriver.wrapper.benchmark.BenchmarkRunner.run;
+import static nikoladasm.webdriver.wrapper.internal.MethodDescriptor.Kind.DELEGATE;
+import static nikoladasm.webdriver.wrapper.internal.MethodDescriptor.Result.AS_IS;
+import static nikoladasm.webdriver.wrapper.internal.Scope.DRIVER;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+
+import nikoladasm.webdriver.wrapper.internal.MethodDescriptor;
+import nikoladasm.webdriver.wrapper.internal.MethodInvoker;
+
+public final class DelegationBenchmark {
+
+	private static class SearchContextImpl implements SearchContext {
+		
+		private final RuntimeException exception;
+		
+		public SearchContextImpl(RuntimeException exception) {
+			this.exception = exception;
+		}
+		
+		@Override
+		public List<WebElement> findElements(By by) {
+			return null;
+		}
+		
+		@Override
+		public WebElement findElement(By by) {
+			if (exception != null)
+				throw exception;
+			return null;
+		}
+	}
+	
+	public static void main(String[] args) throws Exception {
+		Method method = SearchContext.class.getMethod("findElement", By.class);
+		MethodInvoker reflection = (target, arguments) -> {
+			try {
+				return method.invoke(target, arguments);
+			} catch (InvocationTargetException e) {
+				throw e.getTargetException();
+			}
+		};
+		MethodInvoker methodHandle = new MethodDescriptor(DRIVER, method, null, DELEGATE, AS_IS).invoker();
+		MethodInvoker direct = (target, arguments) -> ((SearchContext) target).findElement((By) arguments[0]);
+		SearchContext found = new SearchContextImpl(null);
+		SearchContext notFound = new SearchContextImpl(new NoSuchElementException("benchmark"));
+		Object[] arguments = {By.id("benchmark")};
+		run("happy path, Method.invoke", () -> invoke(reflection, found, arguments));
+		run("happy path, MethodHandle", () -> invoke(methodHandle, found, arguments));
+		run("happy path, direct call", () -> invoke(direct, found, arguments));
+		run("exception path, Method.invoke", () -> invoke(reflection, notFound, arguments));
+		run("exception path, MethodHandle", () -> invoke(methodHandle, notFound, arguments));
+		run("exception path, direct call", () -> invoke(direct, notFound, arguments));
+	}
+	
+	private static Object invoke(MethodInvoker invoker, Object target, Object[] arguments) {
+		try {
+			return invoker.invoke(target, arguments);
+		} catch (Throwable t) {
+			return t;
+		}
+	}
+	
+	private DelegationBenchmark() {}
+}
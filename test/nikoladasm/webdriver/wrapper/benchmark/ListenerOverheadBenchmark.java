@@ -0,0 +1,144 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper.benchmark;
+
+import static nikoladasm.webdriver.wrapper.EventListenerLocation.*;
+import static nikoladasm.webdriver.wrapper.benchmark.BenchmarkRunner.run;
+import static nikoladasm.webdriver.wrapper.benchmark.BenchmarkRunner.warmup;
+import static nikoladasm.webdriver.wrapper.internal.WebElementWrapperFactory.wrapWebElement;
+
+import java.util.List;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import nikoladasm.webdriver.wrapper.internal.Listeners;
+import nikoladasm.webdriver.wrapper.listeners.OnExceptionEventListener;
+import nikoladasm.webdriver.wrapper.listeners.OnGetTextBeforeEventListener;
+
+public final class ListenerOverheadBenchmark {
+
+	private static class WebElementImpl implements WebElement {
+		
+		@Override
+		public <X> X getScreenshotAs(OutputType<X> target) throws WebDriverException {
+			return null;
+		}
+		
+		@Override
+		public void click() {}
+		
+		@Override
+		public void submit() {}
+		
+		@Override
+		public void sendKeys(CharSequence... keysToSend) {}
+		
+		@Override
+		public void clear() {}
+		
+		@Override
+		public String getTagName() {
+			return "div";
+		}
+		
+		@Override
+		public String getAttribute(String name) {
+			return name;
+		}
+		
+		@Override
+		public boolean isSelected() {
+			return false;
+		}
+		
+		@Override
+		public boolean isEnabled() {
+			return true;
+		}
+		
+		@Override
+		public String getText() {
+			return "benchmark";
+		}
+		
+		@Override
+		public List<WebElement> findElements(By by) {
+			return null;
+		}
+		
+		@Override
+		public WebElement findElement(By by) {
+			return null;
+		}
+		
+		@Override
+		public boolean isDisplayed() {
+			return true;
+		}
+		
+		@Override
+		public Point getLocation() {
+			return null;
+		}
+		
+		@Override
+		public Dimension getSize() {
+			return null;
+		}
+		
+		@Override
+		public Rectangle getRect() {
+			return null;
+		}
+		
+		@Override
+		public String getCssValue(String propertyName) {
+			return null;
+		}
+	}
+	
+	public static void main(String[] args) {
+		WebElement raw = new WebElementImpl();
+		Listeners quiet = new Listeners();
+		Listeners exceptionOnly = new Listeners();
+		exceptionOnly.setListener(ON_EXCEPTION, (OnExceptionEventListener) (driver, element, throwable, methodName) -> {});
+		Listeners getText = new Listeners();
+		getText.setListener(BEFORE_GET_TEXT, (OnGetTextBeforeEventListener) (driver, element) -> {});
+		WebElement noListeners = wrapWebElement(raw, null, quiet);
+		WebElement onException = wrapWebElement(raw, null, exceptionOnly);
+		WebElement beforeGetText = wrapWebElement(raw, null, getText);
+		warmup(raw::getText, noListeners::getText, onException::getText, beforeGetText::getText);
+		run("getText, raw element", raw::getText);
+		run("getText, wrapped, no listeners", noListeners::getText);
+		run("getText, wrapped, ON_EXCEPTION only", onException::getText);
+		run("getText, wrapped, BEFORE_GET_TEXT", beforeGetText::getText);
+		run("getAttribute, raw element", () -> raw.getAttribute("id"));
+		run("getAttribute, wrapped, ON_EXCEPTION only", () -> onException.getAttribute("id"));
+		run("isDisplayed, raw element", raw::isDisplayed);
+		run("isDisplayed, wrapped, ON_EXCEPTION only", onException::isDisplayed);
+	}
+	
+	private ListenerOverheadBenchmark() {}
+}
@@ -0,0 +1,60 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper.internal;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.Test;
+import org.openqa.selenium.WebElement;
+
+public class ElementWrappersUnitTest {
+
+	private final ElementWrappers wrappers = new ElementWrappers();
+	
+	@Test
+	public void shouldBeWrapElementOnce() {
+		WebElement element = mock(WebElement.class);
+		WebElement wrapper = wrappers.get(element, e -> mock(WebElement.class));
+		assertThat(wrappers.get(element, e -> mock(WebElement.class)), is(sameInstance(wrapper)));
+		assertThat(wrappers.size(), is(equalTo(1)));
+	}
+	
+	@Test
+	public void shouldBeWrapDifferentElementsSeparately() {
+		WebElement wrapper = wrappers.get(mock(WebElement.class), e -> mock(WebElement.class));
+		assertThat(wrappers.get(mock(WebElement.class), e -> mock(WebElement.class)), is(not(sameInstance(wrapper))));
+		assertThat(wrappers.size(), is(equalTo(2)));
+	}
+	
+	@Test
+	public void shouldBeDropCollectedWrappers() throws InterruptedException {
+		WebElement element = mock(WebElement.class);
+		wrappers.get(element, e -> mock(WebElement.class));
+		for (int attempt = 0; attempt < 50 && wrappers.size() > 0; attempt++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+		assertThat(wrappers.size(), is(equalTo(0)));
+	}
+}
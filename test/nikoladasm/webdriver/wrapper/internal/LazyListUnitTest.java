@@ -0,0 +1,79 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper.internal;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+import static nikoladasm.webdriver.wrapper.internal.WebElementWrapperFactory.wrapWebElement;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.WrapsElement;
+
+import nikoladasm.webdriver.wrapper.UnderlyingWebDriver;
+import nikoladasm.webdriver.wrapper.UnderlyingWebElement;
+
+public class LazyListUnitTest {
+
+	private final UnderlyingWebDriver uDriver = mock(UnderlyingWebDriver.class);
+	private final UnderlyingWebElement uElement1 = mock(UnderlyingWebElement.class);
+	private final UnderlyingWebElement uElement2 = mock(UnderlyingWebElement.class);
+	
+	private final Listeners listeners = new Listeners();
+	private final ElementWrappers wrappers = new ElementWrappers();
+	
+	private final List<WebElement> elements = new LazyList<>(Arrays.asList(uElement1, uElement2),
+		element -> wrapWebElement(element, uDriver, listeners, wrappers));
+	
+	@Test
+	public void shouldBeReturnSize() {
+		assertThat(elements.size(), is(equalTo(2)));
+		assertFalse(elements.isEmpty());
+	}
+	
+	@Test
+	public void shouldBeWrapElementOnAccess() {
+		WebElement element = elements.get(1);
+		assertTrue(element instanceof WebElementListenableWrapper);
+		assertThat(((WrapsElement) element).getWrappedElement(), is(equalTo(uElement2)));
+	}
+	
+	@Test
+	public void shouldBeReturnSameWrapperOnEveryAccess() {
+		assertThat(elements.get(0), is(sameInstance(elements.get(0))));
+		assertThat(elements.iterator().next(), is(sameInstance(elements.get(0))));
+	}
+	
+	@Test
+	public void shouldBeKeepElementsAddedByCaller() {
+		WebElement element = mock(WebElement.class);
+		elements.add(0, element);
+		assertThat(elements.size(), is(equalTo(3)));
+		assertThat(elements.get(0), is(sameInstance(element)));
+		assertThat(((WrapsElement) elements.get(1)).getWrappedElement(), is(equalTo(uElement1)));
+		assertThat(((WrapsElement) elements.remove(2)).getWrappedElement(), is(equalTo(uElement2)));
+		assertThat(elements.size(), is(equalTo(2)));
+	}
+}
@@ -18,9 +18,6 @@
 
 package nikoladasm.webdriver.wrapper.internal;
 
-import static nikoladasm.webdriver.wrapper.EventListenerLocation.ON_EXCEPTION;
-import static nikoladasm.webdriver.wrapper.internal.TimeClause.BEFORE;
-
 import nikoladasm.webdriver.wrapper.EventListenerLocation;
 import nikoladasm.webdriver.wrapper.listeners.WebDriverEventListener;
 
@@ -29,13 +26,6 @@ public class ListenableBaseTest {
 	protected final Listeners listeners = new Listeners();
 	
 	protected <T> void setListener(EventListenerLocation<T> method, T eventListener) {
-		if (ON_EXCEPTION.equals(method)) {
-			listeners.setExeptionListener((WebDriverEventListener<?>) eventListener);
-		} else {
-			if (method.timeClause() == BEFORE)
-				listeners.setBeforeListener(method.name(), (WebDriverEventListener<?>) eventListener);
-			else
-				listeners.setAfterListener(method.name(), (WebDriverEventListener<?>) eventListener);
-		}
+		listeners.setListener(method, (WebDriverEventListener<?>) eventListener);
 	}
 }
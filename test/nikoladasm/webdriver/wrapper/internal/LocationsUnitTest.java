@@ -0,0 +1,51 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper.internal;
+
+import static nikoladasm.webdriver.wrapper.EventListenerLocation.*;
+import static nikoladasm.webdriver.wrapper.internal.Locations.locate;
+import static nikoladasm.webdriver.wrapper.internal.Scope.*;
+import static nikoladasm.webdriver.wrapper.internal.TimeClause.*;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class LocationsUnitTest {
+
+	@Test
+	public void shouldBeLocateByScope() {
+		assertThat(locate(ELEMENT, BEFORE, "click"), is(sameInstance(BEFORE_CLICK)));
+		assertThat(locate(MOUSE, BEFORE, "click"), is(sameInstance(BEFORE_MOUSE_CLICK)));
+		assertThat(locate(ALERT, AFTER, "sendKeys"), is(sameInstance(AFTER_SEND_KEYS_TO_ALERT)));
+		assertThat(locate(KEYBOARD, AFTER, "sendKeys"), is(sameInstance(AFTER_SEND_KEYS_FROM_KEYBOARD)));
+		assertThat(locate(LOGS, BEFORE, "get"), is(sameInstance(BEFORE_LOGS_GET)));
+		assertThat(locate(NAVIGATION, BEFORE, "click"), is(nullValue()));
+	}
+	
+	@Test
+	public void shouldBeShareLocationBetweenScopes() {
+		assertThat(locate(DRIVER, BEFORE, "findElement"), is(sameInstance(BEFORE_FIND_ELEMENT)));
+		assertThat(locate(ELEMENT, BEFORE, "findElement"), is(sameInstance(BEFORE_FIND_ELEMENT)));
+		assertTrue((Locations.scopes(AFTER_GET_SCREENSHOT_AS) & DRIVER.mask()) != 0);
+		assertTrue((Locations.scopes(AFTER_GET_SCREENSHOT_AS) & ELEMENT.mask()) != 0);
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper.internal;
+
+import static nikoladasm.webdriver.wrapper.internal.MethodDescriptor.Kind.*;
+import static nikoladasm.webdriver.wrapper.internal.MethodDescriptor.Result.*;
+import static nikoladasm.webdriver.wrapper.internal.Scope.NAVIGATION;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.WebDriver.Navigation;
+
+public class MethodDescriptorsUnitTest {
+
+	private final AtomicInteger described = new AtomicInteger();
+	private final MethodDescriptors descriptors = new MethodDescriptors((method, invoker) -> {
+		described.incrementAndGet();
+		return new MethodDescriptor(NAVIGATION, method, invoker, DELEGATE, AS_IS);
+	});
+	
+	@Test
+	public void shouldBeDescribeMethodOnce() throws Exception {
+		Method method = Navigation.class.getMethod("back");
+		MethodDescriptor descriptor = descriptors.get(Navigation.class, method, null);
+		assertThat(descriptors.get(Navigation.class, method, null), is(sameInstance(descriptor)));
+		assertThat(described.get(), is(equalTo(1)));
+	}
+	
+	@Test
+	public void shouldBeDescribeMethodPerWrapperClass() throws Exception {
+		Method method = Object.class.getMethod("toString");
+		MethodDescriptor descriptor = descriptors.get(Navigation.class, method, null);
+		assertThat(descriptors.get(Alert.class, method, null), is(not(sameInstance(descriptor))));
+		assertThat(described.get(), is(equalTo(2)));
+	}
+	
+	@Test
+	public void shouldBeShareDescriptorBetweenIndexedAndMethodLookup() throws Exception {
+		Method back = Navigation.class.getMethod("back");
+		Method forward = Navigation.class.getMethod("forward");
+		MethodDescriptors.Table table = descriptors.table(Navigation.class);
+		MethodDescriptor descriptor = table.get(3, back, null);
+		assertThat(table.get(3, back, null), is(sameInstance(descriptor)));
+		assertThat(descriptors.get(Navigation.class, back, null), is(sameInstance(descriptor)));
+		assertThat(table.get(1, forward, null).method(), is(equalTo(forward)));
+		assertThat(table.get(3, back, null), is(sameInstance(descriptor)));
+		assertThat(described.get(), is(equalTo(2)));
+	}
+	
+	@Test
+	public void shouldBeResolveMethodProperties() throws Exception {
+		Method method = Navigation.class.getMethod("to", String.class);
+		MethodDescriptor descriptor = descriptors.get(Navigation.class, method, null);
+		assertThat(descriptor.method(), is(equalTo(method)));
+		assertThat(descriptor.name(), is(equalTo("to")));
+		assertArrayEquals(new Class<?>[]{String.class}, descriptor.parameterTypes());
+	}
+	
+	@Test
+	public void shouldBeInvokeReflectivelyWithoutInvoker() throws Throwable {
+		Method method = Object.class.getMethod("toString");
+		MethodDescriptor descriptor = descriptors.get(Navigation.class, method, null);
+		assertThat(descriptor.invoker().invoke("test", null), is(equalTo("test")));
+	}
+	
+	@Test
+	public void shouldBePropagateExceptionWithoutInvoker() throws Throwable {
+		Method method = Navigation.class.getMethod("back");
+		MethodDescriptor descriptor = descriptors.get(Navigation.class, method, null);
+		Navigation navigation = mock(Navigation.class);
+		RuntimeException exception = new RuntimeException("testException");
+		doThrow(exception).when(navigation).back();
+		try {
+			descriptor.invoker().invoke(navigation, null);
+			fail();
+		} catch (RuntimeException e) {
+			assertThat(e, is(sameInstance(exception)));
+		}
+	}
+	
+	@Test
+	public void shouldBeUseGivenInvoker() throws Throwable {
+		Method method = Object.class.getMethod("hashCode");
+		MethodInvoker invoker = (target, args) -> 42;
+		MethodDescriptor descriptor = descriptors.get(Navigation.class, method, invoker);
+		assertThat(descriptor.invoker(), is(sameInstance(invoker)));
+	}
+	
+	@Test
+	public void shouldBeMatchNameAndParameterTypes() throws Exception {
+		Method method = Navigation.class.getMethod("to", String.class);
+		assertTrue(MethodDescriptors.is(method, "to", String.class));
+		assertFalse(MethodDescriptors.is(method, "to"));
+		assertFalse(MethodDescriptors.is(method, "back", String.class));
+	}
+}
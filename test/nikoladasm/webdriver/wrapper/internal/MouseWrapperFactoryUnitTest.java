@@ -31,6 +31,7 @@ import org.openqa.selenium.interactions.Mouse;
 import org.openqa.selenium.interactions.internal.Coordinates;
 
 import nikoladasm.webdriver.wrapper.UnderlyingWebDriver;
+import nikoladasm.webdriver.wrapper.listeners.OnClickEventListener;
 import nikoladasm.webdriver.wrapper.listeners.OnContextClickEventListener;
 import nikoladasm.webdriver.wrapper.listeners.OnDoubleClickEventListener;
 import nikoladasm.webdriver.wrapper.listeners.OnExceptionEventListener;
@@ -66,6 +67,18 @@ public class MouseWrapperFactoryUnitTest extends ListenableBaseTest {
 		inOrder.verifyNoMoreInteractions();
 	}
 
+	@Test
+	public void shouldBeFireOnClickListenerWhenElementClickListenerIsSet() {
+		OnMouseClickEventListener before = mock(OnMouseClickEventListener.class, CALLS_REAL_METHODS);
+		OnClickEventListener elementBefore = mock(OnClickEventListener.class, CALLS_REAL_METHODS);
+		setListener(BEFORE_MOUSE_CLICK, before);
+		setListener(BEFORE_CLICK, elementBefore);
+		Coordinates coordinates = mock(Coordinates.class);
+		wMouse.click(coordinates);
+		verify(before).onMouseClick(uDriver, uMouse, coordinates);
+		verify(elementBefore, never()).onClick(any(), any());
+	}
+
 	@Test
 	public void shouldBeFireOnExceptionListener() {
 		RuntimeException exeption = new RuntimeException("testException");
@@ -66,6 +66,17 @@ public class NavigationWrapperFactoryUnitTest extends ListenableBaseTest {
 		inOrder.verifyNoMoreInteractions();
 	}
 
+	@Test
+	public void shouldBeCheckListenerApplicabilityOnce() {
+		OnNavigateBackEventListener before = mock(OnNavigateBackEventListener.class, CALLS_REAL_METHODS);
+		setListener(BEFORE_NAVIGATE_BACK, before);
+		wNavigation.back();
+		wNavigation.back();
+		wNavigation.back();
+		verify(before, times(1)).isApplicable(any(), any());
+		verify(before, times(3)).onBack(uDriver, uNavigation);
+	}
+	
 	@Test
 	public void shouldBeFireOnExceptionListener() {
 		OnExceptionEventListener listener = mock(OnExceptionEventListener.class, CALLS_REAL_METHODS);
@@ -22,6 +22,7 @@ import static nikoladasm.webdriver.wrapper.EventListenerLocation.*;
 import static nikoladasm.webdriver.wrapper.internal.OptionsWrapperFactory.wrapOptions;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.*;
 
 import java.util.HashSet;
@@ -64,6 +65,12 @@ public class OptionsWrapperFactoryUnitTest extends ListenableBaseTest {
 	
 	private Options wOptions = wrapOptions(uOptions, uDriver, listeners);
 	
+	@Test
+	public void shouldBeReuseTimeoutsWrapper() {
+		when(uOptions.timeouts()).thenReturn(mock(Timeouts.class));
+		assertThat(wOptions.timeouts(), is(sameInstance(wOptions.timeouts())));
+	}
+	
 	@Test
 	public void shouldBeReturnWrappedOptions() {
 		assertThat(((WrapsOptions) wOptions).getWrappedOptions(), is(equalTo(uOptions)));
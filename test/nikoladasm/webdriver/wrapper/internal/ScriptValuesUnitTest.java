@@ -0,0 +1,95 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper.internal;
+
+import static nikoladasm.webdriver.wrapper.internal.WebElementWrapperFactory.wrapWebElement;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.WrapsElement;
+
+import nikoladasm.webdriver.wrapper.UnderlyingWebDriver;
+import nikoladasm.webdriver.wrapper.UnderlyingWebElement;
+
+public class ScriptValuesUnitTest {
+
+	private final UnderlyingWebDriver uDriver = mock(UnderlyingWebDriver.class);
+	private final UnderlyingWebElement uElement = mock(UnderlyingWebElement.class);
+	private final ElementWrappers elements = new ElementWrappers();
+	private final Listeners listeners = new Listeners();
+	private final Function<WebElement, WebElement> wrapElement = element -> wrapWebElement(element, uDriver, listeners, elements);
+	private final WebElement wElement = wrapElement.apply(uElement);
+	
+	@Test
+	public void shouldBeKeepArgumentsWithoutWrappedElements() {
+		Map<String, Object> map = new HashMap<>();
+		map.put("key", Arrays.asList(1, "2"));
+		Object[] args = {"string", 1, Arrays.asList("a", "b"), map, new Object[]{"c"}};
+		assertThat(ScriptValues.unwrap(args), is(sameInstance(args)));
+	}
+	
+	@Test
+	public void shouldBeUnwrapElementsOnEveryLevel() {
+		Map<String, Object> map = new HashMap<>();
+		map.put("element", wElement);
+		map.put("other", "value");
+		Object[] args = {"string", wElement, Arrays.asList("a", wElement), map, new Object[]{wElement}};
+		Object[] unwrapped = ScriptValues.unwrap(args);
+		assertThat(args[1], is(sameInstance(wElement)));
+		assertThat(unwrapped[0], is(equalTo("string")));
+		assertThat(unwrapped[1], is(sameInstance(uElement)));
+		assertThat(unwrapped[2], is(equalTo(Arrays.asList("a", uElement))));
+		assertThat(((Map<?, ?>) unwrapped[3]).get("element"), is(sameInstance(uElement)));
+		assertThat(((Map<?, ?>) unwrapped[3]).get("other"), is(equalTo("value")));
+		assertThat(((Object[]) unwrapped[4])[0], is(sameInstance(uElement)));
+	}
+	
+	@Test
+	public void shouldBeWrapReturnedElement() {
+		assertThat(ScriptValues.wrap(uElement, wrapElement), is(sameInstance(wElement)));
+		assertThat(ScriptValues.wrap(wElement, wrapElement), is(sameInstance(wElement)));
+		assertThat(ScriptValues.wrap("string", wrapElement), is(equalTo("string")));
+	}
+	
+	@Test
+	public void shouldBeWrapElementsInReturnedStructures() {
+		Map<String, Object> map = new HashMap<>();
+		map.put("element", uElement);
+		List<?> result = (List<?>) ScriptValues.wrap(Arrays.asList("a", uElement, Collections.singletonList(uElement), map, null), wrapElement);
+		assertThat(result.size(), is(equalTo(5)));
+		assertThat(result.get(0), is(equalTo("a")));
+		assertThat(result.get(1), is(sameInstance(wElement)));
+		assertThat(((List<?>) result.get(2)).get(0), is(sameInstance(wElement)));
+		assertThat(((Map<?, ?>) result.get(3)).get("element"), is(sameInstance(wElement)));
+		assertNull(result.get(4));
+		assertThat(((WrapsElement) result.get(1)).getWrappedElement(), is(sameInstance(uElement)));
+	}
+}
@@ -50,7 +50,7 @@ public class TargetLocatorWrapperFactoryUnitTest extends ListenableBaseTest {
 	private final UnderlyingWebDriver uDriver = mock(UnderlyingWebDriver.class);
 	private final UnderlyingWebDriver wDriver = mock(UnderlyingWebDriver.class);
 	
-	private TargetLocator wTargetLocator = wrapTargetLocator(uTargetLocator, uDriver, listeners, wDriver);
+	private TargetLocator wTargetLocator = wrapTargetLocator(uTargetLocator, uDriver, listeners, new ElementWrappers(), wDriver);
 	
 	@Test
 	public void shouldBeReturnWrappedTargetLocator() {
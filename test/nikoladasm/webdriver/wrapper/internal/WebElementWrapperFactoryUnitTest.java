@@ -21,10 +21,13 @@ package nikoladasm.webdriver.wrapper.internal;
 import static nikoladasm.webdriver.wrapper.EventListenerLocation.*;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.*;
 
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -96,6 +99,50 @@ public class WebElementWrapperFactoryUnitTest extends ListenableBaseTest {
 		assertThat(((WrapsElement) wElement).getWrappedElement(), is(equalTo(uElement)));
 	}
 	
+	@Test
+	public void shouldBeReuseWrapperClassForElementClass() {
+		WebElement other = wrapWebElement(mock(UnderlyingWebElement.class), uDriver, listeners);
+		assertThat(other.getClass(), is(equalTo(wElement.getClass())));
+		assertThat(((WrapsElement) other).getWrappedElement(), is(not(equalTo(uElement))));
+	}
+	
+	@Test
+	public void shouldBeReturnSameWrapperForSameElement() {
+		By by = By.id("test");
+		UnderlyingWebElement fElement = mock(UnderlyingWebElement.class);
+		when(uElement.findElement(by)).thenReturn(fElement);
+		when(uElement.findElements(by)).thenReturn(Arrays.asList(fElement));
+		WebElement element = wElement.findElement(by);
+		assertThat(wElement.findElement(by), is(sameInstance(element)));
+		assertThat(wElement.findElements(by).get(0), is(sameInstance(element)));
+	}
+	
+	@Test
+	public void shouldBeCompareWithUnwrappedElement() {
+		WebElement other = wrapWebElement(uElement, uDriver, listeners);
+		assertTrue(wElement.equals(other));
+		assertTrue(wElement.equals(uElement));
+		assertThat(wElement.hashCode(), is(equalTo(uElement.hashCode())));
+		assertFalse(wElement.equals(wrapWebElement(mock(UnderlyingWebElement.class), uDriver, listeners)));
+	}
+	
+	@Test
+	public void shouldBeFlattenWrappedElement() {
+		Listeners outerListeners = new Listeners();
+		OnClickEventListener inner = mock(OnClickEventListener.class, CALLS_REAL_METHODS);
+		OnClickEventListener outer = mock(OnClickEventListener.class, CALLS_REAL_METHODS);
+		setListener(BEFORE_CLICK, inner);
+		outerListeners.setListener(BEFORE_CLICK, outer);
+		WebElement element = wrapWebElement(wElement, uDriver, outerListeners);
+		assertThat(((WrapsElement) element).getWrappedElement(), is(sameInstance(uElement)));
+		InOrder inOrder = inOrder(outer, inner, uElement);
+		element.click();
+		inOrder.verify(outer).onClick(uDriver, uElement);
+		inOrder.verify(inner).onClick(uDriver, uElement);
+		inOrder.verify(uElement).click();
+		inOrder.verifyNoMoreInteractions();
+	}
+	
 	@Test
 	public void shouldBeFireOnClickListener() {
 		OnClickEventListener before = mock(OnClickEventListener.class, CALLS_REAL_METHODS);
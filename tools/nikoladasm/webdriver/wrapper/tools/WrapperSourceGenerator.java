@@ -0,0 +1,263 @@
+/*
+ *  WebDriver Wrapper
+ *  Copyright (C) 2016  Nikolay Platov
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package nikoladasm.webdriver.wrapper.tools;
+
+import static nikoladasm.webdriver.wrapper.internal.PrecompiledWrappers.INDEX_CLASS_NAME;
+import static nikoladasm.webdriver.wrapper.internal.WrapperGenerator.wrapperMethods;
+
+import java.io.IOException;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Writes the sources of the precompiled wrapper classes and of the index that
+ * registers them with PrecompiledWrappers. Arguments are the output directory
+ * followed by one <class name>=<interface>,<interface>... entry per wrapper class;
+ * the interface list has to be exactly the set the factory asks for.
+ */
+public final class WrapperSourceGenerator {
+
+	private static final String PACKAGE_NAME = INDEX_CLASS_NAME.substring(0, INDEX_CLASS_NAME.lastIndexOf('.'));
+	private static final String INDEX_SIMPLE_NAME = INDEX_CLASS_NAME.substring(INDEX_CLASS_NAME.lastIndexOf('.') + 1);
+	private static final String GENERATED_COMMENT = "// Generated by " + WrapperSourceGenerator.class.getName() + ", do not edit.\n";
+
+	public static void main(String[] args) throws IOException, ClassNotFoundException {
+		if (args.length < 1) {
+			System.err.println("Usage: " + WrapperSourceGenerator.class.getName() +
+				" <output dir> [<class name>=<interface>[,<interface>...]]...");
+			System.exit(1);
+		}
+		Path packageDir = Paths.get(args[0], PACKAGE_NAME.split("\\."));
+		Files.createDirectories(packageDir);
+		Map<String, Class<?>[]> wrappers = new LinkedHashMap<>();
+		for (int i = 1; i < args.length; i++) {
+			int separator = args[i].indexOf('=');
+			if (separator < 1)
+				throw new IllegalArgumentException("Invalid wrapper definition " + args[i]);
+			String[] names = args[i].substring(separator + 1).split(",");
+			Class<?>[] interfaces = new Class<?>[names.length];
+			for (int j = 0; j < names.length; j++)
+				interfaces[j] = loadInterface(names[j].trim());
+			wrappers.put(args[i].substring(0, separator).trim(), interfaces);
+		}
+		for (Map.Entry<String, Class<?>[]> wrapper : wrappers.entrySet())
+			write(packageDir, wrapper.getKey(), wrapperSource(wrapper.getKey(), wrapper.getValue()));
+		write(packageDir, INDEX_SIMPLE_NAME, indexSource(wrappers));
+	}
+
+	private static Class<?> loadInterface(String name) throws ClassNotFoundException {
+		String binaryName = name;
+		while (true) {
+			try {
+				Class<?> clazz = Class.forName(binaryName, false, WrapperSourceGenerator.class.getClassLoader());
+				if (!clazz.isInterface() || !Modifier.isPublic(clazz.getModifiers()))
+					throw new IllegalArgumentException(name + " is not a public interface");
+				return clazz;
+			} catch (ClassNotFoundException e) {
+				int dot = binaryName.lastIndexOf('.');
+				if (dot < 0)
+					throw new ClassNotFoundException(name);
+				binaryName = binaryName.substring(0, dot) + '$' + binaryName.substring(dot + 1);
+			}
+		}
+	}
+
+	private static void write(Path packageDir, String className, String source) throws IOException {
+		Files.write(packageDir.resolve(className + ".java"), source.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String indexSource(Map<String, Class<?>[]> wrappers) {
+		StringBuilder source = new StringBuilder(GENERATED_COMMENT)
+			.append("package ").append(PACKAGE_NAME).append(";\n\n")
+			.append("final class ").append(INDEX_SIMPLE_NAME).append(" {\n\n")
+			.append("\tstatic {\n");
+		for (Map.Entry<String, Class<?>[]> wrapper : wrappers.entrySet()) {
+			source.append("\t\tPrecompiledWrappers.register(").append(wrapper.getKey()).append("::new");
+			for (Class<?> clazz : wrapper.getValue())
+				source.append(", ").append(clazz.getCanonicalName()).append(".class");
+			source.append(");\n");
+		}
+		return source
+			.append("\t}\n\n")
+			.append("\tprivate ").append(INDEX_SIMPLE_NAME).append("() {}\n")
+			.append("}\n")
+			.toString();
+	}
+
+	private static String wrapperSource(String className, Class<?>[] interfaces) {
+		List<Method> methods = wrapperMethods(interfaces);
+		if (methods == null)
+			throw new IllegalArgumentException("Can not implement " + className);
+		StringBuilder source = new StringBuilder(GENERATED_COMMENT)
+			.append("package ").append(PACKAGE_NAME).append(";\n\n")
+			.append("import java.lang.reflect.Method;\n\n")
+			.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+			.append("final class ").append(className).append(" implements ");
+		for (int i = 0; i < interfaces.length; i++)
+			source.append(i == 0 ? "" : ", ").append(interfaces[i].getCanonicalName());
+		source.append(" {\n\n")
+			.append("\tprivate static final Method[] METHODS;\n")
+			.append("\tprivate static final MethodInvoker[] INVOKERS = {\n");
+		for (int i = 0; i < methods.size(); i++)
+			source.append("\t\t").append(invoker(methods.get(i))).append(i < methods.size() - 1 ? ",\n" : "\n");
+		source.append("\t};\n\n")
+			.append("\tstatic {\n")
+			.append("\t\ttry {\n")
+			.append("\t\t\tMETHODS = new Method[]{\n");
+		for (int i = 0; i < methods.size(); i++)
+			source.append("\t\t\t\t").append(lookup(methods.get(i))).append(i < methods.size() - 1 ? ",\n" : "\n");
+		source.append("\t\t\t};\n")
+			.append("\t\t} catch (NoSuchMethodException e) {\n")
+			.append("\t\t\tthrow new NoSuchMethodError(e.getMessage());\n")
+			.append("\t\t}\n")
+			.append("\t}\n\n")
+			.append("\tprivate final ListenableInvocationHandler handler;\n\n")
+			.append("\t").append(className).append("(ListenableInvocationHandler handler) {\n")
+			.append("\t\tthis.handler = handler;\n")
+			.append("\t}\n");
+		for (int i = 0; i < methods.size(); i++)
+			source.append("\n").append(dispatcher(methods.get(i), i));
+		return source.append("}\n").toString();
+	}
+
+	private static String invoker(Method method) {
+		StringBuilder call = new StringBuilder("((")
+			.append(method.getDeclaringClass().getCanonicalName()).append(") target).")
+			.append(method.getName()).append('(');
+		Class<?>[] parameterTypes = method.getParameterTypes();
+		for (int i = 0; i < parameterTypes.length; i++)
+			call.append(i == 0 ? "" : ", ").append('(').append(boxed(parameterTypes[i]).getCanonicalName())
+				.append(") args[").append(i).append(']');
+		call.append(')');
+		if (method.getReturnType() == void.class)
+			return "(target, args) -> { " + call + "; return null; }";
+		return "(target, args) -> " + call;
+	}
+
+	private static String lookup(Method method) {
+		StringBuilder lookup = new StringBuilder(method.getDeclaringClass().getCanonicalName())
+			.append(".class.getMethod(\"").append(method.getName()).append('"');
+		for (Class<?> parameterType : method.getParameterTypes())
+			lookup.append(", ").append(parameterType.getCanonicalName()).append(".class");
+		return lookup.append(')').toString();
+	}
+
+	private static String dispatcher(Method method, int index) {
+		boolean erased = method.getDeclaringClass().getTypeParameters().length > 0;
+		StringBuilder source = new StringBuilder("\t@Override\n\tpublic ");
+		TypeVariable<Method>[] typeParameters = method.getTypeParameters();
+		if (!erased && typeParameters.length > 0) {
+			source.append('<');
+			for (int i = 0; i < typeParameters.length; i++) {
+				source.append(i == 0 ? "" : ", ").append(typeParameters[i].getName());
+				Type[] bounds = typeParameters[i].getBounds();
+				if (bounds.length > 1 || bounds[0] != Object.class)
+					for (int j = 0; j < bounds.length; j++)
+						source.append(j == 0 ? " extends " : " & ").append(type(bounds[j]));
+			}
+			source.append("> ");
+		}
+		Type returnType = erased ? method.getReturnType() : method.getGenericReturnType();
+		source.append(type(returnType)).append(' ').append(method.getName()).append('(');
+		Type[] parameterTypes = erased ? method.getParameterTypes() : method.getGenericParameterTypes();
+		List<String> arguments = new ArrayList<>();
+		for (int i = 0; i < parameterTypes.length; i++) {
+			String parameterType = type(parameterTypes[i]);
+			if (method.isVarArgs() && i == parameterTypes.length - 1)
+				parameterType = parameterType.substring(0, parameterType.length() - 2) + "...";
+			source.append(i == 0 ? "" : ", ").append(parameterType).append(" arg").append(i);
+			arguments.add("arg" + i);
+		}
+		source.append(')');
+		Type[] exceptionTypes = erased ? method.getExceptionTypes() : method.getGenericExceptionTypes();
+		for (int i = 0; i < exceptionTypes.length; i++)
+			source.append(i == 0 ? " throws " : ", ").append(type(exceptionTypes[i]));
+		source.append(" {\n\t\t");
+		String dispatch = "handler.dispatch(this, " + index + ", METHODS[" + index + "], INVOKERS[" + index + "], " +
+			(arguments.isEmpty() ? "null" : "new Object[]{" + String.join(", ", arguments) + "}") + ")";
+		if (method.getReturnType() == void.class)
+			source.append(dispatch);
+		else if (method.getReturnType().isPrimitive())
+			source.append("return (").append(boxed(method.getReturnType()).getCanonicalName()).append(") ").append(dispatch);
+		else
+			source.append("return (").append(type(returnType)).append(") ").append(dispatch);
+		return source.append(";\n\t}\n").toString();
+	}
+
+	private static String type(Type type) {
+		if (type instanceof Class)
+			return ((Class<?>) type).getCanonicalName();
+		if (type instanceof ParameterizedType) {
+			ParameterizedType parameterizedType = (ParameterizedType) type;
+			StringBuilder name = new StringBuilder(type(parameterizedType.getRawType())).append('<');
+			Type[] arguments = parameterizedType.getActualTypeArguments();
+			for (int i = 0; i < arguments.length; i++)
+				name.append(i == 0 ? "" : ", ").append(type(arguments[i]));
+			return name.append('>').toString();
+		}
+		if (type instanceof GenericArrayType)
+			return type(((GenericArrayType) type).getGenericComponentType()) + "[]";
+		if (type instanceof WildcardType) {
+			WildcardType wildcardType = (WildcardType) type;
+			if (wildcardType.getLowerBounds().length > 0)
+				return "? super " + type(wildcardType.getLowerBounds()[0]);
+			if (wildcardType.getUpperBounds()[0] != Object.class)
+				return "? extends " + type(wildcardType.getUpperBounds()[0]);
+			return "?";
+		}
+		if (type instanceof TypeVariable)
+			return ((TypeVariable<?>) type).getName();
+		throw new IllegalArgumentException("Unsupported type " + type);
+	}
+
+	private static Class<?> boxed(Class<?> type) {
+		if (!type.isPrimitive())
+			return type;
+		if (type == boolean.class)
+			return Boolean.class;
+		if (type == byte.class)
+			return Byte.class;
+		if (type == char.class)
+			return Character.class;
+		if (type == short.class)
+			return Short.class;
+		if (type == int.class)
+			return Integer.class;
+		if (type == long.class)
+			return Long.class;
+		if (type == float.class)
+			return Float.class;
+		return Double.class;
+	}
+
+	private WrapperSourceGenerator() {}
+}